@@ -33,6 +33,10 @@ public class MessagingConfig implements Config {
   private File certificateChain;
   private File privateKey;
   private CompressionAlgorithm compressionAlgorithm = CompressionAlgorithm.NONE;
+  private CompressionAlgorithm subjectCompressionAlgorithm = CompressionAlgorithm.SNAPPY;
+  private List<String> compressedSubjects = new ArrayList<>();
+  private int compressionThreshold = 1024;
+  private int maxMessageSize = 4 * 1024 * 1024;
   private File keyStore;
   private String keyStorePassword;
   private int socketSendBuffer = 1024 * 1024;
@@ -153,6 +157,86 @@ public class MessagingConfig implements Config {
     return this;
   }
 
+  /**
+   * @return the algorithm the payloads of requests with a compressed subject are compressed with
+   */
+  public CompressionAlgorithm getSubjectCompressionAlgorithm() {
+    return subjectCompressionAlgorithm;
+  }
+
+  /**
+   * Sets the algorithm to compress the payload of requests with a compressed subject with (see
+   * {@link #setCompressedSubjects(List)}). This is independent of the {@link
+   * #setCompressionAlgorithm(CompressionAlgorithm) channel compression}; if both are enabled,
+   * matching requests are compressed twice.
+   *
+   * @param algorithm the algorithm to compress payloads with, or NONE to not compress per subject
+   * @return this config for chaining
+   */
+  public MessagingConfig setSubjectCompressionAlgorithm(final CompressionAlgorithm algorithm) {
+    subjectCompressionAlgorithm = algorithm;
+    return this;
+  }
+
+  /**
+   * @return the patterns of the subjects whose requests are compressed
+   */
+  public List<String> getCompressedSubjects() {
+    return compressedSubjects;
+  }
+
+  /**
+   * Sets the regular expressions of the subjects whose requests are compressed. The payload of
+   * requests matching one of them is compressed with the {@link #getSubjectCompressionAlgorithm()
+   * subject compression algorithm}. Compressed requests are flagged, so every member can read them
+   * regardless of its own configuration, and the setting can be changed one member at a time.
+   *
+   * @param compressedSubjects the patterns of the subjects to compress
+   * @return this config for chaining
+   */
+  public MessagingConfig setCompressedSubjects(final List<String> compressedSubjects) {
+    this.compressedSubjects = compressedSubjects;
+    return this;
+  }
+
+  /**
+   * @return the minimum size in bytes of a payload to compress it
+   */
+  public int getCompressionThreshold() {
+    return compressionThreshold;
+  }
+
+  /**
+   * Sets the minimum size of a payload for it to be compressed, when compressing per subject.
+   * Smaller payloads are sent uncompressed, as compressing them costs more than it saves.
+   *
+   * @param compressionThreshold the minimum size in bytes of a payload to compress it
+   * @return this config for chaining
+   */
+  public MessagingConfig setCompressionThreshold(final int compressionThreshold) {
+    this.compressionThreshold = compressionThreshold;
+    return this;
+  }
+
+  /**
+   * @return the maximum size in bytes of a message payload
+   */
+  public int getMaxMessageSize() {
+    return maxMessageSize;
+  }
+
+  /**
+   * Sets the maximum size of a message payload. Compressed payloads which would decompress to more
+   * than this are rejected, and larger payloads are never compressed per subject.
+   *
+   * @param maxMessageSize the maximum size in bytes of a message payload
+   * @return this config for chaining
+   */
+  public MessagingConfig setMaxMessageSize(final int maxMessageSize) {
+    this.maxMessageSize = maxMessageSize;
+    return this;
+  }
+
   /**
    * The certificate chain to use for inter-cluster communication. This certificate is used for both
    * the server and the client.
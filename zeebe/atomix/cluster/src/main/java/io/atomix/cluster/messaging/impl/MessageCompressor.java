@@ -0,0 +1,196 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.cluster.messaging.MessagingConfig.CompressionAlgorithm;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.compression.Snappy;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses the payload of single requests, based on their subject and size. Only requests whose
+ * subject matches one of the configured patterns, and whose payload is at least as large as the
+ * configured threshold, are compressed. This allows compressing large messages, e.g. Raft append
+ * requests or snapshot chunks, without spending CPU on small and frequent messages like gossip.
+ *
+ * <p>A compressed message is flagged in the upper bits of its type byte, so the receiver can
+ * decompress it independently of its own configuration.
+ */
+final class MessageCompressor {
+
+  static final int TYPE_MASK = 0x3F;
+  private static final int FLAG_MASK = 0xC0;
+  private static final int SNAPPY_FLAG = 0x40;
+  private static final int GZIP_FLAG = 0x80;
+
+  private final List<Pattern> subjects;
+  private final CompressionAlgorithm algorithm;
+  private final int threshold;
+  private final int maxPayloadSize;
+  private final MessagingMetrics metrics;
+  private final Map<String, Boolean> compressedSubjects = new ConcurrentHashMap<>();
+
+  MessageCompressor(final MessagingConfig config, final MessagingMetrics metrics) {
+    subjects = config.getCompressedSubjects().stream().map(Pattern::compile).toList();
+    algorithm = config.getSubjectCompressionAlgorithm();
+    threshold = config.getCompressionThreshold();
+    maxPayloadSize = config.getMaxMessageSize();
+    this.metrics = metrics;
+  }
+
+  /**
+   * Returns the flag to add to the type byte of a message compressed with the given algorithm.
+   *
+   * @param algorithm the algorithm the payload was compressed with
+   * @return the flag marking the payload as compressed
+   */
+  static int flagOf(final CompressionAlgorithm algorithm) {
+    return switch (algorithm) {
+      case SNAPPY -> SNAPPY_FLAG;
+      case GZIP -> GZIP_FLAG;
+      case NONE -> 0;
+    };
+  }
+
+  /**
+   * Returns the algorithm the payload of a message was compressed with, given its type byte.
+   *
+   * @param type the type byte of the message
+   * @return the algorithm, or {@link CompressionAlgorithm#NONE} if the payload is not compressed
+   */
+  static CompressionAlgorithm algorithmOf(final byte type) {
+    return switch (type & FLAG_MASK) {
+      case SNAPPY_FLAG -> CompressionAlgorithm.SNAPPY;
+      case GZIP_FLAG -> CompressionAlgorithm.GZIP;
+      case 0 -> CompressionAlgorithm.NONE;
+      default ->
+          throw new IllegalStateException(
+              "Expected message to be flagged with at most one compression algorithm, but got type "
+                  + type);
+    };
+  }
+
+  /**
+   * @return the algorithm the payloads are compressed with
+   */
+  CompressionAlgorithm algorithm() {
+    return algorithm;
+  }
+
+  /**
+   * Decompresses the payload of a message. As the payload is sent by another member, its
+   * decompressed size is bounded by the max message size, such that a corrupted or malicious
+   * payload cannot exhaust the memory of this member.
+   *
+   * @param algorithm the algorithm the payload was compressed with
+   * @param payload the compressed payload
+   * @return the decompressed payload
+   * @throws IOException if the payload cannot be decompressed, or decompresses to more than the max
+   *     message size
+   */
+  byte[] decompress(final CompressionAlgorithm algorithm, final byte[] payload)
+      throws IOException {
+    return switch (algorithm) {
+      case SNAPPY -> {
+        // the decoder ensures the uncompressed length of the preamble is writable upfront, which
+        // fails if it exceeds the max capacity of the buffer
+        final ByteBuf decompressed =
+            Unpooled.buffer(Math.min(payload.length * 2, maxPayloadSize), maxPayloadSize);
+        try {
+          new Snappy().decode(Unpooled.wrappedBuffer(payload), decompressed);
+          yield ByteBufUtil.getBytes(decompressed);
+        } catch (final IndexOutOfBoundsException e) {
+          throw new IOException(exceededMaxPayloadSizeMessage(), e);
+        } finally {
+          decompressed.release();
+        }
+      }
+      case GZIP -> {
+        try (final var input = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+          final byte[] decompressed = input.readNBytes(maxPayloadSize);
+          if (input.read() != -1) {
+            throw new IOException(exceededMaxPayloadSizeMessage());
+          }
+          yield decompressed;
+        }
+      }
+      case NONE -> payload;
+    };
+  }
+
+  /**
+   * Compresses the payload of the given request, if its subject and size match the policy.
+   *
+   * @param request the request to send
+   * @return the compressed payload, or null if the request should be sent uncompressed, either
+   *     because it does not match the policy or because compressing did not reduce its size
+   */
+  byte[] compress(final ProtocolRequest request) {
+    final byte[] payload = request.payload();
+    if (algorithm == CompressionAlgorithm.NONE
+        || payload.length < threshold
+        || payload.length > maxPayloadSize
+        || !isCompressedSubject(request.subject())) {
+      return null;
+    }
+
+    final byte[] compressed = compress(payload);
+    if (compressed.length >= payload.length) {
+      return null;
+    }
+
+    metrics.observeCompressedRequest(request.subject(), payload.length, compressed.length);
+    return compressed;
+  }
+
+  private String exceededMaxPayloadSizeMessage() {
+    return "Expected compressed payload to decompress to at most %d bytes, but it is larger"
+        .formatted(maxPayloadSize);
+  }
+
+  private boolean isCompressedSubject(final String subject) {
+    return compressedSubjects.computeIfAbsent(
+        subject, s -> subjects.stream().anyMatch(pattern -> pattern.matcher(s).matches()));
+  }
+
+  private byte[] compress(final byte[] payload) {
+    return switch (algorithm) {
+      case SNAPPY -> {
+        final ByteBuf compressed = Unpooled.buffer(payload.length);
+        try {
+          new Snappy().encode(Unpooled.wrappedBuffer(payload), compressed, payload.length);
+          yield ByteBufUtil.getBytes(compressed);
+        } finally {
+          compressed.release();
+        }
+      }
+      case GZIP -> {
+        final var output = new ByteArrayOutputStream(payload.length);
+        try (final var gzip = new GZIPOutputStream(output)) {
+          gzip.write(payload);
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        yield output.toByteArray();
+      }
+      case NONE -> payload;
+    };
+  }
+}
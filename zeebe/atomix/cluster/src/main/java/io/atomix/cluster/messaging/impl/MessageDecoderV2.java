@@ -21,6 +21,7 @@ import static com.google.common.base.Preconditions.checkState;
 import io.atomix.utils.net.Address;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import java.io.IOException;
 import java.util.List;
 
 /** Protocol version 2 message decoder. */
@@ -67,7 +68,7 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
         if (buffer.readableBytes() < Byte.BYTES) {
           return;
         }
-        type = ProtocolMessage.Type.forId(buffer.readByte());
+        type = decodeType(buffer.readByte());
         currentState = DecoderState.READ_MESSAGE_ID;
       case READ_MESSAGE_ID:
         try {
@@ -91,6 +92,7 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
           // TODO: Perform a sanity check on the size before allocating
           content = new byte[contentLength];
           buffer.readBytes(content);
+          content = decodeContent(content);
         } else {
           content = EMPTY_PAYLOAD;
         }
@@ -153,6 +155,26 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
     }
   }
 
+  /**
+   * Returns the type of the message, given the type byte of its header.
+   *
+   * @param type the type byte of the message
+   * @return the type of the message
+   */
+  protected ProtocolMessage.Type decodeType(final byte type) {
+    return ProtocolMessage.Type.forId(type);
+  }
+
+  /**
+   * Returns the payload of the message, given its content as read from the frame.
+   *
+   * @param content the non empty content of the message
+   * @return the payload of the message
+   */
+  protected byte[] decodeContent(final byte[] content) throws IOException {
+    return content;
+  }
+
   /** V2 decoder state. */
   enum DecoderState {
     READ_TYPE,
@@ -0,0 +1,35 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.atomix.cluster.messaging.MessagingConfig.CompressionAlgorithm;
+import java.io.IOException;
+
+/**
+ * Decodes messages like {@link MessageDecoderV2}, but decompresses the payload of messages which
+ * are flagged as compressed in their type byte.
+ */
+class MessageDecoderV3 extends MessageDecoderV2 {
+  private final MessageCompressor compressor;
+  private CompressionAlgorithm compression = CompressionAlgorithm.NONE;
+
+  MessageDecoderV3(final MessageCompressor compressor) {
+    this.compressor = compressor;
+  }
+
+  @Override
+  protected ProtocolMessage.Type decodeType(final byte type) {
+    compression = MessageCompressor.algorithmOf(type);
+    return super.decodeType((byte) (type & MessageCompressor.TYPE_MASK));
+  }
+
+  @Override
+  protected byte[] decodeContent(final byte[] content) throws IOException {
+    return compressor.decompress(compression, content);
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Encodes messages like {@link MessageEncoderV2}, but compresses the payload of requests which
+ * match the compression policy, and flags them as compressed in the type byte.
+ */
+class MessageEncoderV3 extends MessageEncoderV2 {
+  private final MessageCompressor compressor;
+
+  MessageEncoderV3(final Address address, final MessageCompressor compressor) {
+    super(address);
+    this.compressor = compressor;
+  }
+
+  @Override
+  protected void encodeMessage(final ProtocolMessage message, final ByteBuf buffer) {
+    final byte[] compressed =
+        message instanceof final ProtocolRequest request ? compressor.compress(request) : null;
+    if (compressed == null) {
+      super.encodeMessage(message, buffer);
+      return;
+    }
+
+    buffer.writeByte(message.type().id() | MessageCompressor.flagOf(compressor.algorithm()));
+    writeLong(buffer, message.id());
+    writeInt(buffer, compressed.length);
+    buffer.writeBytes(compressed);
+  }
+}
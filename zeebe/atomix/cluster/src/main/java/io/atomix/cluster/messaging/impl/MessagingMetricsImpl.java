@@ -60,6 +60,22 @@ final class MessagingMetricsImpl implements MessagingMetrics {
           .labelNames(LABEL_ADDRESS, LABEL_TOPIC)
           .register();
 
+  private static final Counter COMPRESSED_REQUEST_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("messaging_compressed_request_bytes")
+          .help("The uncompressed size of the requests which have been compressed")
+          .labelNames(LABEL_TOPIC)
+          .register();
+
+  private static final Counter COMPRESSION_SAVED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("messaging_compression_saved_bytes")
+          .help("The number of bytes which have been saved by compressing requests")
+          .labelNames(LABEL_TOPIC)
+          .register();
+
   @Override
   public CloseableSilently startRequestTimer(final String name) {
     final var timer = REQUEST_RESPONSE_LATENCY.labels(name).startTimer();
@@ -100,4 +116,11 @@ final class MessagingMetricsImpl implements MessagingMetrics {
   public void decInFlightRequests(final String address, String topic) {
     IN_FLIGHT_REQUESTS.labels(address, topic).dec();
   }
+
+  @Override
+  public void observeCompressedRequest(
+      final String topic, final int uncompressedBytes, final int compressedBytes) {
+    COMPRESSED_REQUEST_BYTES.labels(topic).inc(uncompressedBytes);
+    COMPRESSION_SAVED_BYTES.labels(topic).inc(uncompressedBytes - compressedBytes);
+  }
 }
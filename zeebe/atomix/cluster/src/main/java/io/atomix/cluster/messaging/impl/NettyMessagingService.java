@@ -142,6 +142,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
   private SslContext clientSslContext;
   private DnsAddressResolverGroup dnsResolverGroup;
   private final MessagingMetrics messagingMetrics = new MessagingMetricsImpl();
+  private final MessageCompressor messageCompressor;
   private final String actorSchedulerName;
 
   public NettyMessagingService(
@@ -168,6 +169,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
     this.protocolVersion = protocolVersion;
     this.config = verifyHeartbeatConfig(config);
     channelPool = new ChannelPool(this::openChannel, config.getConnectionPoolSize());
+    messageCompressor = new MessageCompressor(config, messagingMetrics);
     this.actorSchedulerName = actorSchedulerName;
 
     initAddresses(config);
@@ -1111,7 +1113,8 @@ public final class NettyMessagingService implements ManagedMessagingService {
         final ChannelHandlerContext context,
         final Connection<M> connection,
         final ProtocolVersion protocolVersion) {
-      final MessagingProtocol protocol = protocolVersion.createProtocol(advertisedAddress);
+      final MessagingProtocol protocol =
+          protocolVersion.createProtocol(advertisedAddress, messageCompressor);
       context.pipeline().remove(this);
       context.pipeline().addLast("encoder", protocol.newEncoder());
       context.pipeline().addLast("decoder", protocol.newDecoder());
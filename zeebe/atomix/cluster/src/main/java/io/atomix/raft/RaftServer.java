@@ -404,6 +404,15 @@ public interface RaftServer {
     return getRole() == Role.LEADER;
   }
 
+  /**
+   * Returns whether the server is the leader and holds a valid leader lease. While the lease is
+   * valid, no other member can have been elected leader, so reads can be served from the local
+   * state without appending to the log. Always false if leader leases are disabled.
+   *
+   * @return whether the server holds a valid leader lease
+   */
+  boolean isLeaderLeaseValid();
+
   /**
    * Returns a boolean indicating whether the server is running.
    *
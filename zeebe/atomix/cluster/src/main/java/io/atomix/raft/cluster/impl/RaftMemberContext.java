@@ -20,6 +20,7 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import io.atomix.raft.protocol.InstallRequest;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
@@ -31,24 +32,29 @@ import org.slf4j.LoggerFactory;
 /** Cluster member state. */
 public final class RaftMemberContext {
 
+  /** The heartbeat time of a member which did not acknowledge any heartbeat yet. */
+  public static final long NO_HEARTBEAT = Long.MIN_VALUE;
+
   private static final int APPEND_WINDOW_SIZE = 8;
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
   private final int maxAppendsPerMember;
+  private final int maxSnapshotChunksInFlight;
   private boolean open = true;
   private long term;
   private long configIndex;
   private long snapshotIndex;
   private long nextSnapshotIndex;
   private ByteBuffer nextSnapshotChunk;
+  private InstallRequest lastSnapshotChunkRequest;
   private long matchIndex;
-  private long heartbeatTime;
+  private long heartbeatTime = NO_HEARTBEAT;
   private long responseTime;
   private int inFlightAppendCount;
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
-  private boolean installing;
+  private int inFlightInstallCount;
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
@@ -58,9 +64,11 @@ public final class RaftMemberContext {
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final int maxSnapshotChunksInFlight) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
     this.maxAppendsPerMember = maxAppendsPerMember;
+    this.maxSnapshotChunksInFlight = maxSnapshotChunksInFlight;
   }
 
   /** Resets the member state. */
@@ -68,13 +76,14 @@ public final class RaftMemberContext {
     snapshotIndex = 0;
     nextSnapshotIndex = 0;
     nextSnapshotChunk = null;
+    lastSnapshotChunkRequest = null;
     matchIndex = 0;
-    heartbeatTime = 0;
+    heartbeatTime = NO_HEARTBEAT;
     responseTime = 0;
     inFlightAppendCount = 0;
     timeStats.clear();
     configuring = false;
-    installing = false;
+    inFlightInstallCount = 0;
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
@@ -231,17 +240,26 @@ public final class RaftMemberContext {
    * @return Indicates whether an install request can be sent to the member.
    */
   public boolean canInstall() {
-    return open && !installing;
+    return open && inFlightInstallCount < maxSnapshotChunksInFlight;
+  }
+
+  /**
+   * Returns a boolean indicating whether install requests to the member are awaiting a response.
+   *
+   * @return Indicates whether install requests to the member are awaiting a response.
+   */
+  public boolean hasInstallsInFlight() {
+    return inFlightInstallCount > 0;
   }
 
   /** Starts an install request to the member. */
   public void startInstall() {
-    installing = true;
+    inFlightInstallCount++;
   }
 
   /** Completes an install request to the member. */
   public void completeInstall() {
-    installing = false;
+    inFlightInstallCount--;
   }
 
   /**
@@ -277,7 +295,7 @@ public final class RaftMemberContext {
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
         .add("configuring", configuring)
-        .add("installing", installing)
+        .add("installing", inFlightInstallCount)
         .add("failures", failures)
         .toString();
   }
@@ -337,9 +355,10 @@ public final class RaftMemberContext {
   }
 
   /**
-   * Returns the member heartbeat time.
+   * Returns the member heartbeat time, i.e. the {@link System#nanoTime()} at which the last
+   * heartbeat acknowledged by the member was sent.
    *
-   * @return The member heartbeat time.
+   * @return The member heartbeat time, or {@link #NO_HEARTBEAT} if none was acknowledged.
    */
   public long getHeartbeatTime() {
     return heartbeatTime;
@@ -418,6 +437,27 @@ public final class RaftMemberContext {
     this.nextSnapshotChunk = nextSnapshotChunk;
   }
 
+  /**
+   * Returns the install request carrying the last chunk of the snapshot which is being sent to the
+   * member, or null if the last chunk was not read yet.
+   *
+   * @return The install request carrying the last snapshot chunk.
+   */
+  public InstallRequest getLastSnapshotChunkRequest() {
+    return lastSnapshotChunkRequest;
+  }
+
+  /**
+   * Sets the install request carrying the last chunk of the snapshot which is being sent to the
+   * member. It completes the snapshot on the member, so it is held back until all other chunks
+   * were acknowledged.
+   *
+   * @param lastSnapshotChunkRequest The install request carrying the last snapshot chunk.
+   */
+  public void setLastSnapshotChunkRequest(final InstallRequest lastSnapshotChunkRequest) {
+    this.lastSnapshotChunkRequest = lastSnapshotChunkRequest;
+  }
+
   /**
    * Returns the member response time.
    *
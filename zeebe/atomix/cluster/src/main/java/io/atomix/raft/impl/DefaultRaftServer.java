@@ -168,6 +168,11 @@ public class DefaultRaftServer implements RaftServer {
     return context.getRole();
   }
 
+  @Override
+  public boolean isLeaderLeaseValid() {
+    return context.isLeaderLeaseValid();
+  }
+
   /**
    * Returns a boolean indicating whether the server is running.
    *
@@ -111,6 +111,7 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
    * Configuration index returned when no configuration is available, i.e. configuration is null .
    */
   private static final long NO_CONFIGURATION_INDEX = -1L;
+  private static final long NO_LEADER_LEASE = Long.MIN_VALUE;
 
   protected final String name;
   protected final ThreadContext threadContext;
@@ -161,6 +162,7 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
   private volatile HealthReport health;
 
   private long lastHeartbeat;
+  private volatile long leaderLeaseExpiry = NO_LEADER_LEASE;
   private final RaftPartitionConfig partitionConfig;
   private final int partitionId;
 
@@ -221,6 +223,7 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
             () ->
                 createThreadContext(
                     "raft-log", partitionId, threadContextFactory, localMemberId.id()));
+    raftLog.setFlushListener(() -> threadContext.execute(this::onLogFlushed));
 
     // Open the snapshot store.
     persistedSnapshotStore = storage.getPersistedSnapshotStore();
@@ -254,7 +257,9 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
 
     replicationMetrics = new RaftReplicationMetrics(name);
     replicationMetrics.setAppendIndex(raftLog.getLastIndex());
-    lastHeartbeat = System.currentTimeMillis();
+    // with leader leases, a restarted member may have acknowledged a heartbeat right before it
+    // stopped, so it must consider the leader alive until an election timeout after starting
+    lastHeartbeat = System.nanoTime();
 
     // Register protocol listeners.
     registerHandlers(protocol);
@@ -311,6 +316,10 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     threadContext.execute(this::updateCurrentSnapshot);
   }
 
+  private void onLogFlushed() {
+    role.onLogFlushed();
+  }
+
   private void onUncaughtException(final Throwable error) {
     log.error("An uncaught exception occurred, transition to inactive role", error);
     try {
@@ -426,6 +435,62 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return partitionConfig.getMaxAppendsPerFollower();
   }
 
+  public int getMaxSnapshotChunksInFlight() {
+    return partitionConfig.getMaxSnapshotChunksInFlight();
+  }
+
+  public Duration getFollowerFlushWindow() {
+    return partitionConfig.getFollowerFlushWindow();
+  }
+
+  public boolean isLeaderLeaseEnabled() {
+    return partitionConfig.isLeaderLeaseEnabled();
+  }
+
+  /**
+   * Returns how long a leader holds its lease after a quorum acknowledged one of its heartbeats.
+   * This is the election timeout shortened by the configured clock drift, or zero if leases are
+   * disabled or the drift exceeds the election timeout.
+   *
+   * @return the duration of the leader lease
+   */
+  public Duration getLeaderLeaseDuration() {
+    if (!partitionConfig.isLeaderLeaseEnabled()) {
+      return Duration.ZERO;
+    }
+
+    final var duration =
+        partitionConfig.getElectionTimeout().minus(partitionConfig.getLeaderLeaseClockDrift());
+    return duration.isNegative() ? Duration.ZERO : duration;
+  }
+
+  /**
+   * Returns whether this member is the leader and holds a valid lease, i.e. no other member can
+   * have been elected leader in the meantime. While it is valid, reads can be served from the local
+   * state without going through the log. Can be called from any thread.
+   *
+   * @return true if this member holds a valid leader lease, false otherwise
+   */
+  public boolean isLeaderLeaseValid() {
+    final long expiry = leaderLeaseExpiry;
+    return expiry != NO_LEADER_LEASE && System.nanoTime() - expiry < 0;
+  }
+
+  /**
+   * Extends the leader lease up to the given time, if it is later than the current expiry.
+   *
+   * @param expiry the {@link System#nanoTime()} at which the lease expires
+   */
+  public void extendLeaderLease(final long expiry) {
+    checkThread();
+    leaderLeaseExpiry = Math.max(leaderLeaseExpiry, expiry);
+  }
+
+  /** Revokes the leader lease, e.g. when stepping down. */
+  public void revokeLeaderLease() {
+    leaderLeaseExpiry = NO_LEADER_LEASE;
+  }
+
   /**
    * Adds a role change listener. If there isn't currently a transition ongoing the listener is
    * called immediately after adding the listener.
@@ -551,19 +616,7 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     if (commitIndex > previousCommitIndex) {
       if (isLeader()) {
         // leader counts itself in quorum, so in order to commit the leader must persist
-        try {
-          raftLog.flush();
-        } catch (final FlushException e) {
-          if (log.isWarnEnabled()) {
-            log.warn(
-                "Failed to flush commit at index %s, resetting journal to %s and stepping down"
-                    .formatted(commitIndex, previousCommitIndex),
-                e);
-          }
-          transition(Role.FOLLOWER);
-          throw new CommitFailedException(
-              "Failed to commit index %s because of a flush error: %s", commitIndex, e);
-        }
+        flushBeforeCommit(commitIndex, previousCommitIndex);
       }
       raftLog.setCommitIndex(Math.min(commitIndex, raftLog.getLastIndex()));
       this.commitIndex = commitIndex;
@@ -584,6 +637,41 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return previousCommitIndex;
   }
 
+  /**
+   * Returns the index up to which the leader may count itself in the quorum, at most the given
+   * index. If the log {@link RaftLog#tracksFlushedIndex() tracks its flushed index}, flushes may be
+   * deferred, so the leader flushes its log and only counts the entries which are on disk; it
+   * commits the others once it is notified of the deferred flush, see {@link
+   * RaftRole#onLogFlushed()}.
+   *
+   * @param index the index which a quorum of the other members persisted
+   * @return the index up to which the leader may commit
+   */
+  public long getLeaderPersistedIndex(final long index) {
+    if (!raftLog.tracksFlushedIndex() || index <= commitIndex) {
+      return index;
+    }
+
+    flushBeforeCommit(index, commitIndex);
+    return Math.min(index, raftLog.getLastFlushedIndex());
+  }
+
+  private void flushBeforeCommit(final long commitIndex, final long previousCommitIndex) {
+    try {
+      raftLog.flush();
+    } catch (final FlushException e) {
+      if (log.isWarnEnabled()) {
+        log.warn(
+            "Failed to flush commit at index %s, resetting journal to %s and stepping down"
+                .formatted(commitIndex, previousCommitIndex),
+            e);
+      }
+      transition(Role.FOLLOWER);
+      throw new CommitFailedException(
+          "Failed to commit index %s because of a flush error: %s", commitIndex, e);
+    }
+  }
+
   /**
    * Adds a new snapshot replication listener, which will be notified before and after a new
    * snapshot is received from a leader. Note that it will be called on the Raft thread, and hence
@@ -1219,6 +1307,10 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return random;
   }
 
+  /**
+   * @return the {@link System#nanoTime()} at which this member last heard from a leader, or at
+   *     which it started if it did not hear from any leader since
+   */
   public long getLastHeartbeat() {
     return lastHeartbeat;
   }
@@ -1228,7 +1320,7 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
   }
 
   public void resetLastHeartbeat() {
-    setLastHeartbeat(System.currentTimeMillis());
+    setLastHeartbeat(System.nanoTime());
   }
 
   public int getMinStepDownFailureCount() {
@@ -30,6 +30,10 @@ public class RaftPartitionConfig {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final Duration DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT = Duration.ofSeconds(0);
   private static final int DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD = 100;
+  private static final int DEFAULT_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT = 1;
+  private static final Duration DEFAULT_FOLLOWER_FLUSH_WINDOW = Duration.ZERO;
+  private static final boolean DEFAULT_LEADER_LEASE_ENABLED = false;
+  private static final Duration DEFAULT_LEADER_LEASE_CLOCK_DRIFT = Duration.ofMillis(250);
 
   private Duration electionTimeout = DEFAULT_ELECTION_TIMEOUT;
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
@@ -45,6 +49,10 @@ public class RaftPartitionConfig {
   private EntryValidator entryValidator;
   private Duration configurationChangeTimeout;
   private int snapshotChunkSize;
+  private int maxSnapshotChunksInFlight = DEFAULT_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT;
+  private Duration followerFlushWindow = DEFAULT_FOLLOWER_FLUSH_WINDOW;
+  private boolean leaderLeaseEnabled = DEFAULT_LEADER_LEASE_ENABLED;
+  private Duration leaderLeaseClockDrift = DEFAULT_LEADER_LEASE_CLOCK_DRIFT;
 
   /**
    * Returns the Raft leader election timeout.
@@ -144,6 +152,71 @@ public class RaftPartitionConfig {
     this.snapshotChunkSize = snapshotChunkSize;
   }
 
+  public int getMaxSnapshotChunksInFlight() {
+    return maxSnapshotChunksInFlight;
+  }
+
+  /**
+   * Sets how many snapshot chunks a leader may send to a follower without waiting for their
+   * responses. With 1, every chunk waits for the response to the previous one.
+   *
+   * @param maxSnapshotChunksInFlight the maximum number of unacknowledged chunks per follower
+   */
+  public void setMaxSnapshotChunksInFlight(final int maxSnapshotChunksInFlight) {
+    this.maxSnapshotChunksInFlight = maxSnapshotChunksInFlight;
+  }
+
+  public Duration getFollowerFlushWindow() {
+    return followerFlushWindow;
+  }
+
+  /**
+   * Sets the window within which a follower coalesces the flushes of consecutive append requests.
+   * Requests arriving within the window after the last flush are acknowledged before they are
+   * flushed, and the acknowledgement reports the last flushed index, which the leader uses to
+   * commit. With zero, every append request is flushed before it is acknowledged. The leader must
+   * be allowed more than one append per follower in flight for the coalescing to take effect.
+   *
+   * @param followerFlushWindow the maximum time a follower defers flushing acknowledged entries
+   */
+  public void setFollowerFlushWindow(final Duration followerFlushWindow) {
+    this.followerFlushWindow = followerFlushWindow;
+  }
+
+  public boolean isLeaderLeaseEnabled() {
+    return leaderLeaseEnabled;
+  }
+
+  /**
+   * Enables leader leases. A leader holds a lease for an election timeout, minus the configured
+   * clock drift, after a quorum acknowledged one of its heartbeats, and may serve reads from its
+   * local state while the lease is valid. To guarantee no other leader is elected before the lease
+   * expires, members which heard from a leader within the last election timeout, or started within
+   * it, reject polls and votes. This must thus be enabled on all members of the partition, and may
+   * delay elections after a leader stepped down voluntarily, or after a restart, by up to an
+   * election timeout.
+   *
+   * @param leaderLeaseEnabled true to enable leader leases, false otherwise
+   */
+  public void setLeaderLeaseEnabled(final boolean leaderLeaseEnabled) {
+    this.leaderLeaseEnabled = leaderLeaseEnabled;
+  }
+
+  public Duration getLeaderLeaseClockDrift() {
+    return leaderLeaseClockDrift;
+  }
+
+  /**
+   * Sets the maximum difference between the time elapsed on the leader and on any follower over an
+   * election timeout. The leader lease is shortened by this amount, such that it expires before any
+   * follower considers the leader gone. Must be positive and smaller than the election timeout.
+   *
+   * @param leaderLeaseClockDrift the bound on the clock drift between members
+   */
+  public void setLeaderLeaseClockDrift(final Duration leaderLeaseClockDrift) {
+    this.leaderLeaseClockDrift = leaderLeaseClockDrift;
+  }
+
   public Duration getConfigurationChangeTimeout() {
     return configurationChangeTimeout;
   }
@@ -228,6 +301,14 @@ public class RaftPartitionConfig {
         + snapshotRequestTimeout
         + ", snapshotChunkSize="
         + snapshotChunkSize
+        + ", maxSnapshotChunksInFlight="
+        + maxSnapshotChunksInFlight
+        + ", followerFlushWindow="
+        + followerFlushWindow
+        + ", leaderLeaseEnabled="
+        + leaderLeaseEnabled
+        + ", leaderLeaseClockDrift="
+        + leaderLeaseClockDrift
         + ", configurationChangeTimeout="
         + configurationChangeTimeout
         + ", minStepDownFailureCount="
@@ -19,6 +19,7 @@ package io.atomix.raft.partition;
 import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.utils.concurrent.ThreadContext;
+import java.time.Duration;
 
 /** Raft storage configuration. */
 public class RaftStorageConfig {
@@ -30,12 +31,18 @@ public class RaftStorageConfig {
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
 
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_COMPRESS_SEALED_SEGMENTS = false;
+  private static final Duration DEFAULT_GROUP_COMMIT_WINDOW = Duration.ZERO;
+  private static final long DEFAULT_GROUP_COMMIT_MAX_BYTES = 4L * 1024 * 1024;
 
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private RaftLogFlusher.Factory flusherFactory = DEFAULT_FLUSHER_FACTORY;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean compressSealedSegments = DEFAULT_COMPRESS_SEALED_SEGMENTS;
+  private Duration groupCommitWindow = DEFAULT_GROUP_COMMIT_WINDOW;
+  private long groupCommitMaxBytes = DEFAULT_GROUP_COMMIT_MAX_BYTES;
 
   /**
    * Returns the Raft log segment size.
@@ -125,6 +132,58 @@ public class RaftStorageConfig {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
 
+  /**
+   * @return true to compress sealed segments at rest, false otherwise
+   */
+  public boolean isCompressSealedSegments() {
+    return compressSealedSegments;
+  }
+
+  /**
+   * Sets whether sealed segments are compressed at rest. If true, sealed segments are compressed
+   * in the background, and decompressed into memory when they are read.
+   *
+   * @param compressSealedSegments true to compress sealed segments, false otherwise
+   */
+  public void setCompressSealedSegments(final boolean compressSealedSegments) {
+    this.compressSealedSegments = compressSealedSegments;
+  }
+
+  /**
+   * @return the maximum time a flush of the journal may be deferred to coalesce it with later ones
+   */
+  public Duration getGroupCommitWindow() {
+    return groupCommitWindow;
+  }
+
+  /**
+   * Sets the group commit window of the journal. Only has an effect if the configured {@link
+   * #flusherFactory()} defers flushes, e.g. if it creates a {@link
+   * io.atomix.raft.storage.log.GroupCommitFlusher}.
+   *
+   * @param groupCommitWindow the maximum time a flush may be deferred by
+   */
+  public void setGroupCommitWindow(final Duration groupCommitWindow) {
+    this.groupCommitWindow = groupCommitWindow;
+  }
+
+  /**
+   * @return the amount of appended bytes after which a flush is not deferred anymore
+   */
+  public long getGroupCommitMaxBytes() {
+    return groupCommitMaxBytes;
+  }
+
+  /**
+   * Sets the amount of appended bytes after which a flush is not deferred anymore, even within the
+   * group commit window.
+   *
+   * @param groupCommitMaxBytes the maximum amount of bytes to defer flushing for
+   */
+  public void setGroupCommitMaxBytes(final long groupCommitMaxBytes) {
+    this.groupCommitMaxBytes = groupCommitMaxBytes;
+  }
+
   @Override
   public String toString() {
     return "RaftStorageConfig{"
@@ -138,6 +197,12 @@ public class RaftStorageConfig {
         + journalIndexDensity
         + ", preallocateSegmentFiles="
         + preallocateSegmentFiles
+        + ", compressSealedSegments="
+        + compressSealedSegments
+        + ", groupCommitWindow="
+        + groupCommitWindow
+        + ", groupCommitMaxBytes="
+        + groupCommitMaxBytes
         + '}';
   }
 }
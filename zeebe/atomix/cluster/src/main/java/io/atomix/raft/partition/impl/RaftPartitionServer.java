@@ -294,6 +294,10 @@ public class RaftPartitionServer implements HealthMonitorable {
     return server.getTerm();
   }
 
+  public boolean isLeaderLeaseValid() {
+    return server.isLeaderLeaseValid();
+  }
+
   public MemberId getMemberId() {
     return localMemberId;
   }
@@ -310,6 +314,9 @@ public class RaftPartitionServer implements HealthMonitorable {
         .withSnapshotStore(persistedSnapshotStore)
         .withJournalIndexDensity(storageConfig.getJournalIndexDensity())
         .withPreallocateSegmentFiles(storageConfig.isPreallocateSegmentFiles())
+        .withCompressSealedSegments(storageConfig.isCompressSealedSegments())
+        .withGroupCommitWindow(storageConfig.getGroupCommitWindow())
+        .withGroupCommitMaxBytes(storageConfig.getGroupCommitMaxBytes())
         .build();
   }
 
@@ -21,6 +21,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 
 import io.atomix.raft.RaftError;
 import java.util.Objects;
+import java.util.OptionalLong;
 
 /** Server append entries response. */
 public class AppendResponse extends AbstractRaftResponse {
@@ -30,6 +31,8 @@ public class AppendResponse extends AbstractRaftResponse {
   private final long lastLogIndex;
   private final long lastSnapshotIndex;
   private final long configurationIndex;
+  // null if the replica did not report it; older replicas don't send it, which reads as null
+  private final Long lastFlushedIndex;
 
   public AppendResponse(
       final Status status,
@@ -38,13 +41,15 @@ public class AppendResponse extends AbstractRaftResponse {
       final boolean succeeded,
       final long lastLogIndex,
       final long lastSnapshotIndex,
-      final long configurationIndex) {
+      final long configurationIndex,
+      final OptionalLong lastFlushedIndex) {
     super(status, error);
     this.term = term;
     this.succeeded = succeeded;
     this.lastLogIndex = lastLogIndex;
     this.lastSnapshotIndex = lastSnapshotIndex;
     this.configurationIndex = configurationIndex;
+    this.lastFlushedIndex = lastFlushedIndex.isPresent() ? lastFlushedIndex.getAsLong() : null;
   }
 
   /**
@@ -105,10 +110,37 @@ public class AppendResponse extends AbstractRaftResponse {
     return configurationIndex;
   }
 
+  /**
+   * Returns the index up to which the replica's log is flushed. Replicas which flush before
+   * acknowledging, including replicas of older versions, do not report it.
+   *
+   * @return the last flushed index, or empty if all acknowledged entries are flushed
+   */
+  public OptionalLong lastFlushedIndex() {
+    return lastFlushedIndex != null ? OptionalLong.of(lastFlushedIndex) : OptionalLong.empty();
+  }
+
+  /**
+   * Returns the index up to which the replica's log matches the leader's and is persisted, which is
+   * the index that may be counted towards the commit.
+   *
+   * @return the last persisted index of the replica's log
+   */
+  public long lastPersistedIndex() {
+    return lastFlushedIndex != null ? Math.min(lastLogIndex, lastFlushedIndex) : lastLogIndex;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(
-        getClass(), status, term, succeeded, lastLogIndex, lastSnapshotIndex, configurationIndex);
+        getClass(),
+        status,
+        term,
+        succeeded,
+        lastLogIndex,
+        lastSnapshotIndex,
+        configurationIndex,
+        lastFlushedIndex);
   }
 
   @Override
@@ -121,7 +153,8 @@ public class AppendResponse extends AbstractRaftResponse {
         && response.succeeded == succeeded
         && response.lastLogIndex == lastLogIndex
         && response.lastSnapshotIndex == lastSnapshotIndex
-        && response.configurationIndex == configurationIndex;
+        && response.configurationIndex == configurationIndex
+        && Objects.equals(response.lastFlushedIndex, lastFlushedIndex);
   }
 
   @Override
@@ -134,6 +167,7 @@ public class AppendResponse extends AbstractRaftResponse {
           .add("lastLogIndex", lastLogIndex)
           .add("lastSnapshotIndex", lastSnapshotIndex)
           .add("configurationIndex", configurationIndex)
+          .add("lastFlushedIndex", lastFlushedIndex)
           .toString();
     } else {
       return toStringHelper(this).add("status", status).add("error", error).toString();
@@ -148,6 +182,7 @@ public class AppendResponse extends AbstractRaftResponse {
     private long lastLogIndex;
     private long lastSnapshotIndex;
     private long configurationIndex;
+    private OptionalLong lastFlushedIndex = OptionalLong.empty();
 
     /**
      * Sets the response term.
@@ -197,6 +232,20 @@ public class AppendResponse extends AbstractRaftResponse {
       return this;
     }
 
+    /**
+     * Sets the index up to which the replica's log is flushed. Only set it if the replica may
+     * acknowledge entries before flushing them.
+     *
+     * @param lastFlushedIndex the last flushed index of the replica's log
+     * @return the append response builder
+     * @throws IllegalArgumentException if {@code lastFlushedIndex} is negative
+     */
+    public Builder withLastFlushedIndex(final long lastFlushedIndex) {
+      checkArgument(lastFlushedIndex >= 0, "lastFlushedIndex must not be negative");
+      this.lastFlushedIndex = OptionalLong.of(lastFlushedIndex);
+      return this;
+    }
+
     /**
      * @throws IllegalStateException if status is ok and term is not positive or log index is
      *     negative
@@ -205,7 +254,14 @@ public class AppendResponse extends AbstractRaftResponse {
     public AppendResponse build() {
       validate();
       return new AppendResponse(
-          status, error, term, succeeded, lastLogIndex, lastSnapshotIndex, configurationIndex);
+          status,
+          error,
+          term,
+          succeeded,
+          lastLogIndex,
+          lastSnapshotIndex,
+          configurationIndex,
+          lastFlushedIndex);
     }
 
     @Override
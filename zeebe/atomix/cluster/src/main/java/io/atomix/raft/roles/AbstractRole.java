@@ -102,6 +102,9 @@ public abstract class AbstractRole implements RaftRole {
     return CompletableFuture.completedFuture(null);
   }
 
+  @Override
+  public void onLogFlushed() {}
+
   /** Forwards the given request to the leader if possible. */
   protected <T extends RaftRequest, U extends RaftResponse> CompletableFuture<U> forward(
       final T request, final BiFunction<MemberId, T, CompletableFuture<U>> function) {
@@ -93,6 +93,13 @@ public abstract class ActiveRole extends PassiveRole {
           .withTerm(raft.getTerm())
           .withAccepted(false)
           .build();
+    } else if (hasRecentLeader()) {
+      log.debug("Rejected {}: heard from leader {} recently", request, raft.getLeader());
+      return PollResponse.builder()
+          .withStatus(RaftResponse.Status.OK)
+          .withTerm(raft.getTerm())
+          .withAccepted(false)
+          .build();
     } else if (isLogUpToDate(request.lastLogIndex(), request.lastLogTerm(), request)) {
       return PollResponse.builder()
           .withStatus(RaftResponse.Status.OK)
@@ -108,6 +115,17 @@ public abstract class ActiveRole extends PassiveRole {
     }
   }
 
+  /**
+   * Returns whether a leader may still rely on this member not to elect another leader. With leader
+   * leases, the leader relies on its followers not electing another leader until an election
+   * timeout after they last heard from it. This does not require a known leader, as a member which
+   * restarted may have acknowledged a heartbeat right before.
+   */
+  private boolean hasRecentLeader() {
+    return raft.isLeaderLeaseEnabled()
+        && System.nanoTime() - raft.getLastHeartbeat() < raft.getElectionTimeout().toNanos();
+  }
+
   /** Returns a boolean value indicating whether the given candidate's log is up-to-date. */
   boolean isLogUpToDate(final long lastIndex, final long lastTerm, final RaftRequest request) {
     // If the log is empty then vote for the candidate.
@@ -168,6 +186,15 @@ public abstract class ActiveRole extends PassiveRole {
           .withVoted(false)
           .build();
     }
+    // If a leader may still hold a lease relying on this member, reject the request.
+    else if (hasRecentLeader()) {
+      log.debug("Rejected {}: heard from leader {} recently", request, raft.getLeader());
+      return VoteResponse.builder()
+          .withStatus(RaftResponse.Status.OK)
+          .withTerm(raft.getTerm())
+          .withVoted(false)
+          .build();
+    }
     // If a leader was already determined for this term then reject the request.
     else if (raft.getLeader() != null) {
       log.debug("Rejected {}: leader already exists", request);
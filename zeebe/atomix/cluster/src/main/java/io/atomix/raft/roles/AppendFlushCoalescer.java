@@ -0,0 +1,200 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.roles;
+
+import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces the flushes of a follower's log across consecutive append requests.
+ *
+ * <p>By default, a follower flushes its log before acknowledging every append request. When a
+ * window is configured, an append request which arrives less than the window after the last flush
+ * is acknowledged as soon as its entries are written, and the flush is deferred until the window
+ * elapses. Acknowledgements then report the last flushed index of the log separately from the last
+ * log index, and the leader only counts flushed entries towards the commit, so commit safety is
+ * preserved. The flushed index is the one of the log, not the index up to which a flush was last
+ * requested, as the configured {@link io.atomix.raft.storage.log.RaftLogFlusher} may defer it.
+ *
+ * <p>The log's {@link io.atomix.raft.storage.log.RaftLogFlusher} may defer flushes as well, if it
+ * {@link RaftLog#tracksFlushedIndex() tracks the flushed index}. Acknowledgements then always
+ * report the last flushed index, even without a window, since the log may not be flushed up to the
+ * acknowledged entries when {@link RaftLog#flush()} returns, and the acknowledgement is held until
+ * the log is flushed.
+ *
+ * <p>To keep the leader from waiting for the next request to learn about the deferred flush, the
+ * acknowledgement of the most recent deferred request is held back until the flush completes, or
+ * until the next request arrives, whichever comes first. Since at most one acknowledgement is held,
+ * the leader can keep sending append requests in the meantime.
+ *
+ * <p>This class is not thread-safe, and is expected to be used only from the Raft thread.
+ */
+final class AppendFlushCoalescer implements AutoCloseable {
+  private static final Logger LOG = LoggerFactory.getLogger(AppendFlushCoalescer.class);
+
+  private final RaftLog log;
+  private final Scheduler scheduler;
+  private final long windowNanos;
+  private final LongSupplier nanoClock;
+
+  private long lastFlushNanos;
+  private boolean hasDeferredEntries;
+  private Runnable heldAcknowledgement;
+  private Scheduled scheduledFlush;
+
+  AppendFlushCoalescer(final RaftLog log, final Scheduler scheduler, final Duration window) {
+    this(log, scheduler, window, System::nanoTime);
+  }
+
+  AppendFlushCoalescer(
+      final RaftLog log,
+      final Scheduler scheduler,
+      final Duration window,
+      final LongSupplier nanoClock) {
+    this.log = log;
+    this.scheduler = scheduler;
+    windowNanos = Objects.requireNonNull(window, "must specify a flush window").toNanos();
+    this.nanoClock = nanoClock;
+
+    // the first append is always flushed right away
+    lastFlushNanos = nanoClock.getAsLong() - windowNanos;
+  }
+
+  /**
+   * Returns the index up to which the log is flushed, to report in acknowledgements. It is only
+   * reported if flushes may be deferred, either by the window or by the log; otherwise, every
+   * acknowledged entry was flushed.
+   *
+   * @return the last flushed index of the log, or empty if flushes are never deferred
+   */
+  OptionalLong lastFlushedIndex() {
+    return windowNanos > 0 || log.tracksFlushedIndex()
+        ? OptionalLong.of(log.getLastFlushedIndex())
+        : OptionalLong.empty();
+  }
+
+  /**
+   * Acknowledges the entries written up to the given index, either after flushing them, or right
+   * away if the flush can be deferred.
+   *
+   * @param lastLogIndex the index of the last entry written by the request
+   * @param acknowledgement sends the response to the request; it must read the flushed index only
+   *     when it is run
+   * @throws FlushException if the log must be flushed, but flushing failed
+   */
+  void acknowledge(final long lastLogIndex, final Runnable acknowledgement)
+      throws FlushException {
+    releaseHeldAcknowledgement();
+
+    final long now = nanoClock.getAsLong();
+    if (log.getLastFlushedIndex() >= lastLogIndex) {
+      acknowledgement.run();
+    } else if (windowNanos <= 0 || now - lastFlushNanos >= windowNanos) {
+      flush();
+      if (!log.tracksFlushedIndex() || log.getLastFlushedIndex() >= lastLogIndex) {
+        acknowledgement.run();
+      } else {
+        // the log deferred the flush, so acknowledge once it's flushed or the next request arrives
+        heldAcknowledgement = acknowledgement;
+      }
+    } else {
+      hasDeferredEntries = true;
+      heldAcknowledgement = acknowledgement;
+      if (scheduledFlush == null) {
+        final var delay = Duration.ofNanos(windowNanos - (now - lastFlushNanos));
+        scheduledFlush = scheduler.schedule(delay, this::flushDeferred);
+      }
+    }
+  }
+
+  /**
+   * Flushes the log, regardless of the window, and sends the held acknowledgement if any. If the
+   * log deferred the flush, the acknowledgement stays held until {@link #onLogFlushed()}.
+   *
+   * @throws FlushException if flushing failed
+   */
+  void flush() throws FlushException {
+    cancelScheduledFlush();
+    log.flush();
+    lastFlushNanos = nanoClock.getAsLong();
+    hasDeferredEntries = false;
+    if (!log.tracksFlushedIndex() || log.getLastFlushedIndex() >= log.getLastIndex()) {
+      releaseHeldAcknowledgement();
+    }
+  }
+
+  /**
+   * Sends the held acknowledgement, if any, after the log flushed entries whose flush it deferred.
+   */
+  void onLogFlushed() {
+    releaseHeldAcknowledgement();
+  }
+
+  /**
+   * Sends the held acknowledgement, if any, with the currently flushed index. Must be called before
+   * any other response to an append request is sent, to keep the responses in order.
+   */
+  void releaseHeldAcknowledgement() {
+    final var acknowledgement = heldAcknowledgement;
+    if (acknowledgement != null) {
+      heldAcknowledgement = null;
+      acknowledgement.run();
+    }
+  }
+
+  /**
+   * Flushes the log if any acknowledged entries are not flushed yet. Must be called before
+   * truncating the log, as the log considers itself flushed up to the truncation index.
+   *
+   * @throws FlushException if flushing failed
+   */
+  void flushIfDeferred() throws FlushException {
+    if (hasDeferredEntries) {
+      flush();
+    }
+  }
+
+  /** Flushes any deferred entries, and sends the held acknowledgement. */
+  @Override
+  public void close() {
+    try {
+      flushIfDeferred();
+    } catch (final FlushException e) {
+      LOG.warn("Failed to flush deferred appends on close; they will be flushed later", e);
+    }
+
+    releaseHeldAcknowledgement();
+  }
+
+  private void flushDeferred() {
+    scheduledFlush = null;
+
+    try {
+      flush();
+    } catch (final FlushException e) {
+      // the next append request will retry, as the window has elapsed
+      LOG.warn("Failed to flush deferred appends up to index {}", log.getLastIndex(), e);
+      releaseHeldAcknowledgement();
+    }
+  }
+
+  private void cancelScheduledFlush() {
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel();
+      scheduledFlush = null;
+    }
+  }
+}
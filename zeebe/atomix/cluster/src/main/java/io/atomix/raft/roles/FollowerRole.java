@@ -39,6 +39,7 @@ import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.utils.VoteQuorum;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /** Follower state. */
@@ -223,16 +224,14 @@ public final class FollowerRole extends ActiveRole {
       return;
     }
 
-    updateHeartbeat(System.currentTimeMillis());
+    updateHeartbeat(System.nanoTime());
     electionTimer.reset();
   }
 
   private void updateHeartbeat(final long currentTimestamp) {
-    if (raft.getLastHeartbeat() > 0) {
-      raft.getRaftRoleMetrics()
-          .observeHeartbeatInterval(currentTimestamp - raft.getLastHeartbeat());
-    }
-
+    raft.getRaftRoleMetrics()
+        .observeHeartbeatInterval(
+            TimeUnit.NANOSECONDS.toMillis(currentTimestamp - raft.getLastHeartbeat()));
     raft.setLastHeartbeat(currentTimestamp);
   }
 
@@ -243,7 +242,8 @@ public final class FollowerRole extends ActiveRole {
       return;
     }
 
-    final var timeSinceLastHeartbeatMs = System.currentTimeMillis() - raft.getLastHeartbeat();
+    final var timeSinceLastHeartbeatMs =
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - raft.getLastHeartbeat());
     final var leader =
         Optional.ofNullable(raft.getLeader())
             .map(DefaultRaftMember::memberId)
@@ -44,6 +44,7 @@ import io.atomix.utils.logging.LoggerContext;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
+import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -54,6 +55,7 @@ import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import org.slf4j.Logger;
 
@@ -64,10 +66,15 @@ import org.slf4j.Logger;
 final class LeaderAppender {
 
   private static final int MIN_BACKOFF_FAILURE_COUNT = 5;
+  // followers which are in sync read the same recent entries, so only a few append batches worth of
+  // records need to be cached to share them between all followers
+  private static final int RECORD_CACHE_CAPACITY = 4096;
+  private static final int RECORD_CACHE_BATCHES = 64;
 
   private final int maxBatchSizePerAppend;
   private final Logger log;
   private final RaftContext raft;
+  private final LeaderRole leaderRole;
   private boolean open = true;
 
   private final LeaderMetrics metrics;
@@ -79,14 +86,19 @@ final class LeaderAppender {
   private final long heartbeatTime;
   private final int minStepDownFailureCount;
   private final long maxQuorumResponseTimeout;
+  private final ReplicatableRecordCache recordCache;
 
   LeaderAppender(final LeaderRole leader) {
+    leaderRole = leader;
     raft = checkNotNull(leader.raft, "context cannot be null");
     log =
         ContextualLoggerFactory.getLogger(
             getClass(), LoggerContext.builder(RaftServer.class).addValue(raft.getName()).build());
     metrics = new LeaderMetrics(raft.getName());
     maxBatchSizePerAppend = raft.getMaxAppendBatchSize();
+    recordCache =
+        new ReplicatableRecordCache(
+            RECORD_CACHE_CAPACITY, (long) RECORD_CACHE_BATCHES * maxBatchSizePerAppend);
     leaderTime = System.currentTimeMillis();
     leaderIndex =
         raft.getLog().isEmpty() ? raft.getLog().getFirstIndex() : raft.getLog().getLastIndex() + 1;
@@ -185,7 +197,7 @@ final class LeaderAppender {
     while (hasMoreEntries(member)) {
       // Otherwise, read the next entry and add it to the batch.
       final IndexedRaftLogEntry entry = member.nextEntry();
-      final var replicatableRecord = entry.getReplicatableJournalRecord();
+      final var replicatableRecord = recordCache.get(entry);
       entries.add(replicatableRecord);
       size += replicatableRecord.approximateSize();
       if (entry.index() == lastIndex || size >= maxBatchSizePerAppend) {
@@ -208,7 +220,7 @@ final class LeaderAppender {
     // Start the append to the member.
     member.startAppend();
 
-    final long timestamp = System.currentTimeMillis();
+    final long timestamp = System.nanoTime();
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
     raft.getProtocol()
@@ -217,7 +229,8 @@ final class LeaderAppender {
             (response, error) -> {
               if (open) {
                 // Complete the append to the member.
-                final long appendLatency = System.currentTimeMillis() - timestamp;
+                final long appendLatency =
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - timestamp);
                 metrics.appendComplete(appendLatency, member.getMember().memberId().id());
                 if (!request.entries().isEmpty()) {
                   member.completeAppend(appendLatency);
@@ -266,8 +279,9 @@ final class LeaderAppender {
 
   /** Updates the match index when a response is received. */
   private void updateMatchIndex(final RaftMemberContext member, final AppendResponse response) {
-    // If the replica returned a valid match index then update the existing match index.
-    member.setMatchIndex(response.lastLogIndex());
+    // If the replica returned a valid match index then update the existing match index. Entries
+    // which the replica acknowledged before flushing them do not count towards the commit yet.
+    member.setMatchIndex(response.lastPersistedIndex());
     observeRemainingMemberEntries(member);
   }
 
@@ -327,7 +341,7 @@ final class LeaderAppender {
     // Start the configure to the member.
     member.startConfigure();
 
-    final long timestamp = System.currentTimeMillis();
+    final long timestamp = System.nanoTime();
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
     raft.getProtocol()
@@ -383,6 +397,10 @@ final class LeaderAppender {
   private Optional<InstallRequest> buildInstallRequest(
       final RaftMemberContext member, final PersistedSnapshot persistedSnapshot) {
     if (member.getNextSnapshotIndex() != persistedSnapshot.getIndex()) {
+      if (member.hasInstallsInFlight()) {
+        // wait for the responses of the previous attempt before starting over
+        return Optional.empty();
+      }
       try {
         final SnapshotChunkReader snapshotChunkReader = persistedSnapshot.newChunkReader();
         member.setSnapshotChunkReader(snapshotChunkReader);
@@ -396,6 +414,14 @@ final class LeaderAppender {
       }
       member.setNextSnapshotIndex(persistedSnapshot.getIndex());
       member.setNextSnapshotChunkId(null);
+      member.setLastSnapshotChunkRequest(null);
+    }
+
+    final InstallRequest lastChunkRequest = member.getLastSnapshotChunkRequest();
+    if (lastChunkRequest != null) {
+      // the last chunk completes the snapshot on the member, so it is only sent once all other
+      // chunks were acknowledged
+      return member.hasInstallsInFlight() ? Optional.empty() : Optional.of(lastChunkRequest);
     }
 
     final SnapshotChunkReader reader = member.getSnapshotChunkReader();
@@ -434,6 +460,15 @@ final class LeaderAppender {
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
               .build();
+
+      // Advance to the next chunk before the response is received, so that multiple chunks can be
+      // in flight. A chunk which times out rewinds the member to it again.
+      if (request.complete()) {
+        member.setNextSnapshotChunkId(currentChunkId);
+        member.setLastSnapshotChunkRequest(request);
+        return member.hasInstallsInFlight() ? Optional.empty() : Optional.of(request);
+      }
+      member.setNextSnapshotChunkId(reader.nextId());
       return Optional.of(request);
     } catch (final UncheckedIOException e) {
       log.warn(
@@ -442,8 +477,7 @@ final class LeaderAppender {
           member.getMember().memberId(),
           e);
       // If snapshot was deleted, a new reader should be created with the new snapshot
-      member.setNextSnapshotIndex(0);
-      member.setNextSnapshotChunkId(null);
+      resetSnapshotReplication(member);
       return Optional.empty();
     }
   }
@@ -453,7 +487,7 @@ final class LeaderAppender {
     // Start the install to the member.
     member.startInstall();
 
-    final long timestamp = System.currentTimeMillis();
+    final long timestamp = System.nanoTime();
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
     raft.getProtocol()
@@ -485,9 +519,10 @@ final class LeaderAppender {
         error instanceof TimeoutException
             || (error != null && error.getCause() instanceof TimeoutException);
 
-    if (!isTimeout) {
-      member.setNextSnapshotIndex(0);
-      member.setNextSnapshotChunkId(null);
+    if (isTimeout) {
+      rewindSnapshotReplication(member, request);
+    } else {
+      resetSnapshotReplication(member);
     }
 
     // Log the failed attempt to contact the member.
@@ -508,16 +543,12 @@ final class LeaderAppender {
     }
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
+    // The member's next snapshot chunk was already advanced when the request was sent.
     if (request.complete()) {
-      member.setNextSnapshotIndex(0);
-      member.setNextSnapshotChunkId(null);
+      resetSnapshotReplication(member);
       member.setSnapshotIndex(request.index());
       resetNextIndex(member, request.index() + 1);
     }
-    // If more install requests remain, increment the member's snapshot offset.
-    else {
-      member.setNextSnapshotChunkId(request.nextChunkId());
-    }
 
     // Recursively append entries to the member.
     appendEntries(member);
@@ -535,8 +566,41 @@ final class LeaderAppender {
         member.getMember().memberId(),
         response.error().toString());
 
+    resetSnapshotReplication(member);
+  }
+
+  /** Resets the member's snapshot replication, to resend the snapshot from the start. */
+  private void resetSnapshotReplication(final RaftMemberContext member) {
     member.setNextSnapshotIndex(0);
     member.setNextSnapshotChunkId(null);
+    member.setLastSnapshotChunkRequest(null);
+  }
+
+  /**
+   * Rewinds the member's snapshot replication to the chunk of the given request, unless an earlier
+   * chunk has to be resent already. Requests of a previous snapshot replication are ignored.
+   */
+  private void rewindSnapshotReplication(
+      final RaftMemberContext member, final InstallRequest request) {
+    if (request.index() != member.getNextSnapshotIndex()) {
+      return;
+    }
+
+    member.setLastSnapshotChunkRequest(null);
+    final ByteBuffer nextChunkId = member.getNextSnapshotChunk();
+    if (request.isInitial()) {
+      member.setNextSnapshotChunkId(null);
+    } else if (nextChunkId != null && compareChunkIds(request.chunkId(), nextChunkId) < 0) {
+      member.setNextSnapshotChunkId(request.chunkId());
+    }
+  }
+
+  private static int compareChunkIds(final ByteBuffer left, final ByteBuffer right) {
+    final var leftId = new SnapshotChunkId(left);
+    final var rightId = new SnapshotChunkId(right);
+    // chunks are read in the order of their file names, see FileBasedSnapshotChunkReader
+    final int fileComparison = CharSequence.compare(leftId.fileName(), rightId.fileName());
+    return fileComparison != 0 ? fileComparison : Long.compare(leftId.offset(), rightId.offset());
   }
 
   /**
@@ -562,9 +626,15 @@ final class LeaderAppender {
     // The updated commit index will be sent to passive/reserve members on heartbeats.
     if (raft.getCluster().isSingleMemberCluster()) {
       try {
-        raft.setCommitIndex(index);
-        completeCommits(index);
-        return CompletableFuture.completedFuture(index);
+        final long commitIndex = raft.getLeaderPersistedIndex(index);
+        raft.setCommitIndex(commitIndex);
+        completeCommits(commitIndex);
+        if (commitIndex >= index) {
+          return CompletableFuture.completedFuture(index);
+        }
+
+        // the flush of the entry was deferred, it's committed once the log is flushed
+        return appendFutures.computeIfAbsent(index, i -> new CompletableFuture<>());
       } catch (final CommitFailedException e) {
         return CompletableFuture.failedFuture(e);
       }
@@ -603,6 +673,7 @@ final class LeaderAppender {
 
     // If there are no other active members in the cluster, simply complete the append operation.
     if (raft.getCluster().getReplicationTargets().isEmpty()) {
+      leaderRole.onQuorumHeartbeat(System.nanoTime());
       return CompletableFuture.completedFuture(null);
     }
 
@@ -864,6 +935,7 @@ final class LeaderAppender {
 
   public void close() {
     open = false;
+    recordCache.clear();
     completeCommits(raft.getCommitIndex());
     appendFutures
         .values()
@@ -913,8 +985,14 @@ final class LeaderAppender {
         "Replicating snapshot {} to {}",
         persistedSnapshot.getIndex(),
         member.getMember().memberId());
-    buildInstallRequest(member, persistedSnapshot)
-        .ifPresent(installRequest -> sendInstallRequest(member, installRequest));
+    // send chunks until the member's window of in-flight install requests is full
+    while (member.canInstall()) {
+      final var installRequest = buildInstallRequest(member, persistedSnapshot);
+      if (installRequest.isEmpty()) {
+        return;
+      }
+      sendInstallRequest(member, installRequest.get());
+    }
   }
 
   private void replicateEvents(final RaftMemberContext member) {
@@ -928,11 +1006,11 @@ final class LeaderAppender {
     // Iterate through pending timestamped heartbeat futures and fail futures that have been pending
     // longer
     // than an election timeout.
-    final long currentTimestamp = System.currentTimeMillis();
+    final long currentTimestamp = System.nanoTime();
     final Iterator<TimestampedFuture<Long>> iterator = heartbeatFutures.iterator();
     while (iterator.hasNext()) {
       final TimestampedFuture<Long> future = iterator.next();
-      if (currentTimestamp - future.timestamp > electionTimeout) {
+      if (TimeUnit.NANOSECONDS.toMillis(currentTimestamp - future.timestamp) > electionTimeout) {
         future.completeExceptionally(
             new RaftException.ProtocolException("Failed to reach consensus"));
         iterator.remove();
@@ -940,7 +1018,12 @@ final class LeaderAppender {
     }
   }
 
-  /** Records a completed heartbeat to the given member. */
+  /**
+   * Records a completed heartbeat to the given member.
+   *
+   * @param member the member which acknowledged the heartbeat
+   * @param timestamp the {@link System#nanoTime()} at which the heartbeat was sent
+   */
   private void recordHeartbeat(final RaftMemberContext member, final long timestamp) {
     raft.checkThread();
 
@@ -951,7 +1034,8 @@ final class LeaderAppender {
 
     // Compute the quorum heartbeat time.
     final long quorumHeartbeatTime = computeHeartbeatTime();
-    final long currentTimestamp = System.currentTimeMillis();
+    final long currentTimestamp = System.nanoTime();
+    leaderRole.onQuorumHeartbeat(quorumHeartbeatTime);
 
     // Iterate through pending timestamped heartbeat futures and complete all futures where the
     // timestamp
@@ -967,7 +1051,8 @@ final class LeaderAppender {
         iterator.remove();
       }
       // If the future is more than an election timeout old, fail it with a protocol exception.
-      else if (currentTimestamp - future.timestamp > electionTimeout) {
+      else if (TimeUnit.NANOSECONDS.toMillis(currentTimestamp - future.timestamp)
+          > electionTimeout) {
         future.completeExceptionally(
             new RaftException.ProtocolException("Failed to reach consensus"));
         iterator.remove();
@@ -991,12 +1076,15 @@ final class LeaderAppender {
    * majority of the cluster was contacted based on the index of a majority of the members. So, in a
    * list of 3 ACTIVE members, index 1 (the second member) will be used to determine the commit time
    * in a sorted members list.
+   *
+   * <p>Heartbeat times are measured with {@link System#nanoTime()}, as they bound the leader lease,
+   * which must not be extended when the wall clock is adjusted.
    */
   private long computeHeartbeatTime() {
     return raft.getCluster()
         .getQuorumFor(RaftMemberContext::getHeartbeatTime)
         // No remote members, use current time because the local member is always reachable.
-        .orElseGet(System::currentTimeMillis);
+        .orElseGet(System::nanoTime);
   }
 
   /** Attempts to send heartbeats to all followers. */
@@ -1006,15 +1094,27 @@ final class LeaderAppender {
     }
   }
 
+  /**
+   * Commits the entries which the leader could not count towards the quorum before, because their
+   * flush was deferred.
+   */
+  void onLogFlushed() {
+    if (open) {
+      commitEntries();
+    }
+  }
+
   /** Checks whether any futures can be completed. */
   private void commitEntries() {
     raft.checkThread();
 
-    final long commitIndex =
+    final long quorumIndex =
         raft.getCluster()
             .getQuorumFor(RaftMemberContext::getMatchIndex)
             // If there are no remote members, commit up to the last log index.
             .orElseGet(() -> raft.getLog().getLastIndex());
+    // The quorum counts the leader as well, so only the entries which it persisted can be committed
+    final long commitIndex = raft.getLeaderPersistedIndex(quorumIndex);
 
     // If the commit index has increased then update the commit index. Note that in order to ensure
     // the leader completeness property holds, we verify that the commit index is greater than or
@@ -1065,7 +1165,7 @@ final class LeaderAppender {
     private final long timestamp;
 
     TimestampedFuture() {
-      this(System.currentTimeMillis());
+      this(System.nanoTime());
     }
 
     TimestampedFuture(final long timestamp) {
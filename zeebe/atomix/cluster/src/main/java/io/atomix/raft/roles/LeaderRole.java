@@ -68,6 +68,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /** Leader state. */
@@ -88,7 +89,8 @@ public final class LeaderRole extends ActiveRole implements ZeebeLogAppender {
   @Override
   public synchronized CompletableFuture<RaftRole> start() {
     raft.getRaftRoleMetrics()
-        .setElectionLatency(System.currentTimeMillis() - raft.getLastHeartbeat());
+        .setElectionLatency(
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - raft.getLastHeartbeat()));
 
     // Reset state for the leader.
     takeLeadership();
@@ -114,6 +116,7 @@ public final class LeaderRole extends ActiveRole implements ZeebeLogAppender {
 
   @Override
   public synchronized CompletableFuture<Void> stop() {
+    raft.revokeLeaderLease();
     raft.resetLastHeartbeat();
     // Close open resources (eg:- journal readers) used for replication by the leader
     raft.getCluster().getReplicationTargets().forEach(RaftMemberContext::closeReplicationContext);
@@ -124,6 +127,12 @@ public final class LeaderRole extends ActiveRole implements ZeebeLogAppender {
         .thenRun(this::stepDown);
   }
 
+  @Override
+  public void onLogFlushed() {
+    super.onLogFlushed();
+    appender.onLogFlushed();
+  }
+
   @Override
   public RaftServer.Role role() {
     return RaftServer.Role.LEADER;
@@ -412,6 +421,28 @@ public final class LeaderRole extends ActiveRole implements ZeebeLogAppender {
     }
   }
 
+  /**
+   * Extends the leader lease after a quorum acknowledged a heartbeat sent at the given time. No
+   * member of that quorum accepts another candidate's poll until an election timeout after it
+   * received the heartbeat, so no other leader can be elected before then. The lease is only
+   * extended once the initial entry is committed, such that the leader's state includes every
+   * entry committed by previous leaders.
+   *
+   * @param quorumHeartbeatTime the {@link System#nanoTime()} at which the heartbeat acknowledged by
+   *     a quorum was sent, or {@link RaftMemberContext#NO_HEARTBEAT} if a quorum acknowledged none
+   */
+  void onQuorumHeartbeat(final long quorumHeartbeatTime) {
+    final var leaseDuration = raft.getLeaderLeaseDuration();
+    if (leaseDuration.isZero()
+        || quorumHeartbeatTime == RaftMemberContext.NO_HEARTBEAT
+        || !isRunning()
+        || initializing()) {
+      return;
+    }
+
+    raft.extendLeaderLease(quorumHeartbeatTime + leaseDuration.toNanos());
+  }
+
   /**
    * Returns a boolean value indicating whether a configuration is currently being committed.
    *
@@ -54,7 +54,6 @@ import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotException.SnapshotAlreadyExistsException;
-import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
 import io.camunda.zeebe.util.CheckedRunnable;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
@@ -73,14 +72,17 @@ public class PassiveRole extends InactiveRole {
   private final SnapshotReplicationMetrics snapshotReplicationMetrics;
   private long pendingSnapshotStartTimestamp;
   private ReceivedSnapshot pendingSnapshot;
-  private ByteBuffer nextPendingSnapshotChunkId;
   private ByteBuffer previouslyReceivedSnapshotChunkId;
   private final int snapshotChunkSize;
+  private final AppendFlushCoalescer appendFlusher;
 
   public PassiveRole(final RaftContext context) {
     super(context);
 
     snapshotChunkSize = context.getSnapshotChunkSize();
+    appendFlusher =
+        new AppendFlushCoalescer(
+            context.getLog(), context.getThreadContext(), context.getFollowerFlushWindow());
     snapshotReplicationMetrics = new SnapshotReplicationMetrics(context.getName());
     snapshotReplicationMetrics.setCount(0);
   }
@@ -95,6 +97,7 @@ public class PassiveRole extends InactiveRole {
   @Override
   public CompletableFuture<Void> stop() {
     abortPendingSnapshots();
+    appendFlusher.close();
 
     // as a safeguard, we clean up any orphaned pending snapshots
     try {
@@ -107,9 +110,14 @@ public class PassiveRole extends InactiveRole {
     return super.stop();
   }
 
+  @Override
+  public void onLogFlushed() {
+    appendFlusher.onLogFlushed();
+  }
+
   private void truncateUncommittedEntries() throws CheckedJournalException {
     if (role() == RaftServer.Role.PASSIVE && raft.getLog().getLastIndex() > raft.getCommitIndex()) {
-      raft.getLog().deleteAfter(raft.getCommitIndex());
+      truncateLog(raft.getCommitIndex());
     }
   }
 
@@ -254,14 +262,12 @@ public class PassiveRole extends InactiveRole {
 
       pendingSnapshot = null;
       pendingSnapshotStartTimestamp = 0L;
-      setNextExpected(null);
       previouslyReceivedSnapshotChunkId = null;
       snapshotReplicationMetrics.decrementCount();
       snapshotReplicationMetrics.observeDuration(elapsed);
       raft.updateCurrentSnapshot();
       onSnapshotReceiveCompletedOrAborted();
     } else {
-      setNextExpected(request.nextChunkId());
       previouslyReceivedSnapshotChunkId = request.chunkId();
     }
 
@@ -437,23 +443,9 @@ public class PassiveRole extends InactiveRole {
                   .build()));
     }
 
-    // if null assume it is first chunk of file
-    if (nextPendingSnapshotChunkId != null
-        && !nextPendingSnapshotChunkId.equals(request.chunkId())) {
-      final var errMsg =
-          "Expected chunkId of ["
-              + new SnapshotChunkId(nextPendingSnapshotChunkId)
-              + "] got ["
-              + new SnapshotChunkId(request.chunkId())
-              + "].";
-      abortPendingSnapshots();
-      return Either.left(
-          logResponse(
-              InstallResponse.builder()
-                  .withStatus(Status.ERROR)
-                  .withError(Type.ILLEGAL_MEMBER_STATE, errMsg)
-                  .build()));
-    }
+    // Chunks are not required to arrive in order: the leader may have multiple chunks in flight,
+    // and resends the chunks after one which timed out. Every chunk is written at its offset, and
+    // the pending snapshot verifies that it received all chunks when it is persisted.
 
     // If the request is for a lesser term, reject the request.
     if (request.currentTerm() < raft.getTerm()) {
@@ -540,13 +532,8 @@ public class PassiveRole extends InactiveRole {
     raft.notifySnapshotReplicationCompleted();
   }
 
-  private void setNextExpected(final ByteBuffer nextChunkId) {
-    nextPendingSnapshotChunkId = nextChunkId;
-  }
-
   private void abortPendingSnapshots() {
     if (pendingSnapshot != null) {
-      setNextExpected(null);
       previouslyReceivedSnapshotChunkId = null;
       log.info("Rolling back snapshot {}", pendingSnapshot);
       try {
@@ -566,6 +553,9 @@ public class PassiveRole extends InactiveRole {
   protected CompletableFuture<AppendResponse> handleAppend(final InternalAppendRequest request) {
     final CompletableFuture<AppendResponse> future = new CompletableFuture<>();
 
+    // Respond to the previous request before this one, if its acknowledgement was held back
+    appendFlusher.releaseHeldAcknowledgement();
+
     // Check that there is a configuration and reject the request if there isn't.
     if (!checkConfiguration(request, future)) {
       return future;
@@ -765,30 +755,41 @@ public class PassiveRole extends InactiveRole {
       log.trace("Committed entries up to index {}", commitIndex);
     }
 
+    // If no entries were appended, there is nothing to flush before acknowledging
+    if (lastLogIndex == request.prevLogIndex()) {
+      succeedAppend(lastLogIndex, future);
+      return;
+    }
+
     try {
       //     Make sure all entries are flushed before ack to ensure we have persisted what we
-      //     acknowledge
-      flush(lastLogIndex, request.prevLogIndex());
+      //     acknowledge, unless the flush is deferred, in which case the response reports the
+      //     last flushed index separately
+      final long lastAppendedIndex = lastLogIndex;
+      appendFlusher.acknowledge(
+          lastAppendedIndex, () -> succeedAppend(lastAppendedIndex, future));
     } catch (final Exception e) {
       log.warn(
           "Failed to flush appended entries to the log, cannot guarantee durability; leader will retry the append operation",
           e);
       // Flush failed, return error to the leader so we can retry.
       failAppend(request.prevLogIndex(), future);
-      return;
     }
-
-    // Return a successful append response.
-    succeedAppend(lastLogIndex, future);
   }
 
   private void flush(final long lastFlushedIndex, final long previousEntryIndex)
       throws FlushException {
     if (lastFlushedIndex > previousEntryIndex) {
-      raft.getLog().flush();
+      appendFlusher.flush();
     }
   }
 
+  private void truncateLog(final long index) throws FlushException {
+    // flush deferred appends first, as the log considers itself flushed up to the truncation index
+    appendFlusher.flushIfDeferred();
+    raft.getLog().deleteAfter(index);
+  }
+
   private boolean tryToAppend(
       final CompletableFuture<AppendResponse> future,
       final ReplicatableRaftRecord entry,
@@ -808,7 +809,7 @@ public class PassiveRole extends InactiveRole {
         // the log and append the leader's entry.
         if (lastEntry.term() != entry.term()) {
           try {
-            raft.getLog().deleteAfter(index - 1);
+            truncateLog(index - 1);
           } catch (final FlushException e) {
             return !failAppend(index - 1, future);
           }
@@ -867,7 +868,7 @@ public class PassiveRole extends InactiveRole {
       // the log and append the leader's entry.
       if (existingEntry.term() != entry.term()) {
         try {
-          raft.getLog().deleteAfter(index - 1);
+          truncateLog(index - 1);
         } catch (final FlushException e) {
           return failAppend(index - 1, future);
         }
@@ -962,16 +963,16 @@ public class PassiveRole extends InactiveRole {
       final boolean succeeded,
       final long lastLogIndex,
       final CompletableFuture<AppendResponse> future) {
-    future.complete(
-        logResponse(
-            AppendResponse.builder()
-                .withStatus(RaftResponse.Status.OK)
-                .withTerm(raft.getTerm())
-                .withSucceeded(succeeded)
-                .withLastLogIndex(lastLogIndex)
-                .withLastSnapshotIndex(raft.getCurrentSnapshotIndex())
-                .withConfigurationIndex(raft.getCurrentConfigurationIndex())
-                .build()));
+    final var response =
+        AppendResponse.builder()
+            .withStatus(RaftResponse.Status.OK)
+            .withTerm(raft.getTerm())
+            .withSucceeded(succeeded)
+            .withLastLogIndex(lastLogIndex)
+            .withLastSnapshotIndex(raft.getCurrentSnapshotIndex())
+            .withConfigurationIndex(raft.getCurrentConfigurationIndex());
+    appendFlusher.lastFlushedIndex().ifPresent(response::withLastFlushedIndex);
+    future.complete(logResponse(response.build()));
     return succeeded;
   }
 
@@ -121,5 +121,12 @@ public interface RaftRole extends Managed<RaftRole> {
    */
   CompletableFuture<VoteResponse> onVote(VoteRequest request);
 
+  /**
+   * Called on the Raft thread after the log flushed entries whose flush was deferred, i.e. when
+   * {@link io.atomix.raft.storage.log.RaftLog#getLastFlushedIndex()} may have advanced without the
+   * role flushing the log itself.
+   */
+  void onLogFlushed();
+
   Either<RaftError, Void> shouldAcceptRequest(RaftRequest request);
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.roles;
+
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.storage.log.IndexedRaftLogEntry;
+
+/**
+ * Caches the most recently replicated records of the leader's log, so that the serialized record
+ * of an entry is copied out of the journal once, and shared by the append requests to all
+ * followers, instead of being copied again for every follower.
+ *
+ * <p>Records are stored in a ring indexed by their log index. An entry is identified by its index
+ * and term, which is unique within the leader's log. To bound the retained memory, records are
+ * only cached as long as the total size of all cached records stays below the configured limit.
+ *
+ * <p>This class is not thread-safe, and is expected to be used only from the Raft thread.
+ */
+final class ReplicatableRecordCache {
+
+  private final ReplicatableJournalRecord[] records;
+  private final long maxCachedBytes;
+  private long cachedBytes;
+
+  ReplicatableRecordCache(final int capacity, final long maxCachedBytes) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException(
+          "Expected capacity to be greater than 0, but got " + capacity);
+    }
+
+    records = new ReplicatableJournalRecord[capacity];
+    this.maxCachedBytes = maxCachedBytes;
+  }
+
+  /**
+   * Returns the replicatable record of the given entry, reusing the cached record if the same
+   * entry was replicated recently.
+   *
+   * @param entry the entry to replicate
+   * @return the record to add to an append request
+   */
+  ReplicatableJournalRecord get(final IndexedRaftLogEntry entry) {
+    final int slot = (int) (entry.index() % records.length);
+    final var cached = records[slot];
+    if (cached != null && cached.index() == entry.index() && cached.term() == entry.term()) {
+      return cached;
+    }
+
+    final var record = entry.getReplicatableJournalRecord();
+    evict(slot);
+    final long size = record.serializedJournalRecord().length;
+    if (cachedBytes + size <= maxCachedBytes) {
+      records[slot] = record;
+      cachedBytes += size;
+    }
+
+    return record;
+  }
+
+  /** Removes all cached records. */
+  void clear() {
+    for (int slot = 0; slot < records.length; slot++) {
+      evict(slot);
+    }
+  }
+
+  private void evict(final int slot) {
+    final var evicted = records[slot];
+    if (evicted != null) {
+      cachedBytes -= evicted.serializedJournalRecord().length;
+      records[slot] = null;
+    }
+  }
+}
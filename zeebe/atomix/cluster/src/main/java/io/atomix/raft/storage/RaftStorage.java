@@ -35,6 +35,7 @@ import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 
 /**
  * Immutable log configuration and {@link RaftLog} factory.
@@ -63,6 +64,9 @@ public final class RaftStorage {
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final int journalIndexDensity;
   private final boolean preallocateSegmentFiles;
+  private final boolean compressSealedSegments;
+  private final Duration groupCommitWindow;
+  private final long groupCommitMaxBytes;
   private final RaftLogFlusher.Factory flusherFactory;
 
   private RaftStorage(
@@ -74,7 +78,10 @@ public final class RaftStorage {
       final RaftLogFlusher.Factory flusherFactory,
       final ReceivableSnapshotStore persistedSnapshotStore,
       final int journalIndexDensity,
-      final boolean preallocateSegmentFiles) {
+      final boolean preallocateSegmentFiles,
+      final boolean compressSealedSegments,
+      final Duration groupCommitWindow,
+      final long groupCommitMaxBytes) {
     this.prefix = prefix;
     this.partitionId = partitionId;
     this.directory = directory;
@@ -84,6 +91,9 @@ public final class RaftStorage {
     this.persistedSnapshotStore = persistedSnapshotStore;
     this.journalIndexDensity = journalIndexDensity;
     this.preallocateSegmentFiles = preallocateSegmentFiles;
+    this.compressSealedSegments = compressSealedSegments;
+    this.groupCommitWindow = groupCommitWindow;
+    this.groupCommitMaxBytes = groupCommitMaxBytes;
 
     try {
       FileUtil.ensureDirectoryExists(directory.toPath());
@@ -192,6 +202,9 @@ public final class RaftStorage {
         .withFreeDiskSpace(freeDiskSpace)
         .withJournalIndexDensity(journalIndexDensity)
         .withPreallocateSegmentFiles(preallocateSegmentFiles)
+        .withCompressSealedSegments(compressSealedSegments)
+        .withGroupCommitWindow(groupCommitWindow)
+        .withGroupCommitMaxBytes(groupCommitMaxBytes)
         .withMetaStore(metaStore)
         .withFlusher(flusherFactory.createFlusher(threadFactory))
         .build();
@@ -248,6 +261,9 @@ public final class RaftStorage {
         RaftLogFlusher.Factory::direct;
     private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
     private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+    private static final boolean DEFAULT_COMPRESS_SEALED_SEGMENTS = false;
+    private static final Duration DEFAULT_GROUP_COMMIT_WINDOW = Duration.ZERO;
+    private static final long DEFAULT_GROUP_COMMIT_MAX_BYTES = 4L * 1024 * 1024;
 
     // impossible value to make it clear it's unset and there's an error
     private static final int DEFAULT_PARTITION_ID = -1;
@@ -260,6 +276,9 @@ public final class RaftStorage {
     private ReceivableSnapshotStore persistedSnapshotStore;
     private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
     private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+    private boolean compressSealedSegments = DEFAULT_COMPRESS_SEALED_SEGMENTS;
+    private Duration groupCommitWindow = DEFAULT_GROUP_COMMIT_WINDOW;
+    private long groupCommitMaxBytes = DEFAULT_GROUP_COMMIT_MAX_BYTES;
     private int partitionId = DEFAULT_PARTITION_ID;
 
     private Builder() {}
@@ -364,6 +383,44 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets whether sealed segments of the log are compressed at rest. If true, sealed segments are
+     * compressed in the background, and decompressed into memory when they are read.
+     *
+     * @param compressSealedSegments true to compress sealed segments, false otherwise
+     * @return this builder for chaining
+     */
+    public Builder withCompressSealedSegments(final boolean compressSealedSegments) {
+      this.compressSealedSegments = compressSealedSegments;
+      return this;
+    }
+
+    /**
+     * Sets the group commit window of the log's journal, i.e. how long a flush may be deferred to
+     * coalesce it with later ones. Only flushes requested via {@link
+     * io.camunda.zeebe.journal.Journal#flushIfDue()} are deferred, e.g. by a {@link
+     * io.atomix.raft.storage.log.GroupCommitFlusher}.
+     *
+     * @param groupCommitWindow the maximum time a flush may be deferred by
+     * @return this builder for chaining
+     */
+    public Builder withGroupCommitWindow(final Duration groupCommitWindow) {
+      this.groupCommitWindow = checkNotNull(groupCommitWindow, "groupCommitWindow");
+      return this;
+    }
+
+    /**
+     * Sets the amount of appended bytes after which a flush is not deferred anymore, even within
+     * the group commit window.
+     *
+     * @param groupCommitMaxBytes the maximum amount of bytes to defer flushing for
+     * @return this builder for chaining
+     */
+    public Builder withGroupCommitMaxBytes(final long groupCommitMaxBytes) {
+      this.groupCommitMaxBytes = groupCommitMaxBytes;
+      return this;
+    }
+
     /**
      * The ID of the partition on which this storage resides.
      *
@@ -391,7 +448,10 @@ public final class RaftStorage {
           flusherFactory,
           persistedSnapshotStore,
           journalIndexDensity,
-          preallocateSegmentFiles);
+          preallocateSegmentFiles,
+          compressSealedSegments,
+          groupCommitWindow,
+          groupCommitMaxBytes);
     }
   }
 }
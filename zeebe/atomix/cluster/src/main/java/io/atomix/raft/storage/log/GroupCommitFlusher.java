@@ -0,0 +1,138 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.camunda.zeebe.journal.CheckedJournalException;
+import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
+import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An implementation of {@link RaftLogFlusher} which relies on the group commit of the journal
+ * (see {@link Journal#flushIfDue()}). A call to {@link #flush(Journal)} flushes right away if the
+ * journal considers a flush to be due, and is otherwise deferred. When a flush is deferred, a flush
+ * is scheduled for when the group commit window elapses, such that deferred data is flushed at the
+ * latest after the window, even if no further flush is requested.
+ *
+ * <p>As flushes may be deferred, this implementation is not {@link #isDirect() direct}, but it
+ * {@link #tracksFlushedIndex() tracks the flushed index}: Raft only acknowledges and commits the
+ * entries up to {@link RaftLog#getLastFlushedIndex()}, and the {@link #setFlushListener(Runnable)
+ * flush listener} is notified after each deadline flush.
+ *
+ * <p>NOTE: this class is not thread safe, and is expected to run from the same thread as the
+ * journal write path, e.g. the Raft thread.
+ */
+public final class GroupCommitFlusher implements RaftLogFlusher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(GroupCommitFlusher.class);
+  private final Scheduler scheduler;
+  private final Duration groupCommitWindow;
+
+  private final Object scheduledMonitor = new Object();
+  private Scheduled scheduledFlush;
+
+  private boolean closed;
+  private volatile Runnable flushListener = () -> {};
+
+  public GroupCommitFlusher(final Scheduler scheduler, final Duration groupCommitWindow) {
+    this.scheduler = Objects.requireNonNull(scheduler, "must specify a scheduler");
+    this.groupCommitWindow =
+        Objects.requireNonNull(groupCommitWindow, "must specify a group commit window");
+  }
+
+  @Override
+  public void flush(final Journal journal) throws FlushException {
+    if (journal.flushIfDue()) {
+      cancelScheduledFlush();
+    } else {
+      scheduleFlush(journal);
+    }
+  }
+
+  @Override
+  public boolean tracksFlushedIndex() {
+    return true;
+  }
+
+  @Override
+  public void setFlushListener(final Runnable listener) {
+    flushListener = Objects.requireNonNull(listener, "must specify a flush listener");
+  }
+
+  @Override
+  public void close() {
+    synchronized (scheduledMonitor) {
+      closed = true;
+    }
+
+    cancelScheduledFlush();
+    scheduler.close();
+  }
+
+  private void scheduleFlush(final Journal journal) {
+    synchronized (scheduledMonitor) {
+      if (closed) {
+        LOGGER.debug("Skipped scheduling flush due to flusher being closed");
+        return;
+      }
+
+      if (scheduledFlush == null) {
+        LOGGER.trace(
+            "Scheduling deferred flush in {} up to index {}",
+            groupCommitWindow,
+            journal.getLastIndex());
+        scheduledFlush = scheduler.schedule(groupCommitWindow, () -> deadlineFlush(journal));
+      }
+    }
+  }
+
+  private void cancelScheduledFlush() {
+    synchronized (scheduledMonitor) {
+      if (scheduledFlush != null) {
+        scheduledFlush.cancel();
+        scheduledFlush = null;
+      }
+    }
+  }
+
+  private void deadlineFlush(final Journal journal) {
+    synchronized (scheduledMonitor) {
+      scheduledFlush = null;
+    }
+
+    LOGGER.trace("Flushing deferred data after group commit window of {}", groupCommitWindow);
+
+    try {
+      journal.flush();
+      flushListener.run();
+    } catch (final CheckedJournalException | JournalException | UncheckedIOException e) {
+      LOGGER.warn(
+          "Failed to flush journal, operation will be retried after {}", groupCommitWindow, e);
+      scheduleFlush(journal);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "GroupCommitFlusher{"
+        + "scheduler="
+        + scheduler
+        + ", groupCommitWindow="
+        + groupCommitWindow
+        + ", scheduledFlush="
+        + scheduledFlush
+        + '}';
+  }
+}
@@ -114,10 +114,39 @@ public final class RaftLog implements Closeable {
     return flusher.isDirect();
   }
 
+  /**
+   * Returns whether entries may only be acknowledged and committed up to {@link
+   * #getLastFlushedIndex()}, as {@link #flush()} may return before they are on disk. See {@link
+   * RaftLogFlusher#tracksFlushedIndex()}.
+   */
+  public boolean tracksFlushedIndex() {
+    return flusher.tracksFlushedIndex();
+  }
+
+  /**
+   * Sets the listener to notify, from any thread, after entries whose flush was deferred are
+   * flushed.
+   *
+   * @param listener the listener to notify after a deferred flush
+   */
+  public void setFlushListener(final Runnable listener) {
+    flusher.setFlushListener(listener);
+  }
+
   public long getFirstIndex() {
     return journal.getFirstIndex();
   }
 
+  /**
+   * Returns the index up to which the log is known to be flushed to disk. Entries after it may be
+   * lost on crash, e.g. because the configured {@link RaftLogFlusher} deferred flushing them.
+   *
+   * @return the last flushed index
+   */
+  public long getLastFlushedIndex() {
+    return journal.getLastFlushedIndex();
+  }
+
   public long getLastIndex() {
     return journal.getLastIndex();
   }
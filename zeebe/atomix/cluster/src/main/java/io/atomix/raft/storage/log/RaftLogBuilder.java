@@ -22,6 +22,7 @@ import io.camunda.zeebe.journal.JournalMetaStore;
 import io.camunda.zeebe.journal.file.SegmentedJournal;
 import io.camunda.zeebe.journal.file.SegmentedJournalBuilder;
 import java.io.File;
+import java.time.Duration;
 
 public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
 
@@ -126,6 +127,43 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets whether sealed segments are compressed at rest. See {@link
+   * SegmentedJournalBuilder#withCompressSealedSegments(boolean)}.
+   *
+   * @param compressSealedSegments true to compress sealed segments, false otherwise
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withCompressSealedSegments(final boolean compressSealedSegments) {
+    journalBuilder.withCompressSealedSegments(compressSealedSegments);
+    return this;
+  }
+
+  /**
+   * Sets the group commit window of the journal. Flushes requested via a {@link
+   * GroupCommitFlusher} within this window after the last flush are coalesced into a single, later
+   * flush. See {@link SegmentedJournalBuilder#withGroupCommitWindow(Duration)}.
+   *
+   * @param groupCommitWindow the maximum time a flush request may be deferred by
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withGroupCommitWindow(final Duration groupCommitWindow) {
+    journalBuilder.withGroupCommitWindow(groupCommitWindow);
+    return this;
+  }
+
+  /**
+   * Sets the amount of appended bytes after which flushes are not coalesced anymore. See {@link
+   * SegmentedJournalBuilder#withGroupCommitMaxBytes(long)}.
+   *
+   * @param groupCommitMaxBytes the maximum amount of bytes to defer flushing for
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withGroupCommitMaxBytes(final long groupCommitMaxBytes) {
+    journalBuilder.withGroupCommitMaxBytes(groupCommitMaxBytes);
+    return this;
+  }
+
   /**
    * The ID of the partition on which this log resides.
    *
@@ -28,6 +28,12 @@ import io.camunda.zeebe.util.CloseableSilently;
  * you still wish a lower likelihood of corruption issues than with {@link NoopFlusher}. The
  * recommended configuration would be to find the smallest possible delay with which you achieve
  * your performance goals.
+ *
+ * <p>{@link GroupCommitFlusher} relies on the group commit of the journal: it flushes right away
+ * when a flush is due, and otherwise defers it by at most the group commit window. As with {@link
+ * DelayedFlusher}, entries written within the window are not yet on disk, but unlike it, Raft
+ * neither acknowledges nor commits them until {@link RaftLog#getLastFlushedIndex()} reports them as
+ * flushed.
  */
 @FunctionalInterface
 public interface RaftLogFlusher extends CloseableSilently {
@@ -49,6 +55,28 @@ public interface RaftLogFlusher extends CloseableSilently {
     return false;
   }
 
+  /**
+   * If this returns true, then a call to {@link #flush(Journal)} may return before the data is on
+   * disk, but the data is flushed later without any further call. Raft then only acknowledges and
+   * commits entries up to {@link Journal#getLastFlushedIndex()}, and relies on the {@link
+   * #setFlushListener(Runnable) flush listener} to learn about deferred flushes.
+   *
+   * <p>Implementations which trade safety for performance, like {@link DelayedFlusher}, return
+   * false, in which case entries count as persisted once {@link #flush(Journal)} returns.
+   */
+  default boolean tracksFlushedIndex() {
+    return false;
+  }
+
+  /**
+   * Sets the listener to notify after deferred data was flushed. It may be notified from any
+   * thread. Only implementations which {@link #tracksFlushedIndex() track the flushed index} notify
+   * it.
+   *
+   * @param listener the listener to notify after a deferred flush
+   */
+  default void setFlushListener(final Runnable listener) {}
+
   @Override
   default void close() {}
 
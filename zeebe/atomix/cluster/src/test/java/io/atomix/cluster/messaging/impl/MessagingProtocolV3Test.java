@@ -0,0 +1,174 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.cluster.messaging.MessagingConfig.CompressionAlgorithm;
+import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+final class MessagingProtocolV3Test {
+
+  private static final Address ADDRESS = Address.from("localhost", 26502);
+  private static final String COMPRESSED_SUBJECT = "raft-partition-partition-1-append-versioned";
+  private static final byte[] LARGE_PAYLOAD =
+      "compressible ".repeat(1_000).getBytes(StandardCharsets.UTF_8);
+
+  private final MessagingMetrics metrics = mock(MessagingMetrics.class);
+
+  @ParameterizedTest
+  @EnumSource(value = CompressionAlgorithm.class, names = {"GZIP", "SNAPPY"})
+  void shouldCompressRequestOfMatchingSubject(final CompressionAlgorithm algorithm) {
+    // given
+    final var request = new ProtocolRequest(1, ADDRESS, COMPRESSED_SUBJECT, LARGE_PAYLOAD);
+
+    // when
+    final var frame = encode(algorithm, request);
+    final var decoded = (ProtocolRequest) decode(frame);
+
+    // then
+    assertThat(decoded.subject()).isEqualTo(COMPRESSED_SUBJECT);
+    assertThat(decoded.payload()).isEqualTo(LARGE_PAYLOAD);
+    assertThat(frame.length).isLessThan(LARGE_PAYLOAD.length);
+    verify(metrics).observeCompressedRequest(eq(COMPRESSED_SUBJECT), eq(13_000), anyInt());
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = CompressionAlgorithm.class, names = {"GZIP", "SNAPPY"})
+  void shouldNotCompressRequestOfOtherSubject(final CompressionAlgorithm algorithm) {
+    // given
+    final var request = new ProtocolRequest(1, ADDRESS, "membership-sync", LARGE_PAYLOAD);
+
+    // when
+    final var frame = encode(algorithm, request);
+    final var decoded = (ProtocolRequest) decode(frame);
+
+    // then
+    assertThat(decoded.payload()).isEqualTo(LARGE_PAYLOAD);
+    assertThat(frame.length).isGreaterThan(LARGE_PAYLOAD.length);
+    verify(metrics, never()).observeCompressedRequest(anyString(), anyInt(), anyInt());
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = CompressionAlgorithm.class, names = {"GZIP", "SNAPPY"})
+  void shouldNotCompressRequestBelowThreshold(final CompressionAlgorithm algorithm) {
+    // given
+    final var payload = "small".getBytes(StandardCharsets.UTF_8);
+    final var request = new ProtocolRequest(1, ADDRESS, COMPRESSED_SUBJECT, payload);
+
+    // when
+    final var decoded = (ProtocolRequest) decode(encode(algorithm, request));
+
+    // then
+    assertThat(decoded.payload()).isEqualTo(payload);
+    verify(metrics, never()).observeCompressedRequest(anyString(), anyInt(), anyInt());
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = CompressionAlgorithm.class, names = {"GZIP", "SNAPPY"})
+  void shouldNotCompressReplies(final CompressionAlgorithm algorithm) {
+    // given
+    final var reply = new ProtocolReply(1, LARGE_PAYLOAD, ProtocolReply.Status.OK);
+
+    // when
+    final var decoded = (ProtocolReply) decode(encode(algorithm, reply));
+
+    // then
+    assertThat(decoded.payload()).isEqualTo(LARGE_PAYLOAD);
+    assertThat(decoded.status()).isEqualTo(ProtocolReply.Status.OK);
+    verify(metrics, never()).observeCompressedRequest(anyString(), anyInt(), anyInt());
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = CompressionAlgorithm.class, names = {"GZIP", "SNAPPY"})
+  void shouldNotCompressRequestAboveMaxMessageSize(final CompressionAlgorithm algorithm) {
+    // given
+    final var request = new ProtocolRequest(1, ADDRESS, COMPRESSED_SUBJECT, LARGE_PAYLOAD);
+    final var config = config(algorithm).setMaxMessageSize(LARGE_PAYLOAD.length - 1);
+
+    // when
+    final var frame = encode(config, request);
+
+    // then
+    assertThat(frame.length).isGreaterThan(LARGE_PAYLOAD.length);
+    verify(metrics, never()).observeCompressedRequest(anyString(), anyInt(), anyInt());
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = CompressionAlgorithm.class, names = {"GZIP", "SNAPPY"})
+  void shouldRejectPayloadDecompressingAboveMaxMessageSize(final CompressionAlgorithm algorithm) {
+    // given
+    final var request = new ProtocolRequest(1, ADDRESS, COMPRESSED_SUBJECT, LARGE_PAYLOAD);
+    final var frame = encode(algorithm, request);
+    final var receiverConfig = config(algorithm).setMaxMessageSize(LARGE_PAYLOAD.length - 1);
+
+    // when - then
+    assertThatThrownBy(() -> decode(receiverConfig, frame))
+        .isInstanceOf(DecoderException.class)
+        .hasCauseInstanceOf(IOException.class);
+  }
+
+  private MessagingConfig config(final CompressionAlgorithm algorithm) {
+    return new MessagingConfig()
+        .setSubjectCompressionAlgorithm(algorithm)
+        .setCompressedSubjects(List.of("raft-partition-.*-append-versioned"))
+        .setCompressionThreshold(1024);
+  }
+
+  private byte[] encode(final CompressionAlgorithm algorithm, final ProtocolMessage message) {
+    return encode(config(algorithm), message);
+  }
+
+  private byte[] encode(final MessagingConfig config, final ProtocolMessage message) {
+    final var protocol =
+        ProtocolVersion.V3.createProtocol(ADDRESS, new MessageCompressor(config, metrics));
+    final var channel = new EmbeddedChannel(protocol.newEncoder());
+    channel.writeOutbound(message);
+
+    final ByteBuf frame = channel.readOutbound();
+    try {
+      final var bytes = new byte[frame.readableBytes()];
+      frame.readBytes(bytes);
+      return bytes;
+    } finally {
+      frame.release();
+      channel.finishAndReleaseAll();
+    }
+  }
+
+  private ProtocolMessage decode(final byte[] frame) {
+    return decode(new MessagingConfig(), frame);
+  }
+
+  private ProtocolMessage decode(final MessagingConfig config, final byte[] frame) {
+    final var channel =
+        new EmbeddedChannel(new MessageDecoderV3(new MessageCompressor(config, metrics)));
+    try {
+      channel.writeInbound(channel.alloc().buffer().writeBytes(frame));
+      return channel.readInbound();
+    } finally {
+      channel.finishAndReleaseAll();
+    }
+  }
+}
@@ -205,6 +205,10 @@ public class RemoteClientConnectionTest {
       inFlightRequestCount.put(key, integer - 1);
     }
 
+    @Override
+    public void observeCompressedRequest(
+        final String topic, final int uncompressedBytes, final int compressedBytes) {}
+
     String computeKey(final String to, final String name) {
       return String.format(LABEL_FORMAT, to, name);
     }
@@ -0,0 +1,148 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftRule.Configurator;
+import io.atomix.raft.RaftServer.Builder;
+import io.atomix.raft.storage.RaftStorage;
+import io.atomix.raft.storage.log.RaftLogFlusher;
+import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
+import io.camunda.zeebe.journal.Journal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Verifies that entries are neither acknowledged nor committed before they are on disk, when the
+ * configured {@link RaftLogFlusher} defers flushes like a group commit does.
+ */
+public class RaftGroupCommitTest {
+
+  private static final Duration NO_COMMIT_TIMEOUT = Duration.ofMillis(500);
+
+  private final Map<String, DeferringFlusher> flushers = new ConcurrentHashMap<>();
+
+  @Rule
+  public RaftRule raftRule =
+      RaftRule.withBootstrappedNodes(3, new DeferringFlusherConfigurator(flushers));
+
+  @Test
+  public void shouldNotCommitBeforeLeaderFlushedDeferredEntries() throws Exception {
+    // given
+    final var leader = raftRule.getLeader().orElseThrow().name();
+    flushers.values().forEach(DeferringFlusher::deferFlushes);
+
+    // when
+    final var appendListener = raftRule.appendEntryAsync();
+    flushers.forEach(
+        (member, flusher) -> {
+          if (!member.equals(leader)) {
+            flusher.flushDeferred();
+          }
+        });
+
+    // then
+    assertThatThrownBy(() -> appendListener.awaitCommit(NO_COMMIT_TIMEOUT))
+        .isInstanceOf(TimeoutException.class);
+
+    // when
+    flushers.get(leader).flushDeferred();
+
+    // then
+    assertThat(appendListener.awaitCommit()).isPositive();
+  }
+
+  @Test
+  public void shouldNotCommitBeforeFollowersFlushedDeferredEntries() throws Exception {
+    // given
+    final var leader = raftRule.getLeader().orElseThrow().name();
+    final var follower =
+        flushers.keySet().stream().filter(member -> !member.equals(leader)).findFirst().get();
+    flushers.values().forEach(DeferringFlusher::deferFlushes);
+
+    // when
+    final var appendListener = raftRule.appendEntryAsync();
+    flushers.get(leader).flushDeferred();
+
+    // then - the followers acknowledged the entry, but it was not flushed yet
+    assertThatThrownBy(() -> appendListener.awaitCommit(NO_COMMIT_TIMEOUT))
+        .isInstanceOf(TimeoutException.class);
+
+    // when
+    flushers.get(follower).flushDeferred();
+
+    // then
+    assertThat(appendListener.awaitCommit()).isPositive();
+  }
+
+  private record DeferringFlusherConfigurator(Map<String, DeferringFlusher> flushers)
+      implements Configurator {
+
+    @Override
+    public void configure(final MemberId id, final Builder builder) {
+      final var storage = Objects.requireNonNull(builder.storage);
+      final var flusher = flushers.computeIfAbsent(id.id(), ignored -> new DeferringFlusher());
+      builder.withStorage(
+          RaftStorage.builder()
+              .withDirectory(storage.directory())
+              .withSnapshotStore(storage.getPersistedSnapshotStore())
+              .withFlusherFactory(ignored -> flusher)
+              .build());
+    }
+  }
+
+  /**
+   * Flushes directly until {@link #deferFlushes()} is called, such that the cluster can start up.
+   * Afterwards, it only flushes when the test calls {@link #flushDeferred()}, like a group commit
+   * whose window elapsed.
+   */
+  private static final class DeferringFlusher implements RaftLogFlusher {
+    private volatile boolean deferFlushes;
+    private volatile Journal journal;
+    private volatile Runnable flushListener = () -> {};
+
+    @Override
+    public void flush(final Journal journal) throws FlushException {
+      this.journal = journal;
+      if (!deferFlushes) {
+        journal.flush();
+      }
+    }
+
+    @Override
+    public boolean tracksFlushedIndex() {
+      return true;
+    }
+
+    @Override
+    public void setFlushListener(final Runnable listener) {
+      flushListener = listener;
+    }
+
+    private void deferFlushes() {
+      deferFlushes = true;
+    }
+
+    private void flushDeferred() {
+      try {
+        journal.flush();
+      } catch (final FlushException e) {
+        throw new IllegalStateException(e);
+      }
+      flushListener.run();
+    }
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftRule.Configurator;
+import io.atomix.raft.RaftServer.Role;
+import io.atomix.raft.partition.RaftPartitionConfig;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.awaitility.Awaitility;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class RaftLeaderLeaseTest {
+
+  @Rule
+  public RaftRule raftRule =
+      RaftRule.withBootstrappedNodes(
+          3,
+          new Configurator() {
+            @Override
+            public void configure(final MemberId id, final RaftServer.Builder builder) {
+              final var config =
+                  new RaftPartitionConfig()
+                      .setElectionTimeout(Duration.ofSeconds(1))
+                      .setHeartbeatInterval(Duration.ofMillis(100));
+              config.setLeaderLeaseEnabled(true);
+              config.setLeaderLeaseClockDrift(Duration.ofMillis(100));
+              builder.withPartitionConfig(config);
+            }
+          });
+
+  @Test
+  public void shouldHoldLeaseOnlyOnLeader() throws Exception {
+    // given
+    final RaftServer leader = raftRule.getLeader().orElseThrow();
+
+    // when
+    raftRule.appendEntry();
+
+    // then
+    Awaitility.await().until(leader::isLeaderLeaseValid);
+    raftRule.getServers().stream()
+        .filter(server -> !server.equals(leader))
+        .forEach(follower -> assertThat(follower.isLeaderLeaseValid()).isFalse());
+  }
+
+  @Test
+  public void shouldLoseLeaseBeforeNewLeaderIsElected() throws Exception {
+    // given
+    final RaftServer leader = raftRule.getLeader().orElseThrow();
+    raftRule.appendEntry();
+    Awaitility.await().until(leader::isLeaderLeaseValid);
+
+    final CountDownLatch newLeaderElected = new CountDownLatch(1);
+    final AtomicBoolean leaseValidOnElection = new AtomicBoolean();
+    raftRule.getServers().stream()
+        .filter(server -> !server.equals(leader))
+        .forEach(
+            server ->
+                server.addRoleChangeListener(
+                    (role, term) -> {
+                      if (role == Role.LEADER) {
+                        leaseValidOnElection.set(leader.isLeaderLeaseValid());
+                        newLeaderElected.countDown();
+                      }
+                    }));
+
+    // when
+    raftRule.partition(leader);
+
+    // then
+    assertThat(newLeaderElected.await(30, TimeUnit.SECONDS)).isTrue();
+    assertThat(leaseValidOnElection).isFalse();
+    assertThat(leader.isLeaderLeaseValid()).isFalse();
+  }
+
+  @Test
+  public void shouldRevokeLeaseOnStepDown() throws Exception {
+    // given
+    final RaftServer leader = raftRule.getLeader().orElseThrow();
+    raftRule.appendEntry();
+    Awaitility.await().until(leader::isLeaderLeaseValid);
+
+    // when
+    leader.stepDown().join();
+
+    // then
+    assertThat(leader.isLeaderLeaseValid()).isFalse();
+  }
+}
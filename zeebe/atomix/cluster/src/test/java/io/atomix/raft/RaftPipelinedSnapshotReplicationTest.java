@@ -0,0 +1,131 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftRule.Configurator;
+import io.atomix.raft.RaftServer.Builder;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.TestRaftServerProtocol;
+import io.atomix.raft.protocol.TestRaftServerProtocol.ResponseInterceptor;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class RaftPipelinedSnapshotReplicationTest {
+
+  private static final int MAX_SNAPSHOT_CHUNKS_IN_FLIGHT = 4;
+  private static final int NUMBER_OF_CHUNKS = 10;
+
+  @Rule
+  public RaftRule raftRule =
+      RaftRule.withBootstrappedNodes(
+          3,
+          new Configurator() {
+            @Override
+            public void configure(final MemberId id, final Builder builder) {
+              builder.partitionConfig.setMaxSnapshotChunksInFlight(MAX_SNAPSHOT_CHUNKS_IN_FLIGHT);
+            }
+          });
+
+  private final List<InstallRequest> installRequests = new CopyOnWriteArrayList<>();
+  private RaftServer follower;
+  private TestRaftServerProtocol leaderProtocol;
+  private RaftServer leader;
+
+  @Before
+  public void setup() {
+    leader = raftRule.getLeader().orElseThrow();
+    leaderProtocol = (TestRaftServerProtocol) leader.getContext().getProtocol();
+    leaderProtocol.interceptRequest(
+        InstallRequest.class, (Consumer<InstallRequest>) installRequests::add);
+  }
+
+  @Test
+  public void shouldReplicateSnapshotWithMultipleChunksInFlight() throws Throwable {
+    // given
+    disconnectFollowerAndTakeSnapshot();
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(installRequests)
+        .filteredOn(InstallRequest::complete)
+        .describedAs("Should complete the snapshot exactly once")
+        .hasSize(1);
+  }
+
+  @Test
+  public void shouldResendChunksAfterTimedOutChunk() throws Throwable {
+    // given
+    disconnectFollowerAndTakeSnapshot();
+    leaderProtocol.interceptResponse(
+        InstallResponse.class, new TimingOutResponseInterceptor(NUMBER_OF_CHUNKS / 2));
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(installRequests)
+        .describedAs("Should only resend the chunks which were in flight after the timed out one")
+        // Before follower reconnects, sometimes leader sends an InstallRequest which
+        // ends up in connect exception
+        .hasSizeLessThan(NUMBER_OF_CHUNKS + MAX_SNAPSHOT_CHUNKS_IN_FLIGHT + 3);
+  }
+
+  private void reconnectFollowerAndAwaitSnapshot() throws InterruptedException {
+    final var snapshotReceived = new CountDownLatch(1);
+    raftRule
+        .getPersistedSnapshotStore(follower.name())
+        .addSnapshotListener(s -> snapshotReceived.countDown());
+    raftRule.reconnect(follower);
+
+    assertThat(snapshotReceived.await(30, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private void disconnectFollowerAndTakeSnapshot() throws Exception {
+    follower = raftRule.getFollower().orElseThrow();
+    raftRule.partition(follower);
+
+    leader.getContext().setPreferSnapshotReplicationThreshold(1);
+    final var commitIndex = raftRule.appendEntries(2); // awaits commit
+
+    raftRule.takeSnapshot(leader, commitIndex, NUMBER_OF_CHUNKS);
+    raftRule.appendEntry();
+  }
+
+  private static final class TimingOutResponseInterceptor
+      implements ResponseInterceptor<InstallResponse> {
+    private final AtomicInteger count = new AtomicInteger();
+    private final int timeoutAtResponse;
+
+    private TimingOutResponseInterceptor(final int timeoutAtResponse) {
+      this.timeoutAtResponse = timeoutAtResponse;
+    }
+
+    @Override
+    public CompletableFuture<InstallResponse> apply(final InstallResponse installResponse) {
+      if (count.incrementAndGet() == timeoutAtResponse) {
+        return CompletableFuture.failedFuture(new TimeoutException());
+      }
+      return CompletableFuture.completedFuture(installResponse);
+    }
+  }
+}
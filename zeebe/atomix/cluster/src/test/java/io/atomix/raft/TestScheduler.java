@@ -0,0 +1,76 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft;
+
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link Scheduler} which only records the scheduled operations, such that tests can inspect
+ * them and run them explicitly, in the order they were scheduled. Fixed rate scheduling is not
+ * supported.
+ */
+public final class TestScheduler implements Scheduler {
+  private final List<TestScheduled> operations = new ArrayList<>();
+
+  @Override
+  public Scheduled schedule(final long delay, final TimeUnit timeUnit, final Runnable callback) {
+    final var scheduled = new TestScheduled(Duration.of(delay, timeUnit.toChronoUnit()), callback);
+    operations.add(scheduled);
+    return scheduled;
+  }
+
+  @Override
+  public Scheduled schedule(
+      final Duration initialDelay, final Duration interval, final Runnable callback) {
+    throw new UnsupportedOperationException("fixed rate scheduling unsupported");
+  }
+
+  /** Returns the operations which were scheduled and not run yet, including cancelled ones. */
+  public List<TestScheduled> operations() {
+    return operations;
+  }
+
+  /** Removes the operation which was scheduled first and runs it, even if it was cancelled. */
+  public void runNext() {
+    operations.remove(0).operation.run();
+  }
+
+  public static final class TestScheduled implements Scheduled {
+    private final Duration delay;
+    private final Runnable operation;
+    private boolean cancelled;
+
+    private TestScheduled(final Duration delay, final Runnable operation) {
+      this.delay = delay;
+      this.operation = operation;
+    }
+
+    public Duration delay() {
+      return delay;
+    }
+
+    public boolean isCancelled() {
+      return cancelled;
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+
+    @Override
+    public boolean isDone() {
+      return cancelled;
+    }
+  }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.roles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.raft.TestScheduler;
+import io.atomix.raft.storage.log.RaftLog;
+import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class AppendFlushCoalescerTest {
+  private static final Duration WINDOW = Duration.ofMillis(10);
+
+  private final RaftLog log = mock(RaftLog.class);
+  private final TestScheduler scheduler = new TestScheduler();
+  private final List<Long> acknowledged = new ArrayList<>();
+  private long nanos;
+  private long lastIndex;
+  private long flushedIndex;
+  private boolean logDefersFlush;
+  private AppendFlushCoalescer coalescer;
+
+  @BeforeEach
+  void beforeEach() throws FlushException {
+    when(log.getLastIndex()).thenAnswer(invocation -> lastIndex);
+    when(log.getLastFlushedIndex()).thenAnswer(invocation -> flushedIndex);
+    doAnswer(
+            invocation -> {
+              if (!logDefersFlush) {
+                flushedIndex = lastIndex;
+              }
+              return null;
+            })
+        .when(log)
+        .flush();
+    coalescer = new AppendFlushCoalescer(log, scheduler, WINDOW, () -> nanos);
+  }
+
+  @Test
+  void shouldFlushBeforeAcknowledgingWithoutWindow() throws FlushException {
+    // given
+    coalescer = new AppendFlushCoalescer(log, scheduler, Duration.ZERO, () -> nanos);
+    acknowledge(1);
+
+    // when
+    acknowledge(2);
+
+    // then
+    verify(log, times(2)).flush();
+    assertThat(acknowledged).containsExactly(1L, 2L);
+    assertThat(coalescer.lastFlushedIndex()).isEmpty();
+  }
+
+  @Test
+  void shouldFlushFirstAppend() throws FlushException {
+    // when
+    acknowledge(1);
+
+    // then
+    verify(log).flush();
+    assertThat(acknowledged).containsExactly(1L);
+    assertThat(scheduler.operations()).isEmpty();
+  }
+
+  @Test
+  void shouldDeferFlushWithinWindow() throws FlushException {
+    // given
+    acknowledge(1);
+
+    // when
+    acknowledge(2);
+
+    // then
+    verify(log, times(1)).flush();
+    assertThat(acknowledged).containsExactly(1L);
+    assertThat(scheduler.operations()).hasSize(1);
+    assertThat(scheduler.operations().get(0).delay()).isEqualTo(WINDOW);
+  }
+
+  @Test
+  void shouldReleaseHeldAcknowledgementOnNextAppend() throws FlushException {
+    // given
+    acknowledge(1);
+    acknowledge(2);
+
+    // when
+    acknowledge(3);
+
+    // then
+    verify(log, times(1)).flush();
+    assertThat(acknowledged).containsExactly(1L, 2L);
+    assertThat(coalescer.lastFlushedIndex()).hasValue(1);
+    assertThat(scheduler.operations()).hasSize(1);
+  }
+
+  @Test
+  void shouldAcknowledgeHeldAppendAfterDeferredFlush() throws FlushException {
+    // given
+    acknowledge(1);
+    acknowledge(2);
+    acknowledge(3);
+
+    // when
+    scheduler.runNext();
+
+    // then
+    verify(log, times(2)).flush();
+    assertThat(acknowledged).containsExactly(1L, 2L, 3L);
+    assertThat(coalescer.lastFlushedIndex()).hasValue(3);
+  }
+
+  @Test
+  void shouldFlushWhenWindowElapsed() throws FlushException {
+    // given
+    acknowledge(1);
+    acknowledge(2);
+
+    // when
+    nanos += WINDOW.toNanos();
+    acknowledge(3);
+
+    // then
+    verify(log, times(2)).flush();
+    assertThat(acknowledged).containsExactly(1L, 2L, 3L);
+    assertThat(scheduler.operations().get(0).isCancelled()).isTrue();
+  }
+
+  @Test
+  void shouldFlushDeferredAppendsBeforeTruncating() throws FlushException {
+    // given
+    acknowledge(1);
+    acknowledge(2);
+
+    // when
+    coalescer.flushIfDeferred();
+
+    // then
+    verify(log, times(2)).flush();
+    assertThat(acknowledged).containsExactly(1L, 2L);
+    assertThat(coalescer.lastFlushedIndex()).hasValue(2);
+  }
+
+  @Test
+  void shouldNotFlushOnTruncationIfNothingDeferred() throws FlushException {
+    // given
+    acknowledge(1);
+
+    // when
+    coalescer.flushIfDeferred();
+
+    // then
+    verify(log, times(1)).flush();
+  }
+
+  @Test
+  void shouldNotFlushIfLogIsAlreadyFlushed() throws FlushException {
+    // given
+    acknowledge(2);
+    nanos += WINDOW.toNanos();
+
+    // when
+    coalescer.acknowledge(1, () -> acknowledged.add(1L));
+
+    // then
+    verify(log, times(1)).flush();
+    assertThat(acknowledged).containsExactly(2L, 1L);
+  }
+
+  @Test
+  void shouldReportFlushedIndexOfLogWhenLogDefersFlush() throws FlushException {
+    // given
+    acknowledge(1);
+    logDefersFlush = true;
+    nanos += WINDOW.toNanos();
+
+    // when
+    acknowledge(2);
+
+    // then
+    verify(log, times(2)).flush();
+    assertThat(acknowledged).containsExactly(1L, 2L);
+    assertThat(coalescer.lastFlushedIndex()).hasValue(1);
+  }
+
+  @Test
+  void shouldReportFlushedIndexWithoutWindowIfLogTracksIt() throws FlushException {
+    // given
+    coalescer = new AppendFlushCoalescer(log, scheduler, Duration.ZERO, () -> nanos);
+    when(log.tracksFlushedIndex()).thenReturn(true);
+    logDefersFlush = true;
+
+    // when
+    acknowledge(1);
+
+    // then
+    verify(log).flush();
+    assertThat(coalescer.lastFlushedIndex()).hasValue(0);
+  }
+
+  @Test
+  void shouldHoldAcknowledgementUntilLogFlushesDeferredEntries() throws FlushException {
+    // given
+    coalescer = new AppendFlushCoalescer(log, scheduler, Duration.ZERO, () -> nanos);
+    when(log.tracksFlushedIndex()).thenReturn(true);
+    logDefersFlush = true;
+    acknowledge(1);
+    assertThat(acknowledged).isEmpty();
+
+    // when
+    flushedIndex = 1;
+    coalescer.onLogFlushed();
+
+    // then
+    assertThat(acknowledged).containsExactly(1L);
+    assertThat(coalescer.lastFlushedIndex()).hasValue(1);
+  }
+
+  @Test
+  void shouldKeepAcknowledgementHeldIfLogDefersWindowFlush() throws FlushException {
+    // given
+    when(log.tracksFlushedIndex()).thenReturn(true);
+    acknowledge(1);
+    acknowledge(2);
+    logDefersFlush = true;
+
+    // when
+    scheduler.runNext();
+
+    // then
+    verify(log, times(2)).flush();
+    assertThat(acknowledged).containsExactly(1L);
+
+    // when
+    flushedIndex = 2;
+    coalescer.onLogFlushed();
+
+    // then
+    assertThat(acknowledged).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void shouldFlushAndAcknowledgeOnClose() throws FlushException {
+    // given
+    acknowledge(1);
+    acknowledge(2);
+
+    // when
+    coalescer.close();
+
+    // then
+    verify(log, times(2)).flush();
+    assertThat(acknowledged).containsExactly(1L, 2L);
+    assertThat(scheduler.operations().get(0).isCancelled()).isTrue();
+  }
+
+  @Test
+  void shouldNotFlushOnCloseIfNothingDeferred() throws FlushException {
+    // when
+    coalescer.close();
+
+    // then
+    verify(log, never()).flush();
+  }
+
+  private void acknowledge(final long index) throws FlushException {
+    lastIndex = index;
+    coalescer.acknowledge(index, () -> acknowledged.add(index));
+  }
+}
@@ -72,6 +72,8 @@ public class LeaderRoleTest {
     when(context.getName()).thenReturn("leader");
     when(context.getElectionTimeout()).thenReturn(Duration.ofMillis(100));
     when(context.getHeartbeatInterval()).thenReturn(Duration.ofMillis(100));
+    when(context.getFollowerFlushWindow()).thenReturn(Duration.ZERO);
+    when(context.getLeaderLeaseDuration()).thenReturn(Duration.ZERO);
     when(context.getReplicationMetrics()).thenReturn(mock(RaftReplicationMetrics.class));
     when(context.getLogCompactor()).thenReturn(logCompactor);
 
@@ -0,0 +1,112 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.roles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.storage.log.IndexedRaftLogEntry;
+import org.junit.jupiter.api.Test;
+
+final class ReplicatableRecordCacheTest {
+
+  private final ReplicatableRecordCache cache = new ReplicatableRecordCache(4, 100);
+
+  @Test
+  void shouldShareRecordOfSameEntry() {
+    // given
+    final var entry = entry(1, 1, 10);
+    final var sameEntryOfOtherReader = entry(1, 1, 10);
+    final var record = cache.get(entry);
+
+    // when
+    final var cached = cache.get(sameEntryOfOtherReader);
+
+    // then
+    assertThat(cached).isSameAs(record);
+    verify(sameEntryOfOtherReader, never()).getReplicatableJournalRecord();
+  }
+
+  @Test
+  void shouldNotShareRecordOfOtherTerm() {
+    // given
+    final var record = cache.get(entry(1, 1, 10));
+
+    // when
+    final var other = cache.get(entry(1, 2, 10));
+
+    // then
+    assertThat(other).isNotSameAs(record);
+    assertThat(other.term()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldReplaceRecordOfSameSlot() {
+    // given
+    final var record = cache.get(entry(1, 1, 10));
+    cache.get(entry(5, 1, 10));
+
+    // when
+    final var reread = cache.get(entry(1, 1, 10));
+
+    // then
+    assertThat(reread).isNotSameAs(record);
+  }
+
+  @Test
+  void shouldNotCacheRecordsExceedingSizeLimit() {
+    // given
+    cache.get(entry(1, 1, 60));
+    final var record = cache.get(entry(2, 1, 60));
+
+    // when
+    final var reread = cache.get(entry(2, 1, 60));
+
+    // then
+    assertThat(reread).isNotSameAs(record);
+  }
+
+  @Test
+  void shouldReleaseSizeOfEvictedRecords() {
+    // given
+    cache.get(entry(1, 1, 60));
+    cache.get(entry(5, 1, 60));
+    final var record = cache.get(entry(2, 1, 40));
+
+    // when
+    final var cached = cache.get(entry(2, 1, 40));
+
+    // then
+    assertThat(cached).isSameAs(record);
+  }
+
+  @Test
+  void shouldNotReturnRecordsAfterClear() {
+    // given
+    final var record = cache.get(entry(1, 1, 10));
+
+    // when
+    cache.clear();
+
+    // then
+    assertThat(cache.get(entry(1, 1, 10))).isNotSameAs(record);
+  }
+
+  private static IndexedRaftLogEntry entry(final long index, final long term, final int size) {
+    final var entry = mock(IndexedRaftLogEntry.class);
+    when(entry.index()).thenReturn(index);
+    when(entry.term()).thenReturn(term);
+    when(entry.getReplicatableJournalRecord())
+        .thenAnswer(ignored -> new ReplicatableJournalRecord(term, index, 0, new byte[size]));
+    return entry;
+  }
+}
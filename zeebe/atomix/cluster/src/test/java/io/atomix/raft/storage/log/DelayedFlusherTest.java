@@ -9,16 +9,12 @@ package io.atomix.raft.storage.log;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-import io.atomix.utils.concurrent.Scheduled;
-import io.atomix.utils.concurrent.Scheduler;
+import io.atomix.raft.TestScheduler;
 import io.camunda.zeebe.journal.CheckedJournalException;
 import io.camunda.zeebe.journal.Journal;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.TimeUnit;
 import org.agrona.CloseHelper;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -43,10 +39,10 @@ final class DelayedFlusherTest {
     flusher.flush(journal);
 
     // then
-    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations()).hasSize(1);
 
-    final var scheduled = scheduler.operations.get(0);
-    assertThat(scheduled.delay).isEqualTo(Duration.ofSeconds(5));
+    final var scheduled = scheduler.operations().get(0);
+    assertThat(scheduled.delay()).isEqualTo(Duration.ofSeconds(5));
     Mockito.verify(journal, Mockito.never()).flush();
   }
 
@@ -77,9 +73,9 @@ final class DelayedFlusherTest {
     flusher.flush(journal);
 
     // then
-    assertThat(scheduler.operations).hasSize(1);
-    final var scheduled = scheduler.operations.get(0);
-    assertThat(scheduled.delay).isEqualTo(Duration.ofSeconds(5));
+    assertThat(scheduler.operations()).hasSize(1);
+    final var scheduled = scheduler.operations().get(0);
+    assertThat(scheduled.delay()).isEqualTo(Duration.ofSeconds(5));
   }
 
   @Test
@@ -92,8 +88,8 @@ final class DelayedFlusherTest {
     flusher.close();
 
     // then
-    final var scheduled = scheduler.operations.get(0);
-    assertThat(scheduled.cancelled).isTrue();
+    final var scheduled = scheduler.operations().get(0);
+    assertThat(scheduled.isCancelled()).isTrue();
   }
 
   @Test
@@ -107,7 +103,7 @@ final class DelayedFlusherTest {
     flusher.flush(journal);
 
     // then
-    assertThat(scheduler.operations).isEmpty();
+    assertThat(scheduler.operations()).isEmpty();
   }
 
   @Test
@@ -142,50 +138,6 @@ final class DelayedFlusherTest {
     scheduler.runNext();
 
     // then
-    assertThat(scheduler.operations).isEmpty();
-  }
-
-  private static final class TestScheduled implements Scheduled {
-    private final Duration delay;
-    private final Runnable operation;
-
-    private boolean cancelled;
-
-    private TestScheduled(final Duration delay, final Runnable operation) {
-      this.delay = delay;
-      this.operation = operation;
-    }
-
-    @Override
-    public void cancel() {
-      cancelled = true;
-    }
-
-    @Override
-    public boolean isDone() {
-      return cancelled;
-    }
-  }
-
-  private static final class TestScheduler implements Scheduler {
-    private final List<TestScheduled> operations = new ArrayList<>();
-
-    @Override
-    public Scheduled schedule(final long delay, final TimeUnit timeUnit, final Runnable callback) {
-      final var scheduled =
-          new TestScheduled(Duration.of(delay, timeUnit.toChronoUnit()), callback);
-      operations.add(scheduled);
-      return scheduled;
-    }
-
-    @Override
-    public Scheduled schedule(
-        final Duration initialDelay, final Duration interval, final Runnable callback) {
-      throw new UnsupportedOperationException("fixed rate scheduling unsupported");
-    }
-
-    private void runNext() {
-      operations.remove(0).operation.run();
-    }
+    assertThat(scheduler.operations()).isEmpty();
   }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.raft.TestScheduler;
+import io.camunda.zeebe.journal.CheckedJournalException;
+import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
+import io.camunda.zeebe.journal.Journal;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.agrona.CloseHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+final class GroupCommitFlusherTest {
+  private final TestScheduler scheduler = new TestScheduler();
+  private final GroupCommitFlusher flusher =
+      new GroupCommitFlusher(scheduler, Duration.ofMillis(5));
+  private final Journal journal = Mockito.mock(Journal.class);
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietClose(flusher);
+  }
+
+  @Test
+  void shouldNotScheduleFlushIfDue() throws CheckedJournalException {
+    // given
+    Mockito.when(journal.flushIfDue()).thenReturn(true);
+
+    // when
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations()).isEmpty();
+    Mockito.verify(journal, Mockito.never()).flush();
+  }
+
+  @Test
+  void shouldFlushDeferredDataAfterWindow() throws CheckedJournalException {
+    // given
+    Mockito.when(journal.flushIfDue()).thenReturn(false);
+
+    // when
+    flusher.flush(journal);
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations()).hasSize(1);
+    assertThat(scheduler.operations().get(0).delay()).isEqualTo(Duration.ofMillis(5));
+    Mockito.verify(journal, Mockito.never()).flush();
+
+    // when
+    scheduler.runNext();
+
+    // then
+    Mockito.verify(journal, Mockito.times(1)).flush();
+  }
+
+  @Test
+  void shouldCancelScheduledFlushOnceFlushed() throws CheckedJournalException {
+    // given
+    Mockito.when(journal.flushIfDue()).thenReturn(false);
+    flusher.flush(journal);
+
+    // when
+    Mockito.when(journal.flushIfDue()).thenReturn(true);
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations().get(0).isCancelled()).isTrue();
+  }
+
+  @Test
+  void shouldNotifyListenerAfterDeadlineFlush() throws CheckedJournalException {
+    // given
+    final var notifications = new AtomicInteger();
+    flusher.setFlushListener(notifications::incrementAndGet);
+    Mockito.when(journal.flushIfDue()).thenReturn(false);
+    flusher.flush(journal);
+
+    // when
+    scheduler.runNext();
+
+    // then
+    Mockito.verify(journal, Mockito.times(1)).flush();
+    assertThat(notifications).hasValue(1);
+  }
+
+  @Test
+  void shouldNotNotifyListenerIfDeadlineFlushFails() throws CheckedJournalException {
+    // given
+    final var notifications = new AtomicInteger();
+    flusher.setFlushListener(notifications::incrementAndGet);
+    Mockito.when(journal.flushIfDue()).thenReturn(false);
+    Mockito.doThrow(new FlushException(new IOException("expected")))
+        .when(journal)
+        .flush();
+    flusher.flush(journal);
+
+    // when
+    scheduler.runNext();
+
+    // then
+    assertThat(notifications).hasValue(0);
+    assertThat(scheduler.operations()).hasSize(1);
+  }
+
+  @Test
+  void shouldNotBeDirect() {
+    // when - then
+    assertThat(flusher.isDirect()).isFalse();
+  }
+
+  @Test
+  void shouldTrackFlushedIndex() {
+    // when - then
+    assertThat(flusher.tracksFlushedIndex()).isTrue();
+  }
+}
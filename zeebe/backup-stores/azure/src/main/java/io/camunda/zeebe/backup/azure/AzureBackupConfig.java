@@ -12,7 +12,8 @@ public record AzureBackupConfig(
     String accountName,
     String accountKey,
     String connectionString,
-    String containerName) {
+    String containerName,
+    boolean deduplicateSnapshotFiles) {
 
   public static class Builder {
 
@@ -24,6 +25,8 @@ public record AzureBackupConfig(
     // maps to the basePath env variable
     private String containerName;
 
+    private boolean deduplicateSnapshotFiles;
+
     public Builder withEndpoint(final String endpoint) {
       this.endpoint = endpoint;
       return this;
@@ -49,10 +52,20 @@ public record AzureBackupConfig(
       return this;
     }
 
+    public Builder withDeduplicateSnapshotFiles(final boolean deduplicateSnapshotFiles) {
+      this.deduplicateSnapshotFiles = deduplicateSnapshotFiles;
+      return this;
+    }
+
     public AzureBackupConfig build() {
 
       return new AzureBackupConfig(
-          endpoint, accountName, accountKey, conectionString, containerName);
+          endpoint,
+          accountName,
+          accountKey,
+          conectionString,
+          containerName,
+          deduplicateSnapshotFiles);
     }
   }
 }
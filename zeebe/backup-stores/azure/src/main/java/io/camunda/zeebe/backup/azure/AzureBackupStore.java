@@ -18,13 +18,17 @@ import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
 import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
 import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.common.BackupStatusImpl;
 import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
 import io.camunda.zeebe.backup.common.Manifest;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -49,6 +53,7 @@ public final class AzureBackupStore implements BackupStore {
   private final ExecutorService executor;
   private final FileSetManager fileSetManager;
   private final ManifestManager manifestManager;
+  private final boolean deduplicateSnapshotFiles;
 
   public AzureBackupStore(final AzureBackupConfig config) {
     this(config, buildClient(config));
@@ -61,6 +66,7 @@ public final class AzureBackupStore implements BackupStore {
 
     fileSetManager = new FileSetManager(blobContainerClient);
     manifestManager = new ManifestManager(blobContainerClient);
+    deduplicateSnapshotFiles = config.deduplicateSnapshotFiles();
   }
 
   public static BlobServiceClient buildClient(final AzureBackupConfig config) {
@@ -96,9 +102,14 @@ public final class AzureBackupStore implements BackupStore {
   public CompletableFuture<Void> save(final Backup backup) {
     return CompletableFuture.runAsync(
         () -> {
-          final var persistedManifest = manifestManager.createInitialManifest(backup);
+          final var persistedManifest =
+              manifestManager.createInitialManifest(backup, deduplicateSnapshotFiles);
           try {
-            fileSetManager.save(backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot());
+            fileSetManager.save(
+                backup.id(),
+                SNAPSHOT_FILESET_NAME,
+                backup.snapshot(),
+                persistedManifest.manifest().snapshot());
             fileSetManager.save(backup.id(), SEGMENTS_FILESET_NAME, backup.segments());
             manifestManager.completeManifest(persistedManifest);
           } catch (final Exception e) {
@@ -133,9 +144,13 @@ public final class AzureBackupStore implements BackupStore {
   public CompletableFuture<Void> delete(final BackupIdentifier id) {
     return CompletableFuture.runAsync(
         () -> {
+          final var manifest = manifestManager.getManifest(id);
           manifestManager.deleteManifest(id);
           fileSetManager.delete(id, SNAPSHOT_FILESET_NAME);
           fileSetManager.delete(id, SEGMENTS_FILESET_NAME);
+          if (manifest != null) {
+            deleteUnreferencedContents(id.partitionId(), Manifest.contentDigests(manifest));
+          }
         },
         executor);
   }
@@ -196,6 +211,28 @@ public final class AzureBackupStore implements BackupStore {
         });
   }
 
+  /**
+   * Deletes the content addressed files of a deleted backup which are not referenced by any other
+   * backup of the same partition. In-progress manifests reference their contents before the backup
+   * checks whether they exist. A backup whose manifest is created after the references were
+   * collected checks the contents it didn't upload again once its files are saved.
+   */
+  private void deleteUnreferencedContents(final int partitionId, final Set<String> digests) {
+    if (digests.isEmpty()) {
+      return;
+    }
+
+    final var unreferenced = new HashSet<>(digests);
+    final var partitionBackups =
+        new BackupIdentifierWildcardImpl(
+            Optional.empty(), Optional.of(partitionId), Optional.empty());
+    for (final var manifest : manifestManager.listManifests(partitionBackups)) {
+      unreferenced.removeAll(Manifest.contentDigests(manifest));
+    }
+
+    fileSetManager.deleteContents(partitionId, unreferenced);
+  }
+
   public static void validateConfig(final AzureBackupConfig config) {
     if (config.connectionString() == null && config.endpoint() == null) {
       throw new IllegalArgumentException("Connection string or endpoint is required");
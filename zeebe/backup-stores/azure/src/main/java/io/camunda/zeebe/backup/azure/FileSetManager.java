@@ -21,11 +21,15 @@ import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.FileSet.NamedFile;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.stream.Collectors;
 
 final class FileSetManager {
   // The path format is constructed by contents/partitionId/checkpointId/nodeId/nameOfFile
   private static final String PATH_FORMAT = "contents/%s/%s/%s/%s/";
+  // Content addressed files are shared by all backups of a partition: objects/partitionId/digest
+  private static final String CONTENT_PATH_FORMAT = "objects/%s/%s";
   private final BlobContainerClient containerClient;
   private boolean containerCreated = false;
 
@@ -34,12 +38,43 @@ final class FileSetManager {
   }
 
   void save(final BackupIdentifier id, final String fileSetName, final NamedFileSet fileSet) {
+    save(id, fileSetName, fileSet, FileSet.of(fileSet));
+  }
+
+  /**
+   * Saves the given files. Files which are content addressed in the given manifest file set are
+   * only uploaded if no other backup of the same partition already stored the same content.
+   *
+   * <p>A concurrent deletion of another backup of the same partition may remove a content which was
+   * not uploaded for that reason, if it collected the referenced contents before the given manifest
+   * was written. Skipped contents are therefore checked again once all files are saved, and
+   * uploaded if they are gone.
+   */
+  void save(
+      final BackupIdentifier id,
+      final String fileSetName,
+      final NamedFileSet fileSet,
+      final FileSet manifestFileSet) {
     assureContainerCreated();
+    final var digests =
+        manifestFileSet.files().stream()
+            .filter(NamedFile::isContentAddressed)
+            .collect(Collectors.toMap(NamedFile::name, NamedFile::contentDigest));
+    final var skippedContents = new HashMap<String, Path>();
+
     for (final var namedFile : fileSet.namedFiles().entrySet()) {
       final var fileName = namedFile.getKey();
       final var filePath = namedFile.getValue();
-      final String fileSetPath = fileSetPath(id, fileSetName);
+      final var digest = digests.get(fileName);
+      if (digest != null) {
+        final var contentPath = contentPath(id.partitionId(), digest);
+        if (!saveContent(contentPath, filePath)) {
+          skippedContents.put(contentPath, filePath);
+        }
+        continue;
+      }
 
+      final String fileSetPath = fileSetPath(id, fileSetName);
       final BlobClient blobClient = containerClient.getBlobClient(fileSetPath + fileName);
 
       try {
@@ -52,6 +87,16 @@ final class FileSetManager {
         throw e;
       }
     }
+
+    skippedContents.forEach(this::saveContent);
+  }
+
+  /** Deletes the content addressed files with the given digests of the given partition. */
+  void deleteContents(final int partitionId, final Collection<String> digests) {
+    assureContainerCreated();
+    for (final var digest : digests) {
+      containerClient.getBlobClient(contentPath(partitionId, digest)).deleteIfExists();
+    }
   }
 
   public void delete(final BackupIdentifier id, final String fileSetName) {
@@ -74,15 +119,15 @@ final class FileSetManager {
         fileSet.files().stream()
             .collect(Collectors.toMap(NamedFile::name, f -> targetFolder.resolve(f.name())));
 
-    for (final var entry : pathByName.entrySet()) {
-      final var fileName = entry.getKey();
-      final var filePath = entry.getValue();
+    for (final var file : fileSet.files()) {
+      final var blobPath =
+          file.isContentAddressed()
+              ? contentPath(id.partitionId(), file.contentDigest())
+              : fileSetPath(id, fileSetName) + file.name();
 
       final BlockBlobClient blobClient =
-          containerClient
-              .getBlobClient(fileSetPath(id, fileSetName) + fileName)
-              .getBlockBlobClient();
-      blobClient.downloadToFile(String.valueOf(filePath), true);
+          containerClient.getBlobClient(blobPath).getBlockBlobClient();
+      blobClient.downloadToFile(String.valueOf(pathByName.get(file.name())), true);
     }
 
     return new NamedFileSetImpl(pathByName);
@@ -95,7 +140,32 @@ final class FileSetManager {
     }
   }
 
+  /**
+   * @return true if the content was uploaded, false if it was already stored
+   */
+  private boolean saveContent(final String contentPath, final Path filePath) {
+    final BlobClient blobClient = containerClient.getBlobClient(contentPath);
+    if (blobClient.exists()) {
+      // already stored by a previous backup of this partition
+      return false;
+    }
+
+    try {
+      blobClient.upload(BinaryData.fromFile(filePath), false);
+    } catch (final BlobStorageException e) {
+      // a concurrent backup stored the same content in the meantime
+      if (e.getErrorCode() != BlobErrorCode.BLOB_ALREADY_EXISTS) {
+        throw e;
+      }
+    }
+    return true;
+  }
+
   private String fileSetPath(final BackupIdentifier id, final String fileSetName) {
     return PATH_FORMAT.formatted(id.partitionId(), id.checkpointId(), id.nodeId(), fileSetName);
   }
+
+  private String contentPath(final int partitionId, final String contentDigest) {
+    return CONTENT_PATH_FORMAT.formatted(partitionId, contentDigest);
+  }
 }
@@ -74,8 +74,12 @@ public final class ManifestManager {
   }
 
   PersistedManifest createInitialManifest(final Backup backup) {
+    return createInitialManifest(backup, false);
+  }
 
-    final var manifest = Manifest.createInProgress(backup);
+  PersistedManifest createInitialManifest(
+      final Backup backup, final boolean contentAddressedSnapshot) {
+    final var manifest = Manifest.createInProgress(backup, contentAddressedSnapshot);
     final byte[] serializedManifest;
     assureContainerCreated();
     try {
@@ -15,6 +15,8 @@ import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.BlobServiceClient;
 import com.azure.storage.blob.BlobServiceClientBuilder;
+import com.azure.storage.blob.models.BlobItem;
+import com.azure.storage.blob.models.ListBlobsOptions;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -26,10 +28,12 @@ import io.camunda.zeebe.backup.azure.util.AzuriteContainer;
 import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
 import io.camunda.zeebe.backup.common.Manifest;
 import io.camunda.zeebe.backup.testkit.BackupStoreTestKit;
+import io.camunda.zeebe.backup.testkit.DeduplicatingSnapshotFiles;
 import io.camunda.zeebe.backup.testkit.support.TestBackupProvider;
 import java.io.FileNotFoundException;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.UUID;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,7 +44,7 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 @Testcontainers
-public class AzureBackupStoreIT implements BackupStoreTestKit {
+public class AzureBackupStoreIT implements BackupStoreTestKit, DeduplicatingSnapshotFiles {
 
   @Container private static final AzuriteContainer AZURITE_CONTAINER = new AzuriteContainer();
   private static final ObjectMapper MAPPER =
@@ -51,6 +55,7 @@ public class AzureBackupStoreIT implements BackupStoreTestKit {
           .setSerializationInclusion(Include.NON_ABSENT);
   public AzureBackupConfig azureBackupConfig;
   public AzureBackupStore azureBackupStore;
+  public AzureBackupStore deduplicatingBackupStore;
   public final String containerName = UUID.randomUUID().toString();
 
   @BeforeEach
@@ -61,6 +66,13 @@ public class AzureBackupStoreIT implements BackupStoreTestKit {
             .withContainerName(containerName)
             .build();
     azureBackupStore = new AzureBackupStore(azureBackupConfig);
+    deduplicatingBackupStore =
+        new AzureBackupStore(
+            new AzureBackupConfig.Builder()
+                .withConnectionString(AZURITE_CONTAINER.getConnectString())
+                .withContainerName(containerName)
+                .withDeduplicateSnapshotFiles(true)
+                .build());
   }
 
   @Override
@@ -68,6 +80,30 @@ public class AzureBackupStoreIT implements BackupStoreTestKit {
     return azureBackupStore;
   }
 
+  @Override
+  public AzureBackupStore getDeduplicatingStore() {
+    return deduplicatingBackupStore;
+  }
+
+  @Override
+  public Collection<String> listContentObjects(final int partitionId) {
+    return buildContainerClient()
+        .listBlobs(new ListBlobsOptions().setPrefix("objects/" + partitionId + "/"), null)
+        .stream()
+        .map(BlobItem::getName)
+        .toList();
+  }
+
+  @Override
+  public byte[] readContentObject(final String key) {
+    return buildContainerClient().getBlobClient(key).downloadContent().toBytes();
+  }
+
+  @Override
+  public void writeContentObject(final String key, final byte[] content) {
+    buildContainerClient().getBlobClient(key).upload(BinaryData.fromBytes(content), true);
+  }
+
   @Override
   public Class<? extends Exception> getBackupInInvalidStateExceptionClass() {
     return UnexpectedManifestState.class;
@@ -145,6 +181,10 @@ public class AzureBackupStoreIT implements BackupStoreTestKit {
   }
 
   BlobClient buildBlobClient(final Manifest manifest) {
+    return buildContainerClient().getBlobClient(ManifestManager.manifestPath(manifest));
+  }
+
+  BlobContainerClient buildContainerClient() {
     final BlobServiceClient blobServiceClient =
         new BlobServiceClientBuilder()
             .connectionString(azureBackupConfig.connectionString())
@@ -152,6 +192,6 @@ public class AzureBackupStoreIT implements BackupStoreTestKit {
     final BlobContainerClient blobContainerClient =
         blobServiceClient.getBlobContainerClient(azureBackupConfig.containerName());
     blobContainerClient.createIfNotExists();
-    return blobContainerClient.getBlobClient(ManifestManager.manifestPath(manifest));
+    return blobContainerClient;
   }
 }
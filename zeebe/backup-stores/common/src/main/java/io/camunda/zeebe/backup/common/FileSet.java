@@ -7,9 +7,14 @@
  */
 package io.camunda.zeebe.backup.common;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import io.camunda.zeebe.backup.api.NamedFileSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /** FileSet use in Manifest serialization, in order to list all stored files. */
@@ -43,9 +48,50 @@ public record FileSet(List<NamedFile> files) {
     return new FileSet(fileSet.namedFiles().keySet().stream().map(NamedFile::new).toList());
   }
 
-  public record NamedFile(String name) {
+  /**
+   * Same as {@link #of(NamedFileSet)}, but if {@code contentAddressed} is set, immutable files are
+   * referenced by the digest of their content, see {@link ContentAddressedFiles}.
+   */
+  public static FileSet of(final NamedFileSet fileSet, final boolean contentAddressed) {
+    if (fileSet == null || !contentAddressed) {
+      return of(fileSet);
+    }
+
+    final Map<String, String> digests = ContentAddressedFiles.digests(fileSet);
+    return new FileSet(
+        fileSet.namedFiles().keySet().stream()
+            .map(name -> new NamedFile(name, digests.get(name)))
+            .toList());
+  }
+
+  /**
+   * @return the digests of all files of this set which are stored by their content
+   */
+  public Set<String> contentDigests() {
+    return files.stream()
+        .filter(NamedFile::isContentAddressed)
+        .map(NamedFile::contentDigest)
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * @param name the name of the file in the file set
+   * @param contentDigest the digest under which the file's content is stored, or null if the file
+   *     is stored as part of the backup it belongs to
+   */
+  @JsonInclude(Include.NON_NULL)
+  public record NamedFile(String name, String contentDigest) {
     public NamedFile {
       Objects.requireNonNull(name);
     }
+
+    public NamedFile(final String name) {
+      this(name, null);
+    }
+
+    @JsonIgnore
+    public boolean isContentAddressed() {
+      return contentDigest != null;
+    }
   }
 }
@@ -15,18 +15,28 @@ import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.Set;
 
 @JsonSerialize(as = ManifestImpl.class)
 @JsonDeserialize(as = ManifestImpl.class)
 public sealed interface Manifest {
 
   static InProgressManifest createInProgress(final Backup backup) {
+    return createInProgress(backup, false);
+  }
+
+  /**
+   * @param contentAddressedSnapshot if set, immutable snapshot files are referenced by the digest
+   *     of their content, such that they can be shared between backups
+   */
+  static InProgressManifest createInProgress(
+      final Backup backup, final boolean contentAddressedSnapshot) {
     final var creationTime = Instant.now();
     return new ManifestImpl(
         BackupIdentifierImpl.from(backup.id()),
         BackupDescriptorImpl.from(backup.descriptor()),
         StatusCode.IN_PROGRESS,
-        FileSet.of(backup.snapshot()),
+        FileSet.of(backup.snapshot(), contentAddressedSnapshot),
         FileSet.of(backup.segments()),
         creationTime,
         creationTime);
@@ -89,10 +99,28 @@ public sealed interface Manifest {
     };
   }
 
+  /**
+   * @return the digests of the content addressed snapshot files which are referenced by the given
+   *     manifest, regardless of its status
+   */
+  static Set<String> contentDigests(final Manifest manifest) {
+    final FileSet snapshot =
+        switch (manifest.statusCode()) {
+          case IN_PROGRESS -> manifest.asInProgress().snapshot();
+          case COMPLETED -> manifest.asCompleted().snapshot();
+          case FAILED -> manifest.asFailed().snapshot();
+        };
+    return snapshot == null ? Set.of() : snapshot.contentDigests();
+  }
+
   sealed interface InProgressManifest extends Manifest permits ManifestImpl {
 
     CompletedManifest complete();
 
+    FileSet snapshot();
+
+    FileSet segments();
+
     FailedManifest fail(final String failureReason);
   }
 
@@ -108,6 +136,12 @@ public sealed interface Manifest {
   sealed interface FailedManifest extends Manifest permits ManifestImpl {
 
     String failureReason();
+
+    /**
+     * @return the snapshot files of the backup before it failed, or null if it failed before it
+     *     was started
+     */
+    FileSet snapshot();
   }
 
   enum StatusCode {
@@ -7,11 +7,14 @@
  */
 package io.camunda.zeebe.backup.gcs;
 
+import static io.camunda.zeebe.backup.gcs.ManifestManager.PRECONDITION_FAILED;
+
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.BucketInfo;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.Storage.BlobListOption;
 import com.google.cloud.storage.Storage.BlobWriteOption;
+import com.google.cloud.storage.StorageException;
 import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.NamedFileSet;
 import io.camunda.zeebe.backup.common.FileSet;
@@ -20,6 +23,8 @@ import io.camunda.zeebe.backup.common.NamedFileSetImpl;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.stream.Collectors;
 
 final class FileSetManager {
@@ -37,6 +42,19 @@ final class FileSetManager {
    */
   private static final String PATH_FORMAT = "%scontents/%s/%s/%s/%s/";
 
+  /**
+   * The path format of content addressed files, which are shared by all backups of a partition,
+   * consists of the following elements:
+   *
+   * <ul>
+   *   <li>{@code basePath}
+   *   <li>{@code "objects"}
+   *   <li>{@code partitionId}
+   *   <li>{@code contentDigest}
+   * </ul>
+   */
+  private static final String CONTENT_PATH_FORMAT = "%sobjects/%s/%s";
+
   private final Storage client;
   private final BucketInfo bucketInfo;
   private final String basePath;
@@ -48,16 +66,51 @@ final class FileSetManager {
   }
 
   void save(final BackupIdentifier id, final String fileSetName, final NamedFileSet fileSet) {
+    save(id, fileSetName, fileSet, FileSet.of(fileSet));
+  }
+
+  /**
+   * Saves the given files. Files which are content addressed in the given manifest file set are
+   * only uploaded if no other backup of the same partition already stored the same content.
+   *
+   * <p>A concurrent deletion of another backup of the same partition may remove a content which was
+   * not uploaded for that reason, if it collected the referenced contents before the given manifest
+   * was written. Skipped contents are therefore checked again once all files are saved, and
+   * uploaded if they are gone.
+   */
+  void save(
+      final BackupIdentifier id,
+      final String fileSetName,
+      final NamedFileSet fileSet,
+      final FileSet manifestFileSet) {
+    final var digests =
+        manifestFileSet.files().stream()
+            .filter(NamedFile::isContentAddressed)
+            .collect(Collectors.toMap(NamedFile::name, NamedFile::contentDigest));
+    final var skippedContents = new HashMap<BlobInfo, Path>();
+
     for (final var namedFile : fileSet.namedFiles().entrySet()) {
       final var fileName = namedFile.getKey();
       final var filePath = namedFile.getValue();
-      try {
-        client.createFrom(
-            blobInfo(id, fileSetName, fileName), filePath, BlobWriteOption.doesNotExist());
-      } catch (final IOException e) {
-        throw new UncheckedIOException(e);
+      final var digest = digests.get(fileName);
+      if (digest == null) {
+        upload(blobInfo(id, fileSetName, fileName), filePath);
+      } else {
+        final var contentBlobInfo = contentBlobInfo(id.partitionId(), digest);
+        if (!uploadContent(contentBlobInfo, filePath)) {
+          skippedContents.put(contentBlobInfo, filePath);
+        }
       }
     }
+
+    skippedContents.forEach(this::uploadContent);
+  }
+
+  /** Deletes the content addressed files with the given digests of the given partition. */
+  void deleteContents(final int partitionId, final Collection<String> digests) {
+    for (final var digest : digests) {
+      client.delete(contentBlobInfo(partitionId, digest).getBlobId());
+    }
   }
 
   public void delete(final BackupIdentifier id, final String fileSetName) {
@@ -78,15 +131,45 @@ final class FileSetManager {
         fileSet.files().stream()
             .collect(Collectors.toMap(NamedFile::name, (f) -> targetFolder.resolve(f.name())));
 
-    for (final var entry : pathByName.entrySet()) {
-      final var fileName = entry.getKey();
-      final var filePath = entry.getValue();
-      client.downloadTo(blobInfo(id, filesetName, fileName).getBlobId(), filePath);
+    for (final var file : fileSet.files()) {
+      final var blobInfo =
+          file.isContentAddressed()
+              ? contentBlobInfo(id.partitionId(), file.contentDigest())
+              : blobInfo(id, filesetName, file.name());
+      client.downloadTo(blobInfo.getBlobId(), pathByName.get(file.name()));
     }
 
     return new NamedFileSetImpl(pathByName);
   }
 
+  private void upload(final BlobInfo blobInfo, final Path filePath) {
+    try {
+      client.createFrom(blobInfo, filePath, BlobWriteOption.doesNotExist());
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * @return true if the content was uploaded, false if it was already stored
+   */
+  private boolean uploadContent(final BlobInfo blobInfo, final Path filePath) {
+    if (client.get(blobInfo.getBlobId()) != null) {
+      // already stored by a previous backup of this partition
+      return false;
+    }
+
+    try {
+      upload(blobInfo, filePath);
+    } catch (final StorageException e) {
+      // a concurrent backup stored the same content in the meantime
+      if (e.getCode() != PRECONDITION_FAILED) {
+        throw e;
+      }
+    }
+    return true;
+  }
+
   private String fileSetPath(final BackupIdentifier id, final String fileSetName) {
     return PATH_FORMAT.formatted(
         basePath, id.partitionId(), id.checkpointId(), id.nodeId(), fileSetName);
@@ -98,4 +181,11 @@ final class FileSetManager {
         .setContentType("application/octet-stream")
         .build();
   }
+
+  private BlobInfo contentBlobInfo(final int partitionId, final String contentDigest) {
+    return BlobInfo.newBuilder(
+            bucketInfo, CONTENT_PATH_FORMAT.formatted(basePath, partitionId, contentDigest))
+        .setContentType("application/octet-stream")
+        .build();
+  }
 }
@@ -12,11 +12,20 @@ import static java.util.Objects.requireNonNull;
 import io.camunda.zeebe.backup.gcs.GcsBackupStoreException.ConfigurationException;
 import io.camunda.zeebe.backup.gcs.GcsConnectionConfig.Authentication.Auto;
 
-public record GcsBackupConfig(String bucketName, String basePath, GcsConnectionConfig connection) {
-  public GcsBackupConfig(String bucketName, String basePath, GcsConnectionConfig connection) {
+public record GcsBackupConfig(
+    String bucketName,
+    String basePath,
+    GcsConnectionConfig connection,
+    boolean deduplicateSnapshotFiles) {
+  public GcsBackupConfig(
+      String bucketName,
+      String basePath,
+      GcsConnectionConfig connection,
+      boolean deduplicateSnapshotFiles) {
     this.bucketName = requireBucketName(bucketName);
     this.basePath = sanitizeBasePath(basePath);
     this.connection = requireNonNull(connection);
+    this.deduplicateSnapshotFiles = deduplicateSnapshotFiles;
   }
 
   private static String requireBucketName(final String bucketName) {
@@ -57,6 +66,7 @@ public record GcsBackupConfig(String bucketName, String basePath, GcsConnectionC
     private String basePath;
     private String host;
     private GcsConnectionConfig.Authentication auth;
+    private boolean deduplicateSnapshotFiles;
 
     public Builder withBucketName(final String bucketName) {
       this.bucketName = bucketName;
@@ -83,8 +93,14 @@ public record GcsBackupConfig(String bucketName, String basePath, GcsConnectionC
       return this;
     }
 
+    public Builder withDeduplicateSnapshotFiles(final boolean deduplicateSnapshotFiles) {
+      this.deduplicateSnapshotFiles = deduplicateSnapshotFiles;
+      return this;
+    }
+
     public GcsBackupConfig build() {
-      return new GcsBackupConfig(bucketName, basePath, new GcsConnectionConfig(host, auth));
+      return new GcsBackupConfig(
+          bucketName, basePath, new GcsConnectionConfig(host, auth), deduplicateSnapshotFiles);
     }
   }
 }
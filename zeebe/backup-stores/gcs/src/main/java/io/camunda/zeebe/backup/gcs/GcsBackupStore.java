@@ -17,13 +17,16 @@ import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
 import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
 import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.common.BackupStatusImpl;
 import io.camunda.zeebe.backup.common.Manifest;
 import io.camunda.zeebe.backup.gcs.GcsBackupStoreException.ConfigurationException;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -45,6 +48,7 @@ public final class GcsBackupStore implements BackupStore {
   private final ManifestManager manifestManager;
   private final FileSetManager fileSetManager;
   private final Storage client;
+  private final boolean deduplicateSnapshotFiles;
 
   public GcsBackupStore(final GcsBackupConfig config) {
     this(config, buildClient(config));
@@ -54,6 +58,7 @@ public final class GcsBackupStore implements BackupStore {
     final var bucketInfo = BucketInfo.of(config.bucketName());
     final var basePath = Optional.ofNullable(config.basePath()).map(s -> s + "/").orElse("");
     this.client = client;
+    deduplicateSnapshotFiles = config.deduplicateSnapshotFiles();
     executor = Executors.newWorkStealingPool(4);
     manifestManager = new ManifestManager(client, bucketInfo, basePath);
     fileSetManager = new FileSetManager(client, bucketInfo, basePath);
@@ -63,9 +68,14 @@ public final class GcsBackupStore implements BackupStore {
   public CompletableFuture<Void> save(final Backup backup) {
     return CompletableFuture.runAsync(
         () -> {
-          final var persistedManifest = manifestManager.createInitialManifest(backup);
+          final var persistedManifest =
+              manifestManager.createInitialManifest(backup, deduplicateSnapshotFiles);
           try {
-            fileSetManager.save(backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot());
+            fileSetManager.save(
+                backup.id(),
+                SNAPSHOT_FILESET_NAME,
+                backup.snapshot(),
+                persistedManifest.manifest().snapshot());
             fileSetManager.save(backup.id(), SEGMENTS_FILESET_NAME, backup.segments());
             manifestManager.completeManifest(persistedManifest);
           } catch (final Exception e) {
@@ -100,9 +110,13 @@ public final class GcsBackupStore implements BackupStore {
   public CompletableFuture<Void> delete(final BackupIdentifier id) {
     return CompletableFuture.runAsync(
         () -> {
+          final var manifest = manifestManager.getManifest(id);
           manifestManager.deleteManifest(id);
           fileSetManager.delete(id, SNAPSHOT_FILESET_NAME);
           fileSetManager.delete(id, SEGMENTS_FILESET_NAME);
+          if (manifest != null) {
+            deleteUnreferencedContents(id.partitionId(), Manifest.contentDigests(manifest));
+          }
         },
         executor);
   }
@@ -162,6 +176,28 @@ public final class GcsBackupStore implements BackupStore {
         });
   }
 
+  /**
+   * Deletes the content addressed files of a deleted backup which are not referenced by any other
+   * backup of the same partition. In-progress manifests reference their contents before the backup
+   * checks whether they exist. A backup whose manifest is created after the references were
+   * collected checks the contents it didn't upload again once its files are saved.
+   */
+  private void deleteUnreferencedContents(final int partitionId, final Set<String> digests) {
+    if (digests.isEmpty()) {
+      return;
+    }
+
+    final var unreferenced = new HashSet<>(digests);
+    final var partitionBackups =
+        new BackupIdentifierWildcardImpl(
+            Optional.empty(), Optional.of(partitionId), Optional.empty());
+    for (final var manifest : manifestManager.listManifests(partitionBackups)) {
+      unreferenced.removeAll(Manifest.contentDigests(manifest));
+    }
+
+    fileSetManager.deleteContents(partitionId, unreferenced);
+  }
+
   public static Storage buildClient(final GcsBackupConfig config) {
     return StorageOptions.newBuilder()
         .setHost(config.connection().host())
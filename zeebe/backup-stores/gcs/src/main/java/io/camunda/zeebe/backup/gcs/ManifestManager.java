@@ -89,8 +89,13 @@ public final class ManifestManager {
   }
 
   PersistedManifest createInitialManifest(final Backup backup) {
+    return createInitialManifest(backup, false);
+  }
+
+  PersistedManifest createInitialManifest(
+      final Backup backup, final boolean contentAddressedSnapshot) {
     final var manifestBlobInfo = manifestBlobInfo(backup.id());
-    final var manifest = Manifest.createInProgress(backup);
+    final var manifest = Manifest.createInProgress(backup, contentAddressedSnapshot);
     try {
       final var blob =
           client.create(
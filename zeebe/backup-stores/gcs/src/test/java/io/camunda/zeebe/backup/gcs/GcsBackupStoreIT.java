@@ -7,12 +7,19 @@
  */
 package io.camunda.zeebe.backup.gcs;
 
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.BucketInfo;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.Storage.BlobListOption;
 import io.camunda.zeebe.backup.api.BackupStore;
 import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
 import io.camunda.zeebe.backup.gcs.util.GcsContainer;
 import io.camunda.zeebe.backup.testkit.BackupStoreTestKit;
+import io.camunda.zeebe.backup.testkit.DeduplicatingSnapshotFiles;
 import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.Collection;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -26,10 +33,13 @@ public class GcsBackupStoreIT {
   @Container private static final GcsContainer GCS = new GcsContainer();
 
   @Nested
-  final class WithBasePath implements BackupStoreTestKit {
+  final class WithBasePath implements BackupStoreTestKit, DeduplicatingSnapshotFiles {
     private static final String BUCKET_NAME = RandomStringUtils.randomAlphabetic(10).toLowerCase();
 
     private GcsBackupStore store;
+    private GcsBackupStore deduplicatingStore;
+    private Storage client;
+    private String basePath;
 
     @BeforeAll
     static void createBucket() {
@@ -48,19 +58,23 @@ public class GcsBackupStoreIT {
 
     @BeforeEach
     void setup() {
-      store =
-          new GcsBackupStore(
-              new GcsBackupConfig.Builder()
-                  .withBucketName(BUCKET_NAME)
-                  .withBasePath(RandomStringUtils.randomAlphabetic(10).toLowerCase())
-                  .withHost(GCS.externalEndpoint())
-                  .withoutAuthentication()
-                  .build());
+      basePath = RandomStringUtils.randomAlphabetic(10).toLowerCase();
+      final var builder =
+          new GcsBackupConfig.Builder()
+              .withBucketName(BUCKET_NAME)
+              .withBasePath(basePath)
+              .withHost(GCS.externalEndpoint())
+              .withoutAuthentication();
+      store = new GcsBackupStore(builder.build());
+      client = GcsBackupStore.buildClient(builder.build());
+      deduplicatingStore = new GcsBackupStore(builder.withDeduplicateSnapshotFiles(true).build());
     }
 
     @AfterEach
-    void tearDown() {
+    void tearDown() throws Exception {
       store.closeAsync().join();
+      deduplicatingStore.closeAsync().join();
+      client.close();
     }
 
     @Override
@@ -68,6 +82,31 @@ public class GcsBackupStoreIT {
       return store;
     }
 
+    @Override
+    public BackupStore getDeduplicatingStore() {
+      return deduplicatingStore;
+    }
+
+    @Override
+    public Collection<String> listContentObjects(final int partitionId) {
+      final var contentObjects = new ArrayList<String>();
+      client
+          .list(BUCKET_NAME, BlobListOption.prefix(basePath + "/objects/" + partitionId + "/"))
+          .iterateAll()
+          .forEach(blob -> contentObjects.add(blob.getName()));
+      return contentObjects;
+    }
+
+    @Override
+    public byte[] readContentObject(final String key) {
+      return client.readAllBytes(BlobId.of(BUCKET_NAME, key));
+    }
+
+    @Override
+    public void writeContentObject(final String key, final byte[] content) {
+      client.create(BlobInfo.newBuilder(BUCKET_NAME, key).build(), content);
+    }
+
     @Override
     public Class<? extends Exception> getBackupInInvalidStateExceptionClass() {
       return UnexpectedManifestState.class;
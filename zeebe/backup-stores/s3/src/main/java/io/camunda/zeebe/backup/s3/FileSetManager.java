@@ -8,6 +8,7 @@
 package io.camunda.zeebe.backup.s3;
 
 import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.ContentAddressedFiles;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupCompressionFailed;
 import io.camunda.zeebe.backup.s3.manifest.FileSet;
@@ -19,8 +20,13 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Semaphore;
 import org.apache.commons.compress.compressors.CompressorException;
 import org.apache.commons.compress.compressors.CompressorStreamFactory;
@@ -32,6 +38,7 @@ import software.amazon.awssdk.core.FileTransformerConfiguration.FileWriteOption;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 
 /** Can save and restore {@link NamedFileSet NamedFileSets}. */
 final class FileSetManager {
@@ -57,31 +64,152 @@ final class FileSetManager {
   }
 
   CompletableFuture<FileSet> save(final String prefix, final NamedFileSet files) {
+    return save(prefix, files, "", Map.of());
+  }
+
+  /**
+   * Computes the metadata of all content addressable files of the given file set, including their
+   * digest, such that the manifest can reference their contents before any of them is saved. Like
+   * uploads, hashing reads the whole file, so it is subject to the same concurrency limit.
+   *
+   * @return the metadata of the content addressable files, by file name
+   */
+  CompletableFuture<Map<String, FileMetadata>> contentAddressedMetadata(final NamedFileSet files) {
+    final var contentAddressable =
+        files.namedFiles().entrySet().stream()
+            .filter(namedFile -> ContentAddressedFiles.isContentAddressable(namedFile.getKey()))
+            .toList();
+    return CompletableFutureUtils.mapAsync(
+        contentAddressable,
+        Entry::getKey,
+        namedFile ->
+            CompletableFuture.runAsync(uploadLimit::acquireUninterruptibly)
+                .thenApply(
+                    nothing ->
+                        FileMetadata.contentAddressed(
+                            ContentAddressedFiles.digest(namedFile.getValue()),
+                            compressionAlgorithm(namedFile.getValue())))
+                .whenComplete((success, error) -> uploadLimit.release()));
+  }
+
+  /**
+   * Saves the given files under the given prefix. Files with content addressed metadata (see {@link
+   * #contentAddressedMetadata(NamedFileSet)}) are instead stored under the content prefix and their
+   * digest, and are only uploaded if no other backup stored the same content before.
+   *
+   * <p>A concurrent deletion of another backup of the same partition may remove a content which was
+   * not uploaded for that reason, if it collected the referenced contents before the manifest of
+   * this backup was written. Skipped contents are therefore checked again once all files are saved,
+   * and uploaded if they are gone.
+   */
+  CompletableFuture<FileSet> save(
+      final String prefix,
+      final NamedFileSet files,
+      final String contentPrefix,
+      final Map<String, FileMetadata> contentAddressed) {
     LOG.debug("Saving {} files to prefix {}", files.files().size(), prefix);
+    final var skippedContents = new ConcurrentLinkedQueue<SkippedContent>();
     return CompletableFutureUtils.mapAsync(
             files.namedFiles().entrySet(),
             Entry::getKey,
-            namedFile -> saveFile(prefix, namedFile.getKey(), namedFile.getValue()))
+            namedFile -> {
+              final var metadata = contentAddressed.get(namedFile.getKey());
+              if (metadata != null) {
+                return saveContentAddressedFile(
+                    contentPrefix, namedFile.getValue(), metadata, skippedContents);
+              }
+              return saveFile(prefix, namedFile.getKey(), namedFile.getValue());
+            })
+        .thenCompose(
+            savedFiles -> ensureContentsExist(skippedContents).thenApply(ok -> savedFiles))
         .thenApply(FileSet::new);
   }
 
+  /**
+   * @return the key of the object which holds the content of the given content addressed file
+   */
+  static String contentKey(final String contentPrefix, final FileMetadata metadata) {
+    return contentPrefix
+        + metadata.contentDigest().orElseThrow()
+        + metadata.compressionAlgorithm().map(algorithm -> "." + algorithm).orElse("");
+  }
+
   private CompletableFuture<FileSet.FileMetadata> saveFile(
       final String prefix, final String fileName, final Path filePath) {
+    final var compressionAlgorithm = compressionAlgorithm(filePath);
+    final var metadata =
+        compressionAlgorithm.map(FileMetadata::withCompression).orElseGet(FileMetadata::none);
+    return putFile(prefix + fileName, filePath, compressionAlgorithm).thenApply(ok -> metadata);
+  }
+
+  private CompletableFuture<FileSet.FileMetadata> saveContentAddressedFile(
+      final String contentPrefix,
+      final Path filePath,
+      final FileMetadata metadata,
+      final Collection<SkippedContent> skippedContents) {
+    final var key = contentKey(contentPrefix, metadata);
+    return contentExists(key)
+        .thenCompose(
+            exists -> {
+              if (exists) {
+                LOG.trace("Skipping file {}, its content {} is stored", filePath, key);
+                skippedContents.add(
+                    new SkippedContent(key, filePath, metadata.compressionAlgorithm()));
+                return CompletableFuture.completedFuture(metadata);
+              }
+              return putFile(key, filePath, metadata.compressionAlgorithm())
+                  .thenApply(ok -> metadata);
+            });
+  }
+
+  private CompletableFuture<Void> ensureContentsExist(
+      final Collection<SkippedContent> skippedContents) {
+    return CompletableFuture.allOf(
+        skippedContents.stream().map(this::ensureContentExists).toArray(CompletableFuture[]::new));
+  }
+
+  private CompletableFuture<Void> ensureContentExists(final SkippedContent content) {
+    return contentExists(content.key())
+        .thenCompose(
+            exists -> {
+              if (exists) {
+                return CompletableFuture.completedFuture(null);
+              }
+              LOG.debug("Content {} was deleted concurrently, uploading it again", content.key());
+              return putFile(content.key(), content.filePath(), content.compressionAlgorithm());
+            });
+  }
+
+  private CompletableFuture<Boolean> contentExists(final String key) {
+    return client
+        .headObject(req -> req.bucket(config.bucketName()).key(key))
+        .handle(
+            (response, throwable) -> {
+              if (throwable == null) {
+                return true;
+              }
+              // throwable is a `CompletionException`, `getCause` to handle the underlying exception
+              if (throwable.getCause() instanceof NoSuchKeyException) {
+                return false;
+              }
+              throw new CompletionException(throwable.getCause());
+            });
+  }
 
-    if (shouldCompressFile(filePath)) {
-      final var algorithm = config.compressionAlgorithm().orElseThrow();
+  private CompletableFuture<Void> putFile(
+      final String key, final Path filePath, final Optional<String> compressionAlgorithm) {
+    if (compressionAlgorithm.isPresent()) {
+      final var algorithm = compressionAlgorithm.get();
       return CompletableFuture.runAsync(uploadLimit::acquireUninterruptibly)
           .thenApply((success) -> compressFile(filePath, algorithm))
           .thenCompose(
               (compressedFile) -> {
-                LOG.trace(
-                    "Saving compressed file {}({}) in prefix {}", fileName, compressedFile, prefix);
+                LOG.trace("Saving compressed file {}({}) as {}", filePath, compressedFile, key);
                 return client
                     .putObject(
-                        put -> put.bucket(config.bucketName()).key(prefix + fileName),
+                        put -> put.bucket(config.bucketName()).key(key),
                         AsyncRequestBody.fromFile(compressedFile))
-                    .thenRunAsync(() -> cleanupCompressedFile(compressedFile))
-                    .thenApply(unused -> FileSet.FileMetadata.withCompression(algorithm));
+                    .thenRunAsync(() -> cleanupCompressedFile(compressedFile));
               })
           .whenComplete((success, error) -> uploadLimit.release());
     }
@@ -89,12 +217,12 @@ final class FileSetManager {
     return CompletableFuture.runAsync(uploadLimit::acquireUninterruptibly)
         .thenCompose(
             (nothing) -> {
-              LOG.trace("Saving file {}({}) in prefix {}", fileName, filePath, prefix);
+              LOG.trace("Saving file {} as {}", filePath, key);
               return client
                   .putObject(
-                      put -> put.bucket(config.bucketName()).key(prefix + fileName),
+                      put -> put.bucket(config.bucketName()).key(key),
                       AsyncRequestBody.fromFile(filePath))
-                  .thenApply(unused -> FileSet.FileMetadata.none());
+                  .<Void>thenApply(unused -> null);
             })
         .whenComplete((success, error) -> uploadLimit.release());
   }
@@ -118,6 +246,10 @@ final class FileSetManager {
     }
   }
 
+  private Optional<String> compressionAlgorithm(final Path filePath) {
+    return shouldCompressFile(filePath) ? config.compressionAlgorithm() : Optional.empty();
+  }
+
   private Path compressFile(final Path file, final String algorithm) {
     try {
       final var compressedFile = Files.createTempFile(TMP_COMPRESSION_PREFIX, null);
@@ -144,7 +276,10 @@ final class FileSetManager {
   }
 
   CompletableFuture<NamedFileSet> restore(
-      final String sourcePrefix, final FileSet fileSet, final Path targetFolder) {
+      final String sourcePrefix,
+      final String contentPrefix,
+      final FileSet fileSet,
+      final Path targetFolder) {
     LOG.debug(
         "Restoring {} files from prefix {} to {}",
         fileSet.files().size(),
@@ -153,29 +288,31 @@ final class FileSetManager {
     return CompletableFutureUtils.mapAsync(
             fileSet.files().entrySet(),
             Entry::getKey,
-            namedFile ->
-                restoreFile(sourcePrefix, targetFolder, namedFile.getKey(), namedFile.getValue()))
+            namedFile -> {
+              final var metadata = namedFile.getValue();
+              final var key =
+                  metadata.contentDigest().isPresent()
+                      ? contentKey(contentPrefix, metadata)
+                      : sourcePrefix + namedFile.getKey();
+              return restoreFile(key, targetFolder, namedFile.getKey(), metadata);
+            })
         .thenApply(NamedFileSetImpl::new);
   }
 
   private CompletableFuture<Path> restoreFile(
-      final String sourcePrefix,
+      final String sourceKey,
       final Path targetFolder,
       final String fileName,
       final FileMetadata metadata) {
     final var compressionAlgorithm = metadata.compressionAlgorithm();
     if (compressionAlgorithm.isPresent()) {
       final var decompressed = targetFolder.resolve(fileName);
-      LOG.trace(
-          "Restoring compressed file {} from prefix {} to {}",
-          fileName,
-          sourcePrefix,
-          targetFolder);
+      LOG.trace("Restoring compressed file {} from {} to {}", fileName, sourceKey, targetFolder);
       try {
         final var compressed = Files.createTempFile(TMP_DECOMPRESSION_PREFIX, null);
         return client
             .getObject(
-                req -> req.bucket(config.bucketName()).key(sourcePrefix + fileName),
+                req -> req.bucket(config.bucketName()).key(sourceKey),
                 AsyncResponseTransformer.toFile(
                     compressed,
                     cfg ->
@@ -189,10 +326,10 @@ final class FileSetManager {
       }
     }
 
-    LOG.trace("Restoring file {} from prefix {} to {}", fileName, sourcePrefix, targetFolder);
+    LOG.trace("Restoring file {} from {} to {}", fileName, sourceKey, targetFolder);
     final var path = targetFolder.resolve(fileName);
     return client
-        .getObject(req -> req.bucket(config.bucketName()).key(sourcePrefix + fileName), path)
+        .getObject(req -> req.bucket(config.bucketName()).key(sourceKey), path)
         .thenApply(response -> path);
   }
 
@@ -221,4 +358,6 @@ final class FileSetManager {
           e);
     }
   }
+
+  private record SkippedContent(String key, Path filePath, Optional<String> compressionAlgorithm) {}
 }
@@ -17,13 +17,19 @@ import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
 import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.api.NamedFileSet;
 import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
 import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupDeletionIncomplete;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupInInvalidStateException;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupReadException;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.ManifestParseException;
+import io.camunda.zeebe.backup.s3.manifest.CompletedBackupManifest;
+import io.camunda.zeebe.backup.s3.manifest.FailedBackupManifest;
 import io.camunda.zeebe.backup.s3.manifest.FileSet;
+import io.camunda.zeebe.backup.s3.manifest.FileSet.FileMetadata;
+import io.camunda.zeebe.backup.s3.manifest.InProgressBackupManifest;
 import io.camunda.zeebe.backup.s3.manifest.Manifest;
 import io.camunda.zeebe.backup.s3.manifest.NoBackupManifest;
 import io.camunda.zeebe.backup.s3.manifest.ValidBackupManifest;
@@ -32,8 +38,11 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.regex.Pattern;
@@ -71,6 +80,12 @@ import software.amazon.awssdk.services.s3.model.S3Object;
  *   <li>Objects for segment files, additionally prefixed with 'segments', for example
  *       <pre>partitionId/checkpointId/nodeId/segments/segment-file-1</pre>
  * </ol>
+ *
+ * <p>If {@link S3BackupConfig#deduplicateSnapshotFiles()} is enabled, immutable snapshot files are
+ * instead stored once per partition under their content digest, and referenced by the manifests of
+ * all backups which contain them, for example
+ *
+ * <pre>objects/partitionId/content-digest</pre>
  */
 public final class S3BackupStore implements BackupStore {
   static final ObjectMapper MAPPER =
@@ -78,6 +93,7 @@ public final class S3BackupStore implements BackupStore {
   static final String SNAPSHOT_PREFIX = "snapshot/";
   static final String SEGMENTS_PREFIX = "segments/";
   static final String MANIFEST_OBJECT_KEY = "manifest.json";
+  static final String CONTENT_PREFIX = "objects/";
   private static final Logger LOG = LoggerFactory.getLogger(S3BackupStore.class);
   private static final int SCAN_PARALLELISM = 16;
   private final Pattern backupIdentifierPattern;
@@ -143,6 +159,13 @@ public final class S3BackupStore implements BackupStore {
     return "%s/%s/%s/".formatted(id.partitionId(), id.checkpointId(), id.nodeId());
   }
 
+  String contentPrefix(final int partitionId) {
+    return config.basePath().map(base -> base + "/").orElse("")
+        + CONTENT_PREFIX
+        + partitionId
+        + "/";
+  }
+
   public static void validateConfig(final S3BackupConfig config) {
     if (config.bucketName() == null || config.bucketName().isEmpty()) {
       throw new IllegalArgumentException(
@@ -168,11 +191,22 @@ public final class S3BackupStore implements BackupStore {
   @Override
   public CompletableFuture<Void> save(final Backup backup) {
     LOG.info("Saving {}", backup.id());
-    return updateManifestObject(
-            backup.id(), Manifest::expectNoBackup, manifest -> manifest.asInProgress(backup))
+    // the digests are part of the in-progress manifest, such that the contents are referenced
+    // before the store checks whether they exist already
+    final var contentAddressed =
+        config.deduplicateSnapshotFiles()
+            ? fileSetManager.contentAddressedMetadata(backup.snapshot())
+            : CompletableFuture.completedFuture(Map.<String, FileMetadata>of());
+    return contentAddressed
+        .thenComposeAsync(
+            metadata ->
+                updateManifestObject(
+                    backup.id(),
+                    Manifest::expectNoBackup,
+                    manifest -> manifest.asInProgress(backup, metadata)))
         .thenComposeAsync(
             status -> {
-              final var snapshot = saveSnapshotFiles(backup);
+              final var snapshot = saveSnapshotFiles(backup, contentAddressed.join());
               final var segments = saveSegmentFiles(backup);
 
               return CompletableFuture.allOf(snapshot, segments)
@@ -221,26 +255,37 @@ public final class S3BackupStore implements BackupStore {
                     "Can't delete in-progress backup %s, must be marked as failed first"
                         .formatted(manifest.id()));
               } else {
-                return manifest.id();
+                return manifest;
               }
             })
-        .thenComposeAsync(this::listBackupObjects)
-        .thenComposeAsync(this::deleteBackupObjects);
+        .thenComposeAsync(
+            manifest ->
+                listBackupObjects(manifest.id())
+                    .thenComposeAsync(this::deleteBackupObjects)
+                    .thenComposeAsync(ignored -> deleteUnreferencedContents(manifest)));
   }
 
   @Override
   public CompletableFuture<Backup> restore(final BackupIdentifier id, final Path targetFolder) {
     LOG.info("Restoring {} to {}", id, targetFolder);
     final var backupPrefix = objectPrefix(id);
+    final var contentPrefix = contentPrefix(id.partitionId());
     return readManifestObject(id)
         .thenApply(Manifest::expectCompleted)
         .thenComposeAsync(
             manifest ->
                 fileSetManager
-                    .restore(backupPrefix + SEGMENTS_PREFIX, manifest.segmentFiles(), targetFolder)
+                    .restore(
+                        backupPrefix + SEGMENTS_PREFIX,
+                        contentPrefix,
+                        manifest.segmentFiles(),
+                        targetFolder)
                     .thenCombineAsync(
                         fileSetManager.restore(
-                            backupPrefix + SNAPSHOT_PREFIX, manifest.snapshotFiles(), targetFolder),
+                            backupPrefix + SNAPSHOT_PREFIX,
+                            contentPrefix,
+                            manifest.snapshotFiles(),
+                            targetFolder),
                         (segments, snapshot) ->
                             new BackupImpl(id, manifest.descriptor(), snapshot, segments)));
   }
@@ -294,6 +339,54 @@ public final class S3BackupStore implements BackupStore {
             });
   }
 
+  /**
+   * Deletes the content addressed objects of a deleted backup which are not referenced by any other
+   * backup of the same partition. In-progress manifests reference their content objects before the
+   * backup checks whether they exist. A backup whose manifest is written after the references were
+   * collected checks the contents it didn't upload again once its files are saved, see {@link
+   * FileSetManager#save(String, NamedFileSet, String, Map)}.
+   */
+  private CompletableFuture<Void> deleteUnreferencedContents(final Manifest deleted) {
+    final var contentPrefix = contentPrefix(deleted.id().partitionId());
+    final var contentKeys = contentKeys(deleted, contentPrefix);
+    if (contentKeys.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    final var partitionBackups =
+        new BackupIdentifierWildcardImpl(
+            Optional.empty(), Optional.of(deleted.id().partitionId()), Optional.empty());
+    return readManifestObjects(partitionBackups)
+        .thenComposeAsync(
+            manifests -> {
+              final var unreferenced = new HashSet<>(contentKeys);
+              manifests.forEach(
+                  manifest -> unreferenced.removeAll(contentKeys(manifest, contentPrefix)));
+              LOG.debug("Deleting {} unreferenced content objects", unreferenced.size());
+              return deleteBackupObjects(
+                  unreferenced.stream()
+                      .map(key -> ObjectIdentifier.builder().key(key).build())
+                      .toList());
+            });
+  }
+
+  private Set<String> contentKeys(final Manifest manifest, final String contentPrefix) {
+    final FileSet snapshot =
+        switch (manifest) {
+          case final CompletedBackupManifest completed -> completed.snapshotFiles();
+          case final FailedBackupManifest failed -> failed.snapshotFiles();
+          case final InProgressBackupManifest inProgress -> inProgress.snapshotFiles();
+          case final NoBackupManifest noBackup -> null;
+        };
+    if (snapshot == null) {
+      return Set.of();
+    }
+
+    return snapshot.contentAddressedFiles().stream()
+        .map(metadata -> FileSetManager.contentKey(contentPrefix, metadata))
+        .collect(Collectors.toSet());
+  }
+
   private SdkPublisher<BackupIdentifier> findBackupIds(final BackupIdentifierWildcard wildcard) {
     final var prefix = wildcardPrefix(wildcard);
     LOG.debug("Using prefix {} to search for manifest files matching {}", prefix, wildcard);
@@ -381,10 +474,12 @@ public final class S3BackupStore implements BackupStore {
         .thenApply(resp -> manifest);
   }
 
-  private CompletableFuture<FileSet> saveSnapshotFiles(final Backup backup) {
+  private CompletableFuture<FileSet> saveSnapshotFiles(
+      final Backup backup, final Map<String, FileMetadata> contentAddressed) {
     LOG.debug("Saving snapshot files for {}", backup.id());
     final var prefix = objectPrefix(backup.id()) + SNAPSHOT_PREFIX;
-    return fileSetManager.save(prefix, backup.snapshot());
+    return fileSetManager.save(
+        prefix, backup.snapshot(), contentPrefix(backup.id().partitionId()), contentAddressed);
   }
 
   private CompletableFuture<FileSet> saveSegmentFiles(final Backup backup) {
@@ -39,6 +39,21 @@ public record FileSet(Map<String, FileMetadata> files) {
     return new FileSet(savedFiles);
   }
 
+  /**
+   * Constructs a {@link FileSet} based on a list of file names, with the given metadata for some of
+   * them. Files without given metadata have none attached.
+   */
+  public static FileSet withMetadata(
+      final Set<String> fileNames, final Map<String, FileMetadata> metadata) {
+    final var savedFiles =
+        fileNames.stream()
+            .collect(
+                Collectors.toMap(
+                    String.class::cast,
+                    fileName -> metadata.getOrDefault(fileName, FileMetadata.none())));
+    return new FileSet(savedFiles);
+  }
+
   public static FileSet empty() {
     return new FileSet(Map.of());
   }
@@ -47,14 +62,35 @@ public record FileSet(Map<String, FileMetadata> files) {
     return files.keySet();
   }
 
+  /**
+   * @return the metadata of all files which are stored by their content, and shared with other
+   *     backups of the same partition
+   */
+  public Set<FileMetadata> contentAddressedFiles() {
+    return files.values().stream()
+        .filter(metadata -> metadata.contentDigest().isPresent())
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * @param compressionAlgorithm the algorithm the stored object was compressed with, if any
+   * @param contentDigest the digest of the file's content, if the file is content addressed and
+   *     stored only once for all backups of a partition
+   */
   @JsonInclude(Include.NON_EMPTY)
-  public record FileMetadata(Optional<String> compressionAlgorithm) {
+  public record FileMetadata(
+      Optional<String> compressionAlgorithm, Optional<String> contentDigest) {
     public static FileMetadata withCompression(final String algorithm) {
-      return new FileMetadata(Optional.of(algorithm));
+      return new FileMetadata(Optional.of(algorithm), Optional.empty());
+    }
+
+    public static FileMetadata contentAddressed(
+        final String contentDigest, final Optional<String> compressionAlgorithm) {
+      return new FileMetadata(compressionAlgorithm, Optional.of(contentDigest));
     }
 
     public static FileMetadata none() {
-      return new FileMetadata(Optional.empty());
+      return new FileMetadata(Optional.empty(), Optional.empty());
     }
   }
 
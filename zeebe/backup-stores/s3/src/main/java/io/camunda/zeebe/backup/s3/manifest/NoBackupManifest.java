@@ -13,7 +13,9 @@ import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.common.BackupDescriptorImpl;
 import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
 import io.camunda.zeebe.backup.common.BackupStatusImpl;
+import io.camunda.zeebe.backup.s3.manifest.FileSet.FileMetadata;
 import java.time.Instant;
+import java.util.Map;
 import java.util.Optional;
 
 public record NoBackupManifest(BackupIdentifierImpl id) implements Manifest {
@@ -37,11 +39,21 @@ public record NoBackupManifest(BackupIdentifierImpl id) implements Manifest {
   }
 
   public InProgressBackupManifest asInProgress(final Backup backup) {
+    return asInProgress(backup, Map.of());
+  }
+
+  /**
+   * @param snapshotMetadata the metadata of snapshot files which is known before they are saved,
+   *     i.e. of content addressed files, such that their contents are referenced while the backup
+   *     is in progress
+   */
+  public InProgressBackupManifest asInProgress(
+      final Backup backup, final Map<String, FileMetadata> snapshotMetadata) {
     final var now = Instant.now();
     return new InProgressBackupManifest(
         BackupIdentifierImpl.from(backup.id()),
         BackupDescriptorImpl.from(backup.descriptor()),
-        FileSet.withoutMetadata(backup.snapshot().names()),
+        FileSet.withMetadata(backup.snapshot().names(), snapshotMetadata),
         FileSet.withoutMetadata(backup.segments().names()),
         now,
         now);
@@ -9,9 +9,14 @@ package io.camunda.zeebe.backup.s3;
 
 import io.camunda.zeebe.backup.s3.manifest.CompletedBackupManifest;
 import io.camunda.zeebe.backup.s3.manifest.FailedBackupManifest;
+import io.camunda.zeebe.backup.s3.manifest.FileSet;
+import io.camunda.zeebe.backup.s3.manifest.FileSet.FileMetadata;
 import io.camunda.zeebe.backup.s3.manifest.InProgressBackupManifest;
 import io.camunda.zeebe.backup.s3.manifest.ValidBackupManifest;
 import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -89,4 +94,49 @@ final class ManifestCompatabilityTest {
     Assertions.assertThat(manifest.segmentFiles().files()).isNotEmpty();
     Assertions.assertThat(manifest.snapshotFiles().files()).isNotEmpty();
   }
+
+  @Test
+  void shouldParseFileMetadataWithoutContentDigest() throws IOException {
+    // given
+    final var json = "{\"files\":{\"file\":{\"compressionAlgorithm\":\"zstd\"}}}";
+
+    // when
+    final var fileSet = S3BackupStore.MAPPER.readValue(json, FileSet.class);
+
+    // then
+    Assertions.assertThat(fileSet.files().get("file"))
+        .isEqualTo(FileMetadata.withCompression("zstd"));
+    Assertions.assertThat(fileSet.contentAddressedFiles()).isEmpty();
+  }
+
+  @Test
+  void shouldSerializeContentAddressedFileMetadata() throws IOException {
+    // given
+    final var metadata = FileMetadata.contentAddressed("abc", Optional.empty());
+    final var fileSet = new FileSet(Map.of("1.sst", metadata, "CURRENT", FileMetadata.none()));
+
+    // when
+    final var deserialized =
+        S3BackupStore.MAPPER.readValue(
+            S3BackupStore.MAPPER.writeValueAsBytes(fileSet), FileSet.class);
+
+    // then
+    Assertions.assertThat(deserialized).isEqualTo(fileSet);
+    Assertions.assertThat(deserialized.contentAddressedFiles()).containsExactly(metadata);
+  }
+
+  @Test
+  void shouldReferenceContentsOfFilesWithMetadata() {
+    // given
+    final var metadata = FileMetadata.contentAddressed("abc", Optional.of("zstd"));
+
+    // when
+    final var fileSet = FileSet.withMetadata(Set.of("1.sst", "CURRENT"), Map.of("1.sst", metadata));
+
+    // then
+    Assertions.assertThat(fileSet.files())
+        .containsExactlyInAnyOrderEntriesOf(
+            Map.of("1.sst", metadata, "CURRENT", FileMetadata.none()));
+    Assertions.assertThat(fileSet.contentAddressedFiles()).containsExactly(metadata);
+  }
 }
@@ -51,6 +51,7 @@ final class MinioBackupStoreIT implements S3BackupStoreTests {
 
   private S3AsyncClient client;
   private S3BackupStore store;
+  private S3BackupStore deduplicatingStore;
   private S3BackupConfig config;
 
   @BeforeAll
@@ -71,17 +72,19 @@ final class MinioBackupStoreIT implements S3BackupStoreTests {
   @BeforeEach
   void setup(final TestInfo testInfo) {
     final String basePath = RandomStringUtils.randomAlphabetic(10).toLowerCase();
-    config =
+    final var builder =
         new Builder()
             .withBucketName(BUCKET_NAME)
             .withBasePath(basePath)
             .withEndpoint("http://%s:%d".formatted(S3.getHost(), S3.getMappedPort(DEFAULT_PORT)))
             .withRegion(Region.US_EAST_1.id())
             .withCredentials(ACCESS_KEY, SECRET_KEY)
-            .forcePathStyleAccess(true)
-            .build();
+            .forcePathStyleAccess(true);
+    config = builder.build();
     client = S3BackupStore.buildClient(config);
     store = new S3BackupStore(config, client);
+    deduplicatingStore =
+        new S3BackupStore(builder.withDeduplicateSnapshotFiles(true).build(), client);
 
     LOG.info("{} is running with base path {}", testInfo.getDisplayName(), basePath);
   }
@@ -106,6 +109,11 @@ final class MinioBackupStoreIT implements S3BackupStoreTests {
     return store;
   }
 
+  @Override
+  public S3BackupStore getDeduplicatingStore() {
+    return deduplicatingStore;
+  }
+
   @Override
   public Class<? extends Exception> getFileNotFoundExceptionClass() {
     return NoSuchFileException.class;
@@ -15,10 +15,12 @@ import io.camunda.zeebe.backup.s3.S3BackupStoreException.ManifestParseException;
 import io.camunda.zeebe.backup.s3.manifest.CompletedBackupManifest;
 import io.camunda.zeebe.backup.s3.manifest.Manifest;
 import io.camunda.zeebe.backup.testkit.BackupStoreTestKit;
+import io.camunda.zeebe.backup.testkit.DeduplicatingSnapshotFiles;
 import io.camunda.zeebe.backup.testkit.support.TestBackupProvider;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.stream.Stream;
 import org.assertj.core.api.Assertions;
 import org.awaitility.Awaitility;
@@ -30,7 +32,7 @@ import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Object;
 
-public interface S3BackupStoreTests extends BackupStoreTestKit {
+public interface S3BackupStoreTests extends BackupStoreTestKit, DeduplicatingSnapshotFiles {
 
   S3AsyncClient getClient();
 
@@ -39,6 +41,42 @@ public interface S3BackupStoreTests extends BackupStoreTestKit {
   @Override
   S3BackupStore getStore();
 
+  @Override
+  S3BackupStore getDeduplicatingStore();
+
+  @Override
+  default Collection<String> listContentObjects(final int partitionId) {
+    return getClient()
+        .listObjectsV2(
+            req ->
+                req.bucket(getConfig().bucketName())
+                    .prefix(getDeduplicatingStore().contentPrefix(partitionId)))
+        .join()
+        .contents()
+        .stream()
+        .map(S3Object::key)
+        .toList();
+  }
+
+  @Override
+  default byte[] readContentObject(final String key) {
+    return getClient()
+        .getObject(
+            req -> req.bucket(getConfig().bucketName()).key(key),
+            AsyncResponseTransformer.toBytes())
+        .join()
+        .asByteArray();
+  }
+
+  @Override
+  default void writeContentObject(final String key, final byte[] content) {
+    getClient()
+        .putObject(
+            req -> req.bucket(getConfig().bucketName()).key(key),
+            AsyncRequestBody.fromBytes(content))
+        .join();
+  }
+
   @Override
   default Class<? extends Exception> getBackupInInvalidStateExceptionClass() {
     return BackupInInvalidStateException.class;
@@ -0,0 +1,171 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.testkit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupDescriptorImpl;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.common.ContentAddressedFiles;
+import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import io.camunda.zeebe.backup.testkit.support.BackupAssert;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for stores which store immutable snapshot files once per partition under their content
+ * digest, see {@link ContentAddressedFiles}. The content objects are inspected through the store
+ * specific methods of this interface.
+ */
+public interface DeduplicatingSnapshotFiles {
+  int PARTITION_ID = 2;
+
+  /**
+   * @return a store which deduplicates snapshot files
+   */
+  BackupStore getDeduplicatingStore();
+
+  /**
+   * @return the keys of all content objects which are stored for the given partition
+   */
+  Collection<String> listContentObjects(int partitionId);
+
+  byte[] readContentObject(String key);
+
+  void writeContentObject(String key, byte[] content);
+
+  @Test
+  default void savesSharedSnapshotFileOnce() throws IOException {
+    // given
+    final var sharedContent = RandomUtils.nextBytes(1024);
+    final var first = backupWithSnapshotFiles(3, Map.of("000001.sst", sharedContent));
+    final var second =
+        backupWithSnapshotFiles(
+            4, Map.of("000001.sst", sharedContent, "000002.sst", RandomUtils.nextBytes(1024)));
+
+    // when
+    getDeduplicatingStore().save(first).join();
+    getDeduplicatingStore().save(second).join();
+
+    // then -- the shared file is stored once, and files other than SST files are not shared
+    final var sharedDigest =
+        ContentAddressedFiles.digest(first.snapshot().namedFiles().get("000001.sst"));
+    assertThat(listContentObjects(PARTITION_ID))
+        .hasSize(2)
+        .anySatisfy(key -> assertThat(key).contains(sharedDigest));
+  }
+
+  @Test
+  default void skipsSnapshotFileWhoseContentIsStored() throws IOException {
+    // given
+    final var sharedContent = RandomUtils.nextBytes(1024);
+    final var first = backupWithSnapshotFiles(3, Map.of("000001.sst", sharedContent));
+    final var second = backupWithSnapshotFiles(4, Map.of("000001.sst", sharedContent));
+    getDeduplicatingStore().save(first).join();
+    final var contentKey = listContentObjects(PARTITION_ID).iterator().next();
+    final var marker = "not uploaded again".getBytes(StandardCharsets.UTF_8);
+    writeContentObject(contentKey, marker);
+
+    // when
+    getDeduplicatingStore().save(second).join();
+
+    // then
+    assertThat(listContentObjects(PARTITION_ID)).containsExactly(contentKey);
+    assertThat(readContentObject(contentKey)).isEqualTo(marker);
+  }
+
+  @Test
+  default void restoresSnapshotFilesFromSharedContent(@TempDir final Path targetDir)
+      throws IOException {
+    // given
+    final var sharedContent = RandomUtils.nextBytes(1024);
+    final var first = backupWithSnapshotFiles(3, Map.of("000001.sst", sharedContent));
+    final var second = backupWithSnapshotFiles(4, Map.of("000001.sst", sharedContent));
+    getDeduplicatingStore().save(first).join();
+    getDeduplicatingStore().save(second).join();
+
+    // when
+    final var restored = getDeduplicatingStore().restore(second.id(), targetDir).join();
+
+    // then
+    BackupAssert.assertThatBackup(restored).hasSameContentsAs(second).residesInPath(targetDir);
+  }
+
+  @Test
+  default void keepsContentsReferencedByOtherBackupsWhenDeleting(@TempDir final Path targetDir)
+      throws IOException {
+    // given
+    final var sharedContent = RandomUtils.nextBytes(1024);
+    final var first =
+        backupWithSnapshotFiles(
+            3, Map.of("000001.sst", sharedContent, "000002.sst", RandomUtils.nextBytes(1024)));
+    final var second = backupWithSnapshotFiles(4, Map.of("000001.sst", sharedContent));
+    getDeduplicatingStore().save(first).join();
+    getDeduplicatingStore().save(second).join();
+    final var sharedDigest =
+        ContentAddressedFiles.digest(second.snapshot().namedFiles().get("000001.sst"));
+
+    // when
+    getDeduplicatingStore().delete(first.id()).join();
+
+    // then -- only the content which the deleted backup referenced alone is gone
+    assertThat(listContentObjects(PARTITION_ID))
+        .singleElement()
+        .satisfies(key -> assertThat(key).contains(sharedDigest));
+    final var restored = getDeduplicatingStore().restore(second.id(), targetDir).join();
+    BackupAssert.assertThatBackup(restored).hasSameContentsAs(second);
+  }
+
+  @Test
+  default void deletesContentsOfLastReferencingBackup() throws IOException {
+    // given
+    final var sharedContent = RandomUtils.nextBytes(1024);
+    final var first = backupWithSnapshotFiles(3, Map.of("000001.sst", sharedContent));
+    final var second = backupWithSnapshotFiles(4, Map.of("000001.sst", sharedContent));
+    getDeduplicatingStore().save(first).join();
+    getDeduplicatingStore().save(second).join();
+
+    // when
+    getDeduplicatingStore().delete(first.id()).join();
+    getDeduplicatingStore().delete(second.id()).join();
+
+    // then
+    assertThat(listContentObjects(PARTITION_ID)).isEmpty();
+  }
+
+  private static Backup backupWithSnapshotFiles(
+      final long checkpointId, final Map<String, byte[]> sstFiles) throws IOException {
+    final var tempDir = Files.createTempDirectory("backup");
+    final var snapshotFiles = new HashMap<String, Path>();
+    for (final var sstFile : sstFiles.entrySet()) {
+      snapshotFiles.put(
+          sstFile.getKey(), Files.write(tempDir.resolve(sstFile.getKey()), sstFile.getValue()));
+    }
+    snapshotFiles.put(
+        "CURRENT", Files.write(tempDir.resolve("CURRENT"), RandomUtils.nextBytes(16)));
+    final var segment = Files.write(tempDir.resolve("segment-file-1"), RandomUtils.nextBytes(1024));
+
+    return new BackupImpl(
+        new BackupIdentifierImpl(1, PARTITION_ID, checkpointId),
+        new BackupDescriptorImpl(Optional.of("test-snapshot-id"), 4, 5, "test"),
+        new NamedFileSetImpl(snapshotFiles),
+        new NamedFileSetImpl(Map.of("segment-file-1", segment)));
+  }
+}
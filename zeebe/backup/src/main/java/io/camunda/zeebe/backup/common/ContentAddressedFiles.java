@@ -0,0 +1,83 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.common;
+
+import io.camunda.zeebe.backup.api.NamedFileSet;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * Helpers for backup stores which store immutable snapshot files only once, under a key derived
+ * from their content, and let the manifest of each backup reference them.
+ *
+ * <p>RocksDB never modifies an SST file after it was written, and consecutive snapshots of a
+ * partition share most of them, so these are the only files which are deduplicated. Other snapshot
+ * files (e.g. the manifest or options files) and log segments are small or change between backups.
+ */
+public final class ContentAddressedFiles {
+
+  private static final String SST_FILE_SUFFIX = ".sst";
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private ContentAddressedFiles() {}
+
+  /**
+   * @return true if the file with the given name is immutable, and can be stored by its content
+   */
+  public static boolean isContentAddressable(final String fileName) {
+    return fileName.endsWith(SST_FILE_SUFFIX);
+  }
+
+  /**
+   * @return the hex encoded SHA-256 digest of the file's content
+   * @throws UncheckedIOException if the file can't be read
+   */
+  public static String digest(final Path file) {
+    final MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+    } catch (final NoSuchAlgorithmException e) {
+      // every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+
+    try (final InputStream input = Files.newInputStream(file)) {
+      final byte[] buffer = new byte[BUFFER_SIZE];
+      int read;
+      while ((read = input.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /**
+   * @return the digests of all content addressable files of the given file set, by file name
+   */
+  public static Map<String, String> digests(final NamedFileSet fileSet) {
+    final var digests = new HashMap<String, String>();
+    for (final var namedFile : fileSet.namedFiles().entrySet()) {
+      if (isContentAddressable(namedFile.getKey())) {
+        digests.put(namedFile.getKey(), digest(namedFile.getValue()));
+      }
+    }
+    return digests;
+  }
+}
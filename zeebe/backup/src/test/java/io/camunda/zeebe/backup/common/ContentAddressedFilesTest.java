@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class ContentAddressedFilesTest {
+
+  @TempDir Path directory;
+
+  @Test
+  void shouldOnlyAddressSstFilesByContent() {
+    assertThat(ContentAddressedFiles.isContentAddressable("000042.sst")).isTrue();
+    assertThat(ContentAddressedFiles.isContentAddressable("MANIFEST-000005")).isFalse();
+    assertThat(ContentAddressedFiles.isContentAddressable("CURRENT")).isFalse();
+    assertThat(ContentAddressedFiles.isContentAddressable("1.log")).isFalse();
+  }
+
+  @Test
+  void shouldComputeSha256Digest() throws IOException {
+    // given
+    final var file = Files.writeString(directory.resolve("file"), "abc");
+
+    // when
+    final var digest = ContentAddressedFiles.digest(file);
+
+    // then
+    assertThat(digest)
+        .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+  }
+
+  @Test
+  void shouldComputeSameDigestForSameContent() throws IOException {
+    // given
+    final var first = Files.writeString(directory.resolve("1.sst"), "content");
+    final var second = Files.writeString(directory.resolve("2.sst"), "content");
+    final var other = Files.writeString(directory.resolve("3.sst"), "other content");
+
+    // when
+    final var digests =
+        ContentAddressedFiles.digests(
+            new NamedFileSetImpl(Map.of("1.sst", first, "2.sst", second, "3.sst", other)));
+
+    // then
+    assertThat(digests.get("1.sst")).isEqualTo(digests.get("2.sst"));
+    assertThat(digests.get("3.sst")).isNotEqualTo(digests.get("1.sst"));
+  }
+
+  @Test
+  void shouldOnlyComputeDigestsOfContentAddressableFiles() throws IOException {
+    // given
+    final var sst = Files.writeString(directory.resolve("1.sst"), "content");
+    final var manifest = Files.writeString(directory.resolve("MANIFEST-000001"), "content");
+
+    // when
+    final var digests =
+        ContentAddressedFiles.digests(
+            new NamedFileSetImpl(Map.of("1.sst", sst, "MANIFEST-000001", manifest)));
+
+    // then
+    assertThat(digests).containsOnlyKeys("1.sst");
+  }
+}
@@ -78,6 +78,10 @@ public final class ClusterConfigFactory {
     final var messaging =
         new MessagingConfig()
             .setCompressionAlgorithm(cluster.getMessageCompression())
+            .setSubjectCompressionAlgorithm(cluster.getMessageSubjectCompression())
+            .setCompressedSubjects(cluster.getMessageCompressionSubjects())
+            .setCompressionThreshold((int) cluster.getMessageCompressionThreshold().toBytes())
+            .setMaxMessageSize((int) network.getMaxMessageSizeInBytes())
             .setInterfaces(Collections.singletonList(network.getInternalApi().getHost()))
             .setPort(network.getInternalApi().getPort())
             .setSocketReceiveBuffer((int) network.getSocketReceiveBuffer().toBytes())
@@ -12,6 +12,7 @@ import io.atomix.raft.partition.RaftPartition;
 import io.atomix.raft.partition.RaftPartitionConfig;
 import io.atomix.raft.partition.RaftStorageConfig;
 import io.atomix.raft.storage.log.DelayedFlusher;
+import io.atomix.raft.storage.log.GroupCommitFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.raft.ZeebeEntryValidator;
@@ -79,6 +80,12 @@ public final class RaftPartitionFactory {
     storageConfig.setJournalIndexDensity(brokerCfg.getData().getLogIndexDensity());
     storageConfig.setPreallocateSegmentFiles(
         brokerCfg.getExperimental().getRaft().isPreallocateSegmentFiles());
+    storageConfig.setCompressSealedSegments(
+        brokerCfg.getExperimental().getRaft().isCompressSealedSegments());
+    storageConfig.setGroupCommitWindow(
+        brokerCfg.getExperimental().getRaft().getGroupCommitWindow());
+    storageConfig.setGroupCommitMaxBytes(
+        brokerCfg.getExperimental().getRaft().getGroupCommitMaxSize().toBytes());
 
     partitionConfig.setStorageConfig(storageConfig);
     partitionConfig.setEntryValidator(new ZeebeEntryValidator());
@@ -103,6 +110,14 @@ public final class RaftPartitionFactory {
         brokerCfg.getExperimental().getRaft().getMinStepDownFailureCount());
     partitionConfig.setPreferSnapshotReplicationThreshold(
         brokerCfg.getExperimental().getRaft().getPreferSnapshotReplicationThreshold());
+    partitionConfig.setMaxSnapshotChunksInFlight(
+        brokerCfg.getExperimental().getRaft().getMaxSnapshotChunksInFlight());
+    partitionConfig.setFollowerFlushWindow(
+        brokerCfg.getExperimental().getRaft().getFollowerFlushWindow());
+    partitionConfig.setLeaderLeaseEnabled(
+        brokerCfg.getExperimental().getRaft().isLeaderLeaseEnabled());
+    partitionConfig.setLeaderLeaseClockDrift(
+        brokerCfg.getExperimental().getRaft().getLeaderLeaseClockDrift());
 
     return new RaftPartition(partitionMetadata, partitionConfig, partitionDirectory.toFile());
   }
@@ -111,19 +126,25 @@ public final class RaftPartitionFactory {
       final FlushConfig config, final ExperimentalCfg experimental) {
     // for backwards compatibility; remove this and flatten when this is removed
     if (experimental.isDisableExplicitRaftFlush()) {
-      return createFlusherFactory(new FlushConfig(false, Duration.ZERO));
+      return createFlusherFactory(new FlushConfig(false, Duration.ZERO), Duration.ZERO);
     }
 
-    return createFlusherFactory(config);
+    return createFlusherFactory(config, experimental.getRaft().getGroupCommitWindow());
   }
 
-  private RaftLogFlusher.Factory createFlusherFactory(final FlushConfig config) {
+  private RaftLogFlusher.Factory createFlusherFactory(
+      final FlushConfig config, final Duration groupCommitWindow) {
     if (config.enabled()) {
       final Duration delayTime = config.delayTime();
-      if (delayTime.isZero()) {
+      if (delayTime.isZero() && groupCommitWindow.isZero()) {
         return RaftLogFlusher.Factory::direct;
       }
 
+      if (delayTime.isZero()) {
+        return threadFactory ->
+            new GroupCommitFlusher(threadFactory.createContext(), groupCommitWindow);
+      }
+
       return threadFactory -> new DelayedFlusher(threadFactory.createContext(), delayTime);
     }
 
@@ -54,6 +54,8 @@ public final class SystemContext {
       "Snapshot period %s needs to be larger then or equals to one minute.";
   private static final String MAX_BATCH_SIZE_ERROR_MSG =
       "Expected to have an append batch size maximum which is non negative and smaller then '%d', but was '%s'.";
+  private static final String LEADER_LEASE_CLOCK_DRIFT_ERROR_MSG =
+      "Expected to have a leader lease clock drift which is positive and smaller than the election timeout '%s', but was '%s'.";
 
   private final Duration shutdownTimeout;
   private final BrokerCfg brokerCfg;
@@ -181,6 +183,15 @@ public final class SystemContext {
           String.format(MAX_BATCH_SIZE_ERROR_MSG, Integer.MAX_VALUE, maxAppendBatchSize));
     }
 
+    final var raft = experimental.getRaft();
+    final var clockDrift = raft.getLeaderLeaseClockDrift();
+    if (raft.isLeaderLeaseEnabled()
+        && (!clockDrift.isPositive() || clockDrift.compareTo(cluster.getElectionTimeout()) >= 0)) {
+      throw new IllegalArgumentException(
+          String.format(
+              LEADER_LEASE_CLOCK_DRIFT_ERROR_MSG, cluster.getElectionTimeout(), clockDrift));
+    }
+
     final var partitioningConfig = experimental.getPartitioning();
     if (partitioningConfig.getScheme() == Scheme.FIXED) {
       validateFixedPartitioningScheme(cluster, experimental);
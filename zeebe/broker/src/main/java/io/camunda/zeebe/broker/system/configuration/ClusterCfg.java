@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import org.springframework.util.unit.DataSize;
 
 public final class ClusterCfg implements ConfigurationEntry {
 
@@ -41,6 +42,7 @@ public final class ClusterCfg implements ConfigurationEntry {
           + " quorum = {}. If you want to ensure high fault-tolerance and availability,"
           + " make sure to use an odd replication factor.";
   private static final Duration DEFAULT_HEARTBEAT_INTERVAL = Duration.ofMillis(250);
+  private static final DataSize DEFAULT_MESSAGE_COMPRESSION_THRESHOLD = DataSize.ofKilobytes(1);
 
   private List<String> initialContactPoints = DEFAULT_CONTACT_POINTS;
 
@@ -55,6 +57,9 @@ public final class ClusterCfg implements ConfigurationEntry {
   private MembershipCfg membership = new MembershipCfg();
   private RaftCfg raft = new RaftCfg();
   private CompressionAlgorithm messageCompression = CompressionAlgorithm.NONE;
+  private CompressionAlgorithm messageSubjectCompression = CompressionAlgorithm.SNAPPY;
+  private List<String> messageCompressionSubjects = Collections.emptyList();
+  private DataSize messageCompressionThreshold = DEFAULT_MESSAGE_COMPRESSION_THRESHOLD;
   private ConfigManagerCfg configManager = ConfigManagerCfg.defaultConfig();
 
   @Override
@@ -193,6 +198,30 @@ public final class ClusterCfg implements ConfigurationEntry {
     this.messageCompression = messageCompression;
   }
 
+  public CompressionAlgorithm getMessageSubjectCompression() {
+    return messageSubjectCompression;
+  }
+
+  public void setMessageSubjectCompression(final CompressionAlgorithm messageSubjectCompression) {
+    this.messageSubjectCompression = messageSubjectCompression;
+  }
+
+  public List<String> getMessageCompressionSubjects() {
+    return messageCompressionSubjects;
+  }
+
+  public void setMessageCompressionSubjects(final List<String> messageCompressionSubjects) {
+    this.messageCompressionSubjects = messageCompressionSubjects;
+  }
+
+  public DataSize getMessageCompressionThreshold() {
+    return messageCompressionThreshold;
+  }
+
+  public void setMessageCompressionThreshold(final DataSize messageCompressionThreshold) {
+    this.messageCompressionThreshold = messageCompressionThreshold;
+  }
+
   public ConfigManagerCfg getConfigManager() {
     return configManager;
   }
@@ -216,6 +245,9 @@ public final class ClusterCfg implements ConfigurationEntry {
         membership,
         raft,
         messageCompression,
+        messageSubjectCompression,
+        messageCompressionSubjects,
+        messageCompressionThreshold,
         configManager);
   }
 
@@ -240,6 +272,9 @@ public final class ClusterCfg implements ConfigurationEntry {
         && Objects.equals(membership, that.membership)
         && Objects.equals(raft, that.raft)
         && messageCompression == that.messageCompression
+        && messageSubjectCompression == that.messageSubjectCompression
+        && Objects.equals(messageCompressionSubjects, that.messageCompressionSubjects)
+        && Objects.equals(messageCompressionThreshold, that.messageCompressionThreshold)
         && Objects.equals(configManager, that.configManager);
   }
 
@@ -271,6 +306,12 @@ public final class ClusterCfg implements ConfigurationEntry {
         + raft
         + ", messageCompression="
         + messageCompression
+        + ", messageSubjectCompression="
+        + messageSubjectCompression
+        + ", messageCompressionSubjects="
+        + messageCompressionSubjects
+        + ", messageCompressionThreshold="
+        + messageCompressionThreshold
         + ", configManagerCfg="
         + configManager
         + '}';
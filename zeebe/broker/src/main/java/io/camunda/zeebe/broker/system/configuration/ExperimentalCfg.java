@@ -22,10 +22,12 @@ public class ExperimentalCfg implements ConfigurationEntry {
   public static final int DEFAULT_MAX_APPENDS_PER_FOLLOWER = 6;
   public static final DataSize DEFAULT_MAX_APPEND_BATCH_SIZE = DataSize.ofKilobytes(32);
   public static final boolean DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH = false;
+  public static final boolean DEFAULT_LOCK_FREE_SEQUENCER = false;
 
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
   private DataSize maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
   private boolean disableExplicitRaftFlush = DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH;
+  private boolean lockFreeSequencer = DEFAULT_LOCK_FREE_SEQUENCER;
   private RocksdbCfg rocksdb = new RocksdbCfg();
   private ExperimentalRaftCfg raft = new ExperimentalRaftCfg();
   private PartitioningCfg partitioning = new PartitioningCfg();
@@ -81,6 +83,14 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.disableExplicitRaftFlush = disableExplicitRaftFlush;
   }
 
+  public boolean isLockFreeSequencer() {
+    return lockFreeSequencer;
+  }
+
+  public void setLockFreeSequencer(final boolean lockFreeSequencer) {
+    this.lockFreeSequencer = lockFreeSequencer;
+  }
+
   public RocksdbCfg getRocksdb() {
     return rocksdb;
   }
@@ -146,6 +156,8 @@ public class ExperimentalCfg implements ConfigurationEntry {
         + maxAppendBatchSize
         + ", disableExplicitRaftFlush="
         + disableExplicitRaftFlush
+        + ", lockFreeSequencer="
+        + lockFreeSequencer
         + ", rocksdb="
         + rocksdb
         + ", partitioning="
@@ -24,6 +24,13 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final int DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final int DEFAULT_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT = 1;
+  private static final Duration DEFAULT_FOLLOWER_FLUSH_WINDOW = Duration.ZERO;
+  private static final boolean DEFAULT_LEADER_LEASE_ENABLED = false;
+  private static final Duration DEFAULT_LEADER_LEASE_CLOCK_DRIFT = Duration.ofMillis(250);
+  private static final boolean DEFAULT_COMPRESS_SEALED_SEGMENTS = false;
+  private static final Duration DEFAULT_GROUP_COMMIT_WINDOW = Duration.ZERO;
+  private static final DataSize DEFAULT_GROUP_COMMIT_MAX_SIZE = DataSize.ofMegabytes(4);
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
   private DataSize snapshotChunkSize = DEFAULT_SNAPSHOT_CHUNK_SIZE;
@@ -31,8 +38,15 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private Duration maxQuorumResponseTimeout = DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT;
   private int minStepDownFailureCount = DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT;
   private int preferSnapshotReplicationThreshold = DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD;
+  private int maxSnapshotChunksInFlight = DEFAULT_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT;
+  private Duration followerFlushWindow = DEFAULT_FOLLOWER_FLUSH_WINDOW;
+  private boolean leaderLeaseEnabled = DEFAULT_LEADER_LEASE_ENABLED;
+  private Duration leaderLeaseClockDrift = DEFAULT_LEADER_LEASE_CLOCK_DRIFT;
 
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean compressSealedSegments = DEFAULT_COMPRESS_SEALED_SEGMENTS;
+  private Duration groupCommitWindow = DEFAULT_GROUP_COMMIT_WINDOW;
+  private DataSize groupCommitMaxSize = DEFAULT_GROUP_COMMIT_MAX_SIZE;
 
   public Duration getRequestTimeout() {
     return requestTimeout;
@@ -90,6 +104,38 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
     this.preferSnapshotReplicationThreshold = preferSnapshotReplicationThreshold;
   }
 
+  public int getMaxSnapshotChunksInFlight() {
+    return maxSnapshotChunksInFlight;
+  }
+
+  public void setMaxSnapshotChunksInFlight(final int maxSnapshotChunksInFlight) {
+    this.maxSnapshotChunksInFlight = maxSnapshotChunksInFlight;
+  }
+
+  public Duration getFollowerFlushWindow() {
+    return followerFlushWindow;
+  }
+
+  public void setFollowerFlushWindow(final Duration followerFlushWindow) {
+    this.followerFlushWindow = followerFlushWindow;
+  }
+
+  public boolean isLeaderLeaseEnabled() {
+    return leaderLeaseEnabled;
+  }
+
+  public void setLeaderLeaseEnabled(final boolean leaderLeaseEnabled) {
+    this.leaderLeaseEnabled = leaderLeaseEnabled;
+  }
+
+  public Duration getLeaderLeaseClockDrift() {
+    return leaderLeaseClockDrift;
+  }
+
+  public void setLeaderLeaseClockDrift(final Duration leaderLeaseClockDrift) {
+    this.leaderLeaseClockDrift = leaderLeaseClockDrift;
+  }
+
   public boolean isPreallocateSegmentFiles() {
     return preallocateSegmentFiles;
   }
@@ -97,4 +143,28 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   public void setPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
+
+  public boolean isCompressSealedSegments() {
+    return compressSealedSegments;
+  }
+
+  public void setCompressSealedSegments(final boolean compressSealedSegments) {
+    this.compressSealedSegments = compressSealedSegments;
+  }
+
+  public Duration getGroupCommitWindow() {
+    return groupCommitWindow;
+  }
+
+  public void setGroupCommitWindow(final Duration groupCommitWindow) {
+    this.groupCommitWindow = groupCommitWindow;
+  }
+
+  public DataSize getGroupCommitMaxSize() {
+    return groupCommitMaxSize;
+  }
+
+  public void setGroupCommitMaxSize(final DataSize groupCommitMaxSize) {
+    this.groupCommitMaxSize = groupCommitMaxSize;
+  }
 }
@@ -9,11 +9,20 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import java.time.Duration;
 import java.util.Set;
+import org.springframework.util.unit.DataSize;
 
 public final class ProcessingCfg implements ConfigurationEntry {
 
   private static final int DEFAULT_PROCESSING_BATCH_LIMIT = 100;
+  private static final Duration DEFAULT_ADAPTIVE_BATCHING_TARGET_LATENCY = Duration.ofMillis(10);
+  private static final DataSize DEFAULT_ADAPTIVE_BATCHING_TARGET_SIZE = DataSize.ofMegabytes(1);
+  private static final int DEFAULT_MAX_PIPELINED_BATCHES = 8;
   private Integer maxCommandsInBatch = DEFAULT_PROCESSING_BATCH_LIMIT;
+  private boolean enableAdaptiveBatching = false;
+  private Duration adaptiveBatchingTargetLatency = DEFAULT_ADAPTIVE_BATCHING_TARGET_LATENCY;
+  private DataSize adaptiveBatchingTargetSize = DEFAULT_ADAPTIVE_BATCHING_TARGET_SIZE;
+  private boolean enablePipelinedProcessing = false;
+  private int maxPipelinedBatches = DEFAULT_MAX_PIPELINED_BATCHES;
   private boolean enableAsyncScheduledTasks = true;
   private Duration scheduledTaskCheckInterval = Duration.ofSeconds(1);
   private Set<Long> skipPositions;
@@ -29,6 +38,20 @@ public final class ProcessingCfg implements ConfigurationEntry {
           "scheduledTaskCheckInterval must be positive but was %s"
               .formatted(scheduledTaskCheckInterval));
     }
+    if (!adaptiveBatchingTargetLatency.isPositive()) {
+      throw new IllegalArgumentException(
+          "adaptiveBatchingTargetLatency must be positive but was %s"
+              .formatted(adaptiveBatchingTargetLatency));
+    }
+    if (adaptiveBatchingTargetSize.toBytes() < 1) {
+      throw new IllegalArgumentException(
+          "adaptiveBatchingTargetSize must be positive but was %s"
+              .formatted(adaptiveBatchingTargetSize));
+    }
+    if (maxPipelinedBatches < 1) {
+      throw new IllegalArgumentException(
+          "maxPipelinedBatches must be >= 1 but was %s".formatted(maxPipelinedBatches));
+    }
   }
 
   public int getMaxCommandsInBatch() {
@@ -39,6 +62,46 @@ public final class ProcessingCfg implements ConfigurationEntry {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public boolean isEnableAdaptiveBatching() {
+    return enableAdaptiveBatching;
+  }
+
+  public void setEnableAdaptiveBatching(final boolean enableAdaptiveBatching) {
+    this.enableAdaptiveBatching = enableAdaptiveBatching;
+  }
+
+  public Duration getAdaptiveBatchingTargetLatency() {
+    return adaptiveBatchingTargetLatency;
+  }
+
+  public void setAdaptiveBatchingTargetLatency(final Duration adaptiveBatchingTargetLatency) {
+    this.adaptiveBatchingTargetLatency = adaptiveBatchingTargetLatency;
+  }
+
+  public DataSize getAdaptiveBatchingTargetSize() {
+    return adaptiveBatchingTargetSize;
+  }
+
+  public void setAdaptiveBatchingTargetSize(final DataSize adaptiveBatchingTargetSize) {
+    this.adaptiveBatchingTargetSize = adaptiveBatchingTargetSize;
+  }
+
+  public boolean isEnablePipelinedProcessing() {
+    return enablePipelinedProcessing;
+  }
+
+  public void setEnablePipelinedProcessing(final boolean enablePipelinedProcessing) {
+    this.enablePipelinedProcessing = enablePipelinedProcessing;
+  }
+
+  public int getMaxPipelinedBatches() {
+    return maxPipelinedBatches;
+  }
+
+  public void setMaxPipelinedBatches(final int maxPipelinedBatches) {
+    this.maxPipelinedBatches = maxPipelinedBatches;
+  }
+
   public boolean isEnableAsyncScheduledTasks() {
     return enableAsyncScheduledTasks;
   }
@@ -60,6 +123,16 @@ public final class ProcessingCfg implements ConfigurationEntry {
     return "ProcessingCfg{"
         + "maxCommandsInBatch="
         + maxCommandsInBatch
+        + ", enableAdaptiveBatching="
+        + enableAdaptiveBatching
+        + ", adaptiveBatchingTargetLatency="
+        + adaptiveBatchingTargetLatency
+        + ", adaptiveBatchingTargetSize="
+        + adaptiveBatchingTargetSize
+        + ", enablePipelinedProcessing="
+        + enablePipelinedProcessing
+        + ", maxPipelinedBatches="
+        + maxPipelinedBatches
         + ", enableAsyncScheduledTasks="
         + enableAsyncScheduledTasks
         + ", scheduledTaskCheckInterval="
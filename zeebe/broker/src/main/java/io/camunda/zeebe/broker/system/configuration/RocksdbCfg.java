@@ -9,6 +9,8 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
@@ -28,6 +30,11 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private boolean enableNativeColumnFamilies =
+      RocksDbConfiguration.DEFAULT_NATIVE_COLUMN_FAMILIES_ENABLED;
+  private Map<String, String> columnFamilyGroups = new HashMap<>();
+  private int transactionCacheSize = RocksDbConfiguration.DEFAULT_TRANSACTION_CACHE_SIZE;
+  private Map<String, Properties> nativeColumnFamilyOptions = new HashMap<>();
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -39,6 +46,11 @@ public final class RocksdbCfg implements ConfigurationEntry {
       // we must do some transformations on the entries of this properties object.
       columnFamilyOptions = initColumnFamilyOptions(columnFamilyOptions);
     }
+
+    final var initializedNativeOptions = new HashMap<String, Properties>();
+    nativeColumnFamilyOptions.forEach(
+        (name, options) -> initializedNativeOptions.put(name, initColumnFamilyOptions(options)));
+    nativeColumnFamilyOptions = initializedNativeOptions;
   }
 
   private static Properties initColumnFamilyOptions(final Properties original) {
@@ -121,6 +133,39 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public boolean isEnableNativeColumnFamilies() {
+    return enableNativeColumnFamilies;
+  }
+
+  public void setEnableNativeColumnFamilies(final boolean enableNativeColumnFamilies) {
+    this.enableNativeColumnFamilies = enableNativeColumnFamilies;
+  }
+
+  public int getTransactionCacheSize() {
+    return transactionCacheSize;
+  }
+
+  public void setTransactionCacheSize(final int transactionCacheSize) {
+    this.transactionCacheSize = transactionCacheSize;
+  }
+
+  public Map<String, String> getColumnFamilyGroups() {
+    return columnFamilyGroups;
+  }
+
+  public void setColumnFamilyGroups(final Map<String, String> columnFamilyGroups) {
+    this.columnFamilyGroups = columnFamilyGroups;
+  }
+
+  public Map<String, Properties> getNativeColumnFamilyOptions() {
+    return nativeColumnFamilyOptions;
+  }
+
+  public void setNativeColumnFamilyOptions(
+      final Map<String, Properties> nativeColumnFamilyOptions) {
+    this.nativeColumnFamilyOptions = nativeColumnFamilyOptions;
+  }
+
   public AccessMetricsConfiguration.Kind getAccessMetrics() {
     return accessMetrics;
   }
@@ -139,7 +184,11 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setNativeColumnFamiliesEnabled(enableNativeColumnFamilies)
+        .setColumnFamilyGroups(columnFamilyGroups)
+        .setNativeColumnFamilyOptions(nativeColumnFamilyOptions)
+        .setTransactionCacheSize(transactionCacheSize);
   }
 
   @Override
@@ -165,6 +214,14 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", enableNativeColumnFamilies="
+        + enableNativeColumnFamilies
+        + ", columnFamilyGroups="
+        + columnFamilyGroups
+        + ", nativeColumnFamilyOptions="
+        + nativeColumnFamilyOptions
+        + ", transactionCacheSize="
+        + transactionCacheSize
         + '}';
   }
 
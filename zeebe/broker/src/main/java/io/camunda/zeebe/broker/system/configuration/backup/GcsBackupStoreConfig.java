@@ -16,6 +16,7 @@ public class GcsBackupStoreConfig implements ConfigurationEntry {
   private String basePath;
   private String host;
   private GcsBackupStoreAuth auth = GcsBackupStoreAuth.AUTO;
+  private boolean deduplicateSnapshotFiles = false;
 
   public String getBucketName() {
     return bucketName;
@@ -49,12 +50,21 @@ public class GcsBackupStoreConfig implements ConfigurationEntry {
     this.auth = auth;
   }
 
+  public boolean isDeduplicateSnapshotFiles() {
+    return deduplicateSnapshotFiles;
+  }
+
+  public void setDeduplicateSnapshotFiles(final boolean deduplicateSnapshotFiles) {
+    this.deduplicateSnapshotFiles = deduplicateSnapshotFiles;
+  }
+
   public static GcsBackupConfig toStoreConfig(GcsBackupStoreConfig config) {
     final var storeConfig =
         new GcsBackupConfig.Builder()
             .withBucketName(config.getBucketName())
             .withBasePath(config.getBasePath())
-            .withHost(config.getHost());
+            .withHost(config.getHost())
+            .withDeduplicateSnapshotFiles(config.isDeduplicateSnapshotFiles());
     final var authenticated =
         switch (config.getAuth()) {
           case NONE -> storeConfig.withoutAuthentication();
@@ -75,12 +85,13 @@ public class GcsBackupStoreConfig implements ConfigurationEntry {
     return Objects.equals(bucketName, that.bucketName)
         && Objects.equals(basePath, that.basePath)
         && Objects.equals(host, that.host)
-        && auth == that.auth;
+        && auth == that.auth
+        && deduplicateSnapshotFiles == that.deduplicateSnapshotFiles;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(bucketName, basePath, host, auth);
+    return Objects.hash(bucketName, basePath, host, auth, deduplicateSnapshotFiles);
   }
 
   @Override
@@ -97,6 +108,8 @@ public class GcsBackupStoreConfig implements ConfigurationEntry {
         + '\''
         + ", auth="
         + auth
+        + ", deduplicateSnapshotFiles="
+        + deduplicateSnapshotFiles
         + '}';
   }
 
@@ -25,6 +25,7 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
   private String compression;
 
   private String basePath;
+  private boolean deduplicateSnapshotFiles = false;
 
   public String getBucketName() {
     return bucketName;
@@ -102,6 +103,14 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
     return basePath;
   }
 
+  public boolean isDeduplicateSnapshotFiles() {
+    return deduplicateSnapshotFiles;
+  }
+
+  public void setDeduplicateSnapshotFiles(final boolean deduplicateSnapshotFiles) {
+    this.deduplicateSnapshotFiles = deduplicateSnapshotFiles;
+  }
+
   public static S3BackupConfig toStoreConfig(S3BackupStoreConfig config) {
     final var builder =
         new Builder()
@@ -111,7 +120,8 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
             .withApiCallTimeout(config.getApiCallTimeout())
             .forcePathStyleAccess(config.isForcePathStyleAccess())
             .withCompressionAlgorithm(config.getCompression())
-            .withBasePath(config.getBasePath());
+            .withBasePath(config.getBasePath())
+            .withDeduplicateSnapshotFiles(config.isDeduplicateSnapshotFiles());
     if (config.getAccessKey() != null && config.getSecretKey() != null) {
       builder.withCredentials(config.getAccessKey(), config.getSecretKey());
     }
@@ -129,6 +139,7 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
     result = 31 * result + (forcePathStyleAccess ? 1 : 0);
     result = 31 * result + (compression != null ? compression.hashCode() : 0);
     result = 31 * result + (basePath != null ? basePath.hashCode() : 0);
+    result = 31 * result + (deduplicateSnapshotFiles ? 1 : 0);
     return result;
   }
 
@@ -146,6 +157,9 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
     if (forcePathStyleAccess != that.forcePathStyleAccess) {
       return false;
     }
+    if (deduplicateSnapshotFiles != that.deduplicateSnapshotFiles) {
+      return false;
+    }
     if (!Objects.equals(compression, that.compression)) {
       return false;
     }
@@ -196,6 +210,8 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
         + compression
         + ", basePath="
         + basePath
+        + ", deduplicateSnapshotFiles="
+        + deduplicateSnapshotFiles
         + '}';
   }
 }
@@ -15,6 +15,11 @@ public final class CachesCfg implements ConfigurationEntry {
   private int formCacheCapacity = EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
   private int resourceCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
+  private long processCacheMaxSize = EngineConfiguration.DEFAULT_PROCESS_CACHE_MAX_SIZE;
+  private boolean processCacheWarmUpEnabled =
+      EngineConfiguration.DEFAULT_PROCESS_CACHE_WARM_UP_ENABLED;
+  private int variableDocumentCacheMaxSize =
+      EngineConfiguration.DEFAULT_VARIABLE_DOCUMENT_CACHE_MAX_SIZE;
 
   public int getDrgCacheCapacity() {
     return drgCacheCapacity;
@@ -40,6 +45,22 @@ public final class CachesCfg implements ConfigurationEntry {
     this.processCacheCapacity = processCacheCapacity;
   }
 
+  public long getProcessCacheMaxSize() {
+    return processCacheMaxSize;
+  }
+
+  public void setProcessCacheMaxSize(final long processCacheMaxSize) {
+    this.processCacheMaxSize = processCacheMaxSize;
+  }
+
+  public boolean isProcessCacheWarmUpEnabled() {
+    return processCacheWarmUpEnabled;
+  }
+
+  public void setProcessCacheWarmUpEnabled(final boolean processCacheWarmUpEnabled) {
+    this.processCacheWarmUpEnabled = processCacheWarmUpEnabled;
+  }
+
   public int getResourceCacheCapacity() {
     return resourceCacheCapacity;
   }
@@ -48,6 +69,14 @@ public final class CachesCfg implements ConfigurationEntry {
     this.resourceCacheCapacity = resourceCacheCapacity;
   }
 
+  public int getVariableDocumentCacheMaxSize() {
+    return variableDocumentCacheMaxSize;
+  }
+
+  public void setVariableDocumentCacheMaxSize(final int variableDocumentCacheMaxSize) {
+    this.variableDocumentCacheMaxSize = variableDocumentCacheMaxSize;
+  }
+
   @Override
   public String toString() {
     return "CachesCfg{"
@@ -57,8 +86,14 @@ public final class CachesCfg implements ConfigurationEntry {
         + formCacheCapacity
         + ", processCacheCapacity="
         + processCacheCapacity
+        + ", processCacheMaxSize="
+        + processCacheMaxSize
+        + ", processCacheWarmUpEnabled="
+        + processCacheWarmUpEnabled
         + ", resourceCacheCapacity="
         + resourceCacheCapacity
+        + ", variableDocumentCacheMaxSize="
+        + variableDocumentCacheMaxSize
         + '}';
   }
 }
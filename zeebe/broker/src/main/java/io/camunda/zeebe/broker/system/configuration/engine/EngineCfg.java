@@ -80,6 +80,9 @@ public final class EngineCfg implements ConfigurationEntry {
         .setFormCacheCapacity(caches.getFormCacheCapacity())
         .setResourceCacheCapacity(caches.getResourceCacheCapacity())
         .setProcessCacheCapacity(caches.getProcessCacheCapacity())
+        .setProcessCacheMaxSize(caches.getProcessCacheMaxSize())
+        .setProcessCacheWarmUpEnabled(caches.isProcessCacheWarmUpEnabled())
+        .setVariableDocumentCacheMaxSize(caches.getVariableDocumentCacheMaxSize())
         .setJobsTimeoutCheckerPollingInterval(jobs.getTimeoutCheckerPollingInterval())
         .setJobsTimeoutCheckerBatchLimit(jobs.getTimeoutCheckerBatchLimit())
         .setValidatorsResultsOutputMaxSize(validators.getResultsOutputMaxSize());
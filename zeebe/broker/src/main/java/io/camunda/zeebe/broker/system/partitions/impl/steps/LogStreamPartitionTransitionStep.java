@@ -82,6 +82,7 @@ public final class LogStreamPartitionTransitionStep implements PartitionTransiti
                 : context.getBrokerCfg().getBackpressure().buildLimit())
         .withWriteRateLimit(
             flowControlCfg.getWrite() != null ? flowControlCfg.getWrite().buildLimit() : null)
+        .withLockFreeSequencer(context.getBrokerCfg().getExperimental().isLockFreeSequencer())
         .build();
   }
 
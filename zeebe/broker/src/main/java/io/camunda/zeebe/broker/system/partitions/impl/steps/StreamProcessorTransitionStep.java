@@ -159,6 +159,15 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .nodeId(context.getNodeId())
         .commandResponseWriter(context.getCommandApiService().newCommandResponseWriter())
         .maxCommandsInBatch(context.getBrokerCfg().getProcessing().getMaxCommandsInBatch())
+        .setEnableAdaptiveBatching(
+            context.getBrokerCfg().getProcessing().isEnableAdaptiveBatching())
+        .setAdaptiveBatchingTargetLatency(
+            context.getBrokerCfg().getProcessing().getAdaptiveBatchingTargetLatency())
+        .setAdaptiveBatchingTargetBytes(
+            context.getBrokerCfg().getProcessing().getAdaptiveBatchingTargetSize().toBytes())
+        .setEnablePipelinedProcessing(
+            context.getBrokerCfg().getProcessing().isEnablePipelinedProcessing())
+        .setMaxPipelinedBatches(context.getBrokerCfg().getProcessing().getMaxPipelinedBatches())
         .setEnableAsyncScheduledTasks(
             context.getBrokerCfg().getProcessing().isEnableAsyncScheduledTasks())
         .setScheduledTaskCheckInterval(
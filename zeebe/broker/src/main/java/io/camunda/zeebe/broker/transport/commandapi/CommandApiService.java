@@ -11,6 +11,7 @@ import io.camunda.zeebe.engine.state.QueryService;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.stream.api.CommandResponseWriter;
+import java.util.function.BooleanSupplier;
 
 public interface CommandApiService {
 
@@ -22,8 +23,15 @@ public interface CommandApiService {
 
   void onResumed(final int partitionId);
 
+  /**
+   * @param leaderLease returns whether queries can be served from the local state, i.e. whether
+   *     this broker is guaranteed to still be the only leader of the partition
+   */
   ActorFuture<Void> registerHandlers(
-      final int partitionId, final LogStream logStream, final QueryService queryService);
+      final int partitionId,
+      final LogStream logStream,
+      final QueryService queryService,
+      final BooleanSupplier leaderLease);
 
   ActorFuture<Void> unregisterHandlers(final int partitionId);
 }
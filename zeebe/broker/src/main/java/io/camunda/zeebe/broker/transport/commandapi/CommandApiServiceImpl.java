@@ -19,6 +19,7 @@ import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.stream.api.CommandResponseWriter;
 import io.camunda.zeebe.transport.RequestType;
 import io.camunda.zeebe.transport.ServerTransport;
+import java.util.function.BooleanSupplier;
 import org.agrona.collections.IntHashSet;
 
 public final class CommandApiServiceImpl extends Actor
@@ -95,14 +96,17 @@ public final class CommandApiServiceImpl extends Actor
 
   @Override
   public ActorFuture<Void> registerHandlers(
-      final int partitionId, final LogStream logStream, final QueryService queryService) {
+      final int partitionId,
+      final LogStream logStream,
+      final QueryService queryService,
+      final BooleanSupplier leaderLease) {
     return actor.call(
         () -> {
           // create the writer immediately so if the logStream is closed, this will throw an
           // exception immediately
           final var logStreamWriter = logStream.newLogStreamWriter();
           leadPartitions.add(partitionId);
-          queryHandler.addPartition(partitionId, queryService);
+          queryHandler.addPartition(partitionId, queryService, leaderLease);
           serverTransport.subscribe(partitionId, RequestType.QUERY, queryHandler);
           commandHandler.addPartition(partitionId, logStreamWriter);
           serverTransport.subscribe(partitionId, RequestType.COMMAND, commandHandler);
@@ -11,6 +11,7 @@ import io.atomix.raft.RaftServer.Role;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionContext;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionStep;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.util.function.BooleanSupplier;
 
 public class CommandApiServiceTransitionStep implements PartitionTransitionStep {
   @Override
@@ -33,7 +34,10 @@ public class CommandApiServiceTransitionStep implements PartitionTransitionStep
           context
               .getCommandApiService()
               .registerHandlers(
-                  context.getPartitionId(), context.getLogStream(), context.getQueryService());
+                  context.getPartitionId(),
+                  context.getLogStream(),
+                  context.getQueryService(),
+                  leaderLease(context));
       default -> context.getConcurrencyControl().createCompletedFuture();
     };
   }
@@ -42,4 +46,13 @@ public class CommandApiServiceTransitionStep implements PartitionTransitionStep
   public String getName() {
     return "CommandApiService";
   }
+
+  private BooleanSupplier leaderLease(final PartitionTransitionContext context) {
+    // without leases, queries are served as long as this broker considers itself the leader
+    if (!context.getBrokerCfg().getExperimental().getRaft().isLeaderLeaseEnabled()) {
+      return () -> true;
+    }
+
+    return context.getRaftPartition().getServer()::isLeaderLeaseValid;
+  }
 }
@@ -23,6 +23,7 @@ import java.util.EnumSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
 
@@ -39,6 +40,7 @@ public final class QueryApiRequestHandler
       EnumSet.of(ValueType.PROCESS, ValueType.PROCESS_INSTANCE, ValueType.JOB);
 
   private final Map<Integer, QueryService> queryServicePerPartition = new Int2ObjectHashMap<>();
+  private final Map<Integer, BooleanSupplier> leaderLeasePerPartition = new Int2ObjectHashMap<>();
   private final QueryApiCfg config;
   private final String actorName;
 
@@ -56,14 +58,36 @@ public final class QueryApiRequestHandler
   @Override
   protected void onActorClosing() {
     queryServicePerPartition.clear();
+    leaderLeasePerPartition.clear();
   }
 
   public void addPartition(final int partitionId, final QueryService queryService) {
-    actor.run(() -> queryServicePerPartition.put(partitionId, queryService));
+    addPartition(partitionId, queryService, () -> true);
+  }
+
+  /**
+   * Registers the query service of a partition led by this broker.
+   *
+   * @param partitionId the id of the partition
+   * @param queryService the service to query the partition's state
+   * @param leaderLease returns whether this broker is still guaranteed to be the only leader of the
+   *     partition; queries are rejected while it returns false, as the state may be stale
+   */
+  public void addPartition(
+      final int partitionId, final QueryService queryService, final BooleanSupplier leaderLease) {
+    actor.run(
+        () -> {
+          queryServicePerPartition.put(partitionId, queryService);
+          leaderLeasePerPartition.put(partitionId, leaderLease);
+        });
   }
 
   public void removePartition(final int partitionId) {
-    actor.run(() -> queryServicePerPartition.remove(partitionId));
+    actor.run(
+        () -> {
+          queryServicePerPartition.remove(partitionId);
+          leaderLeasePerPartition.remove(partitionId);
+        });
   }
 
   @Override
@@ -92,7 +116,7 @@ public final class QueryApiRequestHandler
     }
 
     final var queryService = queryServicePerPartition.get(partitionId);
-    if (queryService == null) {
+    if (queryService == null || !leaderLeasePerPartition.get(partitionId).getAsBoolean()) {
       errorWriter.partitionLeaderMismatch(partitionId);
       return Either.left(errorWriter);
     }
@@ -8,11 +8,14 @@
 package io.camunda.zeebe.broker.partitioning;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 
 import io.atomix.cluster.MemberId;
 import io.atomix.primitive.partition.PartitionId;
 import io.atomix.primitive.partition.PartitionMetadata;
 import io.atomix.raft.partition.RaftPartition;
+import io.atomix.raft.storage.log.GroupCommitFlusher;
+import io.atomix.utils.concurrent.ThreadContext;
 import io.camunda.zeebe.broker.partitioning.startup.RaftPartitionFactory;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import java.time.Duration;
@@ -222,6 +225,24 @@ public final class RaftPartitionFactoryTest {
         .isEqualTo(value);
   }
 
+  @Test
+  void shouldSetGroupCommit() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setGroupCommitWindow(Duration.ofMillis(3));
+    brokerCfg.getExperimental().getRaft().setGroupCommitMaxSize(DataSize.ofKilobytes(512));
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    final var storageConfig = partition.getPartitionConfig().getStorageConfig();
+    assertThat(storageConfig.getGroupCommitWindow()).isEqualTo(Duration.ofMillis(3));
+    assertThat(storageConfig.getGroupCommitMaxBytes()).isEqualTo(512 * 1024);
+    assertThat(storageConfig.flusherFactory().createFlusher(() -> mock(ThreadContext.class)))
+        .isInstanceOf(GroupCommitFlusher.class);
+  }
+
   private RaftPartition buildRaftPartition(final BrokerCfg brokerCfg) {
     return new RaftPartitionFactory(brokerCfg)
         .createRaftPartition(
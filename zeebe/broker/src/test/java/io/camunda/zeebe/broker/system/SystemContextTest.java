@@ -90,6 +90,21 @@ final class SystemContextTest {
             "Expected to have an append batch size maximum which is non negative and smaller then '2147483647', but was '3221225472B'.");
   }
 
+  @Test
+  void shouldThrowExceptionIfLeaderLeaseClockDriftIsNotSmallerThanElectionTimeout() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getCluster().setElectionTimeout(Duration.ofSeconds(1));
+    brokerCfg.getExperimental().getRaft().setLeaderLeaseEnabled(true);
+    brokerCfg.getExperimental().getRaft().setLeaderLeaseClockDrift(Duration.ofSeconds(1));
+
+    // when - then
+    assertThatCode(() -> initSystemContext(brokerCfg))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "Expected to have a leader lease clock drift which is positive and smaller than the election timeout 'PT1S', but was 'PT1S'.");
+  }
+
   @Test
   void shouldNotThrowExceptionIfSnapshotPeriodIsEqualToOneMinute() {
     // given
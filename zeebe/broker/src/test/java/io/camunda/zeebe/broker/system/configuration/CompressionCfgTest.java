@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import io.atomix.cluster.messaging.MessagingConfig.CompressionAlgorithm;
 import java.util.Map;
 import org.junit.Test;
+import org.springframework.util.unit.DataSize;
 
 public final class CompressionCfgTest {
 
@@ -25,6 +26,19 @@ public final class CompressionCfgTest {
     assertThat(config.getMessageCompression()).isEqualTo(CompressionAlgorithm.SNAPPY);
   }
 
+  @Test
+  public void shouldConfigureCompressedSubjects() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("compression-cfg", Map.of());
+    final ClusterCfg config = cfg.getCluster();
+
+    // then
+    assertThat(config.getMessageSubjectCompression()).isEqualTo(CompressionAlgorithm.GZIP);
+    assertThat(config.getMessageCompressionSubjects())
+        .containsExactly("raft-partition-.*-append-versioned", "raft-partition-.*-install");
+    assertThat(config.getMessageCompressionThreshold()).isEqualTo(DataSize.ofKilobytes(4));
+  }
+
   @Test
   public void shouldSetDefaultCompression() {
     // when
@@ -33,5 +47,8 @@ public final class CompressionCfgTest {
 
     // then
     assertThat(config.getMessageCompression()).isEqualTo(CompressionAlgorithm.NONE);
+    assertThat(config.getMessageSubjectCompression()).isEqualTo(CompressionAlgorithm.SNAPPY);
+    assertThat(config.getMessageCompressionSubjects()).isEmpty();
+    assertThat(config.getMessageCompressionThreshold()).isEqualTo(DataSize.ofKilobytes(1));
   }
 }
@@ -38,6 +38,11 @@ final class EngineCfgTest {
         .isEqualTo(EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY);
     assertThat(configuration.getProcessCacheCapacity())
         .isEqualTo(EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY);
+    assertThat(configuration.getProcessCacheMaxSize())
+        .isEqualTo(EngineConfiguration.DEFAULT_PROCESS_CACHE_MAX_SIZE);
+    assertThat(configuration.isProcessCacheWarmUpEnabled()).isFalse();
+    assertThat(configuration.getVariableDocumentCacheMaxSize())
+        .isEqualTo(EngineConfiguration.DEFAULT_VARIABLE_DOCUMENT_CACHE_MAX_SIZE);
     assertThat(configuration.getValidatorsResultsOutputMaxSize())
         .isEqualTo(EngineConfiguration.DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE);
   }
@@ -59,6 +64,9 @@ final class EngineCfgTest {
     assertThat(configuration.getJobsTimeoutCheckerBatchLimit()).isEqualTo(1000);
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(2000L);
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(2000L);
+    assertThat(configuration.getProcessCacheMaxSize()).isEqualTo(2000L);
+    assertThat(configuration.isProcessCacheWarmUpEnabled()).isTrue();
+    assertThat(configuration.getVariableDocumentCacheMaxSize()).isEqualTo(2000);
     assertThat(configuration.getValidatorsResultsOutputMaxSize()).isEqualTo(2000);
   }
 }
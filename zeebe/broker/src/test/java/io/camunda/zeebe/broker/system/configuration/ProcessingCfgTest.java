@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
 
@@ -171,4 +172,45 @@ final class ProcessingCfgTest {
     // then
     assertThat(skipPositions).containsExactly(4L, 5L, 6L);
   }
+
+  @Test
+  void shouldDisablePipelinedProcessingByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final var enabled = cfg.isEnablePipelinedProcessing();
+
+    // then
+    assertThat(enabled).isFalse();
+    assertThat(cfg.getMaxPipelinedBatches()).isEqualTo(8);
+  }
+
+  @Test
+  void shouldSetPipelinedProcessingFromEnvironment() {
+    // given
+    final var environment =
+        Map.of(
+            "zeebe.broker.processing.enablePipelinedProcessing",
+            "true",
+            "zeebe.broker.processing.maxPipelinedBatches",
+            "4");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // then
+    assertThat(cfg.isEnablePipelinedProcessing()).isTrue();
+    assertThat(cfg.getMaxPipelinedBatches()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldRejectInvalidMaxPipelinedBatches() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxPipelinedBatches", "0");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxPipelinedBatches must be >= 1");
+  }
 }
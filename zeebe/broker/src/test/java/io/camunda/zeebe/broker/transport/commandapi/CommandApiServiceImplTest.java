@@ -17,6 +17,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.atomix.raft.RaftServer.Role;
+import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.broker.system.configuration.QueryApiCfg;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionContext;
 import io.camunda.zeebe.logstreams.log.LogStream;
@@ -67,6 +68,7 @@ public class CommandApiServiceImplTest {
     when(logStream.newLogStreamWriter()).thenReturn(mock());
     when(transitionContext.getLogStream()).thenReturn(logStream);
     when(transitionContext.getQueryService()).thenReturn(mock());
+    when(transitionContext.getBrokerCfg()).thenReturn(new BrokerCfg());
     final var transitionStep = new CommandApiServiceTransitionStep();
     final var prepareFuture = transitionStep.prepareTransition(transitionContext, 1L, Role.LEADER);
     scheduler.workUntilDone();
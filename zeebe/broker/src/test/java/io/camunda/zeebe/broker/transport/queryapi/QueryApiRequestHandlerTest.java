@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.transport.queryapi;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.broker.system.configuration.QueryApiCfg;
@@ -130,6 +131,33 @@ final class QueryApiRequestHandlerTest {
                 + "not the leader for it");
   }
 
+  @DisplayName("should respond with PARTITION_LEADER_MISMATCH when the leader lease expired")
+  @Test
+  void expiredLeaderLease() {
+    // given
+    final QueryApiRequestHandler sut = createQueryApiRequestHandler(true);
+    final var queryService = mock(QueryService.class);
+    sut.addPartition(1, queryService, () -> false);
+
+    // when
+    final Either<ErrorResponse, ExecuteQueryResponse> response =
+        new AsyncExecuteQueryRequestSender(sut)
+            .sendRequest(
+                new ExecuteQueryRequest()
+                    .setPartitionId(1)
+                    .setKey(1)
+                    .setValueType(ValueType.PROCESS))
+            .join();
+
+    // then
+    EitherAssert.assertThat(response)
+        .isLeft()
+        .extracting(Either::getLeft)
+        .extracting(ErrorResponse::getErrorCode)
+        .isEqualTo(ErrorCode.PARTITION_LEADER_MISMATCH);
+    verifyNoInteractions(queryService);
+  }
+
   @DisplayName("should respond with PROCESS_NOT_FOUND when no process with key exists")
   @Test
   void processNotFound() {
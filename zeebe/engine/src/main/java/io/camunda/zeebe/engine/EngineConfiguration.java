@@ -23,6 +23,9 @@ public final class EngineConfiguration {
   public static final int DEFAULT_DRG_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_FORM_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_PROCESS_CACHE_CAPACITY = 1000;
+  public static final long DEFAULT_PROCESS_CACHE_MAX_SIZE = 32 * 1024 * 1024;
+  public static final boolean DEFAULT_PROCESS_CACHE_WARM_UP_ENABLED = false;
+  public static final int DEFAULT_VARIABLE_DOCUMENT_CACHE_MAX_SIZE = 16 * 1024 * 1024;
   public static final Duration DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL = Duration.ofSeconds(1);
   public static final int DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
   public static final int DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE = 12 * 1024;
@@ -34,6 +37,9 @@ public final class EngineConfiguration {
   private int formCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
   private int resourceCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
+  private long processCacheMaxSize = DEFAULT_PROCESS_CACHE_MAX_SIZE;
+  private boolean processCacheWarmUpEnabled = DEFAULT_PROCESS_CACHE_WARM_UP_ENABLED;
+  private int variableDocumentCacheMaxSize = DEFAULT_VARIABLE_DOCUMENT_CACHE_MAX_SIZE;
 
   private Duration jobsTimeoutCheckerPollingInterval = DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int jobsTimeoutCheckerBatchLimit = DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
@@ -98,6 +104,34 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public long getProcessCacheMaxSize() {
+    return processCacheMaxSize;
+  }
+
+  public EngineConfiguration setProcessCacheMaxSize(final long processCacheMaxSize) {
+    this.processCacheMaxSize = processCacheMaxSize;
+    return this;
+  }
+
+  public boolean isProcessCacheWarmUpEnabled() {
+    return processCacheWarmUpEnabled;
+  }
+
+  public EngineConfiguration setProcessCacheWarmUpEnabled(final boolean processCacheWarmUpEnabled) {
+    this.processCacheWarmUpEnabled = processCacheWarmUpEnabled;
+    return this;
+  }
+
+  public int getVariableDocumentCacheMaxSize() {
+    return variableDocumentCacheMaxSize;
+  }
+
+  public EngineConfiguration setVariableDocumentCacheMaxSize(
+      final int variableDocumentCacheMaxSize) {
+    this.variableDocumentCacheMaxSize = variableDocumentCacheMaxSize;
+    return this;
+  }
+
   public Duration getJobsTimeoutCheckerPollingInterval() {
     return jobsTimeoutCheckerPollingInterval;
   }
@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+import io.prometheus.client.Histogram.Timer;
+
+public final class ProcessCacheMetrics {
+
+  private static final Counter LOOKUPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("process_cache_lookups_total")
+          .help("Number of lookups of deployed processes in the cache, by result (hit or miss)")
+          .labelNames("partition", "result")
+          .register();
+
+  private static final Histogram LOAD_TIME =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("process_cache_load_time_seconds")
+          .help("Time to read and transform a deployed process which was missing in the cache")
+          .labelNames("partition")
+          .register();
+
+  private static final Counter WARMED_UP_PROCESSES =
+      Counter.build()
+          .namespace("zeebe")
+          .name("process_cache_warmed_up_processes_total")
+          .help("Number of deployed processes loaded into the cache when the partition recovered")
+          .labelNames("partition")
+          .register();
+
+  private final Counter.Child hits;
+  private final Counter.Child misses;
+  private final Histogram.Child loadTime;
+  private final Counter.Child warmedUpProcesses;
+
+  public ProcessCacheMetrics(final int partitionId) {
+    final var partitionIdLabel = String.valueOf(partitionId);
+    hits = LOOKUPS.labels(partitionIdLabel, "hit");
+    misses = LOOKUPS.labels(partitionIdLabel, "miss");
+    loadTime = LOAD_TIME.labels(partitionIdLabel);
+    warmedUpProcesses = WARMED_UP_PROCESSES.labels(partitionIdLabel);
+  }
+
+  public void countHit() {
+    hits.inc();
+  }
+
+  public void countMiss() {
+    misses.inc();
+  }
+
+  public Timer startLoad() {
+    return loadTime.startTimer();
+  }
+
+  public void countWarmedUpProcesses(final int count) {
+    warmedUpProcesses.inc(count);
+  }
+}
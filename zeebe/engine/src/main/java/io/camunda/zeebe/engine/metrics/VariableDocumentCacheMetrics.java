@@ -0,0 +1,64 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+public final class VariableDocumentCacheMetrics {
+
+  private static final Counter LOOKUPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("variable_document_cache_lookups_total")
+          .help("Number of lookups of variable documents in the cache, by result (hit or miss)")
+          .labelNames("partition", "result")
+          .register();
+
+  private static final Counter BYTES_SAVED =
+      Counter.build()
+          .namespace("zeebe")
+          .name("variable_document_cache_saved_bytes_total")
+          .help("Number of bytes of variable documents served from the cache instead of the state")
+          .labelNames("partition")
+          .register();
+
+  private static final Gauge CACHED_BYTES =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("variable_document_cache_size_bytes")
+          .help("Current size in bytes of all variable documents in the cache")
+          .labelNames("partition")
+          .register();
+
+  private final Counter.Child hits;
+  private final Counter.Child misses;
+  private final Counter.Child bytesSaved;
+  private final Gauge.Child cachedBytes;
+
+  public VariableDocumentCacheMetrics(final int partitionId) {
+    final var partitionIdLabel = String.valueOf(partitionId);
+    hits = LOOKUPS.labels(partitionIdLabel, "hit");
+    misses = LOOKUPS.labels(partitionIdLabel, "miss");
+    bytesSaved = BYTES_SAVED.labels(partitionIdLabel);
+    cachedBytes = CACHED_BYTES.labels(partitionIdLabel);
+  }
+
+  public void countHit(final int documentLength) {
+    hits.inc();
+    bytesSaved.inc(documentLength);
+  }
+
+  public void countMiss() {
+    misses.inc();
+  }
+
+  public void setCachedBytes(final long cachedBytes) {
+    this.cachedBytes.set(cachedBytes);
+  }
+}
@@ -22,6 +22,8 @@ import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
 import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.Loggers;
+import io.camunda.zeebe.engine.metrics.ProcessCacheMetrics;
 import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
@@ -35,8 +37,13 @@ import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessMetadata;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
 import io.camunda.zeebe.protocol.record.value.deployment.DeploymentResource;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import io.camunda.zeebe.stream.api.scheduling.SimpleProcessingScheduleService;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.time.Duration;
 import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -44,10 +51,16 @@ import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.io.DirectBufferInputStream;
+import org.slf4j.Logger;
 
 public final class DbProcessState implements MutableProcessState {
 
+  private static final Logger LOG = Loggers.PROCESS_PROCESSOR_LOGGER;
   private static final int DEFAULT_VERSION_VALUE = 0;
+  // a rough estimate of the memory used by a transformed flow element, e.g. its expressions and
+  // mappings, in addition to the BPMN resource which is kept with the process
+  private static final int ESTIMATED_FLOW_ELEMENT_SIZE = 1024;
+  private static final int WARM_UP_BATCH_SIZE = 10;
 
   private final BpmnTransformer transformer;
   private final ProcessRecord processRecordForDeployments = new ProcessRecord();
@@ -109,9 +122,15 @@ public final class DbProcessState implements MutableProcessState {
 
   private final VersionManager versionManager;
 
+  private final long processCacheMaxWeight;
+  private final long processCacheMinWeight;
+  private final boolean processCacheWarmUpEnabled;
+  private final ProcessCacheMetrics metrics;
+
   public DbProcessState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
+      final int partitionId,
       final EngineConfiguration config,
       final InstantSource clock) {
     transformer = BpmnFactory.createTransformer(clock);
@@ -180,12 +199,27 @@ public final class DbProcessState implements MutableProcessState {
         new VersionManager(
             DEFAULT_VERSION_VALUE, zeebeDb, ZbColumnFamilies.PROCESS_VERSION, transactionContext);
 
-    processByTenantAndKeyCache =
-        CacheBuilder.newBuilder().maximumSize(config.getProcessCacheCapacity()).build();
-    processesByTenantAndProcessIdAndVersionCache =
-        CacheBuilder.newBuilder().maximumSize(config.getProcessCacheCapacity()).build();
+    // the memory used by a transformed process varies a lot, so the caches are bounded by the
+    // estimated size of the processes instead of only their number; the maximum size applies to
+    // the partition, and is split between both caches
+    processCacheMaxWeight = config.getProcessCacheMaxSize() / 2;
+    // every process weighs at least an equal share of a cache, such that a cache holds no more
+    // than processCacheCapacity processes, however small they are
+    processCacheMinWeight =
+        Math.max(1, processCacheMaxWeight / Math.max(1, config.getProcessCacheCapacity()));
+    processCacheWarmUpEnabled = config.isProcessCacheWarmUpEnabled();
+    processByTenantAndKeyCache = buildProcessCache();
+    processesByTenantAndProcessIdAndVersionCache = buildProcessCache();
     processDefinitionKeyByTenantAndProcessIdAndDeploymentKeyCache =
         CacheBuilder.newBuilder().maximumSize(config.getProcessCacheCapacity()).build();
+    metrics = new ProcessCacheMetrics(partitionId);
+  }
+
+  @Override
+  public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    if (processCacheWarmUpEnabled) {
+      warmUpCache(context.getScheduleService());
+    }
   }
 
   @Override
@@ -327,8 +361,59 @@ public final class DbProcessState implements MutableProcessState {
     versionManager.addResourceVersion(bpmnProcessId, version, processRecord.getTenantId());
   }
 
+  /**
+   * Loads the latest version of every process into the cache, until the cache is full. After a
+   * fail-over the cache is empty, and otherwise the first commands of all processes would transform
+   * them at the same time. The latest versions are the ones most likely to be used, as new process
+   * instances are usually created for them.
+   *
+   * <p>The processes are transformed in small batches, which are scheduled on the stream processor
+   * in between the processing of commands, so that the warm-up doesn't delay processing.
+   */
+  private void warmUpCache(final SimpleProcessingScheduleService scheduleService) {
+    // collect the processes first, as loading them reuses the keys of the iterated column family
+    final var latestProcesses = new ArrayList<TenantIdAndProcessId>();
+    digestByIdColumnFamily.forEach(
+        (key, ignore) -> {
+          final var tenantAwareKey = key.inner();
+          latestProcesses.add(
+              new TenantIdAndProcessId(
+                  tenantAwareKey.tenantKey().toString(),
+                  BufferUtil.cloneBuffer(tenantAwareKey.wrappedKey().getBuffer())));
+        });
+
+    scheduleService.runDelayed(
+        Duration.ZERO, new CacheWarmUp(scheduleService, latestProcesses.iterator()));
+  }
+
+  private <K> Cache<K, DeployedProcess> buildProcessCache() {
+    // the caches are only accessed by the stream processor, so the weight isn't split between
+    // concurrent segments
+    return CacheBuilder.newBuilder()
+        .concurrencyLevel(1)
+        .maximumWeight(processCacheMaxWeight)
+        .<K, DeployedProcess>weigher(
+            (key, process) -> (int) Math.min(Integer.MAX_VALUE, weigh(process)))
+        .build();
+  }
+
+  private long weigh(final DeployedProcess process) {
+    return Math.max(processCacheMinWeight, estimateSize(process));
+  }
+
+  private static long estimateSize(final DeployedProcess process) {
+    return process.getResource().capacity()
+        + (long) process.getProcess().getFlowElements().size() * ESTIMATED_FLOW_ELEMENT_SIZE;
+  }
+
   // is called on getters, if process is not in memory
   private DeployedProcess updateInMemoryState(final PersistedProcess persistedProcess) {
+    try (final var ignored = metrics.startLoad()) {
+      return loadIntoInMemoryState(persistedProcess);
+    }
+  }
+
+  private DeployedProcess loadIntoInMemoryState(final PersistedProcess persistedProcess) {
 
     // we have to copy to store this in cache
     final byte[] bytes = new byte[persistedProcess.getLength()];
@@ -394,9 +479,11 @@ public final class DbProcessState implements MutableProcessState {
         processesByTenantAndProcessIdAndVersionCache.getIfPresent(tenantIdAndProcessIdAndVersion);
 
     if (cachedProcess == null) {
+      metrics.countMiss();
       processId.wrapBuffer(processIdBuffer);
       return lookupProcessByIdAndPersistedVersion(latestVersion, tenantId);
     }
+    metrics.countHit();
     return cachedProcess;
   }
 
@@ -409,8 +496,10 @@ public final class DbProcessState implements MutableProcessState {
         processesByTenantAndProcessIdAndVersionCache.getIfPresent(tenantIdAndProcessIdAndVersion);
 
     if (cachedProcess == null) {
+      metrics.countMiss();
       return lookupPersistenceState(processId, version, tenantId);
     }
+    metrics.countHit();
     return cachedProcess;
   }
 
@@ -456,8 +545,10 @@ public final class DbProcessState implements MutableProcessState {
         processByTenantAndKeyCache.getIfPresent(tenantIdAndProcessDefinitionKey);
 
     if (cachedProcess == null) {
+      metrics.countMiss();
       return lookupPersistenceStateForProcessByKey(key, tenantId);
     }
+    metrics.countHit();
     return cachedProcess;
   }
 
@@ -567,14 +658,8 @@ public final class DbProcessState implements MutableProcessState {
         processByIdAndVersionColumnFamily.get(tenantAwareProcessIdAndVersionKey);
 
     if (processWithVersionAndId != null) {
-      updateInMemoryState(processWithVersionAndId);
-
-      final var tenantIdAndProcessIdAndVersion =
-          new TenantIdAndProcessIdAndVersion(tenantId, processIdBuffer, version);
-
-      // return the cached copy
-      return processesByTenantAndProcessIdAndVersionCache.getIfPresent(
-          tenantIdAndProcessIdAndVersion);
+      // return the loaded copy, as a process that outweighs the whole cache is evicted right away
+      return updateInMemoryState(processWithVersionAndId);
     }
     // does not exist in persistence and in memory state
     return null;
@@ -588,10 +673,8 @@ public final class DbProcessState implements MutableProcessState {
     final PersistedProcess processWithKey =
         processColumnFamily.get(tenantAwareProcessDefinitionKey);
     if (processWithKey != null) {
-      updateInMemoryState(processWithKey);
-
-      final var key = new TenantIdAndProcessDefinitionKey(tenantId, processDefinitionKey);
-      return processByTenantAndKeyCache.getIfPresent(key);
+      // return the loaded copy, as a process that outweighs the whole cache is evicted right away
+      return updateInMemoryState(processWithKey);
     }
     // does not exist in persistence and in memory state
     return null;
@@ -617,6 +700,51 @@ public final class DbProcessState implements MutableProcessState {
     return null;
   }
 
+  /** Loads a batch of processes into the cache, and schedules itself again for the next one. */
+  private final class CacheWarmUp implements Runnable {
+
+    private final SimpleProcessingScheduleService scheduleService;
+    private final Iterator<TenantIdAndProcessId> processes;
+    private long loadedWeight;
+    private int loadedProcesses;
+
+    private CacheWarmUp(
+        final SimpleProcessingScheduleService scheduleService,
+        final Iterator<TenantIdAndProcessId> processes) {
+      this.scheduleService = scheduleService;
+      this.processes = processes;
+    }
+
+    @Override
+    public void run() {
+      int loadedInBatch = 0;
+      while (loadedInBatch < WARM_UP_BATCH_SIZE && hasNext()) {
+        final var process = processes.next();
+        final var deployedProcess =
+            getLatestProcessVersionByProcessId(process.processId(), process.tenantId());
+        if (deployedProcess != null) {
+          loadedWeight += weigh(deployedProcess);
+          loadedInBatch++;
+        }
+      }
+
+      loadedProcesses += loadedInBatch;
+      metrics.countWarmedUpProcesses(loadedInBatch);
+
+      if (hasNext()) {
+        scheduleService.runDelayed(Duration.ZERO, this);
+      } else {
+        LOG.debug("Warmed up the process cache with {} processes", loadedProcesses);
+      }
+    }
+
+    private boolean hasNext() {
+      return loadedWeight < processCacheMaxWeight && processes.hasNext();
+    }
+  }
+
+  record TenantIdAndProcessId(String tenantId, DirectBuffer processId) {}
+
   record TenantIdAndProcessIdAndVersion(String tenantId, DirectBuffer processId, long Version) {}
 
   record TenantIdAndProcessDefinitionKey(String tenantId, long processDefinitionKey) {}
@@ -50,6 +50,12 @@ public interface VariableState {
    */
   long getParentScopeKey(long childScopeKey);
 
+  /**
+   * Clears the cache of variable documents. The cache is cleared whenever changes of a transaction
+   * are discarded, so this is only needed to drop the cached documents otherwise.
+   */
+  void clearCache();
+
   /** Data wrapper for a variable. */
   record Variable(long key, long scopeKey, DirectBuffer name, DirectBuffer value) {}
 }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.engine.state.instance;
 
 import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.PrefixIterator;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
@@ -15,8 +16,6 @@ import io.camunda.zeebe.db.impl.DbForeignKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
-import io.camunda.zeebe.db.impl.DbTenantAwareKey;
-import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
 import io.camunda.zeebe.engine.Loggers;
 import io.camunda.zeebe.engine.processing.identity.AuthorizedTenants;
 import io.camunda.zeebe.engine.state.immutable.JobState;
@@ -24,6 +23,7 @@ import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.util.EnsureUtil;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
@@ -35,6 +35,7 @@ import org.slf4j.Logger;
 public final class DbJobState implements JobState, MutableJobState {
 
   private static final Logger LOG = Loggers.PROCESS_PROCESSOR_LOGGER;
+  private static final long NO_JOB = -1L;
 
   // key => job record value
   // we need two separate wrapper to not interfere with get and put
@@ -50,14 +51,14 @@ public final class DbJobState implements JobState, MutableJobState {
   private final JobStateValue jobState = new JobStateValue();
   private final ColumnFamily<DbForeignKey<DbLong>, JobStateValue> statesJobColumnFamily;
 
-  // [[type, key], tenant_id] => nil
+  // [[type, tenant_id], key] => nil
   private final DbString jobTypeKey;
   private final DbString tenantIdKey;
-  private final DbCompositeKey<DbString, DbForeignKey<DbLong>> typeJobKey;
-  private final DbTenantAwareKey<DbCompositeKey<DbString, DbForeignKey<DbLong>>>
-      tenantAwareTypeJobKey;
+  private final DbCompositeKey<DbString, DbString> typeTenantKey;
+  private final DbCompositeKey<DbCompositeKey<DbString, DbString>, DbForeignKey<DbLong>>
+      typeTenantJobKey;
   private final ColumnFamily<
-          DbTenantAwareKey<DbCompositeKey<DbString, DbForeignKey<DbLong>>>, DbNil>
+          DbCompositeKey<DbCompositeKey<DbString, DbString>, DbForeignKey<DbLong>>, DbNil>
       activatableColumnFamily;
 
   // timeout => key
@@ -87,13 +88,13 @@ public final class DbJobState implements JobState, MutableJobState {
 
     jobTypeKey = new DbString();
     tenantIdKey = new DbString();
-    typeJobKey = new DbCompositeKey<>(jobTypeKey, fkJob);
-    tenantAwareTypeJobKey = new DbTenantAwareKey<>(tenantIdKey, typeJobKey, PlacementType.SUFFIX);
+    typeTenantKey = new DbCompositeKey<>(jobTypeKey, tenantIdKey);
+    typeTenantJobKey = new DbCompositeKey<>(typeTenantKey, fkJob);
     activatableColumnFamily =
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.JOB_ACTIVATABLE,
             transactionContext,
-            tenantAwareTypeJobKey,
+            typeTenantJobKey,
             DbNil.INSTANCE);
 
     deadlineKey = new DbLong();
@@ -406,20 +407,71 @@ public final class DbJobState implements JobState, MutableJobState {
       final DirectBuffer type,
       final List<String> tenantIds,
       final BiFunction<Long, JobRecord, Boolean> callback) {
-    jobTypeKey.wrapBuffer(type);
+    if (tenantIds.size() == 1) {
+      // only the jobs of the given tenant are scanned, so every visited job can be activated
+      jobTypeKey.wrapBuffer(type);
+      tenantIdKey.wrapString(tenantIds.getFirst());
+      activatableColumnFamily.whileEqualPrefix(
+          typeTenantKey,
+          (key, zbNil) -> visitJob(key.second().inner().getValue(), callback::apply));
+      return;
+    }
+
+    forEachActivatableJobsOfTenants(type, tenantIds, callback);
+  }
+
+  /**
+   * Visits the activatable jobs of multiple tenants in the order of their keys, as if they were
+   * stored in a single index, by merging the scans over the jobs of each tenant. This way, jobs of
+   * one tenant cannot starve the jobs of other tenants, while jobs of other tenants are never
+   * visited. Each tenant's jobs are scanned with a single iterator, which only seeks once.
+   */
+  private void forEachActivatableJobsOfTenants(
+      final DirectBuffer type,
+      final List<String> tenantIds,
+      final BiFunction<Long, JobRecord, Boolean> callback) {
+    final var tenants = tenantIds.stream().distinct().toList();
+    final var iterators =
+        new ArrayList<
+            PrefixIterator<
+                DbCompositeKey<DbCompositeKey<DbString, DbString>, DbForeignKey<DbLong>>, DbNil>>(
+            tenants.size());
+    try {
+      jobTypeKey.wrapBuffer(type);
+      for (final var tenant : tenants) {
+        tenantIdKey.wrapString(tenant);
+        iterators.add(activatableColumnFamily.prefixIterator(typeTenantKey));
+      }
 
-    activatableColumnFamily.whileEqualPrefix(
-        jobTypeKey,
-        ((tenantAwareCompositeKey, zbNil) -> {
-          final DbLong jobKey = tenantAwareCompositeKey.wrappedKey().second().inner();
-          final String tenantId = tenantAwareCompositeKey.tenantKey().toString();
+      final var nextJobKeys = new long[iterators.size()];
+      for (int i = 0; i < nextJobKeys.length; i++) {
+        nextJobKeys[i] = nextActivatableJob(iterators.get(i));
+      }
 
-          if (tenantIds.contains(tenantId)) {
-            return visitJob(jobKey.getValue(), callback::apply);
+      while (true) {
+        var nextTenant = -1;
+        for (int i = 0; i < nextJobKeys.length; i++) {
+          if (nextJobKeys[i] != NO_JOB
+              && (nextTenant == -1 || nextJobKeys[i] < nextJobKeys[nextTenant])) {
+            nextTenant = i;
           }
-          // we want to continue with the iteration
-          return true;
-        }));
+        }
+
+        if (nextTenant == -1 || !visitJob(nextJobKeys[nextTenant], callback::apply)) {
+          return;
+        }
+        nextJobKeys[nextTenant] = nextActivatableJob(iterators.get(nextTenant));
+      }
+    } finally {
+      iterators.forEach(PrefixIterator::close);
+    }
+  }
+
+  private static long nextActivatableJob(
+      final PrefixIterator<
+              DbCompositeKey<DbCompositeKey<DbString, DbString>, DbForeignKey<DbLong>>, DbNil>
+          iterator) {
+    return iterator.next() ? iterator.key().second().inner().getValue() : NO_JOB;
   }
 
   @Override
@@ -507,7 +559,7 @@ public final class DbJobState implements JobState, MutableJobState {
     tenantIdKey.wrapString(tenantId);
     // Need to upsert here because jobs can be marked as failed (and thus made activatable)
     // without activating them first
-    activatableColumnFamily.upsert(tenantAwareTypeJobKey, DbNil.INSTANCE);
+    activatableColumnFamily.upsert(typeTenantJobKey, DbNil.INSTANCE);
   }
 
   private void makeJobNotActivatable(final DirectBuffer type, final String tenantId) {
@@ -516,7 +568,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
     jobTypeKey.wrapBuffer(type);
     tenantIdKey.wrapString(tenantId);
-    activatableColumnFamily.deleteIfExists(tenantAwareTypeJobKey);
+    activatableColumnFamily.deleteIfExists(typeTenantJobKey);
   }
 
   private void addJobDeadline(final long job, final long deadline) {
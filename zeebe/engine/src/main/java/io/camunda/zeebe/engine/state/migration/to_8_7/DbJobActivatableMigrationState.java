@@ -0,0 +1,110 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.migration.to_8_7;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbForeignKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DbTenantAwareKey;
+import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
+import io.camunda.zeebe.engine.state.migration.MemoryBoundedColumnIteration;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+
+public class DbJobActivatableMigrationState {
+
+  private final DbString legacyJobTypeKey;
+  private final DbString legacyTenantIdKey;
+  private final DbLong legacyJobKey;
+  private final DbTenantAwareKey<DbCompositeKey<DbString, DbForeignKey<DbLong>>>
+      tenantAwareTypeJobKey;
+
+  /** [[type, key], tenant_id] => nil */
+  private final ColumnFamily<
+          DbTenantAwareKey<DbCompositeKey<DbString, DbForeignKey<DbLong>>>, DbNil>
+      tenantAwareActivatableColumnFamily;
+
+  private final DbString jobTypeKey;
+  private final DbString tenantIdKey;
+  private final DbLong jobKey;
+  private final DbCompositeKey<DbCompositeKey<DbString, DbString>, DbForeignKey<DbLong>>
+      typeTenantJobKey;
+
+  /** [[type, tenant_id], key] => nil */
+  private final ColumnFamily<
+          DbCompositeKey<DbCompositeKey<DbString, DbString>, DbForeignKey<DbLong>>, DbNil>
+      activatableColumnFamily;
+
+  public DbJobActivatableMigrationState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    legacyJobTypeKey = new DbString();
+    legacyTenantIdKey = new DbString();
+    legacyJobKey = new DbLong();
+    tenantAwareTypeJobKey =
+        new DbTenantAwareKey<>(
+            legacyTenantIdKey,
+            new DbCompositeKey<>(
+                legacyJobTypeKey, new DbForeignKey<>(legacyJobKey, ZbColumnFamilies.JOBS)),
+            PlacementType.SUFFIX);
+    tenantAwareActivatableColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.DEPRECATED_TENANT_AWARE_JOB_ACTIVATABLE,
+            transactionContext,
+            tenantAwareTypeJobKey,
+            DbNil.INSTANCE);
+
+    jobTypeKey = new DbString();
+    tenantIdKey = new DbString();
+    jobKey = new DbLong();
+    typeTenantJobKey =
+        new DbCompositeKey<>(
+            new DbCompositeKey<>(jobTypeKey, tenantIdKey),
+            new DbForeignKey<>(jobKey, ZbColumnFamilies.JOBS));
+    activatableColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.JOB_ACTIVATABLE,
+            transactionContext,
+            typeTenantJobKey,
+            DbNil.INSTANCE);
+  }
+
+  public void migrateActivatableJobsByTenant() {
+    /*
+    `DEPRECATED_TENANT_AWARE_JOB_ACTIVATABLE` -> `JOB_ACTIVATABLE`
+    - Move tenant from the suffix to right after the job type
+    */
+    new MemoryBoundedColumnIteration()
+        .drain(
+            tenantAwareActivatableColumnFamily,
+            (key, value) -> {
+              jobTypeKey.wrapBuffer(key.wrappedKey().first().getBuffer());
+              tenantIdKey.wrapBuffer(key.tenantKey().getBuffer());
+              jobKey.wrapLong(key.wrappedKey().second().inner().getValue());
+              activatableColumnFamily.upsert(typeTenantJobKey, DbNil.INSTANCE);
+            });
+  }
+
+  public void insertTenantAwareActivatableJob(
+      final String type, final String tenantId, final long key) {
+    legacyJobTypeKey.wrapString(type);
+    legacyTenantIdKey.wrapString(tenantId);
+    legacyJobKey.wrapLong(key);
+    tenantAwareActivatableColumnFamily.insert(tenantAwareTypeJobKey, DbNil.INSTANCE);
+  }
+
+  public boolean existsActivatableJob(final String type, final String tenantId, final long key) {
+    jobTypeKey.wrapString(type);
+    tenantIdKey.wrapString(tenantId);
+    jobKey.wrapLong(key);
+    return activatableColumnFamily.exists(typeTenantJobKey);
+  }
+}
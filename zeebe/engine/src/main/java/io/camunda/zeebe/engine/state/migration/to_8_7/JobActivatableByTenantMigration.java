@@ -0,0 +1,37 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.migration.to_8_7;
+
+import io.camunda.zeebe.engine.state.migration.MigrationTask;
+import io.camunda.zeebe.engine.state.migration.MigrationTaskContext;
+import io.camunda.zeebe.engine.state.migration.MutableMigrationTaskContext;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+
+/**
+ * Moves the activatable jobs to an index keyed by job type and tenant, so that activating jobs only
+ * visits the jobs of the tenants the worker requested.
+ */
+public final class JobActivatableByTenantMigration implements MigrationTask {
+
+  @Override
+  public String getIdentifier() {
+    return getClass().getSimpleName();
+  }
+
+  @Override
+  public boolean needsToRun(final MigrationTaskContext context) {
+    return !context
+        .processingState()
+        .isEmpty(ZbColumnFamilies.DEPRECATED_TENANT_AWARE_JOB_ACTIVATABLE);
+  }
+
+  @Override
+  public void runMigration(final MutableMigrationTaskContext context) {
+    context.processingState().getMigrationState().migrateActivatableJobsByTenant();
+  }
+}
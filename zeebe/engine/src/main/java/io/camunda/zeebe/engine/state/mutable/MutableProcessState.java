@@ -11,8 +11,9 @@ import io.camunda.zeebe.engine.state.deployment.PersistedProcess.PersistedProces
 import io.camunda.zeebe.engine.state.immutable.ProcessState;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
+import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
 
-public interface MutableProcessState extends ProcessState {
+public interface MutableProcessState extends ProcessState, StreamProcessorLifecycleAware {
 
   void putDeployment(DeploymentRecord deploymentRecord);
 
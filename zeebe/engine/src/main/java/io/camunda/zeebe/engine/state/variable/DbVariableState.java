@@ -13,6 +13,8 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.VariableDocumentCacheMetrics;
 import io.camunda.zeebe.engine.state.instance.ParentScopeKey;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
@@ -27,6 +29,7 @@ import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.LongArrayList;
 import org.agrona.collections.MutableInteger;
 import org.agrona.collections.ObjectHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -56,8 +59,15 @@ public class DbVariableState implements MutableVariableState {
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
 
+  // documents of all variables visible from a scope, including the ones of its ancestors
+  private final VariableDocumentCache documentCache;
+  private final LongArrayList scopeHierarchy = new LongArrayList();
+
   public DbVariableState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId,
+      final EngineConfiguration config) {
     childKey = new DbLong();
     childParentColumnFamily =
         zeebeDb.createColumnFamily(
@@ -75,6 +85,13 @@ public class DbVariableState implements MutableVariableState {
             transactionContext,
             scopeKeyVariableNameKey,
             new VariableInstance());
+
+    documentCache =
+        new VariableDocumentCache(
+            config.getVariableDocumentCacheMaxSize(),
+            new VariableDocumentCacheMetrics(partitionId));
+    // the cached documents may have been collected from the discarded changes
+    transactionContext.addRollbackListener(documentCache::clear);
   }
 
   @Override
@@ -109,6 +126,7 @@ public class DbVariableState implements MutableVariableState {
     variableName.wrapBuffer(variableNameView);
 
     variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
+    documentCache.invalidate(scopeKey);
   }
 
   @Override
@@ -117,6 +135,7 @@ public class DbVariableState implements MutableVariableState {
     this.parentKey.set(parentKey);
 
     childParentColumnFamily.insert(this.childKey, this.parentKey);
+    documentCache.invalidate(childKey);
   }
 
   @Override
@@ -128,6 +147,7 @@ public class DbVariableState implements MutableVariableState {
     childKey.wrapLong(scopeKey);
     // TODO: Could be deleteExisting except for tests
     childParentColumnFamily.deleteIfExists(childKey);
+    documentCache.invalidate(scopeKey);
   }
 
   @Override
@@ -137,6 +157,7 @@ public class DbVariableState implements MutableVariableState {
         dbString -> true,
         (dbString, variable1) -> variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey),
         () -> false);
+    documentCache.invalidate(scopeKey);
   }
 
   @Override
@@ -194,30 +215,43 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public DirectBuffer getVariablesAsDocument(final long scopeKey) {
+    final byte[] cachedDocument = documentCache.get(scopeKey);
+    if (cachedDocument != null) {
+      resultView.wrap(cachedDocument);
+      return resultView;
+    }
 
     collectedVariables.clear();
+    scopeHierarchy.clear();
     writer.wrap(documentResultBuffer, 0);
 
     writer.reserveMapHeader();
 
-    visitVariables(
-        scopeKey,
-        name -> !collectedVariables.contains(name.getBuffer()),
-        (name, value) -> {
-          final DirectBuffer variableNameBuffer = name.getBuffer();
-          writer.writeString(variableNameBuffer);
-          writer.writeRaw(value.getValue());
+    long currentScope = scopeKey;
+    do {
+      scopeHierarchy.addLong(currentScope);
+      visitVariablesLocal(
+          currentScope,
+          name -> !collectedVariables.contains(name.getBuffer()),
+          (name, value) -> {
+            final DirectBuffer variableNameBuffer = name.getBuffer();
+            writer.writeString(variableNameBuffer);
+            writer.writeRaw(value.getValue());
+
+            // must create a new name wrapper, because we keep them all in the hashset at the same
+            // time
+            final MutableDirectBuffer nameView = new UnsafeBuffer(variableNameBuffer);
+            collectedVariables.add(nameView);
+          },
+          () -> false);
 
-          // must create a new name wrapper, because we keep them all in the hashset at the same
-          // time
-          final MutableDirectBuffer nameView = new UnsafeBuffer(variableNameBuffer);
-          collectedVariables.add(nameView);
-        },
-        () -> false);
+      currentScope = getParentScopeKey(currentScope);
+    } while (currentScope >= 0);
 
     writer.writeReservedMapHeader(0, collectedVariables.size());
 
     resultView.wrap(documentResultBuffer, 0, writer.getOffset());
+    documentCache.put(scopeKey, scopeHierarchy, resultView);
     return resultView;
   }
 
@@ -299,6 +333,11 @@ public class DbVariableState implements MutableVariableState {
     return getVariableLocal(scopeKey, name, 0, name.capacity());
   }
 
+  @Override
+  public void clearCache() {
+    documentCache.clear();
+  }
+
   @Override
   public long getParentScopeKey(final long childScopeKey) {
     childKey.wrapLong(childScopeKey);
@@ -0,0 +1,148 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import io.camunda.zeebe.engine.metrics.VariableDocumentCacheMetrics;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.LongArrayList;
+import org.agrona.collections.LongHashSet;
+
+/**
+ * A size-bounded, least-recently-used cache of the variable documents of scopes, i.e. of all
+ * variables visible from a scope, including the ones inherited from its ancestors.
+ *
+ * <p>Each document depends on every scope of the hierarchy it was collected from. The cache keeps
+ * an index from each of these scopes to the documents depending on it, such that a modification of
+ * a scope only invalidates the documents which may have observed it.
+ *
+ * <p>The cache is not aware of transactions: it must be {@link #clear() cleared} whenever changes
+ * of a transaction are discarded, as it may contain documents collected from uncommitted changes.
+ * The variable state registers it as rollback listener of its transaction context for this.
+ */
+final class VariableDocumentCache {
+
+  private final LinkedHashMap<Long, CachedDocument> documents =
+      new LinkedHashMap<>(16, 0.75f, true);
+  // (scope key) => (scope keys of the cached documents which depend on the scope)
+  private final Long2ObjectHashMap<LongHashSet> dependentDocuments = new Long2ObjectHashMap<>();
+  private final long maxSize;
+  private final VariableDocumentCacheMetrics metrics;
+  private long size;
+
+  VariableDocumentCache(final long maxSize, final VariableDocumentCacheMetrics metrics) {
+    this.maxSize = maxSize;
+    this.metrics = metrics;
+  }
+
+  /**
+   * @return the cached document of the given scope, or {@code null} if there is none
+   */
+  byte[] get(final long scopeKey) {
+    if (maxSize <= 0) {
+      return null;
+    }
+
+    final var document = documents.get(scopeKey);
+    if (document == null) {
+      metrics.countMiss();
+      return null;
+    }
+
+    metrics.countHit(document.bytes().length);
+    return document.bytes();
+  }
+
+  /**
+   * Caches a copy of the document of the given scope, evicting the least recently used documents
+   * if the cache would otherwise exceed its maximum size.
+   *
+   * @param scopeKey the key of the scope the document was collected for
+   * @param scopeHierarchy the keys of all scopes the document was collected from
+   * @param document the document to cache
+   */
+  void put(final long scopeKey, final LongArrayList scopeHierarchy, final DirectBuffer document) {
+    final int length = document.capacity();
+    if (length > maxSize) {
+      return;
+    }
+
+    remove(scopeKey);
+
+    final byte[] bytes = new byte[length];
+    document.getBytes(0, bytes);
+    final long[] scopeKeys = scopeHierarchy.toLongArray();
+    documents.put(scopeKey, new CachedDocument(bytes, scopeKeys));
+    for (final long dependency : scopeKeys) {
+      dependentDocuments.computeIfAbsent(dependency, key -> new LongHashSet()).add(scopeKey);
+    }
+    size += length;
+
+    evictLeastRecentlyUsed();
+    metrics.setCachedBytes(size);
+  }
+
+  /**
+   * Invalidates the documents which depend on the given scope, i.e. the document of the scope
+   * itself and the documents of all its descendants.
+   */
+  void invalidate(final long scopeKey) {
+    final var dependents = dependentDocuments.remove(scopeKey);
+    if (dependents == null) {
+      return;
+    }
+
+    final var iterator = dependents.iterator();
+    while (iterator.hasNext()) {
+      remove(iterator.nextValue());
+    }
+    metrics.setCachedBytes(size);
+  }
+
+  void clear() {
+    documents.clear();
+    dependentDocuments.clear();
+    size = 0;
+    metrics.setCachedBytes(size);
+  }
+
+  private void evictLeastRecentlyUsed() {
+    final Iterator<Entry<Long, CachedDocument>> iterator = documents.entrySet().iterator();
+    while (size > maxSize && iterator.hasNext()) {
+      final var eldest = iterator.next();
+      iterator.remove();
+      removeDependencies(eldest.getKey(), eldest.getValue());
+    }
+  }
+
+  private void remove(final long scopeKey) {
+    final var document = documents.remove(scopeKey);
+    if (document != null) {
+      removeDependencies(scopeKey, document);
+    }
+  }
+
+  private void removeDependencies(final long scopeKey, final CachedDocument document) {
+    size -= document.bytes().length;
+
+    for (final long dependency : document.scopeHierarchy()) {
+      final var dependents = dependentDocuments.get(dependency);
+      if (dependents != null) {
+        dependents.remove(scopeKey);
+        if (dependents.isEmpty()) {
+          dependentDocuments.remove(dependency);
+        }
+      }
+    }
+  }
+
+  private record CachedDocument(byte[] bytes, long[] scopeHierarchy) {}
+}
@@ -15,6 +15,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.deployment.model.element.AbstractFlowElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
 import io.camunda.zeebe.engine.state.deployment.PersistedProcess.PersistedProcessState;
@@ -28,9 +29,15 @@ import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import io.camunda.zeebe.stream.api.scheduling.ProcessingScheduleService;
 import io.camunda.zeebe.stream.api.state.KeyGenerator;
 import io.camunda.zeebe.test.util.Strings;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.prometheus.client.CollectorRegistry;
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.ArrayDeque;
 import java.util.function.LongConsumer;
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
@@ -1094,6 +1101,102 @@ public final class ProcessStateTest {
     verify(visitor, times(2)).visit(any());
   }
 
+  @Test
+  public void shouldGetProcessWhichOutweighsTheCache() throws Exception {
+    // given
+    final var config = new EngineConfiguration().setProcessCacheMaxSize(1);
+    try (final var db = stateRule.createNewDb()) {
+      final var processState =
+          new DbProcessState(db, db.createContext(), 1, config, InstantSource.system());
+      final DeploymentRecord deploymentRecord = creatingDeploymentRecord(processingState);
+      processState.putDeployment(deploymentRecord);
+      final long processDefinitionKey = deploymentRecord.processesMetadata().get(0).getKey();
+
+      // when
+      final DeployedProcess deployedProcess =
+          processState.getProcessByKeyAndTenant(processDefinitionKey, TENANT_ID);
+
+      // then
+      assertThat(deployedProcess).isNotNull();
+      assertThat(deployedProcess.getProcess().getElementById(wrapString("test"))).isNotNull();
+    }
+  }
+
+  @Test
+  public void shouldNotCacheMoreProcessesThanCapacity() throws Exception {
+    // given
+    final int partitionId = 43;
+    final var config = new EngineConfiguration().setProcessCacheCapacity(1);
+    try (final var db = stateRule.createNewDb()) {
+      final var processState =
+          new DbProcessState(db, db.createContext(), partitionId, config, InstantSource.system());
+      final var firstDeployment = creatingDeploymentRecord(processingState, "process-1", 1);
+      final var secondDeployment = creatingDeploymentRecord(processingState, "process-2", 1);
+      processState.putDeployment(firstDeployment);
+      processState.putDeployment(secondDeployment);
+      final long firstKey = firstDeployment.processesMetadata().get(0).getKey();
+      final long secondKey = secondDeployment.processesMetadata().get(0).getKey();
+
+      // when
+      processState.getProcessByKeyAndTenant(firstKey, TENANT_ID);
+      processState.getProcessByKeyAndTenant(secondKey, TENANT_ID);
+      processState.getProcessByKeyAndTenant(firstKey, TENANT_ID);
+
+      // then
+      assertThat(getProcessCacheLookups(partitionId, "miss")).isEqualTo(3.0);
+      assertThat(getProcessCacheLookups(partitionId, "hit")).isNull();
+    }
+  }
+
+  @Test
+  public void shouldWarmUpCacheWithLatestProcessVersions() throws Exception {
+    // given
+    final int partitionId = 42;
+    final var config = new EngineConfiguration().setProcessCacheWarmUpEnabled(true);
+    final var scheduledTasks = new ArrayDeque<Runnable>();
+    final var scheduleService = mock(ProcessingScheduleService.class);
+    when(scheduleService.runDelayed(any(Duration.class), any(Runnable.class)))
+        .thenAnswer(
+            invocation -> {
+              scheduledTasks.add(invocation.getArgument(1));
+              return null;
+            });
+    final var context = mock(ReadonlyStreamProcessorContext.class);
+    when(context.getScheduleService()).thenReturn(scheduleService);
+
+    try (final var db = stateRule.createNewDb()) {
+      final var processState =
+          new DbProcessState(db, db.createContext(), partitionId, config, InstantSource.system());
+      processState.putDeployment(creatingDeploymentRecord(processingState, "process-1", 1));
+      processState.putDeployment(creatingDeploymentRecord(processingState, "process-1", 2));
+      processState.putDeployment(creatingDeploymentRecord(processingState, "process-2", 1));
+
+      // when
+      processState.onRecovered(context);
+      assertThat(getWarmedUpProcesses(partitionId)).isNull();
+      while (!scheduledTasks.isEmpty()) {
+        scheduledTasks.poll().run();
+      }
+
+      // then
+      assertThat(getWarmedUpProcesses(partitionId)).isEqualTo(2.0);
+    }
+  }
+
+  private static Double getProcessCacheLookups(final int partitionId, final String result) {
+    return CollectorRegistry.defaultRegistry.getSampleValue(
+        "zeebe_process_cache_lookups_total",
+        new String[] {"partition", "result"},
+        new String[] {String.valueOf(partitionId), result});
+  }
+
+  private static Double getWarmedUpProcesses(final int partitionId) {
+    return CollectorRegistry.defaultRegistry.getSampleValue(
+        "zeebe_process_cache_warmed_up_processes_total",
+        new String[] {"partition"},
+        new String[] {String.valueOf(partitionId)});
+  }
+
   public static DeploymentRecord creatingDeploymentRecord(
       final MutableProcessingState processingState) {
     return creatingDeploymentRecord(processingState, "processId");
@@ -641,6 +641,45 @@ public final class JobStateTest {
     assertThat(jobKeys).containsExactly(256L, 65536L);
   }
 
+  @Test
+  public void shouldListActivatableJobsOfMultipleTenantsInOrder() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    jobState.create(1, newJobRecord("tenant-a").setType(type));
+    jobState.create(2, newJobRecord("tenant-b").setType(type));
+    jobState.create(3, newJobRecord("tenant-c").setType(type));
+    jobState.create(4, newJobRecord("tenant-b").setType(type));
+    jobState.create(5, newJobRecord("tenant-a").setType(type));
+
+    // when
+    final List<Long> jobKeys = getActivatableKeys(type, "tenant-b", "tenant-a");
+
+    // then
+    assertThat(jobKeys).containsExactly(1L, 2L, 4L, 5L);
+  }
+
+  @Test
+  public void shouldStopListingActivatableJobsOfMultipleTenants() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    jobState.create(1, newJobRecord("tenant-a").setType(type));
+    jobState.create(2, newJobRecord("tenant-b").setType(type));
+    jobState.create(3, newJobRecord("tenant-a").setType(type));
+
+    // when
+    final List<Long> jobKeys = new ArrayList<>();
+    jobState.forEachActivatableJobs(
+        type,
+        List.of("tenant-a", "tenant-b"),
+        (key, job) -> {
+          jobKeys.add(key);
+          return jobKeys.size() < 2;
+        });
+
+    // then
+    assertThat(jobKeys).containsExactly(1L, 2L);
+  }
+
   @Test
   public void shouldNotDoAnythingIfNoActivatableJobs() {
     // given
@@ -0,0 +1,85 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.migration.to_8_7;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.state.instance.DbJobState;
+import io.camunda.zeebe.engine.state.migration.MigrationTaskContextImpl;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.stream.impl.ClusterContextImpl;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+public class JobActivatableByTenantMigrationTest {
+
+  final JobActivatableByTenantMigration sut = new JobActivatableByTenantMigration();
+
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private MutableProcessingState processingState;
+  private TransactionContext transactionContext;
+
+  private DbJobState jobState;
+  private DbJobActivatableMigrationState migrationState;
+
+  @BeforeEach
+  void setup() {
+    jobState = new DbJobState(zeebeDb, transactionContext);
+    migrationState = new DbJobActivatableMigrationState(zeebeDb, transactionContext);
+  }
+
+  @Test
+  void shouldMoveActivatableJobsToIndexByTenant() {
+    // given -- jobs which are only activatable in the previous index
+    final var jobA = new JobRecord().setType("type").setTenantId("tenant-a");
+    final var jobB = new JobRecord().setType("type").setTenantId("tenant-b");
+    jobState.create(1L, jobA);
+    jobState.create(2L, jobB);
+    jobState.activate(1L, jobA);
+    jobState.activate(2L, jobB);
+    migrationState.insertTenantAwareActivatableJob("type", "tenant-a", 1L);
+    migrationState.insertTenantAwareActivatableJob("type", "tenant-b", 2L);
+
+    // when
+    final var context = new MigrationTaskContextImpl(new ClusterContextImpl(1), processingState);
+    assertThat(sut.needsToRun(context)).isTrue();
+    sut.runMigration(context);
+
+    // then
+    assertThat(migrationState.existsActivatableJob("type", "tenant-a", 1L)).isTrue();
+    assertThat(migrationState.existsActivatableJob("type", "tenant-b", 2L)).isTrue();
+    assertThat(sut.needsToRun(context)).isFalse();
+
+    final List<Long> activatableKeys = new ArrayList<>();
+    jobState.forEachActivatableJobs(
+        wrapString("type"), List.of("tenant-a"), (key, job) -> activatableKeys.add(key));
+    assertThat(activatableKeys).containsExactly(1L);
+  }
+
+  @Test
+  void shouldNotRunWithoutActivatableJobsInPreviousIndex() {
+    // given
+    jobState.create(1L, new JobRecord().setType("type").setTenantId("tenant-a"));
+
+    // when
+    final var context = new MigrationTaskContextImpl(new ClusterContextImpl(1), processingState);
+
+    // then
+    assertThat(sut.needsToRun(context)).isFalse();
+  }
+}
@@ -462,6 +462,92 @@ public final class VariableStateTest {
             tuple(keyVariableC, child, wrapString("c"), wrapString("3")));
   }
 
+  @Test
+  public void shouldCollectChangedVariablesOfParentScopeAsDocument() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("2"));
+    assertEquality(variableState.getVariablesAsDocument(child), "{'a': 1, 'b': 2}");
+
+    // when
+    setVariableLocal(parent, wrapString("a"), asMsgPack("3"));
+    setVariableLocal(parent, wrapString("c"), asMsgPack("4"));
+
+    // then
+    assertEquality(variableState.getVariablesAsDocument(child), "{'a': 3, 'b': 2, 'c': 4}");
+  }
+
+  @Test
+  public void shouldNotCollectRemovedVariablesOfParentScopeAsDocument() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("2"));
+    assertEquality(variableState.getVariablesAsDocument(child), "{'a': 1, 'b': 2}");
+
+    // when
+    variableState.removeAllVariables(parent);
+
+    // then
+    assertEquality(variableState.getVariablesAsDocument(child), "{'b': 2}");
+  }
+
+  @Test
+  public void shouldCollectVariablesAsDocumentAfterClearingCache() {
+    // given
+    declareScope(parent);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    assertEquality(variableState.getVariablesAsDocument(parent), "{'a': 1}");
+
+    // when
+    variableState.clearCache();
+
+    // then
+    assertEquality(variableState.getVariablesAsDocument(parent), "{'a': 1}");
+  }
+
+  @Test
+  public void shouldNotCollectRolledBackVariablesAsDocument() throws Exception {
+    // given
+    declareScope(parent);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    assertEquality(variableState.getVariablesAsDocument(parent), "{'a': 1}");
+
+    final var transaction = ZEEBE_STATE_RULE.getTransactionContext().getCurrentTransaction();
+    setVariableLocal(parent, wrapString("a"), asMsgPack("2"));
+    assertEquality(variableState.getVariablesAsDocument(parent), "{'a': 2}");
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertEquality(variableState.getVariablesAsDocument(parent), "{'a': 1}");
+  }
+
+  @Test
+  public void shouldNotCollectVariablesRolledBackToSavePointAsDocument() throws Exception {
+    // given
+    declareScope(parent);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+
+    final var transaction = ZEEBE_STATE_RULE.getTransactionContext().getCurrentTransaction();
+    transaction.setSavePoint();
+    setVariableLocal(parent, wrapString("a"), asMsgPack("2"));
+    assertEquality(variableState.getVariablesAsDocument(parent), "{'a': 2}");
+
+    // when
+    transaction.rollbackToSavePoint();
+    transaction.commit();
+
+    // then
+    assertEquality(variableState.getVariablesAsDocument(parent), "{'a': 1}");
+  }
+
   private void declareScope(final long key) {
     declareScope(-1, key);
   }
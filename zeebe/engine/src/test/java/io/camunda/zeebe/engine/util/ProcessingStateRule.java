@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.util;
 
+import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
@@ -25,6 +26,7 @@ public final class ProcessingStateRule extends ExternalResource {
   private final TemporaryFolder tempFolder = new TemporaryFolder();
   private final int partition;
   private ZeebeDb<ZbColumnFamilies> db;
+  private TransactionContext context;
   private MutableProcessingState processingState;
 
   public ProcessingStateRule() {
@@ -40,7 +42,7 @@ public final class ProcessingStateRule extends ExternalResource {
     tempFolder.create();
     db = createNewDb();
 
-    final var context = db.createContext();
+    context = db.createContext();
     final var keyGenerator = new DbKeyGenerator(partition, db, context);
     processingState =
         new ProcessingDbState(
@@ -68,6 +70,10 @@ public final class ProcessingStateRule extends ExternalResource {
     return processingState;
   }
 
+  public TransactionContext getTransactionContext() {
+    return context;
+  }
+
   public ZeebeDb<ZbColumnFamilies> createNewDb() {
     try {
 
@@ -38,6 +38,12 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
   private static final Pattern EXPRESSION_PATTERN = Pattern.compile("\\=(.+)", Pattern.DOTALL);
 
+  private static final int PARSED_EXPRESSION_CACHE_CAPACITY = 10_000;
+
+  // shared by all partitions, since the same processes are usually deployed to all of them
+  private static final ParsedExpressionCache PARSED_EXPRESSIONS =
+      new ParsedExpressionCache(PARSED_EXPRESSION_CACHE_CAPACITY);
+
   private final FeelToMessagePackTransformer messagePackTransformer =
       new FeelToMessagePackTransformer();
 
@@ -60,7 +66,7 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
     if (expressionMatcher.matches()) {
       final var unpackedExpression = expressionMatcher.group(1);
-      return parseFeelExpression(unpackedExpression);
+      return PARSED_EXPRESSIONS.computeIfAbsent(unpackedExpression, this::parseFeelExpression);
     } else {
       return new StaticExpression(expression);
     }
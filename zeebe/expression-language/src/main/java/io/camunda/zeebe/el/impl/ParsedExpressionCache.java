@@ -0,0 +1,67 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.camunda.zeebe.el.Expression;
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import java.util.function.Function;
+
+/**
+ * A size-bounded cache of parsed FEEL expressions, keyed by the expression text without the leading
+ * {@code =}. The same expressions usually occur in many versions of a process, and are parsed again
+ * whenever a process is transformed, e.g. on deployment or when it was evicted from the process
+ * cache.
+ *
+ * <p>The parsed expressions are immutable and don't depend on the FEEL engine that parsed them, so
+ * a cache can be shared by all instances of the {@link FeelExpressionLanguage}. The cache is thread
+ * safe.
+ */
+final class ParsedExpressionCache {
+
+  private static final Counter LOOKUPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("feel_parsed_expression_cache_lookups_total")
+          .help("Number of lookups of parsed FEEL expressions in the cache, by hit or miss")
+          .labelNames("result")
+          .register();
+
+  private static final Gauge SIZE =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("feel_parsed_expression_cache_size")
+          .help("Current number of parsed FEEL expressions in the cache")
+          .register();
+
+  private final Cache<String, Expression> expressions;
+
+  ParsedExpressionCache(final long capacity) {
+    expressions = CacheBuilder.newBuilder().maximumSize(capacity).build();
+  }
+
+  /**
+   * Returns the cached expression for the given text, or parses and caches it if there is none.
+   * Invalid expressions are cached as well, as parsing them again would fail again.
+   */
+  Expression computeIfAbsent(final String expression, final Function<String, Expression> parser) {
+    final var cached = expressions.getIfPresent(expression);
+    if (cached != null) {
+      LOOKUPS.labels("hit").inc();
+      return cached;
+    }
+
+    LOOKUPS.labels("miss").inc();
+    final var parsed = parser.apply(expression);
+    expressions.put(expression, parsed);
+    SIZE.set(expressions.size());
+    return parsed;
+  }
+}
@@ -96,6 +96,33 @@ public class ExpressionLanguageTest {
     assertThat(expression.getFailureMessage()).startsWith("failed to parse expression 'x ?! 5'");
   }
 
+  @Test
+  public void shouldReuseParsedExpression() {
+    // given
+    final var otherExpressionLanguage =
+        ExpressionLanguageFactory.createExpressionLanguage(new TestFeelEngineClock());
+    final var expression = expressionLanguage.parseExpression("=x.y + 1");
+
+    // when
+    final var reparsedExpression = otherExpressionLanguage.parseExpression("=x.y + 1");
+
+    // then
+    assertThat(reparsedExpression).isSameAs(expression);
+  }
+
+  @Test
+  public void shouldReuseParsedInvalidExpression() {
+    // given
+    final var expression = expressionLanguage.parseExpression("=x ?! 6");
+
+    // when
+    final var reparsedExpression = expressionLanguage.parseExpression("=x ?! 6");
+
+    // then
+    assertThat(reparsedExpression).isSameAs(expression);
+    assertThat(reparsedExpression.isValid()).isFalse();
+  }
+
   @Test
   public void shouldEvaluateStaticStringValue() {
     final var expression = expressionLanguage.parseExpression("x");
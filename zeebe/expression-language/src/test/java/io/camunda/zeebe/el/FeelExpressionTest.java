@@ -8,12 +8,14 @@
 package io.camunda.zeebe.el;
 
 import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.test.util.MsgPackUtil.encodeMsgPack;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.el.impl.FeelExpressionLanguage;
 import io.camunda.zeebe.el.util.TestFeelEngineClock;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.junit.Test;
@@ -75,6 +77,72 @@ public class FeelExpressionTest {
     assertThat(evaluationResult.getString()).isEqualTo("z");
   }
 
+  @Test
+  public void pathExpressionsOnLargeContext() {
+    final var variables = new HashMap<String, Object>();
+    for (int i = 0; i < 100; i++) {
+      variables.put("y" + i, i);
+    }
+    final var context = Map.of("x", asMsgPack(variables));
+
+    final var evaluationResult =
+        evaluateExpression("[x.y7, x.y42, x.y99, x.missing]", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.ARRAY);
+    assertThat(evaluationResult.getList())
+        .isEqualTo(List.of(asMsgPack("7"), asMsgPack("42"), asMsgPack("99"), asMsgPack("null")));
+  }
+
+  @Test
+  public void pathExpressionsOnContextWithDuplicateKeys() {
+    final var context =
+        Map.of(
+            "x",
+            encodeMsgPack(
+                packer -> {
+                  packer.packMapHeader(2);
+                  packer.packString("y").packInt(1);
+                  packer.packString("y").packInt(2);
+                }));
+
+    final var evaluationResult = evaluateExpression("x.y", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.NUMBER);
+    assertThat(evaluationResult.getNumber()).isEqualTo(2L);
+  }
+
+  @Test
+  public void pathExpressionsOnLargeContextWithDuplicateKeys() {
+    final var context =
+        Map.of(
+            "x",
+            encodeMsgPack(
+                packer -> {
+                  packer.packMapHeader(101);
+                  for (int i = 0; i < 100; i++) {
+                    packer.packString("y" + i).packInt(i);
+                  }
+                  packer.packString("y7").packInt(-7);
+                }));
+
+    final var evaluationResult = evaluateExpression("[x.y7, x.y42, x.y7]", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.ARRAY);
+    assertThat(evaluationResult.getList())
+        .isEqualTo(List.of(asMsgPack("-7"), asMsgPack("42"), asMsgPack("-7")));
+  }
+
+  @Test
+  public void contextKeys() {
+    final var context = Map.of("x", asMsgPack(Map.of("a", 1, "b", 2)));
+    final var evaluationResult =
+        evaluateExpression("sort(get entries(x).key, function(a, b) a < b)", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.ARRAY);
+    assertThat(evaluationResult.getList())
+        .isEqualTo(List.of(asMsgPack("\"a\""), asMsgPack("\"b\"")));
+  }
+
   @Test
   public void comparison() {
     final var context = Map.of("x", asMsgPack("2"));
@@ -0,0 +1,157 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.feel.impl;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.camunda.feel.context.VariableProvider;
+import scala.Option;
+import scala.Tuple2;
+import scala.collection.Iterable;
+import scala.collection.immutable.Map;
+import scala.jdk.javaapi.CollectionConverters;
+
+/**
+ * Provides the entries of a MessagePack map as variables, looking them up directly in the encoded
+ * map instead of decoding all its keys upfront. Most expressions only access a few entries of a
+ * context, so the keys are only decoded to strings if all of them are requested.
+ *
+ * <p>A lookup scans the whole map for the entry. For large maps that are accessed more than once,
+ * an index of the entries is built on the second lookup, such that further lookups don't scan the
+ * map again. Like for a decoded map, the last entry wins if a key is duplicated.
+ */
+final class MessagePackMapVariableProvider implements VariableProvider {
+
+  /** Maps with at most this many entries are always scanned, as an index wouldn't pay off. */
+  static final int INDEX_THRESHOLD = 16;
+
+  private final MsgPackReader reader = new MsgPackReader();
+  private final DirectBuffer map;
+  private final int size;
+  private final DirectBuffer nameView = new UnsafeBuffer();
+  private final DirectBuffer resultView = new UnsafeBuffer();
+
+  private int lookups;
+  // (key) => (span of the value), built on demand
+  private HashMap<DirectBuffer, Span> index;
+  private Iterable<String> keys;
+
+  /**
+   * @param map the MessagePack map, including its header
+   * @param size the number of entries of the map
+   */
+  MessagePackMapVariableProvider(final DirectBuffer map, final int size) {
+    this.map = map;
+    this.size = size;
+  }
+
+  @Override
+  public Option<Object> getVariable(final String name) {
+    nameView.wrap(name.getBytes(StandardCharsets.UTF_8));
+    lookups++;
+
+    if (index == null && size > INDEX_THRESHOLD && lookups > 1) {
+      index = buildIndex();
+    }
+
+    final boolean found = index != null ? lookupInIndex() : scanForName();
+    return found ? Option.apply(resultView) : Option.empty();
+  }
+
+  @Override
+  public Iterable<String> keys() {
+    if (keys == null) {
+      final var names = new ArrayList<String>(size);
+      readMapHeader();
+      for (int i = 0; i < size; i++) {
+        names.add(bufferAsString(reader.readToken().getValueBuffer()));
+        reader.skipValue();
+      }
+      keys = CollectionConverters.asScala(names).toList().distinct();
+    }
+    return keys;
+  }
+
+  @Override
+  public Map<String, Object> getVariables() {
+    final var clonedMap = Map.<String, Object>newBuilder();
+    clonedMap.sizeHint(size);
+
+    readMapHeader();
+    for (int i = 0; i < size; i++) {
+      final var name = bufferAsString(reader.readToken().getValueBuffer());
+      final int valueOffset = reader.getOffset();
+      reader.skipValue();
+      clonedMap.addOne(
+          new Tuple2<>(name, cloneBuffer(map, valueOffset, reader.getOffset() - valueOffset)));
+    }
+    return clonedMap.result();
+  }
+
+  private boolean scanForName() {
+    int foundOffset = -1;
+    int foundLength = 0;
+
+    readMapHeader();
+    for (int i = 0; i < size; i++) {
+      final boolean matches = BufferUtil.equals(reader.readToken().getValueBuffer(), nameView);
+      final int valueOffset = reader.getOffset();
+      reader.skipValue();
+      if (matches) {
+        foundOffset = valueOffset;
+        foundLength = reader.getOffset() - valueOffset;
+      }
+    }
+
+    if (foundOffset < 0) {
+      return false;
+    }
+
+    resultView.wrap(map, foundOffset, foundLength);
+    return true;
+  }
+
+  private boolean lookupInIndex() {
+    final var span = index.get(nameView);
+    if (span == null) {
+      return false;
+    }
+
+    resultView.wrap(map, span.offset(), span.length());
+    return true;
+  }
+
+  private HashMap<DirectBuffer, Span> buildIndex() {
+    final var entries = new HashMap<DirectBuffer, Span>(size * 2);
+    readMapHeader();
+    for (int i = 0; i < size; i++) {
+      final int keyLength = reader.readToken().getValueBuffer().capacity();
+      final var key = new UnsafeBuffer(map, reader.getOffset() - keyLength, keyLength);
+
+      final int valueOffset = reader.getOffset();
+      reader.skipValue();
+      entries.put(key, new Span(valueOffset, reader.getOffset() - valueOffset));
+    }
+    return entries;
+  }
+
+  private void readMapHeader() {
+    reader.wrap(map, 0, map.capacity());
+    reader.readMapHeader();
+  }
+
+  private record Span(int offset, int length) {}
+}
@@ -124,6 +124,29 @@ public interface Journal extends AutoCloseable {
    */
   void flush() throws FlushException;
 
+  /**
+   * Flushes the journal only if the implementation considers a flush to be due, e.g. because its
+   * group commit window elapsed since the last flush. Otherwise, the flush is deferred, and the
+   * caller is responsible for eventually calling {@link #flush()}. Use {@link
+   * #getLastFlushedIndex()} to find out which records are safely flushed.
+   *
+   * <p>By default, this always flushes.
+   *
+   * @return true if all records written were flushed, false if the flush was deferred
+   */
+  default boolean flushIfDue() throws FlushException {
+    flush();
+    return true;
+  }
+
+  /**
+   * Returns the index of the last record which is known to be flushed to the persistent storage.
+   * Records after it may be lost if the process crashes.
+   *
+   * @return the last flushed index
+   */
+  long getLastFlushedIndex();
+
   /**
    * Opens a new {@link JournalReader}
    *
@@ -0,0 +1,298 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdCompressCtx;
+import com.github.luben.zstd.ZstdDecompressCtx;
+import com.github.luben.zstd.ZstdDictTrainer;
+import com.github.luben.zstd.ZstdException;
+import io.camunda.zeebe.journal.CorruptedJournalException;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A sealed segment which was compressed at rest. The file keeps the name and the descriptor of the
+ * original segment, followed by a marker which can never be the version of a frame, a header, and
+ * the entries of the segment compressed in independent blocks with zstd.
+ *
+ * <pre>
+ * | descriptor | marker | format version | last index | last asqn | content length | block size |
+ * | dictionary length | dictionary | block length | block | ... | block length | block |
+ * </pre>
+ *
+ * <p>Journal entries are small and very similar to each other, so every block is compressed with a
+ * dictionary trained on the entries of the partition. The dictionary is stored in every file, such
+ * that each file can be decompressed on its own, e.g. after being restored from a backup.
+ */
+final class CompressedSegmentFile {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CompressedSegmentFile.class);
+
+  // frames start with their version, which is either 0 or 1, so this marker is never a valid frame
+  private static final byte MARKER = 0x5A;
+  private static final int FORMAT_VERSION = 1;
+  private static final int HEADER_LENGTH =
+      Byte.BYTES + Integer.BYTES + Long.BYTES + Long.BYTES + Integer.BYTES * 3;
+  private static final int BLOCK_SIZE = 64 * 1024;
+  private static final int COMPRESSION_LEVEL = 3;
+  private static final int SAMPLE_SIZE = 4 * 1024;
+  private static final int MAX_SAMPLES = 1024;
+  private static final int DICTIONARY_SIZE = 64 * 1024;
+  private static final byte[] NO_DICTIONARY = new byte[0];
+
+  private final Path path;
+  private final int descriptorLength;
+  private final long lastIndex;
+  private final long lastAsqn;
+  private final int contentLength;
+  private final int blockSize;
+  private final byte[] dictionary;
+
+  private CompressedSegmentFile(
+      final Path path,
+      final int descriptorLength,
+      final long lastIndex,
+      final long lastAsqn,
+      final int contentLength,
+      final int blockSize,
+      final byte[] dictionary) {
+    this.path = path;
+    this.descriptorLength = descriptorLength;
+    this.lastIndex = lastIndex;
+    this.lastAsqn = lastAsqn;
+    this.contentLength = contentLength;
+    this.blockSize = blockSize;
+    this.dictionary = dictionary;
+  }
+
+  /**
+   * @return true if the segment in the given buffer is compressed
+   */
+  static boolean isCompressed(final ByteBuffer buffer, final int descriptorLength) {
+    return buffer.capacity() > descriptorLength && buffer.get(descriptorLength) == MARKER;
+  }
+
+  /**
+   * Reads the header of the given compressed segment file. The entries are only decompressed on
+   * {@link #decompressTo(ByteBuffer)}.
+   *
+   * @param path the compressed segment file
+   * @param descriptorLength the length of the segment descriptor at the start of the file
+   * @return the compressed segment file
+   * @throws CorruptedJournalException if the header is not valid
+   */
+  static CompressedSegmentFile open(final Path path, final int descriptorLength)
+      throws IOException {
+    try (final var channel = FileChannel.open(path, StandardOpenOption.READ);
+        final var input = inputStream(channel, descriptorLength)) {
+      final var marker = input.readByte();
+      final var version = input.readInt();
+      if (marker != MARKER || version != FORMAT_VERSION) {
+        throw new CorruptedJournalException(
+            "Expected compressed segment '%s' to have format version %d, but got %d"
+                .formatted(path.getFileName(), FORMAT_VERSION, version));
+      }
+
+      final var lastIndex = input.readLong();
+      final var lastAsqn = input.readLong();
+      final var contentLength = input.readInt();
+      final var blockSize = input.readInt();
+      final var dictionary = new byte[input.readInt()];
+      input.readFully(dictionary);
+
+      return new CompressedSegmentFile(
+          path, descriptorLength, lastIndex, lastAsqn, contentLength, blockSize, dictionary);
+    } catch (final EOFException e) {
+      throw new CorruptedJournalException(
+          "Expected to read header of compressed segment '%s', but reached the end of the file"
+              .formatted(path.getFileName()),
+          e);
+    }
+  }
+
+  /**
+   * Trains a dictionary on samples spread evenly over the entries of the given segment.
+   *
+   * @param source the uncompressed segment file
+   * @param descriptorLength the length of the segment descriptor
+   * @param contentLength the length of the segment up to the end of its last entry
+   * @return the trained dictionary, or an empty one if there are too few samples to train one
+   */
+  static byte[] trainDictionary(
+      final Path source, final int descriptorLength, final int contentLength) throws IOException {
+    final var entriesLength = contentLength - descriptorLength;
+    final var samples = Math.min(MAX_SAMPLES, entriesLength / SAMPLE_SIZE);
+    if (samples == 0) {
+      return NO_DICTIONARY;
+    }
+
+    final var trainer = new ZstdDictTrainer(samples * SAMPLE_SIZE, DICTIONARY_SIZE);
+    final var stride = entriesLength / samples;
+    try (final var channel = FileChannel.open(source, StandardOpenOption.READ)) {
+      for (int i = 0; i < samples; i++) {
+        final var sample = new byte[SAMPLE_SIZE];
+        readFully(channel, sample, SAMPLE_SIZE, descriptorLength + (long) i * stride);
+        trainer.addSample(sample);
+      }
+    }
+
+    try {
+      return trainer.trainSamples();
+    } catch (final ZstdException e) {
+      LOG.debug("Failed to train dictionary on segment {}, compressing without", source, e);
+      return NO_DICTIONARY;
+    }
+  }
+
+  /**
+   * Writes a compressed copy of the given sealed segment to the target file, and flushes it.
+   *
+   * @param source the uncompressed segment file
+   * @param target the file to write the compressed copy to, which must not exist yet
+   * @param descriptorLength the length of the segment descriptor
+   * @param contentLength the length of the segment up to the end of its last entry
+   * @param lastIndex the index of the last entry of the segment
+   * @param lastAsqn the last application sequence number of the segment
+   * @param dictionary the dictionary to compress the entries with, may be empty
+   * @return the size of the compressed file
+   */
+  static long write(
+      final Path source,
+      final Path target,
+      final int descriptorLength,
+      final int contentLength,
+      final long lastIndex,
+      final long lastAsqn,
+      final byte[] dictionary)
+      throws IOException {
+    try (final var sourceChannel = FileChannel.open(source, StandardOpenOption.READ);
+        final var targetChannel =
+            FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW);
+        final var context = new ZstdCompressCtx()) {
+      context.setLevel(COMPRESSION_LEVEL).setChecksum(true);
+      if (dictionary.length > 0) {
+        context.loadDict(dictionary);
+      }
+
+      final var output =
+          new DataOutputStream(
+              new BufferedOutputStream(Channels.newOutputStream(targetChannel), BLOCK_SIZE));
+      final var descriptor = new byte[descriptorLength];
+      readFully(sourceChannel, descriptor, descriptorLength, 0);
+      output.write(descriptor);
+      output.writeByte(MARKER);
+      output.writeInt(FORMAT_VERSION);
+      output.writeLong(lastIndex);
+      output.writeLong(lastAsqn);
+      output.writeInt(contentLength);
+      output.writeInt(BLOCK_SIZE);
+      output.writeInt(dictionary.length);
+      output.write(dictionary);
+
+      final var block = new byte[BLOCK_SIZE];
+      final var compressed = new byte[(int) Zstd.compressBound(BLOCK_SIZE)];
+      for (long position = descriptorLength; position < contentLength; position += BLOCK_SIZE) {
+        final var length = (int) Math.min(BLOCK_SIZE, contentLength - position);
+        readFully(sourceChannel, block, length, position);
+        final var compressedLength =
+            context.compressByteArray(compressed, 0, compressed.length, block, 0, length);
+        output.writeInt(compressedLength);
+        output.write(compressed, 0, compressedLength);
+      }
+
+      output.flush();
+      targetChannel.force(true);
+      return targetChannel.size();
+    }
+  }
+
+  /**
+   * Decompresses the entries of this segment into the given buffer, at the same positions as in the
+   * original segment. The descriptor is not copied, since readers never read it from the buffer.
+   * Blocks are decompressed one at a time, so only the target needs to hold the whole segment.
+   *
+   * @param target the buffer to decompress to, e.g. a mapped file, of at least the content length
+   * @throws CorruptedJournalException if a block cannot be decompressed or fails its checksum
+   */
+  void decompressTo(final ByteBuffer target) throws IOException {
+    final var blocksOffset = descriptorLength + HEADER_LENGTH + dictionary.length;
+    try (final var channel = FileChannel.open(path, StandardOpenOption.READ);
+        final var input = inputStream(channel, blocksOffset);
+        final var context = new ZstdDecompressCtx()) {
+      if (dictionary.length > 0) {
+        context.loadDict(dictionary);
+      }
+
+      final var block = new byte[blockSize];
+      var compressed = new byte[(int) Zstd.compressBound(blockSize)];
+      for (int position = descriptorLength; position < contentLength; position += blockSize) {
+        final var length = Math.min(blockSize, contentLength - position);
+        final var compressedLength = input.readInt();
+        if (compressedLength > compressed.length) {
+          compressed = new byte[compressedLength];
+        }
+
+        input.readFully(compressed, 0, compressedLength);
+        final var decompressedLength =
+            context.decompressByteArray(block, 0, length, compressed, 0, compressedLength);
+        if (decompressedLength != length) {
+          throw new CorruptedJournalException(
+              "Expected block at position %d of segment '%s' to have %d bytes, but got %d"
+                  .formatted(position, path.getFileName(), length, decompressedLength));
+        }
+        target.put(position, block, 0, length);
+      }
+    } catch (final ZstdException | EOFException e) {
+      throw new CorruptedJournalException(
+          "Failed to decompress segment '%s'".formatted(path.getFileName()), e);
+    }
+  }
+
+  long lastIndex() {
+    return lastIndex;
+  }
+
+  long lastAsqn() {
+    return lastAsqn;
+  }
+
+  int contentLength() {
+    return contentLength;
+  }
+
+  private static DataInputStream inputStream(final FileChannel channel, final long position)
+      throws IOException {
+    return new DataInputStream(
+        new BufferedInputStream(Channels.newInputStream(channel.position(position)), BLOCK_SIZE));
+  }
+
+  private static void readFully(
+      final FileChannel channel, final byte[] target, final int length, final long position)
+      throws IOException {
+    final var buffer = ByteBuffer.wrap(target, 0, length);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new EOFException(
+            "Expected to read %d bytes at position %d, but reached the end of the file"
+                .formatted(length, position));
+      }
+    }
+  }
+}
@@ -29,7 +29,20 @@ interface JournalIndex {
    * @param record the record that should be indexed
    * @param position the position of the given index
    */
-  void index(JournalRecord record, int position);
+  default void index(final JournalRecord record, final int position) {
+    index(record.index(), record.asqn(), position);
+  }
+
+  /**
+   * Indexes a record by its index, asqn and position with in a segment. Use this when the record
+   * itself is not available, e.g. when restoring the index from a persisted {@link
+   * SegmentIndexFile}.
+   *
+   * @param index the index of the record
+   * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+   * @param position the position of the record with in its segment
+   */
+  void index(long index, long asqn, int position);
 
   /**
    * Looks up the position of the given index.
@@ -89,4 +102,25 @@ interface JournalIndex {
    * @return true if this index likely have been already indexed. false if otherwise.
    */
   boolean hasIndexed(long index);
+
+  /**
+   * Visits all index mappings with an index in the given range, in ascending order of their index.
+   *
+   * @param fromIndex the lowest index to visit (inclusive)
+   * @param toIndex the highest index to visit (inclusive)
+   * @param visitor called for every index mapping in the range
+   */
+  void forEachInRange(long fromIndex, long toIndex, IndexEntryVisitor visitor);
+
+  @FunctionalInterface
+  interface IndexEntryVisitor {
+
+    /**
+     * @param index the index of the indexed record
+     * @param position the position of the record with in its segment
+     * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE} if none was
+     *     indexed
+     */
+    void visit(long index, int position, long asqn);
+  }
 }
@@ -56,6 +56,24 @@ final class JournalMetrics {
           .labelNames(PARTITION_LABEL)
           .register();
 
+  private static final Histogram FLUSH_BATCH_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("journal_flush_batch_size")
+          .help("Number of flush requests which were coalesced into a single journal flush")
+          .labelNames(PARTITION_LABEL)
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128, 256, 512)
+          .register();
+
+  private static final Histogram GROUP_COMMIT_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("journal_group_commit_latency")
+          .help("Time between the first deferred flush request and the journal flush completing it")
+          .labelNames(PARTITION_LABEL)
+          .buckets(0.0001, 0.0005, 0.001, .0025, .005, .01, .025, .05, .1, .25, .5, 1)
+          .register();
+
   private static final Gauge SEGMENT_COUNT =
       Gauge.build()
           .namespace(NAMESPACE)
@@ -112,10 +130,36 @@ final class JournalMetrics {
           .buckets(0.0001, 0.001, .005, .01, .025, .05, .075, .1, .25, .5, .75, 1, 2.5, 5)
           .register();
 
+  private static final Counter SEGMENT_COMPRESSION_INPUT_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("journal_segment_compression_input_bytes")
+          .help("Total size of the sealed segments which were compressed at rest")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Counter SEGMENT_COMPRESSION_OUTPUT_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("journal_segment_compression_output_bytes")
+          .help("Total size of the compressed segments written to replace sealed segments")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Histogram SEGMENT_DECOMPRESSION_TIME =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("journal_segment_decompression_time")
+          .help("Time spent to decompress a compressed segment on first read")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
   private final Histogram.Child segmentCreationTime;
   private final Histogram.Child segmentTruncateTime;
   private final Histogram.Child segmentFlushTime;
   private final Histogram.Child journalFlushTime;
+  private final Histogram.Child flushBatchSize;
+  private final Histogram.Child groupCommitLatency;
   private final Gauge.Child segmentCount;
   private final Gauge.Child journalOpenTime;
   private final Histogram.Child segmentAllocationTime;
@@ -123,12 +167,17 @@ final class JournalMetrics {
   private final Counter.Child appendRate;
   private final Counter.Child appendDataRate;
   private final Child seekLatency;
+  private final Counter.Child segmentCompressionInputBytes;
+  private final Counter.Child segmentCompressionOutputBytes;
+  private final Histogram.Child segmentDecompressionTime;
 
   JournalMetrics(final String partitionId) {
     segmentCreationTime = SEGMENT_CREATION_TIME.labels(partitionId);
     segmentTruncateTime = SEGMENT_TRUNCATE_TIME.labels(partitionId);
     segmentFlushTime = SEGMENT_FLUSH_TIME.labels(partitionId);
     journalFlushTime = JOURNAL_FLUSH_TIME.labels(partitionId);
+    flushBatchSize = FLUSH_BATCH_SIZE.labels(partitionId);
+    groupCommitLatency = GROUP_COMMIT_LATENCY.labels(partitionId);
     segmentCount = SEGMENT_COUNT.labels(partitionId);
     journalOpenTime = JOURNAL_OPEN_DURATION.labels(partitionId);
     segmentAllocationTime = SEGMENT_ALLOCATION_TIME.labels(partitionId);
@@ -136,6 +185,9 @@ final class JournalMetrics {
     appendRate = APPEND_RATE.labels(partitionId);
     appendDataRate = APPEND_DATA_RATE.labels(partitionId);
     seekLatency = SEEK_LATENCY.labels(partitionId);
+    segmentCompressionInputBytes = SEGMENT_COMPRESSION_INPUT_BYTES.labels(partitionId);
+    segmentCompressionOutputBytes = SEGMENT_COMPRESSION_OUTPUT_BYTES.labels(partitionId);
+    segmentDecompressionTime = SEGMENT_DECOMPRESSION_TIME.labels(partitionId);
   }
 
   void observeSegmentCreation(final Runnable segmentCreation) {
@@ -150,6 +202,14 @@ final class JournalMetrics {
     return journalFlushTime.startTimer();
   }
 
+  void observeFlushBatchSize(final int flushRequests) {
+    flushBatchSize.observe(flushRequests);
+  }
+
+  void observeGroupCommitLatency(final long latencyNanos) {
+    groupCommitLatency.observe(latencyNanos / 1_000_000_000d);
+  }
+
   void observeSegmentTruncation(final Runnable segmentTruncation) {
     segmentTruncateTime.time(segmentTruncation);
   }
@@ -182,4 +242,13 @@ final class JournalMetrics {
   Histogram.Timer observeSeekLatency() {
     return seekLatency.startTimer();
   }
+
+  void observeSegmentCompression(final long inputBytes, final long outputBytes) {
+    segmentCompressionInputBytes.inc(inputBytes);
+    segmentCompressionOutputBytes.inc(outputBytes);
+  }
+
+  Histogram.Timer observeSegmentDecompression() {
+    return segmentDecompressionTime.startTimer();
+  }
 }
@@ -28,7 +28,11 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Set;
 import org.agrona.IoUtil;
 import org.slf4j.Logger;
@@ -52,11 +56,20 @@ final class Segment implements AutoCloseable, FlushableSegment {
   private final Set<SegmentReader> readers = Sets.newConcurrentHashSet();
   private final MappedByteBuffer buffer;
   private final JournalMetrics metrics;
+  private final SegmentIndexFile indexFile;
+  // only set if the segment is compressed, in which case there is neither a buffer nor a writer
+  private final CompressedSegmentFile compressedFile;
+  // the decompressed entries of a compressed segment, shared by its readers while there are any;
+  // both are guarded by this
+  private MappedByteBuffer decompressedContent;
+  private Path decompressedFile;
 
   // This needs to be volatile in case the flushing is asynchronous
   private volatile boolean open = true;
   // This need to be volatile because both the writer and the readers access it concurrently
   private volatile boolean markedForDeletion = false;
+  // This needs to be volatile as the last reader releases a retired segment
+  private volatile boolean retired = false;
 
   Segment(
       final SegmentFile file,
@@ -72,10 +85,30 @@ final class Segment implements AutoCloseable, FlushableSegment {
     this.buffer = buffer;
     this.index = index;
     this.metrics = metrics;
+    indexFile = new SegmentIndexFile(SegmentIndexFile.pathOf(file.file().toPath()));
+    compressedFile = null;
 
     writer = createWriter(lastWrittenAsqn, metrics);
   }
 
+  /** Creates a read-only segment whose entries are read from the given compressed file. */
+  Segment(
+      final SegmentFile file,
+      final SegmentDescriptor descriptor,
+      final CompressedSegmentFile compressedFile,
+      final JournalIndex index,
+      final JournalMetrics metrics) {
+    this.file = file;
+    this.descriptor = descriptor;
+    this.compressedFile = compressedFile;
+    this.index = index;
+    this.metrics = metrics;
+    indexFile = new SegmentIndexFile(SegmentIndexFile.pathOf(file.file().toPath()));
+    descriptorSerializer = null;
+    buffer = null;
+    writer = null;
+  }
+
   /**
    * Returns the segment ID.
    *
@@ -101,7 +134,34 @@ final class Segment implements AutoCloseable, FlushableSegment {
    */
   @Override
   public long lastIndex() {
-    return writer.getLastIndex();
+    return isCompressed() ? compressedFile.lastIndex() : writer.getLastIndex();
+  }
+
+  /**
+   * Returns the length of the segment up to the end of its last entry.
+   *
+   * @return the length of the written part of the segment
+   */
+  int contentLength() {
+    return isCompressed() ? compressedFile.contentLength() : writer.getEndPosition();
+  }
+
+  /**
+   * Returns the file the entries of this segment are read from if it is compressed.
+   *
+   * @return the compressed file, or null if the segment is not compressed
+   */
+  CompressedSegmentFile compressedFile() {
+    return compressedFile;
+  }
+
+  /**
+   * Returns whether the segment is compressed, in which case it can only be read from.
+   *
+   * @return true if the segment is compressed
+   */
+  boolean isCompressed() {
+    return compressedFile != null;
   }
 
   /**
@@ -123,6 +183,11 @@ final class Segment implements AutoCloseable, FlushableSegment {
    */
   @Override
   public void flush() throws FlushException {
+    if (isCompressed() || retired) {
+      // compressed segments are flushed when written, and retired ones were replaced by such
+      return;
+    }
+
     final long lastIndex = lastIndex();
 
     try (final var ignored = metrics.observeSegmentFlush()) {
@@ -149,7 +214,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
    * @return The last application sequence number in the segment.
    */
   long lastAsqn() {
-    return writer.getLastAsqn();
+    return isCompressed() ? compressedFile.lastAsqn() : writer.getLastAsqn();
   }
 
   /**
@@ -177,6 +242,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
    */
   SegmentWriter writer() {
     checkOpen();
+    checkState(!isCompressed(), "Segment %s is compressed and cannot be written to", this);
     return writer;
   }
 
@@ -187,12 +253,59 @@ final class Segment implements AutoCloseable, FlushableSegment {
    */
   SegmentReader createReader() {
     checkOpen();
+    if (isCompressed()) {
+      return createDecompressedReader();
+    }
+
     final SegmentReader reader =
         new SegmentReader(buffer.asReadOnlyBuffer().position(0).order(ENDIANNESS), this, index);
     readers.add(reader);
     return reader;
   }
 
+  /**
+   * Creates a reader of the decompressed entries of this compressed segment. The reader is added
+   * while holding the lock, such that the decompressed content is not released concurrently.
+   */
+  private synchronized SegmentReader createDecompressedReader() {
+    final SegmentReader reader =
+        new SegmentReader(
+            decompressedContent().asReadOnlyBuffer().position(0).order(ENDIANNESS), this, index);
+    readers.add(reader);
+    return reader;
+  }
+
+  /**
+   * Decompresses the entries into a temporary file next to the segment and maps it, so readers
+   * share the page cache instead of a copy of the whole segment on the heap. The file is deleted
+   * once the last reader is closed.
+   */
+  private MappedByteBuffer decompressedContent() {
+    if (decompressedContent != null) {
+      return decompressedContent;
+    }
+
+    decompressedFile = file.newDecompressedFile();
+    try (final var ignored = metrics.observeSegmentDecompression();
+        final var channel =
+            FileChannel.open(
+                decompressedFile,
+                StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+      decompressedContent = channel.map(MapMode.READ_WRITE, 0, compressedFile.contentLength());
+      compressedFile.decompressTo(decompressedContent);
+    } catch (final IOException e) {
+      releaseDecompressedContent();
+      throw new JournalException(e);
+    } catch (final RuntimeException e) {
+      releaseDecompressedContent();
+      throw e;
+    }
+
+    return decompressedContent;
+  }
+
   private SegmentWriter createWriter(final long lastWrittenAsqn, final JournalMetrics metrics) {
     return new SegmentWriter(buffer, this, index, lastWrittenAsqn, metrics);
   }
@@ -209,6 +322,8 @@ final class Segment implements AutoCloseable, FlushableSegment {
     // concurrency control.
     if (markedForDeletion && readers.isEmpty()) {
       safeDelete();
+    } else if ((retired || isCompressed()) && readers.isEmpty()) {
+      release();
     }
   }
 
@@ -231,7 +346,50 @@ final class Segment implements AutoCloseable, FlushableSegment {
   public void close() {
     open = false;
     readers.forEach(SegmentReader::close);
-    IoUtil.unmap(buffer);
+    release();
+  }
+
+  /**
+   * Retires the segment after it was replaced by another segment with the same entries, e.g. by its
+   * compressed copy. Unlike {@link #delete()}, readers can continue reading from a retired segment,
+   * and its files are left untouched, as they now belong to the replacement. The segment is
+   * released once its last reader is closed.
+   */
+  void retire() {
+    retired = true;
+    if (readers.isEmpty()) {
+      release();
+    }
+  }
+
+  private synchronized void release() {
+    if (buffer != null) {
+      IoUtil.unmap(buffer);
+    }
+    // a reader may have been created concurrently, which must not lose its buffer
+    if (readers.isEmpty()) {
+      releaseDecompressedContent();
+    }
+  }
+
+  private void releaseDecompressedContent() {
+    if (decompressedContent != null) {
+      IoUtil.unmap(decompressedContent);
+      decompressedContent = null;
+    }
+
+    if (decompressedFile != null) {
+      try {
+        Files.deleteIfExists(decompressedFile);
+      } catch (final IOException e) {
+        LOG.warn(
+            "Could not delete decompressed copy {} of segment {}, it will be deleted on restart",
+            decompressedFile,
+            this,
+            e);
+      }
+      decompressedFile = null;
+    }
   }
 
   /** Deletes the segment. */
@@ -251,7 +409,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
               readers.size()));
     }
     try {
-      IoUtil.unmap(buffer);
+      release();
       Files.deleteIfExists(file.getFileMarkedForDeletion());
     } catch (final IOException e) {
       LOG.warn(
@@ -279,6 +437,8 @@ final class Segment implements AutoCloseable, FlushableSegment {
       throw new JournalException(e);
     }
     markedForDeletion = true;
+    // readers never use the persisted index, so it can be removed right away
+    indexFile.delete();
   }
 
   void updateDescriptor() {
@@ -287,7 +447,43 @@ final class Segment implements AutoCloseable, FlushableSegment {
     descriptorSerializer.writeTo(descriptor, buffer);
   }
 
+  /**
+   * Persists the index entries of this segment to its {@link SegmentIndexFile}, so they can be
+   * restored on start up without scanning the segment. Must only be called once the segment is
+   * sealed and its descriptor updated, see {@link #updateDescriptor()}.
+   *
+   * <p>Failing to write the file is not fatal, as the index can always be rebuilt from the segment.
+   */
+  void persistIndex() {
+    try {
+      indexFile.write(descriptor, index);
+    } catch (final IOException e) {
+      LOG.warn(
+          "Failed to persist index of segment {}, it will be rebuilt by scanning on restart",
+          this,
+          e);
+      indexFile.delete();
+    }
+  }
+
+  /**
+   * Restores the index entries of this segment from its {@link SegmentIndexFile}, if there is a
+   * valid one for the current descriptor.
+   *
+   * @return true if the index entries were restored, false otherwise
+   */
+  boolean loadPersistedIndex() {
+    if (descriptor.lastPosition() <= 0) {
+      // the segment was never sealed, or was truncated since
+      return false;
+    }
+
+    return indexFile.load(descriptor, index);
+  }
+
   void resetLastEntryInDescriptor() {
+    // the persisted index would not match anymore once the segment is truncated
+    indexFile.delete();
     descriptor = descriptor.reset();
     descriptorSerializer.writeTo(descriptor, buffer);
     // flush immediately to prevent inconsistencies between descriptor and actual last written entry
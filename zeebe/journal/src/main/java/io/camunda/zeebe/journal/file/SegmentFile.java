@@ -20,6 +20,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Segment file utility.
@@ -34,6 +35,10 @@ public final class SegmentFile {
   private static final String EXTENSION = "log";
   private static final String DELETE_EXTENSION = "deleted";
   private static final char DELETE_EXTENSION_SEPARATOR = '_';
+  private static final String COMPRESSING_EXTENSION = "compressing";
+  private static final String INFLATING_EXTENSION = "inflating";
+  private static final String DECOMPRESSED_EXTENSION = "decompressed";
+  private static final AtomicInteger DECOMPRESSED_FILE_INDEX = new AtomicInteger();
   private final File file;
   private Path fileMarkedForDeletion;
 
@@ -136,6 +141,63 @@ public final class SegmentFile {
     return fileMarkedForDeletion;
   }
 
+  /**
+   * Returns the file a compressed copy of this segment is written to, before it replaces the
+   * segment file.
+   */
+  Path getCompressingFile() {
+    return temporaryFile(COMPRESSING_EXTENSION);
+  }
+
+  /**
+   * Returns the file a decompressed copy of this segment is written to, before it replaces the
+   * segment file.
+   */
+  Path getInflatingFile() {
+    return temporaryFile(INFLATING_EXTENSION);
+  }
+
+  /**
+   * Returns a new file the entries of this compressed segment are decompressed to, such that
+   * readers can map them instead of holding them on the heap. Every call returns a different file,
+   * as readers of a replaced segment may still read from their own copy.
+   */
+  Path newDecompressedFile() {
+    final String decompressedFileName =
+        String.format(
+            "%s%c%d-%s",
+            file.getName(),
+            DELETE_EXTENSION_SEPARATOR,
+            DECOMPRESSED_FILE_INDEX.getAndIncrement(),
+            DECOMPRESSED_EXTENSION);
+    return Path.of(file.getParent(), decompressedFileName);
+  }
+
+  private Path temporaryFile(final String extension) {
+    return Path.of(file.getParent(), file.getName() + EXTENSION_SEPARATOR + extension);
+  }
+
+  /**
+   * Returns true if the given file is a left over copy of a segment, which was being compressed or
+   * decompressed, or read from, when the node stopped.
+   */
+  static boolean isTemporarySegmentFile(final String journalName, final String fileName) {
+    checkNotNull(journalName, "journalName cannot be null");
+    checkNotNull(fileName, "fileName cannot be null");
+
+    if (fileName.endsWith(DECOMPRESSED_EXTENSION)) {
+      final var indexSeparator = fileName.lastIndexOf(DELETE_EXTENSION_SEPARATOR);
+      return indexSeparator != -1
+          && isSegmentFile(journalName, fileName.substring(0, indexSeparator));
+    }
+
+    if (!fileName.endsWith(COMPRESSING_EXTENSION) && !fileName.endsWith(INFLATING_EXTENSION)) {
+      return false;
+    }
+    final var extensionIndex = fileName.lastIndexOf(EXTENSION_SEPARATOR);
+    return isSegmentFile(journalName, fileName.substring(0, extensionIndex));
+  }
+
   static boolean isDeletedSegmentFile(final String journalName, final String fileName) {
     checkNotNull(journalName, "journalName cannot be null");
     checkNotNull(fileName, "fileName cannot be null");
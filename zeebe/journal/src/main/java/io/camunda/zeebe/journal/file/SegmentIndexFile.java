@@ -0,0 +1,191 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.ChecksumGenerator;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import org.agrona.collections.LongArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A sidecar file which persists the {@link JournalIndex} entries of a sealed segment, such that they
+ * can be restored on start up without scanning the segment.
+ *
+ * <p>The file is written once the segment is sealed, i.e. when the journal rolls over to the next
+ * segment, and after the segment's descriptor was updated with its last index and position. It
+ * records the descriptor's identity (id, first index, last index and last position) and is only
+ * loaded if these still match the descriptor of the segment, which guarantees that the segment was
+ * not modified (e.g. truncated) since. The whole content is protected by a checksum, so partially
+ * written files are detected as well. In any case where the file cannot be used, it's simply
+ * ignored, and the index is rebuilt lazily as before.
+ *
+ * <p>The file is laid out as follows, in little endian:
+ *
+ * <pre>
+ * | version (int) | segment id (long) | first index (long) | last index (long) |
+ * | last position (int) | entry count (int) |
+ * | index (long) | position (int) | asqn (long) | ... repeated entry count times
+ * | checksum (long) |
+ * </pre>
+ */
+final class SegmentIndexFile {
+  static final String EXTENSION = ".idx";
+
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentIndexFile.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final int VERSION = 1;
+  private static final int HEADER_LENGTH = Integer.BYTES * 3 + Long.BYTES * 3;
+  private static final int ENTRY_LENGTH = Long.BYTES * 2 + Integer.BYTES;
+  private static final int CHECKSUM_LENGTH = Long.BYTES;
+
+  private final Path path;
+
+  SegmentIndexFile(final Path path) {
+    this.path = path;
+  }
+
+  /** Returns the path of the index file which belongs to the given segment file. */
+  static Path pathOf(final Path segmentFile) {
+    return segmentFile.resolveSibling(segmentFile.getFileName() + EXTENSION);
+  }
+
+  Path path() {
+    return path;
+  }
+
+  /**
+   * Persists the entries of the given index which belong to the segment described by the given
+   * descriptor. The descriptor must already contain the segment's last index and position.
+   *
+   * <p>The file is not flushed: if it's only partially written when the node crashes, the checksum
+   * will not match on the next start up and the file is ignored.
+   *
+   * @throws IOException if the file could not be written
+   */
+  void write(final SegmentDescriptor descriptor, final JournalIndex index) throws IOException {
+    final var entries = new LongArrayList();
+    index.forEachInRange(
+        descriptor.index(),
+        descriptor.lastIndex(),
+        (entryIndex, position, asqn) -> {
+          entries.addLong(entryIndex);
+          entries.addLong(position);
+          entries.addLong(asqn);
+        });
+
+    final int entryCount = entries.size() / 3;
+    final var buffer =
+        ByteBuffer.allocate(HEADER_LENGTH + entryCount * ENTRY_LENGTH + CHECKSUM_LENGTH)
+            .order(ENDIANNESS);
+    buffer
+        .putInt(VERSION)
+        .putLong(descriptor.id())
+        .putLong(descriptor.index())
+        .putLong(descriptor.lastIndex())
+        .putInt(descriptor.lastPosition())
+        .putInt(entryCount);
+    for (int i = 0; i < entries.size(); i += 3) {
+      buffer
+          .putLong(entries.getLong(i))
+          .putInt((int) entries.getLong(i + 1))
+          .putLong(entries.getLong(i + 2));
+    }
+    buffer.putLong(new ChecksumGenerator().compute(buffer.array(), 0, buffer.position()));
+
+    Files.write(path, buffer.array());
+  }
+
+  /**
+   * Restores the persisted entries into the given index, if the file exists, is complete, and
+   * belongs to the segment as it is described by the given descriptor.
+   *
+   * @return true if the entries were restored, false if the file was missing or unusable
+   */
+  boolean load(final SegmentDescriptor descriptor, final JournalIndex index) {
+    final byte[] content;
+    try {
+      content = Files.readAllBytes(path);
+    } catch (final NoSuchFileException e) {
+      return false;
+    } catch (final IOException e) {
+      LOG.debug("Failed to read segment index file {}, ignoring it", path, e);
+      return false;
+    }
+
+    if (!isValid(content, descriptor)) {
+      LOG.debug(
+          "Segment index file {} does not match segment descriptor {}, ignoring it",
+          path,
+          descriptor);
+      return false;
+    }
+
+    final var buffer = ByteBuffer.wrap(content).order(ENDIANNESS);
+    final int entryCount = buffer.getInt(HEADER_LENGTH - Integer.BYTES);
+    buffer.position(HEADER_LENGTH);
+    for (int i = 0; i < entryCount; i++) {
+      final long entryIndex = buffer.getLong();
+      final int position = buffer.getInt();
+      final long asqn = buffer.getLong();
+      index.index(entryIndex, asqn, position);
+    }
+
+    return true;
+  }
+
+  /** Deletes the file if it exists. Failures are logged, since the file is only an optimization. */
+  void delete() {
+    try {
+      Files.deleteIfExists(path);
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete segment index file {}", path, e);
+    }
+  }
+
+  private boolean isValid(final byte[] content, final SegmentDescriptor descriptor) {
+    if (content.length < HEADER_LENGTH + CHECKSUM_LENGTH) {
+      return false;
+    }
+
+    final var buffer = ByteBuffer.wrap(content).order(ENDIANNESS);
+    final int version = buffer.getInt();
+    final long id = buffer.getLong();
+    final long firstIndex = buffer.getLong();
+    final long lastIndex = buffer.getLong();
+    final int lastPosition = buffer.getInt();
+    final int entryCount = buffer.getInt();
+
+    if (version != VERSION
+        || id != descriptor.id()
+        || firstIndex != descriptor.index()
+        || lastIndex != descriptor.lastIndex()
+        || lastPosition != descriptor.lastPosition()
+        || entryCount < 0
+        || content.length != HEADER_LENGTH + (long) entryCount * ENTRY_LENGTH + CHECKSUM_LENGTH) {
+      return false;
+    }
+
+    final int checksumOffset = content.length - CHECKSUM_LENGTH;
+    final long checksum = buffer.getLong(checksumOffset);
+    return checksum == new ChecksumGenerator().compute(content, 0, checksumOffset);
+  }
+}
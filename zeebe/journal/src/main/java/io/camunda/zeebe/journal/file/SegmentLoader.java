@@ -19,6 +19,7 @@ import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import org.agrona.IoUtil;
 import org.slf4j.Logger;
@@ -130,6 +131,17 @@ final class SegmentLoader {
       final var descriptor =
           readDescriptor(descriptorSerializer, mappedSegment, segmentFile.getFileName().toString());
 
+      if (CompressedSegmentFile.isCompressed(mappedSegment, descriptor.encodingLength())) {
+        // compressed segments are read-only, and must not be remapped as that would grow the file
+        IoUtil.unmap(mappedSegment);
+        return new Segment(
+            new SegmentFile(segmentFile.toFile()),
+            descriptor,
+            CompressedSegmentFile.open(segmentFile, descriptor.encodingLength()),
+            journalIndex,
+            metrics);
+      }
+
       if (descriptor.maxSegmentSize() > initialMappedLength) {
         // remap with actual size
         IoUtil.unmap(mappedSegment);
@@ -149,6 +161,45 @@ final class SegmentLoader {
     }
   }
 
+  /**
+   * Replaces the given compressed segment by a decompressed, writable copy, e.g. when the journal
+   * is truncated back into it. The copy is written next to the segment, and then moved over it, so
+   * that the segment is never lost if the node stops in between. The given segment must be retired
+   * by the caller once the copy replaced it.
+   *
+   * @param segment the compressed segment to decompress
+   * @param lastWrittenAsqn the last application sequence number of the previous segment
+   * @param journalIndex the journal index
+   * @return the writable copy of the segment
+   */
+  Segment inflateSegment(
+      final Segment segment, final long lastWrittenAsqn, final JournalIndex journalIndex) {
+    final var segmentFile = segment.file().file().toPath();
+    final var inflatingFile = segment.file().getInflatingFile();
+    final var descriptor = segment.descriptor();
+
+    try {
+      final var mappedSegment = mapNewSegment(inflatingFile, descriptor);
+      try {
+        segment.compressedFile().decompressTo(mappedSegment);
+        SegmentDescriptorSerializer.currentSerializer().writeTo(descriptor, mappedSegment);
+        mappedSegment.force();
+      } finally {
+        IoUtil.unmap(mappedSegment);
+      }
+
+      FileUtil.moveDurably(
+          inflatingFile,
+          segmentFile,
+          StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      throw new JournalException(String.format("Failed to decompress segment %s", segmentFile), e);
+    }
+
+    return loadExistingSegment(segmentFile, lastWrittenAsqn, journalIndex);
+  }
+
   /* ---- Internal methods ------ */
   private Segment loadSegment(
       final Path file,
@@ -100,6 +100,13 @@ final class SegmentWriter {
     return lastEntryPosition;
   }
 
+  /**
+   * @return the position right after the last entry, i.e. the length of the written segment
+   */
+  int getEndPosition() {
+    return buffer.position();
+  }
+
   long getNextIndex() {
     if (lastEntry != null) {
       return lastEntry.index() + 1;
@@ -117,6 +117,7 @@ public final class SegmentedJournal implements Journal {
   public boolean deleteUntil(final long index) {
     final var stamp = rwlock.writeLock();
     try {
+      segments.installCompressedSegment();
       return segments.deleteUntil(index);
     } finally {
       rwlock.unlockWrite(stamp);
@@ -156,25 +157,17 @@ public final class SegmentedJournal implements Journal {
 
   @Override
   public void flush() throws FlushException {
-    if (!isOpen() || isEmpty()) {
-      LOGGER.debug("Skipped journal flush as it is either closed or empty");
-      return;
-    }
+    flush(false);
+  }
 
-    try (final var ignored = journalMetrics.observeJournalFlush()) {
-      // grabbing the read lock here will prevent write-exclusive operations such as deleteAfter and
-      // reset from modifying the segments, allowing us to properly determine which segments must be
-      // flushed. contention is quite low as it only contends with deleteAfter, deleteUntil, and
-      // reset, all operations which do not run often, and not on the hot path. in the case where
-      // flushing is synchronous on the raft thread (the default), then all these operations run
-      // sequentially anyway, meaning there is virtually no contention
-      final var stamp = rwlock.readLock();
-      try {
-        writer.flush();
-      } finally {
-        rwlock.unlockRead(stamp);
-      }
-    }
+  @Override
+  public boolean flushIfDue() throws FlushException {
+    return flush(true);
+  }
+
+  @Override
+  public long getLastFlushedIndex() {
+    return writer.getLastFlushedIndex();
   }
 
   @Override
@@ -220,6 +213,50 @@ public final class SegmentedJournal implements Journal {
     open = false;
   }
 
+  private boolean flush(final boolean onlyIfDue) throws FlushException {
+    if (!isOpen() || isEmpty()) {
+      LOGGER.debug("Skipped journal flush as it is either closed or empty");
+      return true;
+    }
+
+    installCompressedSegment();
+
+    // grabbing the read lock here will prevent write-exclusive operations such as deleteAfter and
+    // reset from modifying the segments, allowing us to properly determine which segments must be
+    // flushed. contention is quite low as it only contends with deleteAfter, deleteUntil, and
+    // reset, all operations which do not run often, and not on the hot path. in the case where
+    // flushing is synchronous on the raft thread (the default), then all these operations run
+    // sequentially anyway, meaning there is virtually no contention
+    final var stamp = rwlock.readLock();
+    try {
+      if (onlyIfDue) {
+        return writer.flushIfDue();
+      }
+
+      writer.flush();
+      return true;
+    } finally {
+      rwlock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * Replaces a sealed segment by its compressed copy, if one was written in the background since.
+   * This requires the write lock, but is cheap, and only happens about once per segment.
+   */
+  private void installCompressedSegment() {
+    if (!segments.hasCompressedSegment()) {
+      return;
+    }
+
+    final var stamp = rwlock.writeLock();
+    try {
+      segments.installCompressedSegment();
+    } finally {
+      rwlock.unlockWrite(stamp);
+    }
+  }
+
   /**
    * Asserts that the journal is open.
    *
@@ -21,6 +21,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import io.camunda.zeebe.journal.JournalMetaStore;
 import java.io.File;
+import java.time.Duration;
 
 /** Raft log builder. */
 @SuppressWarnings("UnusedReturnValue")
@@ -32,6 +33,10 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_SORTED_ARRAY_JOURNAL_INDEX = false;
+  private static final boolean DEFAULT_COMPRESS_SEALED_SEGMENTS = false;
+  private static final Duration DEFAULT_GROUP_COMMIT_WINDOW = Duration.ZERO;
+  private static final long DEFAULT_GROUP_COMMIT_MAX_BYTES = 4L * 1024 * 1024;
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -43,6 +48,10 @@ public class SegmentedJournalBuilder {
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean sortedArrayJournalIndex = DEFAULT_SORTED_ARRAY_JOURNAL_INDEX;
+  private boolean compressSealedSegments = DEFAULT_COMPRESS_SEALED_SEGMENTS;
+  private Duration groupCommitWindow = DEFAULT_GROUP_COMMIT_WINDOW;
+  private long groupCommitMaxBytes = DEFAULT_GROUP_COMMIT_MAX_BYTES;
   private int partitionId = DEFAULT_PARTITION_ID;
 
   private JournalMetaStore journalMetaStore;
@@ -141,6 +150,80 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets whether the journal index is backed by sorted primitive arrays instead of skip list maps.
+   * Both index the same entries (see {@link #withJournalIndexDensity(int)}), but the array based
+   * index has a much smaller heap footprint per indexed entry and is cheaper to look up, which
+   * matters for journals with a long retention and a dense index.
+   *
+   * <p>By default, the skip list based index is used.
+   *
+   * @param sortedArrayJournalIndex true to use the sorted array index, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withSortedArrayJournalIndex(
+      final boolean sortedArrayJournalIndex) {
+    this.sortedArrayJournalIndex = sortedArrayJournalIndex;
+    return this;
+  }
+
+  /**
+   * Sets whether sealed segments are compressed at rest. If true, sealed segments are compressed in
+   * the background with a dictionary trained on the journal's entries, and replace the original
+   * segment files. The most recently sealed segment is always kept uncompressed. Compressed
+   * segments are decompressed into memory when they are read, and back into a regular segment
+   * file if the journal is truncated into them.
+   *
+   * <p>By default, segments are not compressed.
+   *
+   * @param compressSealedSegments true to compress sealed segments, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withCompressSealedSegments(
+      final boolean compressSealedSegments) {
+    this.compressSealedSegments = compressSealedSegments;
+    return this;
+  }
+
+  /**
+   * Sets the group commit window. When positive, flush requests arriving within this window after
+   * the last flush via {@link SegmentedJournal#flushIfDue()} are deferred and coalesced into a
+   * single flush of all dirty segments, which is performed by the first flush request after the
+   * window has elapsed, or once more than {@link #withGroupCommitMaxBytes(long)} were appended.
+   * This trades a bounded flush latency for fewer flushes under high write rates. {@link
+   * SegmentedJournal#flush()} is never deferred.
+   *
+   * <p>By default, the window is zero, i.e. group commit is disabled and every flush request is
+   * performed immediately.
+   *
+   * @param groupCommitWindow the maximum time a flush request may be deferred by
+   * @return this builder for chaining
+   * @throws IllegalArgumentException if the {@code groupCommitWindow} is negative
+   */
+  public SegmentedJournalBuilder withGroupCommitWindow(final Duration groupCommitWindow) {
+    checkNotNull(groupCommitWindow, "groupCommitWindow cannot be null");
+    checkArgument(!groupCommitWindow.isNegative(), "groupCommitWindow must not be negative");
+    this.groupCommitWindow = groupCommitWindow;
+    return this;
+  }
+
+  /**
+   * Sets the amount of appended bytes after which a flush request is performed immediately, even if
+   * it arrives within the group commit window (see {@link #withGroupCommitWindow(Duration)}). Has
+   * no effect if group commit is disabled.
+   *
+   * <p>By default, this is {@code 4 * 1024 * 1024}.
+   *
+   * @param groupCommitMaxBytes the maximum amount of bytes to defer flushing for
+   * @return this builder for chaining
+   * @throws IllegalArgumentException if the {@code groupCommitMaxBytes} is not positive
+   */
+  public SegmentedJournalBuilder withGroupCommitMaxBytes(final long groupCommitMaxBytes) {
+    checkArgument(groupCommitMaxBytes > 0, "groupCommitMaxBytes must be positive");
+    this.groupCommitMaxBytes = groupCommitMaxBytes;
+    return this;
+  }
+
   /**
    * The ID of the partition on which this journal resides. This is used primarily for
    * observability, e.g. in {@link JournalMetrics}.
@@ -163,7 +246,10 @@ public class SegmentedJournalBuilder {
   }
 
   public SegmentedJournal build() {
-    final var journalIndex = new SparseJournalIndex(journalIndexDensity);
+    final JournalIndex journalIndex =
+        sortedArrayJournalIndex
+            ? new SortedArrayJournalIndex(journalIndexDensity)
+            : new SparseJournalIndex(journalIndexDensity);
     final var journalMetrics = new JournalMetrics(String.valueOf(partitionId));
     final var segmentAllocator =
         preallocateSegmentFiles ? SegmentAllocator.fill() : SegmentAllocator.noop();
@@ -176,8 +262,15 @@ public class SegmentedJournalBuilder {
             name,
             segmentLoader,
             journalMetrics,
-            journalMetaStore);
-    final var segmentsFlusher = new SegmentsFlusher(journalMetaStore);
+            journalMetaStore,
+            compressSealedSegments);
+    final var segmentsFlusher =
+        new SegmentsFlusher(
+            journalMetaStore,
+            journalMetrics,
+            groupCommitWindow,
+            groupCommitMaxBytes,
+            System::nanoTime);
 
     return new SegmentedJournal(journalIndex, segmentsManager, journalMetrics, segmentsFlusher);
   }
@@ -78,7 +78,7 @@ final class SegmentedJournalWriter {
       final Function<SegmentWriter, Either<SegmentFull, JournalRecord>> inSegmentAppender) {
     final var appendResult = inSegmentAppender.apply(currentWriter);
     if (appendResult.isRight()) {
-      return appendResult.get();
+      return onAppended(appendResult.get());
     }
 
     if (currentSegment.index() == currentWriter.getNextIndex()) {
@@ -90,7 +90,12 @@ final class SegmentedJournalWriter {
     if (appendResultOnNewSegment.isLeft()) {
       throw appendResultOnNewSegment.getLeft();
     }
-    return appendResultOnNewSegment.get();
+    return onAppended(appendResultOnNewSegment.get());
+  }
+
+  private JournalRecord onAppended(final JournalRecord record) {
+    flusher.onAppend(record.serializedRecord().capacity());
+    return record;
   }
 
   void reset(final long index) {
@@ -126,8 +131,18 @@ final class SegmentedJournalWriter {
     flusher.flush(segments.getTailSegments(flusher.nextFlushIndex()).values());
   }
 
+  boolean flushIfDue() throws FlushException {
+    // same as above, but may be deferred by group commit
+    return flusher.flushIfDue(segments.getTailSegments(flusher.nextFlushIndex()).values());
+  }
+
+  long getLastFlushedIndex() {
+    return flusher.lastFlushedIndex();
+  }
+
   private void createNewSegment() {
     currentSegment.updateDescriptor();
+    currentSegment.persistIndex();
     currentSegment = segments.getNextSegment();
     currentWriter = currentSegment.writer();
   }
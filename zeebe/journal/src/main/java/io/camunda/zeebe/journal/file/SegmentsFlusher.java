@@ -9,22 +9,61 @@ package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
 import io.camunda.zeebe.journal.JournalMetaStore;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.function.LongSupplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Flushes dirty segments and keeps track of the last flushed index.
+ *
+ * <p>{@link #flush(Collection)} always flushes. When group commit is enabled (i.e. the group commit
+ * window is positive), {@link #flushIfDue(Collection)} coalesces flush requests instead: a request
+ * which arrives less than the window after the last flush is deferred, unless more than the
+ * configured amount of bytes were appended since then. The next request which falls outside the
+ * window, or crosses the byte threshold, flushes all segments written since the last flush at once.
+ * A caller whose request was deferred is responsible for calling {@link #flush(Collection)} once
+ * the window elapsed, as nothing else guarantees that the deferred data is flushed eventually.
+ */
 final class SegmentsFlusher {
   private static final Logger LOGGER = LoggerFactory.getLogger(SegmentsFlusher.class);
 
   private final JournalMetaStore metaStore;
+  private final JournalMetrics metrics;
+  private final long groupCommitWindowNanos;
+  private final long groupCommitMaxBytes;
+  private final LongSupplier nanoClock;
+
+  // volatile, as it may be read from other threads than the one flushing
+  private volatile long lastFlushedIndex;
 
-  // no need to make this volatile if callers always acquire the write-lock beforehand
-  private long lastFlushedIndex;
+  // group commit state; flushes are synchronized, as a deferred flush may be completed by another
+  // thread than the one appending, e.g. after a deadline
+  private long lastFlushNanos;
+  private long firstDeferredFlushNanos;
+  private int deferredFlushes;
+  private long unflushedBytes;
+
+  SegmentsFlusher(final JournalMetaStore metaStore, final JournalMetrics metrics) {
+    this(metaStore, metrics, Duration.ZERO, Long.MAX_VALUE, System::nanoTime);
+  }
 
-  SegmentsFlusher(final JournalMetaStore metaStore) {
+  SegmentsFlusher(
+      final JournalMetaStore metaStore,
+      final JournalMetrics metrics,
+      final Duration groupCommitWindow,
+      final long groupCommitMaxBytes,
+      final LongSupplier nanoClock) {
     this.metaStore = Objects.requireNonNull(metaStore, "must specify a meta store");
+    this.metrics = Objects.requireNonNull(metrics, "must specify journal metrics");
+    this.nanoClock = Objects.requireNonNull(nanoClock, "must specify a clock");
+    groupCommitWindowNanos =
+        Objects.requireNonNull(groupCommitWindow, "must specify a group commit window").toNanos();
+    this.groupCommitMaxBytes = groupCommitMaxBytes;
     lastFlushedIndex = metaStore.loadLastFlushedIndex();
+    lastFlushNanos = nanoClock.getAsLong() - groupCommitWindowNanos;
   }
 
   void setLastFlushedIndex(final long lastFlushedIndex) {
@@ -36,14 +75,63 @@ final class SegmentsFlusher {
     return lastFlushedIndex + 1;
   }
 
+  /**
+   * @return the index up to which the segments are known to be flushed
+   */
+  long lastFlushedIndex() {
+    return lastFlushedIndex;
+  }
+
+  /**
+   * Records that the given amount of bytes was appended, counting towards the group commit byte
+   * threshold.
+   *
+   * @param appendedBytes the number of bytes appended
+   */
+  void onAppend(final long appendedBytes) {
+    unflushedBytes += appendedBytes;
+  }
+
+  /**
+   * Flushes the given segments, unless group commit is enabled and the request can be coalesced
+   * with a later one. If the flush was deferred, the caller must eventually call {@link
+   * #flush(Collection)}. See the class documentation for more.
+   *
+   * @param dirtySegments the list of segments which need to be flushed
+   * @return true if the segments were flushed, false if the flush was deferred
+   */
+  synchronized boolean flushIfDue(final Collection<? extends FlushableSegment> dirtySegments)
+      throws FlushException {
+    if (groupCommitWindowNanos > 0) {
+      final long now = nanoClock.getAsLong();
+      if (now - lastFlushNanos < groupCommitWindowNanos && unflushedBytes < groupCommitMaxBytes) {
+        if (deferredFlushes == 0) {
+          firstDeferredFlushNanos = now;
+        }
+
+        deferredFlushes++;
+        LOGGER.trace(
+            "Deferred flush within group commit window; {} flush(es), {} bytes pending",
+            deferredFlushes,
+            unflushedBytes);
+        return false;
+      }
+    }
+
+    flush(dirtySegments);
+    return true;
+  }
+
   /**
    * Fetches all segments with a last index greater than or equal to current {@link
    * #lastFlushedIndex}. These are then flushed in order. The {@link Segment#lastIndex()} of the
    * last successful segment to be flushed will be stored in the given {@link JournalMetaStore}.
+   * Any pending, deferred flush requests are completed by this.
    *
    * @param dirtySegments the list of segments which need to be flushed
    */
-  void flush(final Collection<? extends FlushableSegment> dirtySegments) throws FlushException {
+  synchronized void flush(final Collection<? extends FlushableSegment> dirtySegments)
+      throws FlushException {
     final var segmentsCount = dirtySegments.size();
     long flushedIndex = -1;
 
@@ -53,12 +141,14 @@ final class SegmentsFlusher {
       return;
     }
 
-    try {
+    try (final var ignored = metrics.observeJournalFlush()) {
       for (final var segment : dirtySegments) {
         final long lastSegmentIndex = segment.lastIndex();
         segment.flush(); // throws FlushException
         flushedIndex = lastSegmentIndex;
       }
+
+      onFlushCompleted();
     } finally {
       // store whatever we managed to flush to avoid doing it again
       if (flushedIndex > lastFlushedIndex) {
@@ -72,4 +162,16 @@ final class SegmentsFlusher {
       }
     }
   }
+
+  private void onFlushCompleted() {
+    final long now = nanoClock.getAsLong();
+    metrics.observeFlushBatchSize(deferredFlushes + 1);
+    if (deferredFlushes > 0) {
+      metrics.observeGroupCommitLatency(now - firstDeferredFlushNanos);
+    }
+
+    lastFlushNanos = now;
+    deferredFlushes = 0;
+    unflushedBytes = 0;
+  }
 }
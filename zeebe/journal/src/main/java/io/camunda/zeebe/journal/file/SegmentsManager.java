@@ -12,12 +12,15 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import io.camunda.zeebe.journal.CorruptedJournalException;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.util.FileUtil;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -32,6 +35,8 @@ import java.util.SortedMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,8 +60,16 @@ final class SegmentsManager implements AutoCloseable {
   private final SegmentLoader segmentLoader;
   private final String name;
   private final JournalMetaStore metaStore;
+  private final boolean compressSealedSegments;
+  // compression reads and writes whole segments, so it runs on its own thread instead of a shared
+  // pool; only created if segments are compressed
+  private final ExecutorService compressionExecutor;
 
   private volatile Segment currentSegment;
+  // at most one segment is compressed at a time; guarded by this
+  private volatile SegmentCompression pendingCompression;
+  // only accessed by the compression task, of which there is at most one at a time
+  private byte[] compressionDictionary;
 
   SegmentsManager(
       final JournalIndex journalIndex,
@@ -66,6 +79,26 @@ final class SegmentsManager implements AutoCloseable {
       final SegmentLoader segmentLoader,
       final JournalMetrics journalMetrics,
       final JournalMetaStore metaStore) {
+    this(
+        journalIndex,
+        maxSegmentSize,
+        directory,
+        name,
+        segmentLoader,
+        journalMetrics,
+        metaStore,
+        false);
+  }
+
+  SegmentsManager(
+      final JournalIndex journalIndex,
+      final int maxSegmentSize,
+      final File directory,
+      final String name,
+      final SegmentLoader segmentLoader,
+      final JournalMetrics journalMetrics,
+      final JournalMetaStore metaStore,
+      final boolean compressSealedSegments) {
     this.name = checkNotNull(name, "name cannot be null");
     this.journalIndex = journalIndex;
     this.maxSegmentSize = maxSegmentSize;
@@ -73,10 +106,21 @@ final class SegmentsManager implements AutoCloseable {
     this.segmentLoader = segmentLoader;
     this.journalMetrics = journalMetrics;
     this.metaStore = metaStore;
+    this.compressSealedSegments = compressSealedSegments;
+    compressionExecutor =
+        compressSealedSegments
+            ? Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("zb-journal-compression-" + name).daemon().factory())
+            : null;
   }
 
   @Override
   public void close() {
+    cancelCompression();
+    if (compressionExecutor != null) {
+      compressionExecutor.shutdownNow();
+    }
+
     segments
         .values()
         .forEach(
@@ -145,6 +189,7 @@ final class SegmentsManager implements AutoCloseable {
 
     segments.put(descriptor.index(), currentSegment);
     journalMetrics.incSegmentCount();
+    compressNextSealedSegment();
     return currentSegment;
   }
 
@@ -216,6 +261,8 @@ final class SegmentsManager implements AutoCloseable {
    * @return the first segment
    */
   Segment resetSegments(final long index) {
+    discardCompression();
+
     // reset the last flushed index before deleting data to avoid data corruption on start up in
     // case of node crash
     // setting the last flushed index to a semantic-null value will let us know on start up that
@@ -255,6 +302,7 @@ final class SegmentsManager implements AutoCloseable {
    * @param segment The segment to remove.
    */
   void removeSegment(final Segment segment) {
+    discardCompression();
     //noinspection resource
     segments.remove(segment.index());
     journalMetrics.decSegmentCount();
@@ -266,7 +314,7 @@ final class SegmentsManager implements AutoCloseable {
   private void resetCurrentSegment() {
     final Segment lastSegment = getLastSegment();
     if (lastSegment != null) {
-      currentSegment = lastSegment;
+      currentSegment = lastSegment.isCompressed() ? inflateSegment(lastSegment) : lastSegment;
     } else {
       final SegmentDescriptor descriptor =
           SegmentDescriptor.builder()
@@ -293,7 +341,8 @@ final class SegmentsManager implements AutoCloseable {
 
     // If a segment doesn't already exist, create an initial segment starting at index 1.
     if (!segments.isEmpty()) {
-      currentSegment = segments.lastEntry().getValue();
+      final var lastSegment = segments.lastEntry().getValue();
+      currentSegment = lastSegment.isCompressed() ? inflateSegment(lastSegment) : lastSegment;
     } else {
       final SegmentDescriptor descriptor =
           SegmentDescriptor.builder()
@@ -314,6 +363,190 @@ final class SegmentsManager implements AutoCloseable {
     // node was stopped. It is safe to delete it now since there are no readers opened for these
     // segments.
     deleteDeferredFiles();
+    compressNextSealedSegment();
+  }
+
+  /**
+   * Returns true if a sealed segment was compressed in the background, and its compressed copy can
+   * be installed via {@link #installCompressedSegment()}.
+   */
+  boolean hasCompressedSegment() {
+    final var compression = pendingCompression;
+    return compression != null && compression.result().isDone();
+  }
+
+  /**
+   * Replaces the segment which was compressed in the background by its compressed copy, unless it
+   * was modified or deleted in the meantime. Readers of the uncompressed segment can continue to
+   * read from it, while new readers read from the compressed copy.
+   *
+   * <p>Must be called while holding the journal's write lock, such that no reader is created for
+   * the segment while it is replaced.
+   */
+  synchronized void installCompressedSegment() {
+    final var compression = pendingCompression;
+    if (compression == null || !compression.result().isDone()) {
+      return;
+    }
+
+    pendingCompression = null;
+    final var segment = compression.segment();
+    final var compressingFile = segment.file().getCompressingFile();
+    final long compressedSize;
+    try {
+      compressedSize = compression.result().join();
+    } catch (final CompletionException e) {
+      LOG.warn("Failed to compress segment {}, it will remain uncompressed", segment, e);
+      deleteTemporaryFile(compressingFile);
+      return;
+    }
+
+    if (compression.isDiscarded() || segments.get(segment.index()) != segment) {
+      LOG.debug("Segment {} was modified while being compressed, discarding its copy", segment);
+      deleteTemporaryFile(compressingFile);
+      compressNextSealedSegment();
+      return;
+    }
+
+    final var segmentFile = segment.file().file().toPath();
+    try {
+      FileUtil.moveDurably(
+          compressingFile,
+          segmentFile,
+          StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      LOG.warn("Failed to replace segment {} by its compressed copy", segment, e);
+      deleteTemporaryFile(compressingFile);
+      return;
+    }
+
+    // compressed segments read their last asqn from their header, so the initial one is ignored
+    final var compressedSegment =
+        segmentLoader.loadExistingSegment(segmentFile, INITIAL_ASQN, journalIndex);
+    segments.put(segment.index(), compressedSegment);
+    segment.retire();
+    journalMetrics.observeSegmentCompression(compression.contentLength(), compressedSize);
+    LOG.debug(
+        "{} - Compressed segment {} from {} to {} bytes",
+        name,
+        compressedSegment,
+        compression.contentLength(),
+        compressedSize);
+
+    compressNextSealedSegment();
+  }
+
+  /**
+   * Compresses the oldest sealed segment which is not compressed yet in the background, unless
+   * another segment is already being compressed. The segment right before the current one is never
+   * compressed, as lagging readers and followers are the most likely to still read from it.
+   */
+  private synchronized void compressNextSealedSegment() {
+    if (!compressSealedSegments || pendingCompression != null || currentSegment == null) {
+      return;
+    }
+
+    final var previousSegmentIndex = segments.lowerKey(currentSegment.index());
+    if (previousSegmentIndex == null) {
+      return;
+    }
+
+    for (final Segment segment : segments.headMap(previousSegmentIndex).values()) {
+      if (!segment.isCompressed()) {
+        final var contentLength = segment.contentLength();
+        final var lastIndex = segment.lastIndex();
+        final var lastAsqn = segment.lastAsqn();
+        pendingCompression =
+            new SegmentCompression(
+                segment,
+                contentLength,
+                CompletableFuture.supplyAsync(
+                    () -> compressSegment(segment, contentLength, lastIndex, lastAsqn),
+                    compressionExecutor));
+        return;
+      }
+    }
+  }
+
+  private long compressSegment(
+      final Segment segment, final int contentLength, final long lastIndex, final long lastAsqn) {
+    final var segmentFile = segment.file().file().toPath();
+    final var compressingFile = segment.file().getCompressingFile();
+    final var descriptorLength = segment.descriptor().encodingLength();
+
+    try {
+      if (compressionDictionary == null) {
+        compressionDictionary =
+            CompressedSegmentFile.trainDictionary(segmentFile, descriptorLength, contentLength);
+      }
+
+      Files.deleteIfExists(compressingFile);
+      return CompressedSegmentFile.write(
+          segmentFile,
+          compressingFile,
+          descriptorLength,
+          contentLength,
+          lastIndex,
+          lastAsqn,
+          compressionDictionary);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Marks the segment being compressed, if any, as modified, such that its compressed copy is
+   * never installed. Must be called before segments are truncated or deleted.
+   */
+  private synchronized void discardCompression() {
+    final var compression = pendingCompression;
+    if (compression != null) {
+      compression.discard();
+    }
+  }
+
+  private synchronized void cancelCompression() {
+    final var compression = pendingCompression;
+    if (compression == null) {
+      return;
+    }
+
+    try {
+      compression.result().join();
+    } catch (final Exception e) {
+      LOG.debug("Segment compression failed during close, ignoring and proceeding to close", e);
+    }
+    deleteTemporaryFile(compression.segment().file().getCompressingFile());
+    pendingCompression = null;
+  }
+
+  /**
+   * Replaces the given compressed segment by a writable copy, as the last segment of the journal
+   * must always be writable.
+   */
+  private Segment inflateSegment(final Segment segment) {
+    final var previousSegment = segments.lowerEntry(segment.index());
+    final var lastWrittenAsqn =
+        previousSegment != null ? previousSegment.getValue().lastAsqn() : INITIAL_ASQN;
+    final var inflatedSegment =
+        segmentLoader.inflateSegment(segment, lastWrittenAsqn, journalIndex);
+
+    segments.put(segment.index(), inflatedSegment);
+    segment.retire();
+    LOG.debug("{} - Decompressed segment {} to write to it", name, inflatedSegment);
+    return inflatedSegment;
+  }
+
+  private void deleteTemporaryFile(final Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (final IOException e) {
+      LOG.warn(
+          "Could not delete temporary segment file {}. This can result in unnecessary disk usage.",
+          file,
+          e);
+    }
   }
 
   private void prepareNextSegment() {
@@ -384,6 +617,10 @@ final class SegmentsManager implements AutoCloseable {
                   .formatted(lastFlushedIndex, segment.lastIndex()));
         }
 
+        if (!isLastSegment) {
+          restorePersistedIndex(segment);
+        }
+
         segments.add(segment);
         previousSegment = segment;
       } catch (final CorruptedJournalException e) {
@@ -398,6 +635,16 @@ final class SegmentsManager implements AutoCloseable {
     return segments;
   }
 
+  private void restorePersistedIndex(final Segment segment) {
+    if (segment.loadPersistedIndex()) {
+      LOG.trace("Restored index of segment {} from its persisted index file", segment);
+    } else {
+      LOG.debug(
+          "No valid persisted index found for segment {}, it will be indexed lazily on read",
+          segment);
+    }
+  }
+
   private void checkForIndexGaps(final Segment prevSegment, final Segment segment) {
     if (prevSegment.lastIndex() != segment.index() - 1) {
       throw new CorruptedJournalException(
@@ -444,6 +691,7 @@ final class SegmentsManager implements AutoCloseable {
       final File file = files.get(i);
       try {
         Files.delete(file.toPath());
+        Files.deleteIfExists(SegmentIndexFile.pathOf(file.toPath()));
       } catch (final IOException e) {
         throw new JournalException(
             String.format(
@@ -474,7 +722,9 @@ final class SegmentsManager implements AutoCloseable {
     try (final DirectoryStream<Path> segmentsToDelete =
         Files.newDirectoryStream(
             directory.toPath(),
-            path -> SegmentFile.isDeletedSegmentFile(name, path.getFileName().toString()))) {
+            path ->
+                SegmentFile.isDeletedSegmentFile(name, path.getFileName().toString())
+                    || SegmentFile.isTemporarySegmentFile(name, path.getFileName().toString()))) {
       segmentsToDelete.forEach(this::deleteDeferredFile);
     } catch (final IOException e) {
       LOG.warn(
@@ -494,4 +744,38 @@ final class SegmentsManager implements AutoCloseable {
           e);
     }
   }
+
+  private static final class SegmentCompression {
+    private final Segment segment;
+    private final int contentLength;
+    private final CompletableFuture<Long> result;
+    private boolean discarded;
+
+    private SegmentCompression(
+        final Segment segment, final int contentLength, final CompletableFuture<Long> result) {
+      this.segment = segment;
+      this.contentLength = contentLength;
+      this.result = result;
+    }
+
+    private Segment segment() {
+      return segment;
+    }
+
+    private int contentLength() {
+      return contentLength;
+    }
+
+    private CompletableFuture<Long> result() {
+      return result;
+    }
+
+    private boolean isDiscarded() {
+      return discarded;
+    }
+
+    private void discard() {
+      discarded = true;
+    }
+  }
 }
@@ -0,0 +1,290 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A sparse {@link JournalIndex} with the same semantics as {@link SparseJournalIndex}, but which
+ * stores its entries in sorted primitive arrays instead of skip list maps. Each indexed entry costs
+ * two or four longs instead of several boxed objects and map nodes, and lookups are a binary search
+ * over a contiguous array.
+ *
+ * <p>Entries are usually indexed in ascending order by the writer, in which case indexing is a
+ * simple append. Readers may however index older entries when seeking through segments which were
+ * not indexed yet, so out of order insertions are supported as well. Truncation only moves the
+ * bounds of the valid range, the arrays are compacted lazily when they need to grow.
+ *
+ * <p>The index is accessed concurrently by the writer and readers, so all accesses are guarded by a
+ * read-write lock. Writes are rare (once every {@code density} records), so readers are virtually
+ * never blocked.
+ */
+final class SortedArrayJournalIndex implements JournalIndex {
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final int density;
+  private final StampedLock lock = new StampedLock();
+
+  // maps record index to its position in the segment
+  private final SortedLongPairs indexToPosition = new SortedLongPairs();
+  // maps record index to its asqn; as both are strictly increasing, the values are sorted as well
+  private final SortedLongPairs indexToAsqn = new SortedLongPairs();
+
+  SortedArrayJournalIndex(final int density) {
+    this.density = density;
+  }
+
+  @Override
+  public void index(final long index, final long asqn, final int position) {
+    if (index % density != 0) {
+      return;
+    }
+
+    final long stamp = lock.writeLock();
+    try {
+      indexToPosition.put(index, position);
+      if (asqn != SegmentedJournal.ASQN_IGNORE) {
+        indexToAsqn.put(index, asqn);
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public IndexInfo lookup(final long index) {
+    final long stamp = lock.readLock();
+    try {
+      final int slot = indexToPosition.floorKeySlot(index);
+      return slot < 0
+          ? null
+          : new IndexInfo(indexToPosition.keyAt(slot), (int) indexToPosition.valueAt(slot));
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn) {
+    return lookupAsqn(asqn, Long.MAX_VALUE);
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn, final long indexUpperBound) {
+    final long stamp = lock.readLock();
+    try {
+      final int slot = indexToAsqn.floorValueSlot(asqn);
+      if (slot < 0) {
+        return null;
+      }
+
+      final long index = indexToAsqn.keyAt(slot);
+      if (index <= indexUpperBound) {
+        return index;
+      }
+
+      final int boundedSlot = indexToAsqn.floorKeySlot(indexUpperBound);
+      return boundedSlot < 0 ? null : indexToAsqn.keyAt(boundedSlot);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  @Override
+  public void deleteAfter(final long indexExclusive) {
+    final long stamp = lock.writeLock();
+    try {
+      indexToPosition.truncateAfter(indexExclusive);
+      indexToAsqn.truncateAfter(indexExclusive);
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void deleteUntil(final long indexExclusive) {
+    final long stamp = lock.writeLock();
+    try {
+      indexToPosition.truncateBefore(indexExclusive);
+      // keep the closest asqn entry, such that lookups of the lowest remaining asqn still work
+      final int asqnSlot = indexToAsqn.floorKeySlot(indexExclusive);
+      if (asqnSlot >= 0) {
+        indexToAsqn.truncateBefore(indexToAsqn.keyAt(asqnSlot));
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void clear() {
+    final long stamp = lock.writeLock();
+    try {
+      indexToPosition.clear();
+      indexToAsqn.clear();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public boolean hasIndexed(final long index) {
+    final var indexInfo = lookup(index);
+    if (indexInfo == null) {
+      return false;
+    } else {
+      return indexInfo.index() > index - density;
+    }
+  }
+
+  @Override
+  public void forEachInRange(
+      final long fromIndex, final long toIndex, final IndexEntryVisitor visitor) {
+    final long stamp = lock.readLock();
+    try {
+      for (int slot = indexToPosition.ceilingKeySlot(fromIndex);
+          slot < indexToPosition.end && indexToPosition.keyAt(slot) <= toIndex;
+          slot++) {
+        final long index = indexToPosition.keyAt(slot);
+        final int asqnSlot = indexToAsqn.floorKeySlot(index);
+        final long asqn =
+            asqnSlot >= 0 && indexToAsqn.keyAt(asqnSlot) == index
+                ? indexToAsqn.valueAt(asqnSlot)
+                : SegmentedJournal.ASQN_IGNORE;
+        visitor.visit(index, (int) indexToPosition.valueAt(slot), asqn);
+      }
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * Pairs of longs sorted by key, stored in two parallel arrays. Only the slots in {@code [start,
+   * end)} are valid. Slot numbers returned by the lookup methods are only valid until the next
+   * modification.
+   */
+  private static final class SortedLongPairs {
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private long[] values = new long[INITIAL_CAPACITY];
+    private int start;
+    private int end;
+
+    private void put(final long key, final long value) {
+      if (start == end || keys[end - 1] < key) {
+        ensureCapacity();
+        keys[end] = key;
+        values[end] = value;
+        end++;
+        return;
+      }
+
+      final int slot = Arrays.binarySearch(keys, start, end, key);
+      if (slot >= 0) {
+        values[slot] = value;
+        return;
+      }
+
+      ensureCapacity();
+      // the insertion point may have moved if the arrays were compacted
+      final int insertionPoint = -(Arrays.binarySearch(keys, start, end, key) + 1);
+      System.arraycopy(keys, insertionPoint, keys, insertionPoint + 1, end - insertionPoint);
+      System.arraycopy(values, insertionPoint, values, insertionPoint + 1, end - insertionPoint);
+      keys[insertionPoint] = key;
+      values[insertionPoint] = value;
+      end++;
+    }
+
+    private long keyAt(final int slot) {
+      return keys[slot];
+    }
+
+    private long valueAt(final int slot) {
+      return values[slot];
+    }
+
+    /** Returns the slot of the greatest key less than or equal to the given key, or -1. */
+    private int floorKeySlot(final long key) {
+      return floorSlot(keys, key);
+    }
+
+    /** Returns the slot of the smallest key greater than or equal to the given key. */
+    private int ceilingKeySlot(final long key) {
+      final int slot = Arrays.binarySearch(keys, start, end, key);
+      return slot >= 0 ? slot : -(slot + 1);
+    }
+
+    /** Returns the slot of the greatest value less than or equal to the given value, or -1. */
+    private int floorValueSlot(final long value) {
+      return floorSlot(values, value);
+    }
+
+    /** Removes all pairs with a key greater than the given key. */
+    private void truncateAfter(final long key) {
+      end = floorKeySlot(key) + 1;
+      if (end <= start) {
+        clear();
+      }
+    }
+
+    /** Removes all pairs with a key less than the given key. */
+    private void truncateBefore(final long key) {
+      start = ceilingKeySlot(key);
+      if (start == end) {
+        clear();
+      }
+    }
+
+    private void clear() {
+      start = 0;
+      end = 0;
+    }
+
+    private int floorSlot(final long[] sorted, final long target) {
+      final int slot = Arrays.binarySearch(sorted, start, end, target);
+      if (slot >= 0) {
+        return slot;
+      }
+
+      final int insertionPoint = -(slot + 1);
+      return insertionPoint > start ? insertionPoint - 1 : -1;
+    }
+
+    private void ensureCapacity() {
+      if (end < keys.length) {
+        return;
+      }
+
+      final int size = end - start;
+      if (start > 0 && size < keys.length / 2) {
+        // enough space was freed by truncating the head, so reuse the arrays
+        System.arraycopy(keys, start, keys, 0, size);
+        System.arraycopy(values, start, values, 0, size);
+      } else {
+        final int capacity = keys.length + (keys.length >> 1);
+        final long[] newKeys = new long[capacity];
+        final long[] newValues = new long[capacity];
+        System.arraycopy(keys, start, newKeys, 0, size);
+        System.arraycopy(values, start, newValues, 0, size);
+        keys = newKeys;
+        values = newValues;
+      }
+
+      start = 0;
+      end = size;
+    }
+  }
+}
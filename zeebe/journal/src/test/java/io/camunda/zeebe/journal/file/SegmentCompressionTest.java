@@ -0,0 +1,184 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.CloseHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+@Timeout(30)
+final class SegmentCompressionTest {
+  private final TestJournalFactory journalFactory = new TestJournalFactory();
+
+  private @TempDir Path directory;
+  private SegmentsManager segments;
+  private SegmentedJournal journal;
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietClose(journal);
+  }
+
+  @Test
+  void shouldReadEntriesOfCompressedSegments() throws FlushException {
+    // given
+    openCompressingJournal();
+    final var records = appendEntries(4);
+
+    // when
+    awaitCompressedSegments(2);
+
+    // then
+    assertThat(segments.getFirstSegment().isCompressed()).isTrue();
+    assertThat(segments.getNextSegment(1).isCompressed()).isTrue();
+    assertThat(readAll()).containsExactlyElementsOf(records);
+  }
+
+  @Test
+  void shouldNotCompressLastSealedSegment() throws FlushException {
+    // given
+    openCompressingJournal();
+    appendEntries(4);
+
+    // when
+    awaitCompressedSegments(2);
+
+    // then
+    assertThat(segments.getNextSegment(2).isCompressed()).isFalse();
+    assertThat(segments.hasCompressedSegment()).isFalse();
+  }
+
+  @Test
+  void shouldContinueReadingFromReplacedSegment() throws FlushException {
+    // given
+    openCompressingJournal();
+    final var records = appendEntries(4);
+    final var reader = journal.openReader();
+    assertThat(Entry.of(reader.next())).isEqualTo(records.get(0));
+
+    // when
+    awaitCompressedSegments(2);
+
+    // then
+    final var remaining = new ArrayList<Entry>();
+    reader.forEachRemaining(record -> remaining.add(Entry.of(record)));
+    assertThat(remaining).containsExactlyElementsOf(records.subList(1, records.size()));
+  }
+
+  @Test
+  void shouldLoadCompressedSegmentsOnRestart() throws FlushException {
+    // given
+    openCompressingJournal();
+    final var records = appendEntries(4);
+    awaitCompressedSegments(2);
+    journal.close();
+
+    // when
+    segments = journalFactory.segmentsManager(directory);
+    journal = journalFactory.journal(segments);
+
+    // then
+    assertThat(segments.getFirstSegment().isCompressed()).isTrue();
+    assertThat(readAll()).containsExactlyElementsOf(records);
+  }
+
+  @Test
+  void shouldDecompressSegmentWhenTruncatingIntoIt() throws FlushException {
+    // given
+    openCompressingJournal();
+    final var records = appendEntries(4);
+    awaitCompressedSegments(2);
+
+    // when
+    journal.deleteAfter(1);
+    final var appended = Entry.of(journal.append(journalFactory.entry()));
+
+    // then
+    assertThat(segments.getFirstSegment().isCompressed()).isFalse();
+    assertThat(readAll()).containsExactly(records.get(0), appended);
+  }
+
+  @Test
+  void shouldDeleteDecompressedCopyWhenLastReaderIsClosed() throws Exception {
+    // given
+    openCompressingJournal();
+    final var records = appendEntries(4);
+    awaitCompressedSegments(2);
+    final var reader = journal.openReader();
+    assertThat(Entry.of(reader.next())).isEqualTo(records.get(0));
+    assertThat(decompressedFiles()).hasSize(1);
+
+    // when
+    reader.close();
+
+    // then
+    assertThat(decompressedFiles()).isEmpty();
+  }
+
+  private void openCompressingJournal() {
+    segments = journalFactory.compressingSegmentsManager(directory);
+    journal = journalFactory.journal(segments);
+  }
+
+  private List<Entry> appendEntries(final int count) {
+    final var records = new ArrayList<Entry>();
+    for (int i = 0; i < count; i++) {
+      records.add(Entry.of(journal.append(journalFactory.entry())));
+    }
+    return records;
+  }
+
+  private void awaitCompressedSegments(final int count) throws FlushException {
+    for (int i = 0; i < count; i++) {
+      while (!segments.hasCompressedSegment()) {
+        Thread.onSpinWait();
+      }
+
+      // installs the compressed segment, and starts compressing the next one
+      journal.flush();
+    }
+  }
+
+  private List<Path> decompressedFiles() throws IOException {
+    try (final var files = Files.list(directory.resolve("data"))) {
+      return files.filter(file -> file.getFileName().toString().endsWith("decompressed")).toList();
+    }
+  }
+
+  private List<Entry> readAll() {
+    final var records = new ArrayList<Entry>();
+    journal.openReader().forEachRemaining(record -> records.add(Entry.of(record)));
+    return records;
+  }
+
+  /**
+   * A copy of a journal record, as records point to the memory of their segment, which is released
+   * once the segment is replaced by its compressed copy.
+   */
+  private record Entry(long index, long asqn, long checksum, String data) {
+    private static Entry of(final JournalRecord record) {
+      return new Entry(
+          record.index(),
+          record.asqn(),
+          record.checksum(),
+          BufferUtil.bufferAsString(record.data()));
+    }
+  }
+}
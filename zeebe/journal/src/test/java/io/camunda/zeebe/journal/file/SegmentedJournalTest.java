@@ -32,6 +32,7 @@ import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -411,7 +412,7 @@ class SegmentedJournalTest {
   }
 
   @Test
-  void shouldNotUpdateIndexMappingsAfterRestartIfLastPositionIsInDescriptor() {
+  void shouldNotUpdateIndexMappingsAfterRestartIfLastPositionIsInDescriptor() throws Exception {
     // given
     final int entriesPerSegment = 2;
     journal = openJournal(entriesPerSegment);
@@ -422,6 +423,7 @@ class SegmentedJournalTest {
 
     // when
     journal.close();
+    Files.delete(persistedIndexFile(1));
     journal = openJournal(entriesPerSegment);
 
     // then
@@ -432,6 +434,88 @@ class SegmentedJournalTest {
         .isEqualTo(indexBeforeRestart.lookup(thirdIndex));
   }
 
+  @Test
+  void shouldRestoreIndexMappingsOfSealedSegmentsAfterRestart() {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    final var secondIndex = journal.append(2, journalFactory.entry()).index();
+    journal.append(3, journalFactory.entry());
+    final JournalIndex indexBeforeRestart = journal.getJournalIndex();
+    final var firstIndexInfo = indexBeforeRestart.lookup(firstIndex);
+    final var secondIndexInfo = indexBeforeRestart.lookup(secondIndex);
+
+    // when
+    journal.close();
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    final JournalIndex indexAfterRestart = journal.getJournalIndex();
+    assertThat(persistedIndexFile(1)).exists();
+    assertThat(indexAfterRestart.lookup(firstIndex)).isEqualTo(firstIndexInfo);
+    assertThat(indexAfterRestart.lookup(secondIndex)).isEqualTo(secondIndexInfo);
+    assertThat(indexAfterRestart.lookupAsqn(2)).isEqualTo(secondIndex);
+  }
+
+  @Test
+  void shouldIgnoreCorruptedPersistedIndexAfterRestart() throws Exception {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    journal.close();
+
+    // when
+    final var indexFile = persistedIndexFile(1);
+    final byte[] content = Files.readAllBytes(indexFile);
+    content[content.length - 1] ^= 1;
+    Files.write(indexFile, content);
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    assertThat(journal.getJournalIndex().lookup(firstIndex)).isNull();
+    final var reader = journal.openReader();
+    assertThat(reader.seek(firstIndex)).isEqualTo(firstIndex);
+    assertThat(reader.next().index()).isEqualTo(firstIndex);
+  }
+
+  @Test
+  void shouldDeletePersistedIndexWhenSegmentIsTruncated() {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    assertThat(persistedIndexFile(1)).exists();
+
+    // when
+    journal.deleteAfter(1);
+
+    // then
+    assertThat(persistedIndexFile(1)).doesNotExist();
+  }
+
+  @Test
+  void shouldDeletePersistedIndexWhenSegmentIsDeleted() {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    assertThat(persistedIndexFile(1)).exists();
+
+    // when
+    journal.deleteUntil(3);
+
+    // then
+    assertThat(persistedIndexFile(1)).doesNotExist();
+  }
+
   @Test
   void shouldContinueAppendAfterDetectingPartiallyWrittenDescriptor() throws Exception {
     // given
@@ -677,6 +761,41 @@ class SegmentedJournalTest {
     assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
   }
 
+  @Test
+  void shouldOnlyReportFlushedEntriesAsDurableWhenGroupCommitDefersFlush() throws Exception {
+    // given
+    journalFactory = new TestJournalFactory("test", 10);
+    final var flusher =
+        new SegmentsFlusher(
+            journalFactory.metaStore(),
+            journalFactory.metrics(),
+            Duration.ofHours(1),
+            Long.MAX_VALUE,
+            System::nanoTime);
+    journal = journalFactory.journal(journalFactory.segmentsManager(directory), flusher);
+    closeables.add(journal);
+    final var flushedRecord = journal.append(journalFactory.entry());
+    assertThat(journal.flushIfDue()).isTrue();
+    final var deferredRecord = journal.append(journalFactory.entry());
+
+    // when
+    final var flushed = journal.flushIfDue();
+
+    // then - after a crash now, the deferred record could be lost, so it must not be reported
+    assertThat(flushed).isFalse();
+    assertThat(journal.getLastFlushedIndex()).isEqualTo(flushedRecord.index());
+    assertThat(journalFactory.metaStore().loadLastFlushedIndex())
+        .isEqualTo(flushedRecord.index());
+
+    // when
+    journal.flush();
+
+    // then
+    assertThat(journal.getLastFlushedIndex()).isEqualTo(deferredRecord.index());
+    assertThat(journalFactory.metaStore().loadLastFlushedIndex())
+        .isEqualTo(deferredRecord.index());
+  }
+
   @Test
   void shouldPreallocateSegmentFiles(final @TempDir Path tmpDir) {
     // given
@@ -916,6 +1035,12 @@ class SegmentedJournalTest {
         .hasMessage("Nope, no free space.");
   }
 
+  private Path persistedIndexFile(final int segmentId) {
+    return SegmentIndexFile.pathOf(
+        SegmentFile.createSegmentFile(JOURNAL_NAME, directory.resolve("data").toFile(), segmentId)
+            .toPath());
+  }
+
   private SegmentedJournal openJournal(final int entriesPerSegment) {
     return openJournal("test", entriesPerSegment);
   }
@@ -27,7 +27,8 @@ import org.junit.jupiter.api.io.TempDir;
 final class SegmentedJournalWriterTest {
   private final TestJournalFactory journalFactory =
       new TestJournalFactory("data", 2, this::fillWithOnes);
-  private final SegmentsFlusher flusher = new SegmentsFlusher(journalFactory.metaStore());
+  private final SegmentsFlusher flusher =
+      new SegmentsFlusher(journalFactory.metaStore(), journalFactory.metrics());
 
   private SegmentsManager segments;
   private SegmentedJournalWriter writer;
@@ -156,7 +157,8 @@ final class SegmentedJournalWriterTest {
     final var followerWriter =
         new SegmentedJournalWriter(
             followerSegments,
-            new SegmentsFlusher(followerJournalFactory.metaStore()),
+            new SegmentsFlusher(
+                followerJournalFactory.metaStore(), followerJournalFactory.metrics()),
             followerJournalFactory.metrics());
 
     try (final SegmentedJournalReader reader =
@@ -14,12 +14,15 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
 import io.camunda.zeebe.journal.util.MockJournalMetastore;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.Test;
 
 final class SegmentsFlusherTest {
   private final MockJournalMetastore metaStore = new MockJournalMetastore();
-  private final SegmentsFlusher flusher = new SegmentsFlusher(metaStore);
+  private final JournalMetrics metrics = new JournalMetrics("1");
+  private final SegmentsFlusher flusher = new SegmentsFlusher(metaStore, metrics);
 
   @Test
   void shouldFlushAllSegments() throws FlushException {
@@ -61,6 +64,100 @@ final class SegmentsFlusherTest {
     assertThat(metaStore.loadLastFlushedIndex()).isEqualTo(15L);
   }
 
+  @Test
+  void shouldFlushFirstRequestWithGroupCommit() throws FlushException {
+    // given
+    final var clock = new AtomicLong();
+    final var flusher = newGroupCommitFlusher(clock, Duration.ofMillis(10), Long.MAX_VALUE);
+    final var segment = new TestSegment(15);
+
+    // when
+    final var flushed = flusher.flushIfDue(List.of(segment));
+
+    // then
+    assertThat(flushed).isTrue();
+    assertThat(segment.flushed).isTrue();
+    assertThat(metaStore.loadLastFlushedIndex()).isEqualTo(15L);
+  }
+
+  @Test
+  void shouldDeferFlushWithinGroupCommitWindow() throws FlushException {
+    // given
+    final var clock = new AtomicLong();
+    final var flusher = newGroupCommitFlusher(clock, Duration.ofMillis(10), Long.MAX_VALUE);
+    flusher.flushIfDue(List.of(new TestSegment(15)));
+    final var segment = new TestSegment(30);
+
+    // when
+    clock.addAndGet(Duration.ofMillis(5).toNanos());
+    final var flushed = flusher.flushIfDue(List.of(segment));
+
+    // then
+    assertThat(flushed).isFalse();
+    assertThat(segment.flushed).isFalse();
+    assertThat(metaStore.loadLastFlushedIndex()).isEqualTo(15L);
+    assertThat(flusher.lastFlushedIndex()).isEqualTo(15L);
+  }
+
+  @Test
+  void shouldFlushAfterGroupCommitWindow() throws FlushException {
+    // given
+    final var clock = new AtomicLong();
+    final var flusher = newGroupCommitFlusher(clock, Duration.ofMillis(10), Long.MAX_VALUE);
+    flusher.flushIfDue(List.of(new TestSegment(15)));
+    clock.addAndGet(Duration.ofMillis(5).toNanos());
+    flusher.flushIfDue(List.of(new TestSegment(20)));
+    final var segment = new TestSegment(30);
+
+    // when
+    clock.addAndGet(Duration.ofMillis(5).toNanos());
+    final var flushed = flusher.flushIfDue(List.of(segment));
+
+    // then
+    assertThat(flushed).isTrue();
+    assertThat(segment.flushed).isTrue();
+    assertThat(metaStore.loadLastFlushedIndex()).isEqualTo(30L);
+  }
+
+  @Test
+  void shouldFlushWithinGroupCommitWindowOnceMaxBytesAppended() throws FlushException {
+    // given
+    final var clock = new AtomicLong();
+    final var flusher = newGroupCommitFlusher(clock, Duration.ofMillis(10), 1024);
+    flusher.flushIfDue(List.of(new TestSegment(15)));
+    final var segment = new TestSegment(30);
+
+    // when
+    flusher.onAppend(1024);
+    final var flushed = flusher.flushIfDue(List.of(segment));
+
+    // then
+    assertThat(flushed).isTrue();
+    assertThat(segment.flushed).isTrue();
+    assertThat(metaStore.loadLastFlushedIndex()).isEqualTo(30L);
+  }
+
+  @Test
+  void shouldNotDeferFlushWithinGroupCommitWindow() throws FlushException {
+    // given
+    final var clock = new AtomicLong();
+    final var flusher = newGroupCommitFlusher(clock, Duration.ofMillis(10), Long.MAX_VALUE);
+    flusher.flushIfDue(List.of(new TestSegment(15)));
+    final var segment = new TestSegment(30);
+
+    // when
+    flusher.flush(List.of(segment));
+
+    // then
+    assertThat(segment.flushed).isTrue();
+    assertThat(metaStore.loadLastFlushedIndex()).isEqualTo(30L);
+  }
+
+  private SegmentsFlusher newGroupCommitFlusher(
+      final AtomicLong clock, final Duration window, final long maxBytes) {
+    return new SegmentsFlusher(metaStore, metrics, window, maxBytes, clock::get);
+  }
+
   private static final class TestSegment implements FlushableSegment {
     private final long lastIndex;
     private final boolean shouldFlush;
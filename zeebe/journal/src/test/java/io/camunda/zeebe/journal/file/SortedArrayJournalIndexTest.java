@@ -0,0 +1,372 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.util.TestJournalRecord;
+import org.junit.jupiter.api.Test;
+
+/** Sorted array journal index test. */
+class SortedArrayJournalIndexTest {
+
+  @Test
+  void shouldNotFindIndexWhenNotReachedDensity() {
+    // given - every 5 index is added
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+
+    // when
+    final IndexInfo position = index.lookup(1);
+
+    // then
+    assertNull(position);
+  }
+
+  private static JournalRecord asJournalRecord(final long index, final long asqn) {
+    return new TestJournalRecord(index, asqn, 0, null, null);
+  }
+
+  @Test
+  void shouldFindIndexWhenReachedDensity() {
+    // given - every 5 index is added
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+
+    // when
+    index.index(asJournalRecord(1, 1), 2);
+    index.index(asJournalRecord(2, 2), 4);
+    index.index(asJournalRecord(3, 3), 6);
+    index.index(asJournalRecord(4, 4), 8);
+    index.index(asJournalRecord(5, 5), 10);
+
+    // then
+    assertEquals(5, index.lookup(5).index());
+    assertEquals(10, index.lookup(5).position());
+    assertEquals(5, index.lookupAsqn(5));
+  }
+
+  @Test
+  void shouldFindLowerIndexWhenNotReachedDensity() {
+    // given - every 5 index is added
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+    // index entries
+    index.index(asJournalRecord(1, 1), 2);
+    index.index(asJournalRecord(2, 2), 4);
+    index.index(asJournalRecord(3, 3), 6);
+    index.index(asJournalRecord(4, 4), 8);
+    index.index(asJournalRecord(5, 5), 10);
+
+    // when
+    index.index(asJournalRecord(6, 6), 12);
+    index.index(asJournalRecord(7, 7), 14);
+    index.index(asJournalRecord(8, 8), 16);
+
+    // then
+    assertEquals(5, index.lookup(8).index());
+    assertEquals(10, index.lookup(8).position());
+    assertEquals(5, index.lookupAsqn(8));
+  }
+
+  @Test
+  void shouldFindNextIndexWhenReachedDensity() {
+    // given - every 5 index is added
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+    // index entries
+    index.index(asJournalRecord(1, 1), 2);
+    index.index(asJournalRecord(2, 2), 4);
+    index.index(asJournalRecord(3, 3), 6);
+    index.index(asJournalRecord(4, 4), 8);
+    index.index(asJournalRecord(5, 5), 10);
+    index.index(asJournalRecord(6, 6), 12);
+    index.index(asJournalRecord(7, 7), 14);
+    index.index(asJournalRecord(8, 8), 16);
+
+    // when
+    index.index(asJournalRecord(9, 9), 18);
+    index.index(asJournalRecord(10, 10), 20);
+
+    // then
+    assertEquals(10, index.lookup(10).index());
+    assertEquals(20, index.lookup(10).position());
+    assertEquals(10, index.lookupAsqn(10));
+  }
+
+  @Test
+  void shouldTruncateIndex() {
+    // given - every 5 index is added
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+    // index entries
+    index.index(asJournalRecord(1, 10), 2);
+    index.index(asJournalRecord(2, 20), 4);
+    index.index(asJournalRecord(3, 30), 6);
+    index.index(asJournalRecord(4, 40), 8);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(6, 60), 12);
+    index.index(asJournalRecord(7, 70), 14);
+    index.index(asJournalRecord(8, 80), 16);
+    index.index(asJournalRecord(9, 90), 18);
+    index.index(asJournalRecord(10, 100), 20);
+
+    // when
+    index.deleteAfter(8);
+
+    // then
+    assertEquals(5, index.lookup(8).index());
+    assertEquals(10, index.lookup(8).position());
+    assertEquals(5, index.lookup(10).index());
+    assertEquals(10, index.lookup(10).position());
+    assertEquals(5, index.lookupAsqn(80));
+    assertEquals(5, index.lookupAsqn(90));
+  }
+
+  @Test
+  void shouldTruncateCompleteIndex() {
+    // given - every 5 index is added
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+    // index entries
+    index.index(asJournalRecord(1, 10), 2);
+    index.index(asJournalRecord(2, 20), 4);
+    index.index(asJournalRecord(3, 30), 6);
+    index.index(asJournalRecord(4, 40), 8);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(6, 60), 12);
+    index.index(asJournalRecord(7, 70), 14);
+    index.index(asJournalRecord(8, 80), 16);
+    index.index(asJournalRecord(9, 90), 18);
+    index.index(asJournalRecord(10, 100), 20);
+    index.deleteAfter(8);
+
+    // when
+    index.deleteAfter(4);
+
+    // then
+    assertNull(index.lookup(4));
+    assertNull(index.lookup(5));
+    assertNull(index.lookup(8));
+    assertNull(index.lookup(10));
+    assertNull(index.lookupAsqn(40));
+    assertNull(index.lookupAsqn(50));
+    assertNull(index.lookupAsqn(80));
+    assertNull(index.lookupAsqn(100));
+  }
+
+  @Test
+  void shouldNotCompactIndex() {
+    // given - every 5 index is added
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+    // index entries
+    index.index(asJournalRecord(1, 10), 2);
+    index.index(asJournalRecord(2, 20), 4);
+    index.index(asJournalRecord(3, 30), 6);
+    index.index(asJournalRecord(4, 40), 8);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(6, 60), 12);
+    index.index(asJournalRecord(7, 70), 14);
+    index.index(asJournalRecord(8, 80), 16);
+    index.index(asJournalRecord(9, 90), 18);
+    index.index(asJournalRecord(10, 100), 20);
+
+    // when
+    index.deleteUntil(8);
+
+    // then
+    assertNull(index.lookup(8));
+    assertEquals(10, index.lookup(10).index());
+    assertEquals(20, index.lookup(10).position());
+  }
+
+  @Test
+  void shouldCompactIndex() {
+    // given - every 5 index is added
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+    // index entries
+    index.index(asJournalRecord(1, 10), 2);
+    index.index(asJournalRecord(2, 20), 4);
+    index.index(asJournalRecord(3, 30), 6);
+    index.index(asJournalRecord(4, 40), 8);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(6, 60), 12);
+    index.index(asJournalRecord(7, 70), 14);
+    index.index(asJournalRecord(8, 80), 16);
+    index.index(asJournalRecord(9, 90), 18);
+    index.index(asJournalRecord(10, 100), 20);
+    // when
+    index.deleteUntil(11);
+
+    // then
+    assertNull(index.lookup(4));
+    assertNull(index.lookup(5));
+    assertNull(index.lookup(8));
+    assertNull(index.lookupAsqn(40));
+    assertNull(index.lookupAsqn(50));
+    assertNull(index.lookupAsqn(80));
+  }
+
+  @Test
+  void shouldFindAsqnWithInBound() {
+    // given - every 2nd index is added
+    final JournalIndex index = new SortedArrayJournalIndex(2);
+
+    // when
+    index.index(asJournalRecord(1, 1), 2);
+    index.index(asJournalRecord(2, 2), 4);
+    index.index(asJournalRecord(3, 3), 6);
+    index.index(asJournalRecord(4, 4), 8);
+    index.index(asJournalRecord(5, 5), 10);
+    index.index(asJournalRecord(6, 6), 10);
+
+    // then
+    assertNull(index.lookupAsqn(5, 1));
+    assertEquals(2, index.lookupAsqn(5, 3));
+    assertEquals(2, index.lookupAsqn(5, 3));
+    assertEquals(4, index.lookupAsqn(5, 4));
+    assertEquals(4, index.lookupAsqn(5, 5));
+    assertEquals(4, index.lookupAsqn(Long.MAX_VALUE, 5));
+    assertEquals(6, index.lookupAsqn(Long.MAX_VALUE, 6));
+  }
+
+  @Test
+  void shouldReturnAsIndexedWhenWithInDensity() {
+    // given - every 5 index is added
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+    index.index(asJournalRecord(5, 1), 2);
+
+    // when - then
+    assertThat(index.hasIndexed(6)).isTrue();
+    assertThat(index.hasIndexed(7)).isTrue();
+    assertThat(index.hasIndexed(8)).isTrue();
+    assertThat(index.hasIndexed(9)).isTrue();
+  }
+
+  @Test
+  void shouldReturnAsNotIndexedWhenOutsideDensity() {
+    // given - every 5 index is added
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+    index.index(asJournalRecord(5, 1), 2);
+
+    // when - then
+    assertThat(index.hasIndexed(10)).isFalse();
+    assertThat(index.hasIndexed(11)).isFalse();
+    assertThat(index.hasIndexed(100)).isFalse();
+  }
+
+  @Test
+  void shouldIndexOutOfOrder() {
+    // given - every 5 index is added
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(15, 150), 30);
+
+    // when - a reader indexes an entry which the writer did not index
+    index.index(asJournalRecord(10, 100), 20);
+
+    // then
+    assertEquals(10, index.lookup(14).index());
+    assertEquals(20, index.lookup(14).position());
+    assertEquals(15, index.lookup(15).index());
+    assertEquals(10, index.lookupAsqn(149));
+    assertEquals(15, index.lookupAsqn(150));
+  }
+
+  @Test
+  void shouldOverwriteAlreadyIndexedEntry() {
+    // given
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(10, 100), 20);
+
+    // when
+    index.index(asJournalRecord(5, 50), 12);
+
+    // then
+    assertEquals(12, index.lookup(5).position());
+    assertEquals(5, index.lookupAsqn(99));
+    assertEquals(10, index.lookupAsqn(100));
+  }
+
+  @Test
+  void shouldNotIndexAsqnIfIgnored() {
+    // given
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+    index.index(asJournalRecord(5, 50), 10);
+
+    // when
+    index.index(asJournalRecord(10, SegmentedJournal.ASQN_IGNORE), 20);
+
+    // then
+    assertEquals(10, index.lookup(10).index());
+    assertEquals(5, index.lookupAsqn(Long.MAX_VALUE));
+  }
+
+  @Test
+  void shouldGrowBeyondInitialCapacity() {
+    // given
+    final JournalIndex index = new SortedArrayJournalIndex(1);
+
+    // when
+    for (int i = 1; i <= 10_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // then
+    for (int i = 1; i <= 10_000; i++) {
+      assertEquals(i, index.lookup(i).index());
+      assertEquals(i * 2, index.lookup(i).position());
+      assertEquals(i, index.lookupAsqn(i * 10L + 5));
+    }
+  }
+
+  @Test
+  void shouldKeepIndexingAfterCompaction() {
+    // given
+    final JournalIndex index = new SortedArrayJournalIndex(1);
+    for (int i = 1; i <= 1_000; i++) {
+      index.index(asJournalRecord(i, i), i);
+    }
+
+    // when
+    index.deleteUntil(900);
+    for (int i = 1_001; i <= 2_000; i++) {
+      index.index(asJournalRecord(i, i), i);
+    }
+
+    // then
+    assertNull(index.lookup(899));
+    assertEquals(900, index.lookup(900).index());
+    assertEquals(1_500, index.lookup(1_500).position());
+    assertEquals(2_000, index.lookupAsqn(Long.MAX_VALUE));
+  }
+
+  @Test
+  void shouldIndexAgainAfterClear() {
+    // given
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(10, 100), 20);
+
+    // when
+    index.clear();
+    index.index(asJournalRecord(20, 200), 10);
+
+    // then
+    assertNull(index.lookup(10));
+    assertNull(index.lookupAsqn(100));
+    assertEquals(20, index.lookup(25).index());
+    assertEquals(20, index.lookupAsqn(250));
+  }
+}
@@ -114,8 +114,23 @@ final class TestJournalFactory {
         metaStore);
   }
 
+  SegmentsManager compressingSegmentsManager(final Path directory) {
+    return new SegmentsManager(
+        index,
+        maxSegmentSize(),
+        directory.resolve("data").toFile(),
+        "journal",
+        loader,
+        metrics,
+        metaStore,
+        true);
+  }
+
   SegmentedJournal journal(final SegmentsManager segments) {
-    final var segmentsFlusher = new SegmentsFlusher(metaStore);
+    return journal(segments, new SegmentsFlusher(metaStore, metrics));
+  }
+
+  SegmentedJournal journal(final SegmentsManager segments, final SegmentsFlusher segmentsFlusher) {
     return new SegmentedJournal(index, segments, metrics, segmentsFlusher);
   }
 
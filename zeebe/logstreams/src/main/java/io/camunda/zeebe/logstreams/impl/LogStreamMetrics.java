@@ -25,8 +25,10 @@ import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 import io.prometheus.client.Histogram.Timer;
+import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 
 public final class LogStreamMetrics {
   private static final Counter FLOW_CONTROL_OUTCOME =
@@ -172,6 +174,19 @@ public final class LogStreamMetrics {
               "The current load of the partition. Determined by observed write rate compared to the write rate limit")
           .register();
 
+  private static final Histogram COMMAND_LIFECYCLE_LATENCY =
+      Histogram.build()
+          .namespace("zeebe")
+          .subsystem("command_lifecycle")
+          .name("stage_latency")
+          .help(
+              "Latency in seconds of each stage of sampled user commands, from being accepted by the flow control until they are processed")
+          .buckets(
+              0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1,
+              2.5, 5, 10)
+          .labelNames("partition", "valueType", "stage")
+          .register();
+
   private final Counter.Child deferredAppends;
   private final Counter.Child triedAppends;
   private final Gauge.Child inflightAppends;
@@ -187,6 +202,14 @@ public final class LogStreamMetrics {
   private final Gauge.Child writeRateMaxLimit;
   private final Gauge.Child writeRateLimit;
   private final Gauge.Child partitionLoad;
+
+  /**
+   * The stage latency children, resolved once per value type when its first command is observed,
+   * so that only sampled value types are exported. Only accessed by the stream processor actor.
+   */
+  private final Map<ValueType, Map<CommandLifecycleStage, Histogram.Child>> lifecycleLatencies =
+      new EnumMap<>(ValueType.class);
+
   private final String partitionLabel;
 
   public LogStreamMetrics(final int partitionId) {
@@ -258,6 +281,14 @@ public final class LogStreamMetrics {
         .inc(amount);
   }
 
+  public void observeCommandLifecycleStage(
+      final ValueType valueType, final CommandLifecycleStage stage, final long latencyNanos) {
+    lifecycleLatencies
+        .computeIfAbsent(valueType, this::resolveLifecycleLatencies)
+        .get(stage)
+        .observe(latencyNanos / 1e9);
+  }
+
   public void remove() {
     TOTAL_DEFERRED_APPEND_COUNT.remove(partitionLabel);
     TOTAL_APPEND_TRY_COUNT.remove(partitionLabel);
@@ -272,6 +303,11 @@ public final class LogStreamMetrics {
     WRITE_RATE_MAX_LIMIT.remove(partitionLabel);
     WRITE_RATE_LIMIT.remove(partitionLabel);
     PARTITION_LOAD.remove(partitionLabel);
+    for (final var valueType : ValueType.values()) {
+      for (final var stage : CommandLifecycleStage.values()) {
+        COMMAND_LIFECYCLE_LATENCY.remove(partitionLabel, valueType.name(), stage.labelName);
+      }
+    }
     for (final var contextLabel : FlowControlOutComeLabels.allContextLabels()) {
       for (final var reasonLabel : FlowControlOutComeLabels.allReasonLabels()) {
         FLOW_CONTROL_OUTCOME.remove(partitionLabel, contextLabel, reasonLabel);
@@ -279,6 +315,18 @@ public final class LogStreamMetrics {
     }
   }
 
+  private Map<CommandLifecycleStage, Histogram.Child> resolveLifecycleLatencies(
+      final ValueType valueType) {
+    final Map<CommandLifecycleStage, Histogram.Child> latencies =
+        new EnumMap<>(CommandLifecycleStage.class);
+    for (final var stage : CommandLifecycleStage.values()) {
+      latencies.put(
+          stage,
+          COMMAND_LIFECYCLE_LATENCY.labels(partitionLabel, valueType.name(), stage.labelName));
+    }
+    return latencies;
+  }
+
   public void flowControlAccepted(
       final WriteContext context, final List<LogAppendEntryMetadata> batchMetadata) {
     triedAppends.inc();
@@ -321,6 +369,26 @@ public final class LogStreamMetrics {
     writeRateLimit.set(value);
   }
 
+  /** The stages of the lifecycle of a user command on the partition leader. */
+  public enum CommandLifecycleStage {
+    /** From being accepted by the flow control until being sequenced. */
+    SEQUENCE("sequence"),
+    /** From being sequenced until being written to the leader's log. */
+    WRITE("write"),
+    /** From being written to the leader's log until being committed. */
+    COMMIT("commit"),
+    /** From being committed until being processed and responded to. */
+    PROCESS("process"),
+    /** From being accepted by the flow control until being processed and responded to. */
+    TOTAL("total");
+
+    private final String labelName;
+
+    CommandLifecycleStage(final String labelName) {
+      this.labelName = labelName;
+    }
+  }
+
   static final class FlowControlOutComeLabels {
 
     private FlowControlOutComeLabels() {}
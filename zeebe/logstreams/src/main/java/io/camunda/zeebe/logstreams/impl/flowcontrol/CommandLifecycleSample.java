@@ -0,0 +1,71 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics.CommandLifecycleStage;
+import io.camunda.zeebe.protocol.record.ValueType;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks the lifecycle of a sampled user command, from the moment it is accepted by the flow
+ * control until it is processed, which includes sending the response. Each stage is stamped with a
+ * monotonic timestamp, and the latencies of all reached stages are observed once the command is
+ * processed.
+ *
+ * <p>Like the rest of the {@link InFlightEntry}, the stages may be reached in any order; a stage is
+ * only observed if both its start and end were reached, in that order.
+ */
+final class CommandLifecycleSample {
+  private static final long UNSET = Long.MIN_VALUE;
+
+  private final LogStreamMetrics metrics;
+  private final ValueType valueType;
+  private final LongSupplier nanoClock;
+  private final long acceptedNanos;
+  private long appendedNanos = UNSET;
+  private long writtenNanos = UNSET;
+  private long committedNanos = UNSET;
+
+  CommandLifecycleSample(
+      final LogStreamMetrics metrics, final ValueType valueType, final LongSupplier nanoClock) {
+    this.metrics = metrics;
+    this.valueType = valueType;
+    this.nanoClock = nanoClock;
+    acceptedNanos = nanoClock.getAsLong();
+  }
+
+  void onAppend() {
+    appendedNanos = nanoClock.getAsLong();
+  }
+
+  void onWrite() {
+    writtenNanos = nanoClock.getAsLong();
+  }
+
+  void onCommit() {
+    committedNanos = nanoClock.getAsLong();
+  }
+
+  void onProcessed() {
+    final long processedNanos = nanoClock.getAsLong();
+    observe(CommandLifecycleStage.SEQUENCE, acceptedNanos, appendedNanos);
+    observe(CommandLifecycleStage.WRITE, appendedNanos, writtenNanos);
+    observe(CommandLifecycleStage.COMMIT, writtenNanos, committedNanos);
+    observe(CommandLifecycleStage.PROCESS, committedNanos, processedNanos);
+    observe(CommandLifecycleStage.TOTAL, acceptedNanos, processedNanos);
+  }
+
+  private void observe(final CommandLifecycleStage stage, final long start, final long end) {
+    if (start == UNSET || end == UNSET || end - start < 0) {
+      return;
+    }
+
+    metrics.observeCommandLifecycleStage(valueType, stage, end - start);
+  }
+}
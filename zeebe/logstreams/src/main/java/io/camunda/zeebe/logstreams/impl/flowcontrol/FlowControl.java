@@ -25,6 +25,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.NavigableMap;
 import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Maintains a view of in-flight entries as they are being appended, written, committed and finally
@@ -75,6 +76,7 @@ import java.util.TreeMap;
  */
 @SuppressWarnings("UnstableApiUsage")
 public final class FlowControl implements AppendListener {
+  private static final int COMMAND_LIFECYCLE_SAMPLING_INTERVAL = 100;
 
   private final LogStreamMetrics metrics;
   private RateLimit writeRateLimit;
@@ -150,7 +152,25 @@ public final class FlowControl implements AppendListener {
       return Either.left(Rejection.WriteRateLimitExhausted);
     }
 
-    return Either.right(new InFlightEntry(metrics, batchMetadata, requestListener));
+    return Either.right(
+        new InFlightEntry(
+            metrics, batchMetadata, requestListener, sampleLifecycle(context, batchMetadata)));
+  }
+
+  /**
+   * Samples roughly one in {@link #COMMAND_LIFECYCLE_SAMPLING_INTERVAL} user commands to observe
+   * the latency of each stage of their lifecycle. Sampling keeps the overhead on the hot path low,
+   * while still giving a representative latency distribution under load.
+   */
+  private CommandLifecycleSample sampleLifecycle(
+      final WriteContext context, final List<LogAppendEntryMetadata> batchMetadata) {
+    if (!(context instanceof UserCommand)
+        || ThreadLocalRandom.current().nextInt(COMMAND_LIFECYCLE_SAMPLING_INTERVAL) != 0) {
+      return null;
+    }
+
+    return new CommandLifecycleSample(
+        metrics, batchMetadata.getFirst().valueType(), System::nanoTime);
   }
 
   public void onAppend(final InFlightEntry entry, final long highestPosition) {
@@ -19,14 +19,24 @@ public final class InFlightEntry {
   Listener requestListener;
   Histogram.Timer writeTimer;
   Histogram.Timer commitTimer;
+  final CommandLifecycleSample lifecycleSample;
 
   public InFlightEntry(
       final LogStreamMetrics metrics,
       final List<LogAppendEntryMetadata> entryMetadata,
       final Listener requestListener) {
+    this(metrics, entryMetadata, requestListener, null);
+  }
+
+  InFlightEntry(
+      final LogStreamMetrics metrics,
+      final List<LogAppendEntryMetadata> entryMetadata,
+      final Listener requestListener,
+      final CommandLifecycleSample lifecycleSample) {
     this.metrics = metrics;
     this.entryMetadata = entryMetadata;
     this.requestListener = requestListener;
+    this.lifecycleSample = lifecycleSample;
     writeTimer = null;
     commitTimer = null;
   }
@@ -37,6 +47,9 @@ public final class InFlightEntry {
     if (requestListener != null) {
       metrics.increaseInflightRequests();
     }
+    if (lifecycleSample != null) {
+      lifecycleSample.onAppend();
+    }
   }
 
   public void onWrite() {
@@ -53,6 +66,9 @@ public final class InFlightEntry {
       writeTimer.close();
       this.writeTimer = null;
     }
+    if (lifecycleSample != null) {
+      lifecycleSample.onWrite();
+    }
   }
 
   public void onCommit() {
@@ -61,6 +77,9 @@ public final class InFlightEntry {
       commitTimer.close();
       this.commitTimer = null;
     }
+    if (lifecycleSample != null) {
+      lifecycleSample.onCommit();
+    }
   }
 
   public void onProcessed() {
@@ -69,6 +88,9 @@ public final class InFlightEntry {
       requestListener.onSuccess();
       metrics.decreaseInflightRequests();
       this.requestListener = null;
+      if (lifecycleSample != null) {
+        lifecycleSample.onProcessed();
+      }
     }
   }
 
@@ -76,14 +98,17 @@ public final class InFlightEntry {
     final var requestListener = this.requestListener;
     if (requestListener != null) {
       requestListener.onIgnore();
+      this.requestListener = null;
     }
     final var writeTimer = this.writeTimer;
     if (writeTimer != null) {
       writeTimer.close();
+      this.writeTimer = null;
     }
     final var commitTimer = this.commitTimer;
     if (commitTimer != null) {
       commitTimer.close();
+      this.commitTimer = null;
     }
   }
 }
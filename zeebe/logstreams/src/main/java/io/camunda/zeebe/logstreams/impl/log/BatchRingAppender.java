@@ -0,0 +1,202 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.InFlightEntry;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.util.Either;
+import java.time.InstantSource;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.agrona.concurrent.BackoffIdleStrategy;
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Lock-free alternative to serializing the writers of the {@link Sequencer} through a lock.
+ *
+ * <p>Writers reserve a range of positions with an atomic counter, and publish their batch to a
+ * bounded multi-producer ring buffer. A single writer at a time then acts as the appender: it
+ * consumes the published batches and appends them to the log storage in position order. A writer
+ * which finds another one appending hands its batch off and returns right away, so writers never
+ * block each other.
+ *
+ * <p>Since writers may publish in a different order than they reserved their positions, the
+ * appender holds back batches until all batches with lower positions were appended. Fields which
+ * are only accessed by the appender are guarded by the {@link #appending} flag.
+ *
+ * <p>A writer which finds the ring full cannot give up, as its positions are already reserved. It
+ * helps draining the ring if no other writer is appending, and otherwise backs off, spinning
+ * shortly before yielding and finally parking, such that waiting writers don't burn CPU while a
+ * slow append holds up the appender.
+ *
+ * <p>If the log storage fails to append a batch, its positions can't be given back, as later
+ * writers already reserved theirs. The appender then stops appending: the failed batch and all
+ * batches after it are discarded and their {@link InFlightEntry in-flight entries} cleaned up, and
+ * the sequencer is closed through the given failure callback. The failure is not rethrown, since
+ * the appender is not necessarily the writer of the failed batch.
+ */
+final class BatchRingAppender {
+  private static final Logger LOG = LoggerFactory.getLogger(BatchRingAppender.class);
+
+  private final AtomicLong nextPosition;
+  private final ManyToOneConcurrentArrayQueue<PendingBatch> ring;
+  private final AtomicBoolean appending = new AtomicBoolean();
+  private final LogStorage logStorage;
+  private final InstantSource clock;
+  private final SequencerMetrics metrics;
+  private final FlowControl flowControl;
+  private final Runnable onAppendFailure;
+
+  /** The first position which was not appended because the log storage failed, if any. */
+  private volatile long failedPosition = Long.MAX_VALUE;
+
+  private final PriorityQueue<PendingBatch> heldBack =
+      new PriorityQueue<>(Comparator.comparingLong(PendingBatch::firstPosition));
+  private long nextAppendPosition;
+
+  BatchRingAppender(
+      final LogStorage logStorage,
+      final long initialPosition,
+      final int capacity,
+      final InstantSource clock,
+      final SequencerMetrics metrics,
+      final FlowControl flowControl,
+      final Runnable onAppendFailure) {
+    this.logStorage = logStorage;
+    this.clock = clock;
+    this.metrics = metrics;
+    this.flowControl = flowControl;
+    this.onAppendFailure = onAppendFailure;
+    nextPosition = new AtomicLong(initialPosition);
+    nextAppendPosition = initialPosition;
+    ring = new ManyToOneConcurrentArrayQueue<>(capacity);
+  }
+
+  /**
+   * Reserves positions for the given entries, and appends them to the log storage once all entries
+   * with lower positions were appended. The entries may thus be appended after this method
+   * returns, either by this thread or by another writer.
+   *
+   * @return the highest position of the given entries, or {@link WriteFailure#CLOSED} if they are
+   *     known to be discarded because appending failed
+   */
+  Either<WriteFailure, Long> append(
+      final InFlightEntry inFlightEntry,
+      final long sourcePosition,
+      final List<LogAppendEntry> entries,
+      final int batchLength) {
+    final long firstPosition = nextPosition.getAndAdd(entries.size());
+    final var batch =
+        new PendingBatch(firstPosition, sourcePosition, entries, batchLength, inFlightEntry);
+
+    if (!ring.offer(batch)) {
+      metrics.countFullRing();
+      awaitRingCapacity(batch);
+    }
+
+    // a writer which fails to become the appender knows the current appender will check the ring
+    // again before giving up its role, so it will consume the batch
+    while (!ring.isEmpty()) {
+      if (!tryAppendPublished()) {
+        metrics.countContendedAppend();
+        break;
+      }
+    }
+
+    if (firstPosition >= failedPosition) {
+      return Either.left(WriteFailure.CLOSED);
+    }
+    return Either.right(firstPosition + entries.size() - 1);
+  }
+
+  private void awaitRingCapacity(final PendingBatch batch) {
+    // the ring is full; help draining it, or back off while the current appender does so
+    final var idleStrategy = new BackoffIdleStrategy();
+    do {
+      if (tryAppendPublished()) {
+        idleStrategy.reset();
+      } else {
+        idleStrategy.idle();
+      }
+    } while (!ring.offer(batch));
+  }
+
+  private boolean tryAppendPublished() {
+    if (!appending.compareAndSet(false, true)) {
+      return false;
+    }
+
+    try {
+      metrics.observeQueueDepth(ring.size());
+      ring.drain(heldBack::add);
+      if (failedPosition == Long.MAX_VALUE) {
+        appendInOrder();
+      }
+      if (failedPosition != Long.MAX_VALUE) {
+        discardHeldBack();
+      }
+    } finally {
+      appending.set(false);
+    }
+
+    return true;
+  }
+
+  private void appendInOrder() {
+    PendingBatch batch;
+    while ((batch = heldBack.peek()) != null && batch.firstPosition() == nextAppendPosition) {
+      final long highestPosition = batch.firstPosition() + batch.entries().size() - 1;
+      final var sequencedBatch =
+          new SequencedBatch(
+              clock.millis(),
+              batch.firstPosition(),
+              batch.sourcePosition(),
+              batch.entries(),
+              batch.length());
+      flowControl.onAppend(batch.inFlightEntry(), highestPosition);
+      try {
+        logStorage.append(batch.firstPosition(), highestPosition, sequencedBatch, flowControl);
+      } catch (final RuntimeException e) {
+        LOG.error(
+            "Failed to append batch with positions {} to {}, closing the sequencer",
+            batch.firstPosition(),
+            highestPosition,
+            e);
+        failedPosition = batch.firstPosition();
+        onAppendFailure.run();
+        return;
+      }
+
+      // only advance once appended, such that a failed batch is never skipped
+      heldBack.poll();
+      nextAppendPosition = highestPosition + 1;
+    }
+  }
+
+  private void discardHeldBack() {
+    PendingBatch batch;
+    while ((batch = heldBack.poll()) != null) {
+      batch.inFlightEntry().cleanup();
+    }
+  }
+
+  private record PendingBatch(
+      long firstPosition,
+      long sourcePosition,
+      List<LogAppendEntry> entries,
+      int length,
+      InFlightEntry inFlightEntry) {}
+}
@@ -45,7 +45,8 @@ public final class LogStreamImpl implements LogStream, CommitListener {
       final LogStorage logStorage,
       final InstantSource clock,
       final Limit requestLimit,
-      final RateLimit writeRateLimit) {
+      final RateLimit writeRateLimit,
+      final boolean lockFreeSequencer) {
     this.logName = logName;
     this.partitionId = partitionId;
     this.logStorage = logStorage;
@@ -58,7 +59,8 @@ public final class LogStreamImpl implements LogStream, CommitListener {
             maxFragmentSize,
             clock,
             new SequencerMetrics(partitionId),
-            flowControl);
+            flowControl,
+            lockFreeSequencer);
     logStorage.addCommitListener(this);
   }
 
@@ -32,9 +32,14 @@ import org.slf4j.LoggerFactory;
  * The sequencer takes concurrent {@link #tryWrite(WriteContext, List, long) tryWrite} calls and
  * serializes them, assigning positions to all entries. Writes that are accepted are written
  * directly to the {@link LogStorage}.
+ *
+ * <p>By default, writers are serialized through a lock. If lock-free sequencing is enabled, writers
+ * instead reserve their positions atomically and hand their batches off to a {@link
+ * BatchRingAppender}, which appends them in position order.
  */
 final class Sequencer implements LogStreamWriter, Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(Sequencer.class);
+  private static final int RING_CAPACITY = 1024;
   private final int maxFragmentSize;
 
   private volatile long position;
@@ -44,6 +49,7 @@ final class Sequencer implements LogStreamWriter, Closeable {
   private final InstantSource clock;
   private final SequencerMetrics sequencerMetrics;
   private final FlowControl flowControl;
+  private final BatchRingAppender ringAppender;
 
   Sequencer(
       final LogStorage logStorage,
@@ -52,6 +58,24 @@ final class Sequencer implements LogStreamWriter, Closeable {
       final InstantSource clock,
       final SequencerMetrics sequencerMetrics,
       final FlowControl flowControl) {
+    this(
+        logStorage,
+        initialPosition,
+        maxFragmentSize,
+        clock,
+        sequencerMetrics,
+        flowControl,
+        false);
+  }
+
+  Sequencer(
+      final LogStorage logStorage,
+      final long initialPosition,
+      final int maxFragmentSize,
+      final InstantSource clock,
+      final SequencerMetrics sequencerMetrics,
+      final FlowControl flowControl,
+      final boolean lockFree) {
     LOG.trace("Starting new sequencer at position {}", initialPosition);
     this.logStorage = logStorage;
     this.clock = Objects.requireNonNull(clock);
@@ -60,6 +84,17 @@ final class Sequencer implements LogStreamWriter, Closeable {
     this.sequencerMetrics =
         Objects.requireNonNull(sequencerMetrics, "must specify sequencer metrics");
     this.flowControl = flowControl;
+    ringAppender =
+        lockFree
+            ? new BatchRingAppender(
+                logStorage,
+                initialPosition,
+                RING_CAPACITY,
+                clock,
+                sequencerMetrics,
+                flowControl,
+                this::close)
+            : null;
   }
 
   /** {@inheritDoc} */
@@ -107,6 +142,15 @@ final class Sequencer implements LogStreamWriter, Closeable {
     final int batchSize = appendEntries.size();
     final int batchLength = calculateBatchLength(appendEntries);
 
+    if (ringAppender != null) {
+      try {
+        return ringAppender.append(inFlightEntry, sourcePosition, appendEntries, batchLength);
+      } finally {
+        sequencerMetrics.observeBatchLengthBytes(batchLength);
+        sequencerMetrics.observeBatchSize(batchSize);
+      }
+    }
+
     lock.lock();
     try {
       final var currentPosition = position;
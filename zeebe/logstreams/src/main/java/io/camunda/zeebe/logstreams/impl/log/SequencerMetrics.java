@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.logstreams.impl.log;
 
+import io.prometheus.client.Counter;
 import io.prometheus.client.Histogram;
 
 final class SequencerMetrics {
@@ -28,13 +29,48 @@ final class SequencerMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Counter CONTENDED_APPENDS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("sequencer_contended_appends_total")
+          .help(
+              "Number of times a writer of the lock-free sequencer found another writer appending,"
+                  + " and handed its batch off instead")
+          .labelNames("partition")
+          .register();
+
+  private static final Counter FULL_RING =
+      Counter.build()
+          .namespace("zeebe")
+          .name("sequencer_full_ring_total")
+          .help("Number of times a writer of the lock-free sequencer found its ring buffer full")
+          .labelNames("partition")
+          .register();
+
+  private static final Histogram QUEUE_DEPTH =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("sequencer_queue_depth")
+          .help(
+              "Histogram over the number of batches published to the ring buffer of the lock-free"
+                  + " sequencer, observed whenever a writer starts appending them")
+          .buckets(0, 1, 2, 4, 8, 16, 32, 64, 128, 256, 512, 1024)
+          .labelNames("partition")
+          .register();
+
   private final Histogram.Child batchSize;
   private final Histogram.Child batchLengthBytes;
+  private final Counter.Child contendedAppends;
+  private final Counter.Child fullRing;
+  private final Histogram.Child queueDepth;
 
   SequencerMetrics(final int partitionId) {
     final var partitionLabel = String.valueOf(partitionId);
     batchSize = BATCH_SIZE.labels(partitionLabel);
     batchLengthBytes = BATCH_LENGTH_BYTES.labels(partitionLabel);
+    contendedAppends = CONTENDED_APPENDS.labels(partitionLabel);
+    fullRing = FULL_RING.labels(partitionLabel);
+    queueDepth = QUEUE_DEPTH.labels(partitionLabel);
   }
 
   void observeBatchSize(final int size) {
@@ -45,4 +81,16 @@ final class SequencerMetrics {
     final int batchLengthKiloBytes = Math.floorDiv(lengthBytes, 1024);
     batchLengthBytes.observe(batchLengthKiloBytes);
   }
+
+  void countContendedAppend() {
+    contendedAppends.inc();
+  }
+
+  void countFullRing() {
+    fullRing.inc();
+  }
+
+  void observeQueueDepth(final int depth) {
+    queueDepth.observe(depth);
+  }
 }
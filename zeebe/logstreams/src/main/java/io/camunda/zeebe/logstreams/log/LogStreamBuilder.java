@@ -56,6 +56,15 @@ public interface LogStreamBuilder {
 
   LogStreamBuilder withWriteRateLimit(RateLimit writeRateLimit);
 
+  /**
+   * Whether writers should reserve positions atomically and hand their batches off to a single
+   * appender, instead of being serialized through a lock. Defaults to false.
+   *
+   * @param lockFreeSequencer true to use the lock-free sequencer
+   * @return this builder
+   */
+  LogStreamBuilder withLockFreeSequencer(boolean lockFreeSequencer);
+
   /**
    * Returns a future which, when completed, contains a log stream that can be read from/written to.
    *
@@ -0,0 +1,86 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics.CommandLifecycleStage;
+import io.camunda.zeebe.protocol.record.ValueType;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+final class CommandLifecycleSampleTest {
+  private final LogStreamMetrics metrics = mock(LogStreamMetrics.class);
+  private final AtomicLong clock = new AtomicLong(100);
+
+  @Test
+  void shouldObserveEveryStageOnProcessed() {
+    // given
+    final var sample = new CommandLifecycleSample(metrics, ValueType.JOB, clock::get);
+    clock.addAndGet(1);
+    sample.onAppend();
+    clock.addAndGet(2);
+    sample.onWrite();
+    clock.addAndGet(3);
+    sample.onCommit();
+    clock.addAndGet(4);
+
+    // when
+    sample.onProcessed();
+
+    // then
+    verify(metrics).observeCommandLifecycleStage(ValueType.JOB, CommandLifecycleStage.SEQUENCE, 1);
+    verify(metrics).observeCommandLifecycleStage(ValueType.JOB, CommandLifecycleStage.WRITE, 2);
+    verify(metrics).observeCommandLifecycleStage(ValueType.JOB, CommandLifecycleStage.COMMIT, 3);
+    verify(metrics).observeCommandLifecycleStage(ValueType.JOB, CommandLifecycleStage.PROCESS, 4);
+    verify(metrics).observeCommandLifecycleStage(ValueType.JOB, CommandLifecycleStage.TOTAL, 10);
+    verifyNoMoreInteractions(metrics);
+  }
+
+  @Test
+  void shouldNotObserveStagesReachedOutOfOrder() {
+    // given
+    final var sample = new CommandLifecycleSample(metrics, ValueType.JOB, clock::get);
+    sample.onAppend();
+    clock.addAndGet(1);
+    sample.onCommit();
+    clock.addAndGet(1);
+    sample.onWrite();
+
+    // when
+    sample.onProcessed();
+
+    // then
+    verify(metrics, never())
+        .observeCommandLifecycleStage(any(), eq(CommandLifecycleStage.COMMIT), anyLong());
+    verify(metrics).observeCommandLifecycleStage(ValueType.JOB, CommandLifecycleStage.WRITE, 2);
+  }
+
+  @Test
+  void shouldNotObserveUnreachedStages() {
+    // given
+    final var sample = new CommandLifecycleSample(metrics, ValueType.JOB, clock::get);
+    sample.onAppend();
+    clock.addAndGet(5);
+
+    // when
+    sample.onProcessed();
+
+    // then
+    verify(metrics).observeCommandLifecycleStage(ValueType.JOB, CommandLifecycleStage.SEQUENCE, 0);
+    verify(metrics).observeCommandLifecycleStage(ValueType.JOB, CommandLifecycleStage.TOTAL, 5);
+    verifyNoMoreInteractions(metrics);
+  }
+}
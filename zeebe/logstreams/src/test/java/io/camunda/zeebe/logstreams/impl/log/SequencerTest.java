@@ -8,11 +8,13 @@
 package io.camunda.zeebe.logstreams.impl.log;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 
 import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
 import io.camunda.zeebe.logstreams.storage.LogStorageReader;
@@ -246,6 +248,99 @@ final class SequencerTest {
     Assertions.assertThat(testFailures).isEmpty();
   }
 
+  @Test
+  void maintainsPositionWithSingleWriterOnLockFreeSequencer() throws InterruptedException {
+    // given
+    final var logStorage = new VerifyingLogStorage();
+    final var logStreamMetrics = new LogStreamMetrics(1);
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            16,
+            InstantSource.system(),
+            new SequencerMetrics(1),
+            new FlowControl(logStreamMetrics),
+            true);
+    final var entries =
+        List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults(), TestEntry.ofDefaults());
+    final var testFailures = new ConcurrentLinkedQueue<Throwable>();
+
+    // when -- start a single writer thread
+    final var writer = newWriterThread(sequencer, 1, 100_000, entries, true, testFailures::add);
+    writer.start();
+    writer.join();
+
+    // then -- VerifyingLogStorage did not throw
+    Assertions.assertThat(testFailures).isEmpty();
+    Assertions.assertThat(logStorage.position).isEqualTo(300_000);
+  }
+
+  @Test
+  void maintainsPositionWithMultipleWritersOnLockFreeSequencer() throws InterruptedException {
+    // given
+    final var numberOfWriters = 8;
+    final var logStorage = new VerifyingLogStorage();
+    final var logStreamMetrics = new LogStreamMetrics(1);
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            16,
+            InstantSource.system(),
+            new SequencerMetrics(1),
+            new FlowControl(logStreamMetrics),
+            true);
+    final var entries =
+        List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults(), TestEntry.ofDefaults());
+    final var testFailures = new ConcurrentLinkedQueue<Throwable>();
+
+    // when -- start multiple writer threads
+    final var writers = new Thread[numberOfWriters];
+    for (int i = 0; i < numberOfWriters; i++) {
+      writers[i] = newWriterThread(sequencer, 1, 100_000, entries, false, testFailures::add);
+    }
+    for (final var writer : writers) {
+      writer.start();
+    }
+    for (final var writer : writers) {
+      writer.join();
+    }
+
+    // then -- VerifyingLogStorage did not throw, and every batch was appended
+    Assertions.assertThat(testFailures).isEmpty();
+    Assertions.assertThat(logStorage.position).isEqualTo(numberOfWriters * 300_000L);
+  }
+
+  @Test
+  void closesLockFreeSequencerWhenAppendFails() {
+    // given
+    final var logStorage = Mockito.mock(LogStorage.class);
+    Mockito.doThrow(new IllegalStateException("expected"))
+        .when(logStorage)
+        .append(anyLong(), anyLong(), any(BufferWriter.class), any());
+    final var logStreamMetrics = new LogStreamMetrics(1);
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            16,
+            InstantSource.system(),
+            new SequencerMetrics(1),
+            new FlowControl(logStreamMetrics),
+            true);
+
+    // when
+    final var failed = sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults());
+    final var rejected = sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults());
+
+    // then -- the writer learns its batch was not appended, and no later batch is appended
+    EitherAssert.assertThat(failed).isLeft().left().isEqualTo(WriteFailure.CLOSED);
+    EitherAssert.assertThat(rejected).isLeft().left().isEqualTo(WriteFailure.CLOSED);
+    Mockito.verify(logStorage).append(eq(1L), eq(1L), any(BufferWriter.class), any());
+    Mockito.verifyNoMoreInteractions(logStorage);
+  }
+
   private Thread newWriterThread(
       final Sequencer sequencer,
       final long initialPosition,
@@ -281,7 +376,7 @@ final class SequencerTest {
 
   private static final class VerifyingLogStorage implements LogStorage {
 
-    private long position = -1;
+    private volatile long position = -1;
 
     @Override
     public LogStorageReader newReader() {
@@ -0,0 +1,133 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.db;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the {@code TransactionalColumnFamily} operations the engine relies on the most: point
+ * lookups, upserts and prefix iteration. Keys are composite {@code (long, long)} keys so that {@link
+ * ColumnFamily#whileEqualPrefix} has a realistic prefix to work with, similar to element instance
+ * children or variables by scope.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ColumnFamilyBenchmark {
+
+  @Param({"10000"})
+  public int prefixCount;
+
+  @Param({"10"})
+  public int entriesPerPrefix;
+
+  private Path directory;
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbString> columnFamily;
+  private DbLong prefix;
+  private DbLong suffix;
+  private DbCompositeKey<DbLong, DbLong> key;
+  private DbString value;
+  private DbLong searchPrefix;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    directory = Files.createTempDirectory("zb-db-benchmark");
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration(),
+            new ConsistencyChecksSettings(false, false),
+            new AccessMetricsConfiguration(Kind.NONE, 1));
+    zeebeDb = factory.createDb(directory.toFile());
+
+    prefix = new DbLong();
+    suffix = new DbLong();
+    key = new DbCompositeKey<>(prefix, suffix);
+    value = new DbString();
+    searchPrefix = new DbLong();
+    columnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), key, value);
+
+    value.wrapString("a value which is roughly the size of a small variable document");
+    final var context = zeebeDb.createContext();
+    final var transaction = context.getCurrentTransaction();
+    final var loadedColumnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+    transaction.run(
+        () -> {
+          for (long p = 0; p < prefixCount; p++) {
+            prefix.wrapLong(p);
+            for (long s = 0; s < entriesPerPrefix; s++) {
+              suffix.wrapLong(s);
+              loadedColumnFamily.upsert(key, value);
+            }
+          }
+        });
+    transaction.commit();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public DbString get() {
+    final var random = ThreadLocalRandom.current();
+    prefix.wrapLong(random.nextLong(prefixCount));
+    suffix.wrapLong(random.nextLong(entriesPerPrefix));
+    return columnFamily.get(key);
+  }
+
+  @Benchmark
+  public void upsert() {
+    final var random = ThreadLocalRandom.current();
+    prefix.wrapLong(random.nextLong(prefixCount));
+    suffix.wrapLong(random.nextLong(entriesPerPrefix));
+    columnFamily.upsert(key, value);
+  }
+
+  @Benchmark
+  public void whileEqualPrefix(final Blackhole blackhole) {
+    searchPrefix.wrapLong(ThreadLocalRandom.current().nextLong(prefixCount));
+    columnFamily.whileEqualPrefix(searchPrefix, (k, v) -> blackhole.consume(v));
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.feel;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
+
+import io.camunda.zeebe.feel.impl.MessagePackContext;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scala.Option;
+import scala.Tuple2;
+import scala.collection.immutable.Map;
+
+/**
+ * Compares looking up a single entry of a variable document through the lazy {@link
+ * MessagePackContext} against decoding all keys of the document upfront, which is what the context
+ * did before. This is the cost of evaluating an expression like {@code =order.orderId} once the
+ * variable {@code order} is read from the state.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class MessagePackContextBenchmark {
+
+  @Param({"10", "500"})
+  public int entryCount;
+
+  private final MsgPackReader reader = new MsgPackReader();
+  private final DirectBuffer document = new UnsafeBuffer();
+  private String lookedUpName;
+
+  @Setup
+  public void setUp() {
+    final var writer = new MsgPackWriter();
+    final var buffer = new ExpandableArrayBuffer(64 * 1024);
+    writer.wrap(buffer, 0);
+    writer.writeMapHeader(entryCount);
+    for (int i = 0; i < entryCount; i++) {
+      writer.writeString(BufferUtil.wrapString("variable" + i));
+      writer.writeString(BufferUtil.wrapString("some-string-value-of-moderate-length"));
+    }
+    document.wrap(buffer, 0, writer.getOffset());
+
+    lookedUpName = "variable" + entryCount / 2;
+  }
+
+  @Benchmark
+  public Option<Object> lazyLookup() {
+    reader.wrap(document, 0, document.capacity());
+    final int size = reader.readMapHeader();
+    return new MessagePackContext(reader, 0, size).variableProvider().getVariable(lookedUpName);
+  }
+
+  @Benchmark
+  public Option<Object> eagerLookup() {
+    reader.wrap(document, 0, document.capacity());
+    final int size = reader.readMapHeader();
+
+    final var spans = Map.<String, DirectBuffer>newBuilder();
+    spans.sizeHint(size);
+    for (int i = 0; i < size; i++) {
+      final var key = bufferAsString(reader.readToken().getValueBuffer());
+      final int valueOffset = reader.getOffset();
+      reader.skipValue();
+      spans.addOne(
+          new Tuple2<>(
+              key, new UnsafeBuffer(document, valueOffset, reader.getOffset() - valueOffset)));
+    }
+    final var clone = cloneBuffer(document, 0, reader.getOffset());
+
+    return spans.result().get(lookedUpName).map(value -> clone);
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.journal;
+
+import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.journal.JournalReader;
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.file.SegmentedJournal;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.MutableDirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the two hot paths of the segmented journal: appending a record through the {@code
+ * SegmentedJournalWriter}, and seeking a reader to an arbitrary index or ASQN, which goes through
+ * the journal index and then scans the segment forward.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JournalBenchmark {
+
+  @Benchmark
+  public JournalRecord append(final AppendState state) {
+    return state.journal.append(state.nextAsqn++, state.recordWriter);
+  }
+
+  @Benchmark
+  public long seek(final SeekState state) {
+    final long index =
+        ThreadLocalRandom.current().nextLong(state.journal.getFirstIndex(), state.lastIndex + 1);
+    final long nextIndex = state.reader.seek(index);
+    state.reader.next();
+    return nextIndex;
+  }
+
+  @Benchmark
+  public long seekToAsqn(final SeekState state) {
+    final long asqn = ThreadLocalRandom.current().nextLong(1, state.lastIndex + 1);
+    return state.reader.seekToAsqn(asqn);
+  }
+
+  @State(Scope.Benchmark)
+  public static class JournalState {
+    @Param({"128", "1024"})
+    public int recordSize;
+
+    @Param({"100"})
+    public int indexDensity;
+
+    @Param({"false", "true"})
+    public boolean sortedArrayJournalIndex;
+
+    Path directory;
+    SegmentedJournal journal;
+    FixedSizeWriter recordWriter;
+
+    void openJournal() throws IOException {
+      directory = Files.createTempDirectory("journal-benchmark");
+      journal =
+          SegmentedJournal.builder()
+              .withDirectory(directory.toFile())
+              .withMaxSegmentSize(64 * 1024 * 1024)
+              .withJournalIndexDensity(indexDensity)
+              .withSortedArrayJournalIndex(sortedArrayJournalIndex)
+              .withMetaStore(new JournalMetaStore.InMemory())
+              .build();
+      recordWriter = new FixedSizeWriter(recordSize);
+    }
+
+    void closeJournal() throws IOException {
+      journal.close();
+      FileUtil.deleteFolder(directory);
+    }
+  }
+
+  /** Each iteration starts with a fresh journal so segment creation cost is evenly distributed. */
+  public static class AppendState extends JournalState {
+    long nextAsqn;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+      openJournal();
+      nextAsqn = 1;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+      closeJournal();
+    }
+  }
+
+  public static class SeekState extends JournalState {
+    @Param({"1000000"})
+    public int recordCount;
+
+    JournalReader reader;
+    long lastIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+      openJournal();
+      for (int i = 1; i <= recordCount; i++) {
+        journal.append(i, recordWriter);
+      }
+      lastIndex = journal.getLastIndex();
+      reader = journal.openReader();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+      reader.close();
+      closeJournal();
+    }
+  }
+
+  private static final class FixedSizeWriter implements BufferWriter {
+    private final byte[] payload;
+
+    private FixedSizeWriter(final int size) {
+      payload = new byte[size];
+      ThreadLocalRandom.current().nextBytes(payload);
+    }
+
+    @Override
+    public int getLength() {
+      return payload.length;
+    }
+
+    @Override
+    public void write(final MutableDirectBuffer buffer, final int offset) {
+      buffer.putBytes(offset, payload);
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.msgpack;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackToken;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures raw {@link MsgPackWriter} and {@link MsgPackReader} throughput on a flat document of
+ * string keys mapped to string and integer values, which is the shape of most variable documents.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class MsgPackBenchmark {
+
+  @Param({"10", "500"})
+  public int entryCount;
+
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final MsgPackReader reader = new MsgPackReader();
+  private final MutableDirectBuffer writeBuffer = new ExpandableArrayBuffer(64 * 1024);
+  private final DirectBuffer readBuffer = new UnsafeBuffer();
+  private DirectBuffer[] keys;
+  private DirectBuffer stringValue;
+
+  @Setup
+  public void setUp() {
+    keys = new DirectBuffer[entryCount];
+    for (int i = 0; i < entryCount; i++) {
+      keys[i] = BufferUtil.wrapString("variable" + i);
+    }
+    stringValue = BufferUtil.wrapString("some-string-value-of-moderate-length");
+
+    final int length = writeDocument();
+    readBuffer.wrap(writeBuffer, 0, length);
+  }
+
+  @Benchmark
+  public int write() {
+    return writeDocument();
+  }
+
+  @Benchmark
+  public void read(final Blackhole blackhole) {
+    reader.wrap(readBuffer, 0, readBuffer.capacity());
+    final int size = reader.readMapHeader();
+    for (int i = 0; i < size; i++) {
+      final MsgPackToken key = reader.readToken();
+      blackhole.consume(key.getValueBuffer());
+      final MsgPackToken value = reader.readToken();
+      blackhole.consume(value.getType());
+    }
+  }
+
+  @Benchmark
+  public void roundTrip(final Blackhole blackhole) {
+    final int length = writeDocument();
+    reader.wrap(writeBuffer, 0, length);
+    final int size = reader.readMapHeader();
+    for (int i = 0; i < size; i++) {
+      blackhole.consume(reader.readToken().getValueBuffer());
+      reader.skipValue();
+    }
+  }
+
+  private int writeDocument() {
+    writer.wrap(writeBuffer, 0);
+    writer.writeMapHeader(entryCount);
+    for (int i = 0; i < entryCount; i++) {
+      writer.writeString(keys[i]);
+      if ((i & 1) == 0) {
+        writer.writeString(stringValue);
+      } else {
+        writer.writeInteger(i);
+      }
+    }
+    return writer.getOffset();
+  }
+}
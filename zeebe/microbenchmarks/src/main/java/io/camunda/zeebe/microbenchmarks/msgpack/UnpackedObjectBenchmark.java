@@ -0,0 +1,104 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.msgpack;
+
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures encoding and decoding of a fully populated {@link JobRecord}, as a representative {@link
+ * UnpackedObject} which is written to the log and the state for every job.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class UnpackedObjectBenchmark {
+
+  @Param({"0", "50"})
+  public int variableCount;
+
+  private final JobRecord record = new JobRecord();
+  private final JobRecord decodedRecord = new JobRecord();
+  private final MutableDirectBuffer writeBuffer = new ExpandableArrayBuffer(64 * 1024);
+  private final DirectBuffer encoded = new UnsafeBuffer();
+
+  @Setup
+  public void setUp() {
+    record
+        .setType("payment-service")
+        .setWorker("payment-worker-1")
+        .setRetries(3)
+        .setDeadline(1_700_000_000_000L)
+        .setTimeout(300_000L)
+        .setBpmnProcessId("order-process")
+        .setProcessDefinitionKey(2251799813685249L)
+        .setProcessDefinitionVersion(7)
+        .setProcessInstanceKey(2251799813685251L)
+        .setElementId("charge-credit-card")
+        .setElementInstanceKey(2251799813685260L)
+        .setTenantId("<default>")
+        .setVariables(createVariables(variableCount));
+
+    final int length = record.getLength();
+    record.write(writeBuffer, 0);
+    encoded.wrap(writeBuffer, 0, length);
+  }
+
+  @Benchmark
+  public int encode() {
+    record.write(writeBuffer, 0);
+    return record.getLength();
+  }
+
+  @Benchmark
+  public UnpackedObject decode() {
+    decodedRecord.wrap(encoded, 0, encoded.capacity());
+    return decodedRecord;
+  }
+
+  @Benchmark
+  public UnpackedObject copy() {
+    final int length = record.getLength();
+    record.write(writeBuffer, 0);
+    decodedRecord.wrap(writeBuffer, 0, length);
+    return decodedRecord;
+  }
+
+  private static DirectBuffer createVariables(final int count) {
+    final var buffer = new ExpandableArrayBuffer();
+    final var writer = new MsgPackWriter();
+    writer.wrap(buffer, 0);
+    writer.writeMapHeader(count);
+    for (int i = 0; i < count; i++) {
+      writer.writeString(BufferUtil.wrapString("variable" + i));
+      writer.writeInteger(i);
+    }
+    return new UnsafeBuffer(buffer, 0, writer.getOffset());
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.scheduler;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of handing work to an actor from outside the scheduler, which is how requests
+ * from the network and other components reach partition actors. {@link #callRoundTrip()} captures
+ * the latency of a single job including wake up of an idle actor thread, while {@link
+ * #submitBatch()} captures the throughput of the actor's job queue when it is kept busy.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ActorSchedulerBenchmark {
+  private static final int BATCH_SIZE = 1_000;
+
+  @Param({"1", "2"})
+  public int cpuThreadCount;
+
+  private ActorScheduler scheduler;
+  private BenchmarkActor actor;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setSchedulerName("benchmark")
+            .setCpuBoundActorThreadCount(cpuThreadCount)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    scheduler.start();
+
+    actor = new BenchmarkActor();
+    scheduler.submitActor(actor).join();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    actor.closeAsync().join();
+    scheduler.close();
+  }
+
+  @Benchmark
+  public long callRoundTrip() {
+    return actor.call(actor::increment).join();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public long submitBatch() {
+    for (int i = 0; i < BATCH_SIZE - 1; i++) {
+      actor.run(actor::increment);
+    }
+    // jobs are executed in order, so once this one completes the whole batch has been processed
+    return actor.call(actor::increment).join();
+  }
+
+  private static final class BenchmarkActor extends Actor {
+    private long counter;
+
+    private long increment() {
+      return ++counter;
+    }
+
+    @Override
+    public String getName() {
+      return "benchmark-actor";
+    }
+  }
+}
@@ -162,7 +162,8 @@ public enum ZbColumnFamilies implements EnumValue {
   MESSAGE_SUBSCRIPTION_BY_NAME_AND_CORRELATION_KEY(74),
   PROCESS_SUBSCRIPTION_BY_KEY(75),
 
-  JOB_ACTIVATABLE(76),
+  @Deprecated
+  DEPRECATED_TENANT_AWARE_JOB_ACTIVATABLE(76),
 
   SIGNAL_SUBSCRIPTION_BY_NAME_AND_KEY(77),
   SIGNAL_SUBSCRIPTION_BY_KEY_AND_NAME(78),
@@ -223,7 +224,9 @@ public enum ZbColumnFamilies implements EnumValue {
   RESOURCE_VERSION(115),
   RESOURCE_BY_ID_AND_VERSION(116),
   RESOURCE_KEY_BY_RESOURCE_ID_AND_VERSION_TAG(117),
-  RESOURCE_KEY_BY_RESOURCE_ID_AND_DEPLOYMENT_KEY(118);
+  RESOURCE_KEY_BY_RESOURCE_ID_AND_DEPLOYMENT_KEY(118),
+
+  JOB_ACTIVATABLE(119);
 
   private final int value;
 
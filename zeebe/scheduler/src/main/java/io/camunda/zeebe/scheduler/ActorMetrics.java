@@ -47,6 +47,24 @@ final class ActorMetrics {
           .help("The length of the job queue for an actor task")
           .labelNames("actorName")
           .register();
+
+  private static final Gauge TIMER_QUEUE_DEPTH =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("actor_timer_queue_depth")
+          .help("The number of timers scheduled in the timer queue of an actor thread")
+          .labelNames("timerQueue")
+          .register();
+
+  private static final Histogram TIMER_LATENESS =
+      Histogram.build()
+          // from 1ms, the resolution of the actor clock, up to ~4 seconds
+          .exponentialBuckets(0.001, 2, 13)
+          .namespace("zeebe")
+          .name("actor_timer_lateness")
+          .help("Time between the deadline of a timer and its expiration")
+          .labelNames("timerQueue")
+          .register();
   private final boolean enabled;
 
   public ActorMetrics(final boolean metricsEnabled) {
@@ -78,7 +96,42 @@ final class ActorMetrics {
     }
   }
 
+  /**
+   * Resolves the metrics of the given timer queue once, as they are updated on every iteration of
+   * the actor thread which owns the queue.
+   */
+  TimerQueueMetrics timerQueueMetrics(final String timerQueueName) {
+    if (!enabled) {
+      return new TimerQueueMetrics(null, null);
+    }
+    return new TimerQueueMetrics(
+        TIMER_QUEUE_DEPTH.labels(timerQueueName), TIMER_LATENESS.labels(timerQueueName));
+  }
+
   public boolean isEnabled() {
     return enabled;
   }
+
+  /** The metrics of a single timer queue; both children are null if metrics are disabled. */
+  static final class TimerQueueMetrics {
+    private final Gauge.Child depth;
+    private final Histogram.Child lateness;
+
+    private TimerQueueMetrics(final Gauge.Child depth, final Histogram.Child lateness) {
+      this.depth = depth;
+      this.lateness = lateness;
+    }
+
+    void updateDepth(final int depth) {
+      if (this.depth != null) {
+        this.depth.set(depth);
+      }
+    }
+
+    void observeLateness(final long latenessMs) {
+      if (lateness != null) {
+        lateness.observe(latenessMs / 1_000f);
+      }
+    }
+  }
 }
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.scheduler;
 
+import io.camunda.zeebe.scheduler.ActorTimerQueue.TimerWheelConfig;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import java.util.Objects;
@@ -130,6 +131,8 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private ActorThreadFactory actorThreadFactory;
     private ActorExecutor actorExecutor;
     private ActorTimerQueue actorTimerQueue;
+    private TimerWheelConfig cpuBoundTimerWheelConfig = TimerWheelConfig.DEFAULT;
+    private TimerWheelConfig ioBoundTimerWheelConfig = TimerWheelConfig.DEFAULT;
     private boolean enableMetrics = false;
     private Supplier<IdleStrategy> idleStrategySupplier =
         ActorSchedulerBuilder::defaultIdleStrategySupplier;
@@ -179,6 +182,34 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public TimerWheelConfig getCpuBoundTimerWheelConfig() {
+      return cpuBoundTimerWheelConfig;
+    }
+
+    /**
+     * Configures the timer wheels of the CPU bound actor threads. Ignored if a shared timer queue
+     * is set via {@link #setActorTimerQueue(ActorTimerQueue)}.
+     */
+    public ActorSchedulerBuilder setCpuBoundTimerWheelConfig(
+        final TimerWheelConfig cpuBoundTimerWheelConfig) {
+      this.cpuBoundTimerWheelConfig = Objects.requireNonNull(cpuBoundTimerWheelConfig);
+      return this;
+    }
+
+    public TimerWheelConfig getIoBoundTimerWheelConfig() {
+      return ioBoundTimerWheelConfig;
+    }
+
+    /**
+     * Configures the timer wheels of the I/O bound actor threads. Ignored if a shared timer queue
+     * is set via {@link #setActorTimerQueue(ActorTimerQueue)}.
+     */
+    public ActorSchedulerBuilder setIoBoundTimerWheelConfig(
+        final TimerWheelConfig ioBoundTimerWheelConfig) {
+      this.ioBoundTimerWheelConfig = Objects.requireNonNull(ioBoundTimerWheelConfig);
+      return this;
+    }
+
     public int getCpuBoundActorThreadCount() {
       return cpuBoundThreadsCount;
     }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.ActorTimerQueue.TimerWheelConfig;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
 import io.camunda.zeebe.util.Loggers;
@@ -82,10 +83,17 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     state = ActorThreadState.NEW;
     threadId = id;
     this.clock = clock != null ? clock : new DefaultActorClock();
-    timerJobQueue = timerQueue != null ? timerQueue : new ActorTimerQueue(this.clock);
     actorThreadGroup = threadGroup;
     this.taskScheduler = taskScheduler;
     actorMetrics = new ActorMetrics(metricsEnabled);
+    timerJobQueue =
+        timerQueue != null
+            ? timerQueue
+            : new ActorTimerQueue(
+                this.clock,
+                threadGroup != null ? threadGroup.getTimerWheelConfig() : TimerWheelConfig.DEFAULT,
+                actorMetrics,
+                name);
     this.idleStrategy = new ActorTaskRunnerIdleStrategy(idleStrategy);
   }
 
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.ActorTimerQueue.TimerWheelConfig;
 import io.camunda.zeebe.util.Loggers;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
@@ -22,15 +23,27 @@ public abstract class ActorThreadGroup {
   protected final WorkStealingGroup tasks;
   protected final int numOfThreads;
   private final String schedulerName;
+  private final TimerWheelConfig timerWheelConfig;
 
   public ActorThreadGroup(
       final String groupName,
       final int numOfThreads,
       final ActorSchedulerBuilder builder,
       final String schedulerName) {
+    this(groupName, numOfThreads, builder, schedulerName, TimerWheelConfig.DEFAULT);
+  }
+
+  public ActorThreadGroup(
+      final String groupName,
+      final int numOfThreads,
+      final ActorSchedulerBuilder builder,
+      final String schedulerName,
+      final TimerWheelConfig timerWheelConfig) {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
     this.schedulerName = schedulerName;
+    // must be set before the threads are created, as they look it up
+    this.timerWheelConfig = timerWheelConfig;
 
     tasks = new WorkStealingGroup(numOfThreads);
 
@@ -76,6 +89,11 @@ public abstract class ActorThreadGroup {
     return schedulerName;
   }
 
+  /** The configuration of the timer wheels of this group's threads. */
+  public TimerWheelConfig getTimerWheelConfig() {
+    return timerWheelConfig;
+  }
+
   public CompletableFuture<Void> closeAsync() {
     Loggers.ACTOR_LOGGER.debug("Closing actor thread ground '{}'", groupName);
 
@@ -7,67 +7,97 @@
  */
 package io.camunda.zeebe.scheduler;
 
+import io.camunda.zeebe.scheduler.ActorMetrics.TimerQueueMetrics;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
-import io.camunda.zeebe.util.Loggers;
+import java.time.Duration;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
-import org.agrona.DeadlineTimerWheel;
-import org.agrona.collections.Long2ObjectHashMap;
-import org.slf4j.Logger;
 
-public final class ActorTimerQueue extends DeadlineTimerWheel {
-  private static final Logger LOG = Loggers.ACTOR_LOGGER;
-  private static final int DEFAULT_TICKS_PER_WHEEL = 32;
-  private final Long2ObjectHashMap<TimerSubscription> timerJobMap = new Long2ObjectHashMap<>();
-
-  private final TimerHandler timerHandler =
-      (timeUnit, now, timerId) -> {
-        final TimerSubscription timer = timerJobMap.remove(timerId);
+/**
+ * Keeps track of the timers scheduled by the actors of a single {@link ActorThread}, backed by a
+ * {@link HierarchicalTimerWheel}. Must only be used by the thread it belongs to.
+ */
+public final class ActorTimerQueue {
+  private static final String UNNAMED = "unnamed";
 
-        if (timer != null) {
-          timer.onTimerExpired(timeUnit, now);
-        } else {
-          LOG.warn("Timer with id {} expired but is not known in this timer queue.", timerId);
-        }
+  private final HierarchicalTimerWheel<TimerSubscription> timerWheel;
+  private final TimerQueueMetrics metrics;
+  private long now;
 
-        return true;
+  private final HierarchicalTimerWheel.ExpiryHandler<TimerSubscription> timerHandler =
+      (timer, deadline) -> {
+        metrics.observeLateness(now - deadline);
+        timer.onTimerExpired(TimeUnit.MILLISECONDS, now);
       };
 
   public ActorTimerQueue(final ActorClock clock) {
-    this(clock, DEFAULT_TICKS_PER_WHEEL);
+    this(clock, TimerWheelConfig.DEFAULT);
   }
 
   public ActorTimerQueue(final ActorClock clock, final int ticksPerWheel) {
-    super(TimeUnit.MILLISECONDS, clock.getTimeMillis(), 1, ticksPerWheel);
+    this(clock, new TimerWheelConfig(TimerWheelConfig.DEFAULT_TICK_RESOLUTION, ticksPerWheel));
   }
 
-  public void processExpiredTimers(final ActorClock clock) {
-    int timersProcessed = 0;
+  public ActorTimerQueue(final ActorClock clock, final TimerWheelConfig config) {
+    this(clock, config, new ActorMetrics(false), UNNAMED);
+  }
 
-    do {
-      timersProcessed = poll(clock.getTimeMillis(), timerHandler, Integer.MAX_VALUE);
-    } while (timersProcessed > 0);
+  ActorTimerQueue(
+      final ActorClock clock,
+      final TimerWheelConfig config,
+      final ActorMetrics metrics,
+      final String name) {
+    timerWheel =
+        new HierarchicalTimerWheel<>(
+            config.tickResolution().toMillis(), config.ticksPerWheel(), clock.getTimeMillis());
+    this.metrics = metrics.timerQueueMetrics(name);
+  }
+
+  public void processExpiredTimers(final ActorClock clock) {
+    now = clock.getTimeMillis();
+    timerWheel.poll(now, timerHandler);
+    metrics.updateDepth(timerWheel.size());
   }
 
   public void schedule(final TimerSubscription timer, final ActorClock now) {
     final long deadline = timer.getDeadline(now);
+    timer.setTimerId(timerWheel.schedule(deadline, timer));
+  }
 
-    final long timerId = scheduleTimer(deadline);
-    timer.setTimerId(timerId);
-    if (timerJobMap.containsKey(timerId)) {
-      throw new IllegalStateException(
-          "Failed scheduling, timer with id "
-              + timerId
-              + " already exists: "
-              + timerJobMap.get(timerId));
-    }
+  public void remove(final TimerSubscription timer) {
+    timerWheel.cancel(timer.getTimerId());
+  }
 
-    timerJobMap.put(timerId, timer);
+  /** The number of timers which are currently scheduled. */
+  public int size() {
+    return timerWheel.size();
   }
 
-  public void remove(final TimerSubscription timer) {
-    final long timerId = timer.getTimerId();
+  /**
+   * Configures the timer wheel of the actor threads of an {@link ActorThreadGroup}.
+   *
+   * @param tickResolution the duration of a single tick of the lowest wheel; timers due within the
+   *     same tick share a slot. A coarser resolution means less cascading for groups whose timers
+   *     don't need millisecond precision.
+   * @param ticksPerWheel the number of slots per wheel, must be a power of two greater than 1
+   */
+  public record TimerWheelConfig(Duration tickResolution, int ticksPerWheel) {
+    public static final Duration DEFAULT_TICK_RESOLUTION = Duration.ofMillis(1);
+    public static final int DEFAULT_TICKS_PER_WHEEL = 32;
+    public static final TimerWheelConfig DEFAULT =
+        new TimerWheelConfig(DEFAULT_TICK_RESOLUTION, DEFAULT_TICKS_PER_WHEEL);
 
-    timerJobMap.remove(timerId);
-    cancelTimer(timerId);
+    public TimerWheelConfig {
+      Objects.requireNonNull(tickResolution, "must specify a tick resolution");
+      if (tickResolution.toMillis() < 1) {
+        throw new IllegalArgumentException(
+            "Expected tick resolution to be at least 1ms, but was " + tickResolution);
+      }
+      if (ticksPerWheel < 2 || Integer.bitCount(ticksPerWheel) != 1) {
+        throw new IllegalArgumentException(
+            "Expected ticks per wheel to be a power of two greater than 1, but was "
+                + ticksPerWheel);
+      }
+    }
   }
 }
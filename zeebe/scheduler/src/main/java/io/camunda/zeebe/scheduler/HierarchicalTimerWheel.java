@@ -0,0 +1,286 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import org.agrona.collections.Long2ObjectHashMap;
+
+/**
+ * A hierarchical timer wheel (see Varghese and Lauck, "Hashed and Hierarchical Timing Wheels").
+ *
+ * <p>The lowest wheel has one slot per tick, and each wheel above has slots spanning a full
+ * rotation of the wheel below. A timer is placed in the lowest wheel which covers its deadline, so
+ * every slot of the lowest wheel only ever contains timers which are due in that exact tick. When a
+ * wheel completes a rotation, the next slot of the wheel above is cascaded, i.e. its timers are
+ * placed again relative to the current tick. Compared to a single hashed wheel, far away timers
+ * are therefore never looked at until they get close, and scheduling and cancelling are O(1).
+ *
+ * <p>Ticks in which no timer is due and nothing has to be cascaded are skipped, so polling after a
+ * long idle period or a clock jump does not iterate over every tick in between.
+ *
+ * <p>Deadlines are expressed in milliseconds; the tick resolution only determines how timers are
+ * bucketed, a timer never expires before its deadline. This class is not thread safe.
+ *
+ * @param <T> the type of the values attached to the timers
+ */
+final class HierarchicalTimerWheel<T> {
+
+  /** Enough levels to cover at least 2^40 ticks, i.e. ~34 years with a 1ms resolution. */
+  private static final int MAX_TICK_BITS = 40;
+
+  private static final int PENDING = -1;
+
+  private final long tickResolutionMs;
+  private final int shift;
+  private final long mask;
+  private final int levels;
+  private final Node<T>[][] slots;
+  private final int[] timersPerLevel;
+  private final Long2ObjectHashMap<Node<T>> timers = new Long2ObjectHashMap<>();
+
+  // timers which are due in the current tick, but whose deadline is not reached yet
+  private Node<T> pending;
+  private Node<T> freeNodes;
+  private long currentTick;
+  private long nextTimerId;
+
+  @SuppressWarnings("unchecked")
+  HierarchicalTimerWheel(
+      final long tickResolutionMs, final int ticksPerWheel, final long startTimeMs) {
+    if (tickResolutionMs < 1) {
+      throw new IllegalArgumentException(
+          "Expected tick resolution to be at least 1ms, but was " + tickResolutionMs);
+    }
+    if (ticksPerWheel < 2 || Integer.bitCount(ticksPerWheel) != 1) {
+      throw new IllegalArgumentException(
+          "Expected ticks per wheel to be a power of two greater than 1, but was " + ticksPerWheel);
+    }
+
+    this.tickResolutionMs = tickResolutionMs;
+    shift = Integer.numberOfTrailingZeros(ticksPerWheel);
+    mask = ticksPerWheel - 1;
+    levels = (MAX_TICK_BITS + shift - 1) / shift;
+    slots = new Node[levels][ticksPerWheel];
+    timersPerLevel = new int[levels];
+    currentTick = toTick(startTimeMs);
+  }
+
+  /**
+   * Schedules a timer.
+   *
+   * @param deadlineMs the time in milliseconds after which the timer expires
+   * @param value the value passed to the handler when the timer expires
+   * @return the id of the timer, which is never reused
+   */
+  long schedule(final long deadlineMs, final T value) {
+    final Node<T> node = newNode();
+    node.id = nextTimerId++;
+    node.deadlineMs = deadlineMs;
+    node.tick = toTick(deadlineMs);
+    node.value = value;
+
+    timers.put(node.id, node);
+    place(node);
+    return node.id;
+  }
+
+  /**
+   * @return true if the timer was cancelled, false if it expired already or is not known
+   */
+  boolean cancel(final long timerId) {
+    final Node<T> node = timers.remove(timerId);
+    if (node == null) {
+      return false;
+    }
+
+    unlink(node);
+    recycle(node);
+    return true;
+  }
+
+  int size() {
+    return timers.size();
+  }
+
+  /**
+   * Expires all timers whose deadline is less than or equal to the given time.
+   *
+   * @return the number of expired timers
+   */
+  int poll(final long nowMs, final ExpiryHandler<T> handler) {
+    final long targetTick = toTick(nowMs);
+    int expired = expireCurrentTick(nowMs, handler);
+
+    while (currentTick < targetTick) {
+      currentTick = Math.min(targetTick, nextRelevantTick());
+      cascade();
+      expired += expireCurrentTick(nowMs, handler);
+    }
+
+    return expired;
+  }
+
+  private long toTick(final long timeMs) {
+    return timeMs / tickResolutionMs;
+  }
+
+  /**
+   * Returns the next tick at which a timer may be due or a slot has to be cascaded. A wheel's slots
+   * are cascaded whenever the wheel below completes a rotation, so if the lowest wheels are empty
+   * we can skip to the next rotation of the lowest non-empty wheel.
+   */
+  private long nextRelevantTick() {
+    long span = 1;
+    for (int level = 0; level < levels; level++) {
+      if (timersPerLevel[level] > 0) {
+        return (currentTick & -span) + span;
+      }
+      span <<= shift;
+    }
+
+    return Long.MAX_VALUE;
+  }
+
+  private void cascade() {
+    for (int level = 1; level < levels; level++) {
+      if ((currentTick & ((1L << (level * shift)) - 1)) != 0) {
+        // the wheel below did not complete a rotation
+        return;
+      }
+
+      final int slot = (int) ((currentTick >>> (level * shift)) & mask);
+      Node<T> node = slots[level][slot];
+      slots[level][slot] = null;
+      while (node != null) {
+        final Node<T> next = node.next;
+        timersPerLevel[level]--;
+        place(node);
+        node = next;
+      }
+    }
+  }
+
+  private int expireCurrentTick(final long nowMs, final ExpiryHandler<T> handler) {
+    final int slot = (int) (currentTick & mask);
+    int expired = 0;
+
+    // always take the head, as the handler may schedule or cancel other timers
+    Node<T> node;
+    while ((node = slots[0][slot]) != null) {
+      unlink(node);
+
+      if (node.deadlineMs <= nowMs) {
+        timers.remove(node.id);
+        final T value = node.value;
+        final long deadlineMs = node.deadlineMs;
+        recycle(node);
+
+        handler.onExpired(value, deadlineMs);
+        expired++;
+      } else {
+        link(node, PENDING, 0);
+      }
+    }
+
+    while ((node = pending) != null) {
+      unlink(node);
+      link(node, 0, slot);
+    }
+
+    return expired;
+  }
+
+  private void place(final Node<T> node) {
+    final long tick = Math.max(node.tick, currentTick);
+    final long delta = tick - currentTick;
+
+    int level = 0;
+    long span = mask + 1;
+    while (level < levels - 1 && delta >= span) {
+      level++;
+      span <<= shift;
+    }
+
+    // timers beyond the highest wheel are placed such that they are cascaded before their deadline
+    final long slotTick = delta < span ? tick : currentTick + span - 1;
+    link(node, level, (int) ((slotTick >>> (level * shift)) & mask));
+  }
+
+  private void link(final Node<T> node, final int level, final int slot) {
+    final Node<T> head;
+    if (level == PENDING) {
+      head = pending;
+      pending = node;
+    } else {
+      head = slots[level][slot];
+      slots[level][slot] = node;
+      timersPerLevel[level]++;
+    }
+
+    node.level = level;
+    node.slot = slot;
+    node.prev = null;
+    node.next = head;
+    if (head != null) {
+      head.prev = node;
+    }
+  }
+
+  private void unlink(final Node<T> node) {
+    if (node.prev != null) {
+      node.prev.next = node.next;
+    } else if (node.level == PENDING) {
+      pending = node.next;
+    } else {
+      slots[node.level][node.slot] = node.next;
+    }
+
+    if (node.next != null) {
+      node.next.prev = node.prev;
+    }
+    if (node.level != PENDING) {
+      timersPerLevel[node.level]--;
+    }
+
+    node.prev = null;
+    node.next = null;
+  }
+
+  private Node<T> newNode() {
+    final Node<T> node = freeNodes;
+    if (node == null) {
+      return new Node<>();
+    }
+
+    freeNodes = node.next;
+    node.next = null;
+    return node;
+  }
+
+  private void recycle(final Node<T> node) {
+    node.value = null;
+    node.prev = null;
+    node.next = freeNodes;
+    freeNodes = node;
+  }
+
+  @FunctionalInterface
+  interface ExpiryHandler<T> {
+    void onExpired(T value, long deadlineMs);
+  }
+
+  private static final class Node<T> {
+    private long id;
+    private long deadlineMs;
+    private long tick;
+    private T value;
+    private int level;
+    private int slot;
+    private Node<T> prev;
+    private Node<T> next;
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+final class HierarchicalTimerWheelTest {
+
+  private final List<Long> expired = new ArrayList<>();
+  private final HierarchicalTimerWheel.ExpiryHandler<Long> handler =
+      (value, deadline) -> expired.add(value);
+
+  @Test
+  void shouldNotExpireBeforeDeadline() {
+    // given
+    final var wheel = new HierarchicalTimerWheel<Long>(1, 4, 0);
+    wheel.schedule(10, 10L);
+
+    // when
+    final int count = wheel.poll(9, handler);
+
+    // then
+    assertThat(count).isZero();
+    assertThat(expired).isEmpty();
+    assertThat(wheel.size()).isOne();
+  }
+
+  @Test
+  void shouldExpireAtDeadline() {
+    // given
+    final var wheel = new HierarchicalTimerWheel<Long>(1, 4, 0);
+    wheel.schedule(10, 10L);
+
+    // when
+    final int count = wheel.poll(10, handler);
+
+    // then
+    assertThat(count).isOne();
+    assertThat(expired).containsExactly(10L);
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  void shouldExpireTimersInPast() {
+    // given
+    final var wheel = new HierarchicalTimerWheel<Long>(1, 4, 100);
+    wheel.schedule(50, 50L);
+
+    // when
+    wheel.poll(100, handler);
+
+    // then
+    assertThat(expired).containsExactly(50L);
+  }
+
+  @Test
+  void shouldExpireTimersAcrossLevelsInOrder() {
+    // given
+    final var wheel = new HierarchicalTimerWheel<Long>(1, 4, 0);
+    final long[] deadlines = {3, 5, 17, 64, 65, 1_000, 100_000};
+    for (final long deadline : deadlines) {
+      wheel.schedule(deadline, deadline);
+    }
+
+    // when
+    for (long now = 0; now <= 100_000; now++) {
+      final int before = expired.size();
+      wheel.poll(now, handler);
+
+      // then
+      for (int i = before; i < expired.size(); i++) {
+        assertThat(expired.get(i)).isEqualTo(now);
+      }
+    }
+
+    assertThat(expired).containsExactly(3L, 5L, 17L, 64L, 65L, 1_000L, 100_000L);
+  }
+
+  @Test
+  void shouldExpireAllDueTimersAfterClockJump() {
+    // given
+    final var wheel = new HierarchicalTimerWheel<Long>(1, 32, 0);
+    wheel.schedule(1_000, 1_000L);
+    wheel.schedule(3_600_000, 3_600_000L);
+    wheel.schedule(3_600_001, 3_600_001L);
+
+    // when
+    wheel.poll(3_600_000, handler);
+
+    // then
+    assertThat(expired).containsExactly(1_000L, 3_600_000L);
+    assertThat(wheel.size()).isOne();
+  }
+
+  @Test
+  void shouldNotExpireCancelledTimer() {
+    // given
+    final var wheel = new HierarchicalTimerWheel<Long>(1, 4, 0);
+    final long timerId = wheel.schedule(100, 100L);
+    wheel.schedule(100, 101L);
+
+    // when
+    final boolean cancelled = wheel.cancel(timerId);
+    wheel.poll(100, handler);
+
+    // then
+    assertThat(cancelled).isTrue();
+    assertThat(expired).containsExactly(101L);
+    assertThat(wheel.cancel(timerId)).isFalse();
+  }
+
+  @Test
+  void shouldAllowCancellingOtherTimersWhileExpiring() {
+    // given
+    final var wheel = new HierarchicalTimerWheel<Long>(1, 4, 0);
+    final long[] otherTimer = new long[1];
+    wheel.schedule(10, 1L);
+    otherTimer[0] = wheel.schedule(10, 2L);
+
+    // when
+    wheel.poll(
+        10,
+        (value, deadline) -> {
+          expired.add(value);
+          wheel.cancel(otherTimer[0]);
+        });
+
+    // then
+    assertThat(expired).hasSize(1);
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  void shouldNotExpireTimerDueLaterInSameTick() {
+    // given
+    final var wheel = new HierarchicalTimerWheel<Long>(10, 4, 0);
+    wheel.schedule(15, 15L);
+
+    // when
+    wheel.poll(14, handler);
+    final var expiredBefore = List.copyOf(expired);
+    wheel.poll(15, handler);
+
+    // then
+    assertThat(expiredBefore).isEmpty();
+    assertThat(expired).containsExactly(15L);
+  }
+
+  @Test
+  void shouldExpireRandomTimersNotBeforeDeadline() {
+    // given
+    final var wheel = new HierarchicalTimerWheel<Long>(1, 8, 0);
+    final var random = new Random(42);
+    for (int i = 0; i < 1_000; i++) {
+      final long deadline = random.nextInt(50_000);
+      wheel.schedule(deadline, deadline);
+    }
+
+    // when
+    long now = 0;
+    while (now < 50_000) {
+      now += random.nextInt(100);
+      final long pollTime = now;
+      wheel.poll(
+          pollTime,
+          (value, deadline) -> {
+            // then
+            assertThat(deadline).isLessThanOrEqualTo(pollTime);
+            expired.add(value);
+          });
+    }
+
+    assertThat(expired).hasSize(1_000);
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  void shouldRejectTicksPerWheelWhichIsNotPowerOfTwo() {
+    assertThatThrownBy(() -> new HierarchicalTimerWheel<Long>(1, 12, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
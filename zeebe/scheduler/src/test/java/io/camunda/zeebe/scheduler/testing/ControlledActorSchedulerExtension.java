@@ -51,7 +51,7 @@ public class ControlledActorSchedulerExtension implements BeforeEachCallback, Af
   public void beforeEach(final ExtensionContext extensionContext) throws Exception {
     final ControlledActorThreadFactory actorTaskRunnerFactory = new ControlledActorThreadFactory();
     clock = new ControlledActorClock();
-    final ActorTimerQueue timerQueue = new ActorTimerQueue(clock, 1);
+    final ActorTimerQueue timerQueue = new ActorTimerQueue(clock);
     final ActorSchedulerBuilder builder =
         ActorScheduler.newActorScheduler()
             .setActorClock(clock)
@@ -21,7 +21,12 @@ import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
 import java.util.Objects;
+import java.util.TreeMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,9 +43,14 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private int expectedTotalCount;
   private FileBasedSnapshotMetadata metadata;
   private ByteBuffer metadataBuffer;
-  private long writtenMetadataBytes;
   private SfvChecksumImpl checksumCollection;
 
+  // chunks may be received in any order, and more than once; to know when a file is complete we
+  // track the received blocks of each file by their position
+  private final Map<String, FileBlocks> receivedFiles = new HashMap<>();
+  private long receivedBytes;
+  private long receiveStartNanos;
+
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotId snapshotId,
       final Path directory,
@@ -51,7 +61,6 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     this.directory = directory;
     this.actor = actor;
     expectedTotalCount = Integer.MIN_VALUE;
-    writtenMetadataBytes = 0;
   }
 
   @Override
@@ -99,31 +108,44 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
     LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
     writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
+    final var fileBlocks =
+        receivedFiles.computeIfAbsent(
+            chunkName, name -> new FileBlocks(snapshotChunk.getTotalFileSize()));
+    final int chunkLength = snapshotChunk.getContent().length;
+    if (fileBlocks.add(snapshotChunk.getFileBlockPosition(), chunkLength)) {
+      if (receivedBytes == 0) {
+        receiveStartNanos = System.nanoTime();
+      }
+      receivedBytes += chunkLength;
+      snapshotStore.getSnapshotMetrics().observeReceivedChunk(chunkLength);
+    }
 
     if (checksumCollection == null) {
       checksumCollection = new SfvChecksumImpl();
     }
-    checksumCollection.updateFromBytes(
-        snapshotFile.getFileName().toString(), snapshotChunk.getContent());
+    if (fileBlocks.isSingleBlock()) {
+      checksumCollection.updateFromBytes(
+          snapshotFile.getFileName().toString(), snapshotChunk.getContent());
+    }
 
     if (snapshotChunk.getChunkName().equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)) {
       try {
-        collectMetadata(snapshotChunk);
+        collectMetadata(snapshotChunk, fileBlocks);
       } catch (final IOException e) {
         throw new SnapshotWriteException("Cannot decode snapshot metadata");
       }
     }
   }
 
-  private void collectMetadata(final SnapshotChunk chunk) throws IOException {
+  private void collectMetadata(final SnapshotChunk chunk, final FileBlocks fileBlocks)
+      throws IOException {
     if (metadataBuffer == null) {
       metadataBuffer = ByteBuffer.allocate(Math.toIntExact(chunk.getTotalFileSize()));
     }
 
     metadataBuffer.put(Math.toIntExact(chunk.getFileBlockPosition()), chunk.getContent());
-    writtenMetadataBytes += chunk.getContent().length;
 
-    if (writtenMetadataBytes == chunk.getTotalFileSize()) {
+    if (fileBlocks.isComplete()) {
       metadata = FileBasedSnapshotMetadata.decode(metadataBuffer.array());
     }
   }
@@ -262,6 +284,33 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
+    final var incompleteFiles =
+        receivedFiles.entrySet().stream()
+            .filter(file -> !file.getValue().isComplete())
+            .map(Entry::getKey)
+            .toList();
+    if (!incompleteFiles.isEmpty()) {
+      future.completeExceptionally(
+          new IllegalStateException(
+              String.format(
+                  "Expected all chunks of this snapshot, but files %s are incomplete.",
+                  incompleteFiles)));
+      return;
+    }
+
+    try {
+      // the checksum of a file which was received in multiple chunks, possibly out of order, can
+      // only be computed once the file is complete
+      for (final var file : receivedFiles.entrySet()) {
+        if (!file.getValue().isSingleBlock()) {
+          checksumCollection.updateFromFile(directory.resolve(file.getKey()));
+        }
+      }
+    } catch (final IOException e) {
+      future.completeExceptionally(e);
+      return;
+    }
+
     try {
       if (metadata == null) {
         // backward compatibility
@@ -274,6 +323,9 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       }
       final PersistedSnapshot value =
           snapshotStore.persistNewSnapshot(snapshotId, checksumCollection, metadata);
+      snapshotStore
+          .getSnapshotMetrics()
+          .observeReceivedSnapshot(receivedBytes, System.nanoTime() - receiveStartNanos);
       future.complete(value);
     } catch (final Exception e) {
       future.completeExceptionally(e);
@@ -282,6 +334,47 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     snapshotStore.removePendingSnapshot(this);
   }
 
+  /**
+   * The blocks of a single file which were received so far. Blocks may overlap if the sender
+   * changed its chunk size while retrying.
+   */
+  private static final class FileBlocks {
+    private final long totalSize;
+    private final NavigableMap<Long, Integer> lengthByPosition = new TreeMap<>();
+
+    private FileBlocks(final long totalSize) {
+      this.totalSize = totalSize;
+    }
+
+    /**
+     * @return true if no block of at least the same length was received at this position before
+     */
+    private boolean add(final long position, final int length) {
+      final var previousLength = lengthByPosition.get(position);
+      if (previousLength != null && previousLength >= length) {
+        return false;
+      }
+
+      lengthByPosition.put(position, length);
+      return true;
+    }
+
+    private boolean isSingleBlock() {
+      return lengthByPosition.size() == 1 && isComplete();
+    }
+
+    private boolean isComplete() {
+      long covered = 0;
+      for (final var block : lengthByPosition.entrySet()) {
+        if (block.getKey() > covered) {
+          return false;
+        }
+        covered = Math.max(covered, block.getKey() + block.getValue());
+      }
+      return covered >= totalSize;
+    }
+  }
+
   @Override
   public String toString() {
     return "FileBasedReceivedSnapshot{"
@@ -29,6 +29,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
 import java.util.HashSet;
@@ -60,6 +61,9 @@ public final class FileBasedSnapshotStoreImpl {
   private static final Logger LOGGER = LoggerFactory.getLogger(FileBasedSnapshotStoreImpl.class);
   private static final String CHECKSUM_SUFFIX = ".checksum";
   private static final String TMP_CHECKSUM_SUFFIX = ".tmp";
+  // SST files are never modified once written, so identical files may be shared between snapshots
+  private static final String IMMUTABLE_FILE_SUFFIX = ".sst";
+  private static final String TMP_LINK_SUFFIX = ".link";
   private final int brokerId;
   // the root snapshotsDirectory where all snapshots should be stored
   private final Path snapshotsDirectory;
@@ -597,6 +601,69 @@ public final class FileBasedSnapshotStoreImpl {
     return name.endsWith(CHECKSUM_SUFFIX);
   }
 
+  FileBasedSnapshot getLatestPersistedSnapshot() {
+    return currentPersistedSnapshotRef.get();
+  }
+
+  /**
+   * Replaces the immutable files of the given snapshot directory which are identical to the files
+   * of the previous snapshot with hard links to the latter, so that unchanged files are only
+   * stored once. This is the case for example if the runtime is on a different file system, and
+   * the checkpoint had to copy the files instead of linking them.
+   *
+   * <p>Files are only linked if they have the same name, size and checksum. Failing to link a file
+   * is not an error, as the snapshot is still valid with its own copy.
+   */
+  void linkUnchangedFiles(
+      final Path directory,
+      final ImmutableChecksumsSFV checksums,
+      final FileBasedSnapshot previousSnapshot)
+      throws IOException {
+    if (previousSnapshot == null) {
+      return;
+    }
+
+    final var previousChecksums = previousSnapshot.getChecksums().getChecksums();
+    var linkedFiles = 0;
+    for (final var entry : checksums.getChecksums().entrySet()) {
+      final var fileName = entry.getKey();
+      if (!fileName.endsWith(IMMUTABLE_FILE_SUFFIX)
+          || !entry.getValue().equals(previousChecksums.get(fileName))) {
+        continue;
+      }
+
+      final var file = directory.resolve(fileName);
+      final var previousFile = previousSnapshot.getPath().resolve(fileName);
+      final var link = directory.resolve(fileName + TMP_LINK_SUFFIX);
+      try {
+        if (Files.isSameFile(file, previousFile) || Files.size(file) != Files.size(previousFile)) {
+          continue;
+        }
+
+        Files.createLink(link, previousFile);
+        Files.move(
+            link, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        linkedFiles++;
+      } catch (final IOException | UnsupportedOperationException e) {
+        LOGGER.debug("Failed to link {} to {}, keeping a copy of it", file, previousFile, e);
+        try {
+          Files.deleteIfExists(link);
+        } catch (final IOException ignored) {
+          // the pending link is deleted along with the snapshot at the latest
+        }
+      }
+    }
+
+    if (linkedFiles > 0) {
+      FileUtil.flushDirectory(directory);
+      LOGGER.debug(
+          "Linked {} unchanged files of snapshot {} to previous snapshot {}",
+          linkedFiles,
+          directory,
+          previousSnapshot.getId());
+    }
+  }
+
   SnapshotMetrics getSnapshotMetrics() {
     return snapshotMetrics;
   }
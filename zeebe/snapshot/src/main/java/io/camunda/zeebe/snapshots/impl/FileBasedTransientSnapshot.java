@@ -85,7 +85,12 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
                       directory)));
 
         } else {
-          checksum = SnapshotChecksum.calculateWithProvidedChecksums(directory, checksumProvider);
+          // files shared with the previous snapshot are neither hashed nor stored twice
+          final var previousSnapshot = snapshotStore.getLatestPersistedSnapshot();
+          checksum =
+              SnapshotChecksum.calculateIncrementally(
+                  directory, checksumProvider, previousSnapshot);
+          snapshotStore.linkUnchangedFiles(directory, checksum, previousSnapshot);
 
           snapshot = null;
           isValid = true;
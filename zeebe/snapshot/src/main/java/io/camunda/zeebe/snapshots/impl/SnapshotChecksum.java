@@ -38,22 +38,40 @@ final class SnapshotChecksum {
   }
 
   public static MutableChecksumsSFV calculate(final Path snapshotDirectory) throws IOException {
-    return createChecksumForSnapshot(snapshotDirectory, snapshotPath -> Map.of());
+    return createChecksumForSnapshot(snapshotDirectory, snapshotPath -> Map.of(), null);
   }
 
   public static MutableChecksumsSFV calculateWithProvidedChecksums(
       final Path snapshotDirectory, final CRC32CChecksumProvider provider) throws IOException {
-    return createChecksumForSnapshot(snapshotDirectory, provider);
+    return createChecksumForSnapshot(snapshotDirectory, provider, null);
+  }
+
+  /**
+   * Calculates the checksums of the given snapshot, reusing the checksums of the previous snapshot
+   * for files which are the same file as in the previous snapshot, i.e. hard links to it. RocksDB
+   * checkpoints hard link the immutable SST files of the runtime database, so only the files
+   * written since the previous snapshot have to be read.
+   */
+  public static MutableChecksumsSFV calculateIncrementally(
+      final Path snapshotDirectory,
+      final CRC32CChecksumProvider provider,
+      final FileBasedSnapshot previousSnapshot)
+      throws IOException {
+    return createChecksumForSnapshot(snapshotDirectory, provider, previousSnapshot);
   }
 
   private static MutableChecksumsSFV createChecksumForSnapshot(
-      final Path snapshotDirectory, final CRC32CChecksumProvider provider) throws IOException {
+      final Path snapshotDirectory,
+      final CRC32CChecksumProvider provider,
+      final FileBasedSnapshot previousSnapshot)
+      throws IOException {
 
     try (final var fileStream =
         Files.list(snapshotDirectory).filter(SnapshotChecksum::isNotMetadataFile).sorted()) {
       final SfvChecksumImpl sfvChecksum = new SfvChecksumImpl();
       final Map<String, Long> fullFileChecksums = provider.getSnapshotChecksums(snapshotDirectory);
-      fileStream.forEachOrdered(path -> updateChecksum(sfvChecksum, fullFileChecksums, path));
+      fileStream.forEachOrdered(
+          path -> updateChecksum(sfvChecksum, fullFileChecksums, previousSnapshot, path));
 
       // While persisting transient snapshot, the checksum of metadata file is added at the end.
       // Hence when we recalculate the checksum, we must follow the same order. Otherwise base on
@@ -90,10 +108,17 @@ final class SnapshotChecksum {
   private static void updateChecksum(
       final MutableChecksumsSFV checksum,
       final Map<String, Long> fullFileChecksums,
+      final FileBasedSnapshot previousSnapshot,
       final Path file) {
     final String fileName = file.getFileName().toString();
     if (fullFileChecksums.containsKey(fileName)) {
       checksum.updateFromChecksum(file, fullFileChecksums.get(fileName));
+      return;
+    }
+
+    final Long previousChecksum = findUnchangedChecksum(previousSnapshot, file);
+    if (previousChecksum != null) {
+      checksum.updateFromChecksum(file, previousChecksum);
     } else {
       try {
         checksum.updateFromFile(file);
@@ -102,4 +127,26 @@ final class SnapshotChecksum {
       }
     }
   }
+
+  private static Long findUnchangedChecksum(
+      final FileBasedSnapshot previousSnapshot, final Path file) {
+    if (previousSnapshot == null) {
+      return null;
+    }
+
+    final var fileName = file.getFileName().toString();
+    final var previousChecksum = previousSnapshot.getChecksums().getChecksums().get(fileName);
+    final var previousFile = previousSnapshot.getPath().resolve(fileName);
+    try {
+      if (previousChecksum != null
+          && Files.exists(previousFile)
+          && Files.isSameFile(file, previousFile)) {
+        return previousChecksum;
+      }
+    } catch (final IOException e) {
+      // the previous snapshot may have been deleted concurrently; fall back to reading the file
+    }
+
+    return null;
+  }
 }
@@ -61,6 +61,20 @@ public final class SnapshotMetrics {
           .name("snapshot_file_size_megabytes")
           .buckets(.01, .1, .5, 1, 5, 10, 25, 50, 100, 250, 500)
           .register();
+  private static final Counter SNAPSHOT_RECEIVED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_received_bytes")
+          .help("Total count of snapshot bytes received through replication")
+          .register();
+  private static final Gauge SNAPSHOT_RECEIVE_THROUGHPUT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_receive_throughput_bytes_per_second")
+          .help("Average throughput at which the last replicated snapshot was received")
+          .register();
 
   private final Histogram.Child snapshotPersistDuration;
   private final Histogram.Child snapshotFileSize;
@@ -68,6 +82,8 @@ public final class SnapshotMetrics {
   private final Gauge.Child snapshotChunkCount;
   private final Gauge.Child snapshotSize;
   private final Child snapshotCount;
+  private final Child snapshotReceivedBytes;
+  private final Gauge.Child snapshotReceiveThroughput;
 
   public SnapshotMetrics(final String partitionId) {
     snapshotDuration = SNAPSHOT_DURATION.labels(partitionId);
@@ -76,6 +92,8 @@ public final class SnapshotMetrics {
     snapshotChunkCount = SNAPSHOT_CHUNK_COUNT.labels(partitionId);
     snapshotSize = SNAPSHOT_SIZE.labels(partitionId);
     snapshotCount = SNAPSHOT_COUNT.labels(partitionId);
+    snapshotReceivedBytes = SNAPSHOT_RECEIVED_BYTES.labels(partitionId);
+    snapshotReceiveThroughput = SNAPSHOT_RECEIVE_THROUGHPUT.labels(partitionId);
   }
 
   void incrementSnapshotCount() {
@@ -94,6 +112,16 @@ public final class SnapshotMetrics {
     snapshotFileSize.observe(sizeInBytes / 1_000_000f);
   }
 
+  void observeReceivedChunk(final long sizeInBytes) {
+    snapshotReceivedBytes.inc(sizeInBytes);
+  }
+
+  void observeReceivedSnapshot(final long sizeInBytes, final long durationNanos) {
+    if (durationNanos > 0) {
+      snapshotReceiveThroughput.set(sizeInBytes * 1_000_000_000d / durationNanos);
+    }
+  }
+
   Timer startTimer() {
     return snapshotDuration.startTimer();
   }
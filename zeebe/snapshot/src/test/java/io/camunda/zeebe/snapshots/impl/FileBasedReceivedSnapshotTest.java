@@ -26,6 +26,8 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import org.assertj.core.api.Assertions;
@@ -348,6 +350,77 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldReceiveSnapshotWhenChunksAreAppliedOutOfOrder() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+    final var chunks = new ArrayList<SnapshotChunk>();
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(2);
+      snapshotChunkReader.forEachRemaining(chunks::add);
+    }
+
+    // when
+    Collections.reverse(chunks);
+    for (final var chunk : chunks) {
+      receivedSnapshot.apply(chunk).join();
+    }
+    final var received = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(received.getChecksums().sameChecksums(persistedSnapshot.getChecksums()))
+        .as("the received snapshot has the same checksums as the sent snapshot")
+        .isTrue();
+    assertThat(received.getMetadata()).isEqualTo(persistedSnapshot.getMetadata());
+  }
+
+  @Test
+  public void shouldIgnoreDuplicateChunks() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(2);
+      while (snapshotChunkReader.hasNext()) {
+        final var chunk = snapshotChunkReader.next();
+        receivedSnapshot.apply(chunk).join();
+        receivedSnapshot.apply(chunk).join();
+      }
+    }
+    final var received = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(received.getChecksums().sameChecksums(persistedSnapshot.getChecksums())).isTrue();
+  }
+
+  @Test
+  public void shouldNotPersistIfChunkIsMissing() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when - skipping the second chunk of the first file
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(2);
+      receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      snapshotChunkReader.next();
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+
+    // then
+    assertThatThrownBy(() -> receivedSnapshot.persist().join())
+        .hasCauseInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("incomplete");
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
@@ -344,6 +344,56 @@ public class FileBasedTransientSnapshotTest {
                     .equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME));
   }
 
+  @Test
+  public void shouldLinkUnchangedImmutableFilesToPreviousSnapshot() throws IOException {
+    // given
+    final var previousSnapshot = snapshotStore.newTransientSnapshot(1L, 0L, 1L, 0L).get();
+    previousSnapshot.take(path -> writeFile(path, "000001.sst", "sst contents"));
+    final var persistedSnapshot = previousSnapshot.persist().join();
+
+    // when -- the unchanged file is copied instead of linked, e.g. across file systems
+    final var transientSnapshot = snapshotStore.newTransientSnapshot(2L, 0L, 2L, 0L).get();
+    transientSnapshot.take(path -> writeFile(path, "000001.sst", "sst contents")).join();
+
+    // then
+    assertThat(
+            Files.isSameFile(
+                transientSnapshot.getPath().resolve("000001.sst"),
+                persistedSnapshot.getPath().resolve("000001.sst")))
+        .as("the unchanged file is linked to the one of the previous snapshot")
+        .isTrue();
+    assertThat(transientSnapshot.persist().join().getPath().resolve("000001.sst"))
+        .hasBinaryContent("sst contents".getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void shouldNotLinkChangedImmutableFilesToPreviousSnapshot() throws IOException {
+    // given
+    final var previousSnapshot = snapshotStore.newTransientSnapshot(1L, 0L, 1L, 0L).get();
+    previousSnapshot.take(path -> writeFile(path, "000001.sst", "sst contents"));
+    final var persistedSnapshot = previousSnapshot.persist().join();
+
+    // when
+    final var transientSnapshot = snapshotStore.newTransientSnapshot(2L, 0L, 2L, 0L).get();
+    transientSnapshot.take(path -> writeFile(path, "000001.sst", "new contents")).join();
+
+    // then
+    assertThat(
+            Files.isSameFile(
+                transientSnapshot.getPath().resolve("000001.sst"),
+                persistedSnapshot.getPath().resolve("000001.sst")))
+        .isFalse();
+  }
+
+  private void writeFile(final Path path, final String fileName, final String content) {
+    try {
+      FileUtil.ensureDirectoryExists(path);
+      Files.writeString(path.resolve(fileName), content, CREATE_NEW, StandardOpenOption.WRITE);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   private boolean writeSnapshot(final Path path) {
     try {
       FileUtil.ensureDirectoryExists(path);
@@ -21,6 +21,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.time.Duration;
+import java.util.Map;
 import java.util.zip.CRC32C;
 import java.util.zip.Checksum;
 import org.agrona.IoUtil;
@@ -211,6 +212,31 @@ public final class SnapshotChecksumTest {
     assertThat(checksumCalculatedInSteps.sameChecksums(checksumCalculatedAtOnce)).isTrue();
   }
 
+  @Test
+  void shouldReuseChecksumsOfFilesLinkedToPreviousSnapshot() throws IOException {
+    // given -- previous checksums which differ from the actual content, to detect reuse
+    final var previousChecksums = new SfvChecksumImpl();
+    previousChecksums.updateFromChecksum(Path.of("file1.txt"), 1L);
+    previousChecksums.updateFromChecksum(Path.of("file2.txt"), 2L);
+    final var previousSnapshot =
+        new FileBasedSnapshot(
+            multipleFileSnapshot, null, previousChecksums, null, null, snapshot -> {}, null);
+    final var newSnapshot = createTempDir("new");
+    Files.createLink(newSnapshot.resolve("file1.txt"), multipleFileSnapshot.resolve("file1.txt"));
+    createChunk(newSnapshot, "file2.txt");
+
+    final var expectedChecksum = SnapshotChecksum.calculate(newSnapshot).getChecksums();
+
+    // when
+    final var actual =
+        SnapshotChecksum.calculateIncrementally(newSnapshot, path -> Map.of(), previousSnapshot);
+
+    // then -- only the linked file's checksum is reused, the copied one is recomputed
+    assertThat(actual.getChecksums())
+        .containsEntry("file1.txt", 1L)
+        .containsEntry("file2.txt", expectedChecksum.get("file2.txt"));
+  }
+
   private Path createTempDir(final String name) throws IOException {
     final var path = temporaryFolder.resolve(name);
     FileUtil.ensureDirectoryExists(path);
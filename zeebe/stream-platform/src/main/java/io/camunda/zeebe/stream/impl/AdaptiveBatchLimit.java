@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import java.time.Duration;
+
+/**
+ * Tunes the number of commands processed in a single batch, i.e. in a single transaction and log
+ * append, for one partition.
+ *
+ * <p>Larger batches mean fewer RocksDB commits and log appends, but every other command waiting on
+ * the partition has to wait until the whole batch is committed. The limit is therefore adjusted
+ * with an additive increase, multiplicative decrease scheme, based on the observed batches:
+ *
+ * <ul>
+ *   <li>if a batch took longer than the target latency from the start of processing until its
+ *       commit, or wrote more than the target number of bytes, the limit is halved
+ *   <li>if a batch was cut off by the limit while more commands were waiting to be processed, and
+ *       it stayed well within both targets, the limit is raised by an eighth (at least by one)
+ *   <li>if a batch exceeded the maximum size of a log append, the limit is set to half of the
+ *       commands which could be processed before
+ * </ul>
+ *
+ * <p>The limit never exceeds the configured maximum number of commands in a batch, which is also
+ * the initial limit. When adaptive batching is disabled, the limit is fixed at this maximum.
+ */
+final class AdaptiveBatchLimit {
+
+  private final int maxLimit;
+  private final boolean enabled;
+  private final long targetLatencyNanos;
+  private final long targetBatchBytes;
+  private int limit;
+
+  AdaptiveBatchLimit(
+      final int maxLimit,
+      final boolean enabled,
+      final Duration targetLatency,
+      final long targetBatchBytes) {
+    this.maxLimit = maxLimit;
+    this.enabled = enabled;
+    targetLatencyNanos = targetLatency.toNanos();
+    this.targetBatchBytes = targetBatchBytes;
+    limit = maxLimit;
+  }
+
+  static AdaptiveBatchLimit fixed(final int maxLimit) {
+    return new AdaptiveBatchLimit(maxLimit, false, Duration.ZERO, 0);
+  }
+
+  int get() {
+    return limit;
+  }
+
+  /**
+   * Adjusts the limit after a batch was committed.
+   *
+   * @param commandCount the number of commands processed in the batch
+   * @param batchBytes the number of bytes written to the log by the batch
+   * @param latencyNanos the time from the start of processing until the batch was committed
+   * @param hasBacklog whether more commands were waiting to be processed after the batch
+   */
+  void onBatchCommitted(
+      final int commandCount,
+      final long batchBytes,
+      final long latencyNanos,
+      final boolean hasBacklog) {
+    if (!enabled) {
+      return;
+    }
+
+    if (latencyNanos > targetLatencyNanos || batchBytes > targetBatchBytes) {
+      // a single command can't be split up further, so its latency says nothing about the limit
+      if (commandCount > 1) {
+        limit = Math.max(1, Math.min(limit, commandCount) / 2);
+      }
+    } else if (hasBacklog
+        && commandCount >= limit
+        && latencyNanos <= targetLatencyNanos / 2
+        && batchBytes <= targetBatchBytes / 2) {
+      limit = Math.min(maxLimit, limit + Math.max(1, limit / 8));
+    }
+  }
+
+  /**
+   * Adjusts the limit after a batch exceeded the maximum size of a log append.
+   *
+   * @param processedCommands the number of commands processed before the batch got too large
+   */
+  void onBatchTooLarge(final int processedCommands) {
+    if (enabled) {
+      limit = Math.max(1, Math.min(limit, processedCommands) / 2);
+    }
+  }
+}
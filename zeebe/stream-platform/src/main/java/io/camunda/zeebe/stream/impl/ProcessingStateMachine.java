@@ -109,6 +109,8 @@ public final class ProcessingStateMachine {
       "Expected to execute side effects for record '{} {}' successfully, but exception was thrown.";
   private static final String ERROR_MESSAGE_UPDATE_STATE_FAILED =
       "Expected to successfully update state for record '{} {}', but caught an exception. Retry.";
+  private static final String ERROR_MESSAGE_COMMIT_PIPELINED_BATCHES_FAILED =
+      "Expected to commit the state of %d pipelined batches up to position %d, but caught an exception.";
   private static final String ERROR_MESSAGE_PROCESSING_FAILED_RETRY_PROCESSING =
       "Expected to process record '{} {}' successfully on stream processor, but caught recoverable exception. Retry processing.";
   private static final String ERROR_MESSAGE_PROCESSING_FAILED_UNRECOVERABLE =
@@ -159,8 +161,18 @@ public final class ProcessingStateMachine {
   private RecordProcessor currentProcessor;
   private final LogStreamWriter logStreamWriter;
   private boolean inProcessing;
-  private final int maxCommandsInBatch;
+  private final AdaptiveBatchLimit batchLimit;
   private int processedCommandsCount;
+  // the command count and size of the current batch, and when its processing started
+  private int batchCommandCount;
+  private long batchBytes;
+  private long batchStartNanos;
+  // the number of batches processed since the last commit, whose changes are still pending in the
+  // transaction; each of them ends with a save point
+  private final boolean pipelinedProcessing;
+  private final int maxPipelinedBatches;
+  private int pipelinedBatches;
+  private long pipelinedProcessedPosition = StreamProcessor.UNSET_POSITION;
   private final ProcessingMetrics processingMetrics;
   private final ScheduledCommandCache scheduledCommandCache;
   private volatile ErrorHandlingPhase errorHandlingPhase = ErrorHandlingPhase.NO_ERROR;
@@ -181,7 +193,14 @@ public final class ProcessingStateMachine {
     transactionContext = context.getTransactionContext();
     abortCondition = context.getAbortCondition();
     lastProcessedPositionState = context.getLastProcessedPositionState();
-    maxCommandsInBatch = context.getMaxCommandsInBatch();
+    batchLimit =
+        new AdaptiveBatchLimit(
+            context.getMaxCommandsInBatch(),
+            context.isEnableAdaptiveBatching(),
+            context.getAdaptiveBatchingTargetLatency(),
+            context.getAdaptiveBatchingTargetBytes());
+    pipelinedProcessing = context.isEnablePipelinedProcessing();
+    maxPipelinedBatches = context.getMaxPipelinedBatches();
 
     writeRetryStrategy = new AbortableRetryStrategy(actor);
     sideEffectsRetryStrategy = new AbortableRetryStrategy(actor);
@@ -196,6 +215,7 @@ public final class ProcessingStateMachine {
     streamProcessorListener = context.getStreamProcessorListener();
 
     processingMetrics = new ProcessingMetrics(Integer.toString(partitionId));
+    processingMetrics.setBatchLimit(batchLimit.get());
 
     processingFilter =
         new MetadataEventFilter(
@@ -223,6 +243,12 @@ public final class ProcessingStateMachine {
   void tryToReadNextRecord() {
     final var hasNext = logStreamReader.hasNext();
 
+    if (pipelinedBatches > 0 && !inProcessing && !(hasNext && shouldProcessNext.getAsBoolean())) {
+      // nothing left to process on top of the pending changes, so we don't hold them back
+      commitPipelinedBatches();
+      return;
+    }
+
     if (currentRecord != null) {
       final var previousRecord = currentRecord;
       // All commands cause a follow-up event or rejection, which means the processor
@@ -265,6 +291,8 @@ public final class ProcessingStateMachine {
     inProcessing = true;
 
     currentProcessingResult = EmptyProcessingResult.INSTANCE;
+    batchCommandCount = 0;
+    batchStartNanos = System.nanoTime();
 
     metadata.reset();
     loggedEvent.readMetadata(metadata);
@@ -285,6 +313,11 @@ public final class ProcessingStateMachine {
         zeebeDbTransaction.run(() -> batchProcessing(typedCommand));
         processingMetrics.observeCommandCount(processedCommandsCount);
       }
+      batchCommandCount = processedCommandsCount;
+      batchBytes = 0;
+      for (final var pendingWrite : pendingWrites) {
+        batchBytes += pendingWrite.getLength();
+      }
 
       finalizeCommandProcessing();
       writeRecords();
@@ -304,9 +337,11 @@ public final class ProcessingStateMachine {
         LOG.warn(
             WARN_MESSAGE_BATCH_PROCESSING_RETRY,
             processedCommandsCount,
-            maxCommandsInBatch,
+            batchLimit.get(),
             exceededBatchRecordSizeException);
         processingMetrics.countRetry();
+        batchLimit.onBatchTooLarge(processedCommandsCount);
+        processingMetrics.setBatchLimit(batchLimit.get());
         onError(exceededBatchRecordSizeException, () -> processCommand(loggedEvent));
       } else {
         onError(
@@ -355,7 +390,7 @@ public final class ProcessingStateMachine {
     // We know that we can process until the last processed commands count, which is why we set it
     // as our processing batch limit, in order to handle the commands afterwards as own batch.
     final var currentProcessingBatchLimit =
-        processedCommandsCount > 0 ? processedCommandsCount : maxCommandsInBatch;
+        processedCommandsCount > 0 ? processedCommandsCount : batchLimit.get();
     processedCommandsCount = 0;
     pendingWrites = new ArrayList<>();
     pendingResponses = Collections.newSetFromMap(new IdentityHashMap<>(2));
@@ -442,7 +477,7 @@ public final class ProcessingStateMachine {
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
-              zeebeDbTransaction.rollback();
+              rollbackCurrentBatch();
               return true;
             },
             abortCondition);
@@ -464,6 +499,20 @@ public final class ProcessingStateMachine {
         });
   }
 
+  /**
+   * Discards the changes of the current batch. Changes of pipelined batches are kept, as their
+   * records were written already.
+   */
+  private void rollbackCurrentBatch() throws Exception {
+    if (pipelinedBatches > 0) {
+      zeebeDbTransaction.rollbackToSavePoint();
+      // the save point is removed on rollback, but the current batch may be retried
+      zeebeDbTransaction.setSavePoint();
+    } else {
+      zeebeDbTransaction.rollback();
+    }
+  }
+
   private boolean tryExitOutOfErrorLoop(final Throwable error) {
     try {
       // If in error loop and the processing record is a user command
@@ -567,6 +616,7 @@ public final class ProcessingStateMachine {
 
   private void errorHandlingInTransaction(final Throwable processingException) throws Exception {
     startErrorLoop(typedCommand.hasRequestMetadata());
+    batchCommandCount = 0;
     zeebeDbTransaction = transactionContext.getCurrentTransaction();
     zeebeDbTransaction.run(
         () -> {
@@ -642,12 +692,19 @@ public final class ProcessingStateMachine {
   }
 
   private void updateState() {
+    final boolean deferCommit = shouldDeferCommit();
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
-              zeebeDbTransaction.commit();
-              lastSuccessfulProcessedRecordPosition = currentRecord.getPosition();
-              metrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
+              if (deferCommit) {
+                // the next batch is processed on top of the uncommitted changes of this one
+                zeebeDbTransaction.setSavePoint();
+                pipelinedBatches++;
+                pipelinedProcessedPosition = currentRecord.getPosition();
+              } else {
+                zeebeDbTransaction.commit();
+                onCommitted(pipelinedBatches + 1, currentRecord.getPosition());
+              }
               lastWrittenPosition = writtenPosition;
               return true;
             },
@@ -666,11 +723,75 @@ public final class ProcessingStateMachine {
                 });
           } else {
             scheduledCommandCache.remove(metadata.getIntent(), currentRecord.getKey());
+            onBatchCommitted();
             executeSideEffects();
           }
         });
   }
 
+  /**
+   * The commit of a batch can be deferred if pipelined processing is enabled, and there is another
+   * command to process on top of it. Error handling batches are always committed right away.
+   */
+  private boolean shouldDeferCommit() {
+    return pipelinedProcessing
+        && pipelinedBatches + 1 < maxPipelinedBatches
+        && errorHandlingPhase == ErrorHandlingPhase.NO_ERROR
+        && shouldProcessNext.getAsBoolean()
+        && logStreamReader.hasNext();
+  }
+
+  private void commitPipelinedBatches() {
+    inProcessing = true;
+
+    final ActorFuture<Boolean> retryFuture =
+        updateStateRetryStrategy.runWithRetry(
+            () -> {
+              zeebeDbTransaction.commit();
+              onCommitted(pipelinedBatches, pipelinedProcessedPosition);
+              return true;
+            },
+            abortCondition);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            // the records of these batches are written already, the state can't be restored
+            // without replaying them
+            throw new UnrecoverableException(
+                ERROR_MESSAGE_COMMIT_PIPELINED_BATCHES_FAILED.formatted(
+                    pipelinedBatches, pipelinedProcessedPosition),
+                throwable);
+          }
+
+          inProcessing = false;
+          actor.submit(this::tryToReadNextRecord);
+        });
+  }
+
+  private void onCommitted(final int committedBatches, final long processedPosition) {
+    lastSuccessfulProcessedRecordPosition = processedPosition;
+    metrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
+    if (pipelinedProcessing) {
+      processingMetrics.observePipelinedBatches(committedBatches);
+    }
+    pipelinedBatches = 0;
+  }
+
+  private void onBatchCommitted() {
+    // batches which failed and were replaced by error handling are not representative
+    if (batchCommandCount == 0) {
+      return;
+    }
+
+    final long latencyNanos = System.nanoTime() - batchStartNanos;
+    processingMetrics.observeBatch(batchBytes, latencyNanos);
+    batchLimit.onBatchCommitted(
+        batchCommandCount, batchBytes, latencyNanos, logStreamReader.hasNext());
+    processingMetrics.setBatchLimit(batchLimit.get());
+  }
+
   private void executeSideEffects() {
     final ActorFuture<Boolean> retryFuture =
         sideEffectsRetryStrategy.runWithRetry(
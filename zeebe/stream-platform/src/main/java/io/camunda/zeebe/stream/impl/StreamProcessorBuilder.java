@@ -147,6 +147,22 @@ public final class StreamProcessorBuilder {
           "Batch processing limit must be >= 1 but was %s"
               .formatted(streamProcessorContext.getMaxCommandsInBatch()));
     }
+    if (streamProcessorContext.isEnableAdaptiveBatching()) {
+      Objects.requireNonNull(
+          streamProcessorContext.getAdaptiveBatchingTargetLatency(),
+          "No adaptive batching target latency provided");
+      if (streamProcessorContext.getAdaptiveBatchingTargetBytes() < 1) {
+        throw new IllegalArgumentException(
+            "Adaptive batching target bytes must be >= 1 but was %s"
+                .formatted(streamProcessorContext.getAdaptiveBatchingTargetBytes()));
+      }
+    }
+    if (streamProcessorContext.isEnablePipelinedProcessing()
+        && streamProcessorContext.getMaxPipelinedBatches() < 1) {
+      throw new IllegalArgumentException(
+          "Max pipelined batches must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getMaxPipelinedBatches()));
+    }
   }
 
   public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
@@ -154,6 +170,41 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  /**
+   * Lets the stream processor tune the number of commands per batch between 1 and {@link
+   * #maxCommandsInBatch(int)}, such that batches stay within the given latency and size targets.
+   */
+  public StreamProcessorBuilder setEnableAdaptiveBatching(final boolean enabled) {
+    streamProcessorContext.setEnableAdaptiveBatching(enabled);
+    return this;
+  }
+
+  public StreamProcessorBuilder setAdaptiveBatchingTargetLatency(final Duration targetLatency) {
+    streamProcessorContext.setAdaptiveBatchingTargetLatency(targetLatency);
+    return this;
+  }
+
+  public StreamProcessorBuilder setAdaptiveBatchingTargetBytes(final long targetBytes) {
+    streamProcessorContext.setAdaptiveBatchingTargetBytes(targetBytes);
+    return this;
+  }
+
+  /**
+   * Lets the stream processor process the next batch on top of the uncommitted state of the
+   * previous batches, instead of committing the state after every batch. The state is committed
+   * once {@link #setMaxPipelinedBatches(int)} batches were processed, or when there are no more
+   * commands to process.
+   */
+  public StreamProcessorBuilder setEnablePipelinedProcessing(final boolean enabled) {
+    streamProcessorContext.setEnablePipelinedProcessing(enabled);
+    return this;
+  }
+
+  public StreamProcessorBuilder setMaxPipelinedBatches(final int maxPipelinedBatches) {
+    streamProcessorContext.setMaxPipelinedBatches(maxPipelinedBatches);
+    return this;
+  }
+
   public StreamProcessorBuilder setEnableAsyncScheduledTasks(final boolean enabled) {
     streamProcessorContext.setEnableAsyncScheduledTasks(enabled);
     return this;
@@ -30,6 +30,9 @@ import java.util.function.BooleanSupplier;
 public final class StreamProcessorContext implements ReadonlyStreamProcessorContext {
 
   public static final int DEFAULT_MAX_COMMANDS_IN_BATCH = 100;
+  public static final Duration DEFAULT_ADAPTIVE_BATCHING_TARGET_LATENCY = Duration.ofMillis(10);
+  public static final long DEFAULT_ADAPTIVE_BATCHING_TARGET_BYTES = 1024 * 1024;
+  public static final int DEFAULT_MAX_PIPELINED_BATCHES = 8;
   private static final StreamProcessorListener NOOP_LISTENER = processedCommand -> {};
   private ActorControl actor;
   private LogStream logStream;
@@ -57,6 +60,11 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   private ControllableStreamClock clock;
   private MeterRegistry meterRegistry;
   private Duration scheduledTaskCheckInterval = Duration.ofSeconds(1);
+  private boolean enableAdaptiveBatching = false;
+  private Duration adaptiveBatchingTargetLatency = DEFAULT_ADAPTIVE_BATCHING_TARGET_LATENCY;
+  private long adaptiveBatchingTargetBytes = DEFAULT_ADAPTIVE_BATCHING_TARGET_BYTES;
+  private boolean enablePipelinedProcessing = false;
+  private int maxPipelinedBatches = DEFAULT_MAX_PIPELINED_BATCHES;
 
   public StreamProcessorContext actor(final ActorControl actor) {
     this.actor = actor;
@@ -223,6 +231,51 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
     return maxCommandsInBatch;
   }
 
+  public boolean isEnableAdaptiveBatching() {
+    return enableAdaptiveBatching;
+  }
+
+  public StreamProcessorContext setEnableAdaptiveBatching(final boolean enabled) {
+    enableAdaptiveBatching = enabled;
+    return this;
+  }
+
+  public Duration getAdaptiveBatchingTargetLatency() {
+    return adaptiveBatchingTargetLatency;
+  }
+
+  public StreamProcessorContext setAdaptiveBatchingTargetLatency(final Duration targetLatency) {
+    adaptiveBatchingTargetLatency = targetLatency;
+    return this;
+  }
+
+  public long getAdaptiveBatchingTargetBytes() {
+    return adaptiveBatchingTargetBytes;
+  }
+
+  public StreamProcessorContext setAdaptiveBatchingTargetBytes(final long targetBytes) {
+    adaptiveBatchingTargetBytes = targetBytes;
+    return this;
+  }
+
+  public boolean isEnablePipelinedProcessing() {
+    return enablePipelinedProcessing;
+  }
+
+  public StreamProcessorContext setEnablePipelinedProcessing(final boolean enabled) {
+    enablePipelinedProcessing = enabled;
+    return this;
+  }
+
+  public int getMaxPipelinedBatches() {
+    return maxPipelinedBatches;
+  }
+
+  public StreamProcessorContext setMaxPipelinedBatches(final int maxPipelinedBatches) {
+    this.maxPipelinedBatches = maxPipelinedBatches;
+    return this;
+  }
+
   public StreamProcessorContext setEnableAsyncScheduledTasks(final boolean enabled) {
     enableAsyncScheduledTasks = enabled;
     return this;
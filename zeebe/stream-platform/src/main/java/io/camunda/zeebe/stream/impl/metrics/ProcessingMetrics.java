@@ -10,6 +10,7 @@ package io.camunda.zeebe.stream.impl.metrics;
 import io.camunda.zeebe.stream.impl.ProcessingStateMachine.ErrorHandlingPhase;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Enumeration;
+import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 import io.prometheus.client.Histogram.Child;
 import io.prometheus.client.Histogram.Timer;
@@ -54,6 +55,43 @@ public class ProcessingMetrics {
           .labelNames(LABEL_NAME_PARTITION)
           .register();
 
+  private static final Gauge BATCH_PROCESSING_LIMIT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_batch_processing_limit")
+          .help("The current maximum number of commands processed in a single batch")
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
+  private static final Histogram BATCH_PROCESSING_BYTES =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_batch_processing_bytes")
+          .help("Number of bytes written to the log by a single batch")
+          .exponentialBuckets(256, 4, 9)
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
+  private static final Histogram BATCH_PROCESSING_COMMIT_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_batch_processing_commit_latency")
+          .help(
+              "Time from the start of processing a batch until it is committed, which other"
+                  + " commands of the partition have to wait (in seconds)")
+          .buckets(.0001, .001, .005, .01, .025, .05, .1, .250, 0.5, 1, 2)
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
+  private static final Histogram PIPELINED_BATCHES =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_pipelined_batches")
+          .help("Number of batches whose state changes were committed together")
+          .buckets(1, 2, 4, 8, 16, 32, 64)
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
   private static final Enumeration ERROR_HANDLING_PHASE =
       Enumeration.build()
           .namespace(NAMESPACE)
@@ -68,6 +106,10 @@ public class ProcessingMetrics {
   private final Counter.Child batchProcessingRetries;
   private final Child batchProcessingPostCommitTasks;
   private final Enumeration.Child errorHandlingPhase;
+  private final Gauge.Child batchProcessingLimit;
+  private final Child batchProcessingBytes;
+  private final Child batchProcessingCommitLatency;
+  private final Child pipelinedBatches;
 
   public ProcessingMetrics(final String partitionIdLabel) {
     batchProcessingDuration = BATCH_PROCESSING_DURATION.labels(partitionIdLabel);
@@ -75,6 +117,10 @@ public class ProcessingMetrics {
     batchProcessingRetries = BATCH_PROCESSING_RETRIES.labels(partitionIdLabel);
     batchProcessingPostCommitTasks = BATCH_PROCESSING_POST_COMMIT_TASKS.labels(partitionIdLabel);
     errorHandlingPhase = ERROR_HANDLING_PHASE.labels(partitionIdLabel);
+    batchProcessingLimit = BATCH_PROCESSING_LIMIT.labels(partitionIdLabel);
+    batchProcessingBytes = BATCH_PROCESSING_BYTES.labels(partitionIdLabel);
+    batchProcessingCommitLatency = BATCH_PROCESSING_COMMIT_LATENCY.labels(partitionIdLabel);
+    pipelinedBatches = PIPELINED_BATCHES.labels(partitionIdLabel);
   }
 
   public Timer startBatchProcessingDurationTimer() {
@@ -85,6 +131,19 @@ public class ProcessingMetrics {
     batchProcessingCommands.observe(commandCount);
   }
 
+  public void setBatchLimit(final int limit) {
+    batchProcessingLimit.set(limit);
+  }
+
+  public void observeBatch(final long batchBytes, final long commitLatencyNanos) {
+    batchProcessingBytes.observe(batchBytes);
+    batchProcessingCommitLatency.observe(commitLatencyNanos / 1_000_000_000d);
+  }
+
+  public void observePipelinedBatches(final int batches) {
+    pipelinedBatches.observe(batches);
+  }
+
   public void countRetry() {
     batchProcessingRetries.inc();
   }
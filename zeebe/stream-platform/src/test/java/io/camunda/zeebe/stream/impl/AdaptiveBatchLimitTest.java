@@ -0,0 +1,151 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+final class AdaptiveBatchLimitTest {
+
+  private static final Duration TARGET_LATENCY = Duration.ofMillis(10);
+  private static final long TARGET_BYTES = 1024;
+  private static final long FAST = Duration.ofMillis(1).toNanos();
+  private static final long SLOW = Duration.ofMillis(20).toNanos();
+
+  private final AdaptiveBatchLimit limit =
+      new AdaptiveBatchLimit(100, true, TARGET_LATENCY, TARGET_BYTES);
+
+  @Test
+  void shouldStartAtMaximum() {
+    assertThat(limit.get()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldNotAdaptIfDisabled() {
+    // given
+    final var fixed = AdaptiveBatchLimit.fixed(100);
+
+    // when
+    fixed.onBatchCommitted(100, 10 * TARGET_BYTES, SLOW, true);
+    fixed.onBatchTooLarge(10);
+
+    // then
+    assertThat(fixed.get()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldHalveLimitIfLatencyExceedsTarget() {
+    // when
+    limit.onBatchCommitted(100, 10, SLOW, true);
+
+    // then
+    assertThat(limit.get()).isEqualTo(50);
+  }
+
+  @Test
+  void shouldHalveLimitIfBytesExceedTarget() {
+    // when
+    limit.onBatchCommitted(100, TARGET_BYTES + 1, FAST, true);
+
+    // then
+    assertThat(limit.get()).isEqualTo(50);
+  }
+
+  @Test
+  void shouldHalveBasedOnProcessedCommands() {
+    // when
+    limit.onBatchCommitted(20, 10, SLOW, false);
+
+    // then
+    assertThat(limit.get()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldNotDecreaseBelowOne() {
+    // when
+    for (int i = 0; i < 20; i++) {
+      limit.onBatchCommitted(limit.get() + 1, 10, SLOW, true);
+    }
+
+    // then
+    assertThat(limit.get()).isOne();
+  }
+
+  @Test
+  void shouldNotDecreaseOnSlowSingleCommand() {
+    // given
+    limit.onBatchCommitted(100, 10, SLOW, true);
+
+    // when
+    limit.onBatchCommitted(1, 10, SLOW, true);
+
+    // then
+    assertThat(limit.get()).isEqualTo(50);
+  }
+
+  @Test
+  void shouldIncreaseLimitIfBatchWasCutOffWithBacklog() {
+    // given
+    limit.onBatchCommitted(100, 10, SLOW, true);
+
+    // when
+    limit.onBatchCommitted(50, 10, FAST, true);
+
+    // then
+    assertThat(limit.get()).isEqualTo(56);
+  }
+
+  @Test
+  void shouldNotIncreaseLimitWithoutBacklog() {
+    // given
+    limit.onBatchCommitted(100, 10, SLOW, true);
+
+    // when
+    limit.onBatchCommitted(50, 10, FAST, false);
+
+    // then
+    assertThat(limit.get()).isEqualTo(50);
+  }
+
+  @Test
+  void shouldNotIncreaseLimitIfBatchWasNotCutOff() {
+    // given
+    limit.onBatchCommitted(100, 10, SLOW, true);
+
+    // when
+    limit.onBatchCommitted(20, 10, FAST, true);
+
+    // then
+    assertThat(limit.get()).isEqualTo(50);
+  }
+
+  @Test
+  void shouldNotIncreaseAboveMaximum() {
+    // given
+    limit.onBatchCommitted(100, 10, SLOW, true);
+
+    // when
+    for (int i = 0; i < 20; i++) {
+      limit.onBatchCommitted(limit.get(), 10, FAST, true);
+    }
+
+    // then
+    assertThat(limit.get()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldHalveLimitIfBatchIsTooLarge() {
+    // when
+    limit.onBatchTooLarge(30);
+
+    // then
+    assertThat(limit.get()).isEqualTo(15);
+  }
+}
@@ -56,6 +56,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.AssertionsForClassTypes;
@@ -762,6 +763,93 @@ public final class StreamProcessorTest {
     AssertionsForClassTypes.assertThat(nextKey).isEqualTo(firstKey + 1);
   }
 
+  @Test
+  public void shouldUpdateStateOfPipelinedBatches() {
+    // given
+    final var testProcessor = spy(new TestProcessor());
+    testProcessor.processingAction =
+        (ctx) -> {
+          final var zeebeDb = ctx.getZeebeDb();
+          final var keyGenerator = new DbKeyGenerator(1, zeebeDb, ctx.getTransactionContext());
+          keyGenerator.nextKey();
+        };
+    // in order to not mark the processing as skipped we need to return a result
+    testProcessor.processingResult =
+        new BufferedProcessingResultBuilder((c, s) -> true)
+            .appendPostCommitTask(() -> true)
+            .build();
+    streamPlatform
+        .withRecordProcessors(List.of(testProcessor))
+        .buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.setEnablePipelinedProcessing(true));
+
+    final var zeebeDb = testProcessor.recordProcessorContext.getZeebeDb();
+    final var keyGenerator = new DbKeyGenerator(1, zeebeDb, zeebeDb.createContext());
+    final var firstKey = keyGenerator.nextKey();
+
+    // when
+    final var lastPosition =
+        streamPlatform.writeBatch(
+            RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+            RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+            RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    verify(testProcessor, TIMEOUT.times(3)).process(any(), any());
+    Awaitility.await("state of all batches is committed")
+        .until(streamPlatform::getLastSuccessfulProcessedRecordPosition, pos -> pos == lastPosition);
+
+    final var nextKey = keyGenerator.nextKey();
+    AssertionsForClassTypes.assertThat(nextKey).isEqualTo(firstKey + 4);
+  }
+
+  @Test
+  public void shouldOnlyRollbackFailedBatchWhenPipelining() {
+    // given
+    final var processedCommands = new AtomicInteger();
+    final var testProcessor = spy(new TestProcessor());
+    testProcessor.processingAction =
+        (ctx) -> {
+          final var zeebeDb = ctx.getZeebeDb();
+          final var keyGenerator = new DbKeyGenerator(1, zeebeDb, ctx.getTransactionContext());
+          keyGenerator.nextKey();
+
+          if (processedCommands.incrementAndGet() == 2) {
+            throw new RuntimeException("expected");
+          }
+        };
+    // in order to not mark the processing as skipped we need to return a result
+    testProcessor.processingResult =
+        new BufferedProcessingResultBuilder((c, s) -> true)
+            .appendPostCommitTask(() -> true)
+            .build();
+    streamPlatform
+        .withRecordProcessors(List.of(testProcessor))
+        .buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.setEnablePipelinedProcessing(true));
+
+    final var zeebeDb = testProcessor.recordProcessorContext.getZeebeDb();
+    final var keyGenerator = new DbKeyGenerator(1, zeebeDb, zeebeDb.createContext());
+    final var firstKey = keyGenerator.nextKey();
+
+    // when
+    final var lastPosition =
+        streamPlatform.writeBatch(
+            RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+            RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+            RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    verify(testProcessor, TIMEOUT.times(3)).process(any(), any());
+    verify(testProcessor, TIMEOUT).onProcessingError(any(), any(), any());
+    Awaitility.await("state of all batches is committed")
+        .until(streamPlatform::getLastSuccessfulProcessedRecordPosition, pos -> pos == lastPosition);
+
+    // the keys generated while processing the first and the last command are kept
+    final var nextKey = keyGenerator.nextKey();
+    AssertionsForClassTypes.assertThat(nextKey).isEqualTo(firstKey + 3);
+  }
+
   @Test
   public void shouldUpdateStateOnProcessingErrorCall() {
     // given
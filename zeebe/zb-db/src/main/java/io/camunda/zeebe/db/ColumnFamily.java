@@ -137,6 +137,19 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
   void whileEqualPrefix(
       DbKey keyPrefix, KeyType startAtKey, KeyValuePairVisitor<KeyType, ValueType> visitor);
 
+  /**
+   * Opens an iterator over the key-value pairs, which are stored in the column family and which
+   * have the same common prefix. The ordering depends on the key. The iterator seeks the prefix
+   * only once, and has to be closed by the caller.
+   *
+   * <p>Similar to {@link #whileEqualPrefix(DbKey, KeyValuePairVisitor)}, but the caller controls
+   * when to advance.
+   *
+   * @param keyPrefix the prefix which should have the keys in common
+   * @return an iterator positioned before the first key-value pair with the given prefix
+   */
+  PrefixIterator<KeyType, ValueType> prefixIterator(DbKey keyPrefix);
+
   /**
    * Deletes the key-value pair with the given key if it exists in the column family
    *
@@ -167,7 +180,8 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
 
   /**
    * Count the number of entries in the column family by iterating over all its entries. This is an
-   * expensive operation and should be used with care.
+   * expensive operation and should be used with care, unless the column family maintains its count
+   * (see {@link CountTracking}).
    *
    * @return the number of entries in the column family
    */
@@ -175,7 +189,8 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
 
   /**
    * Count the number of entries in the column family which have the same common prefix by iterating
-   * over all its entries. This is an expensive operation and should be used with care.
+   * over all its entries. This is an expensive operation and should be used with care, unless the
+   * column family maintains per prefix counts (see {@link CountTracking#PER_PREFIX}).
    *
    * @param prefix the prefix which should have the keys in common
    * @return the number of entries in the column family which have the same common prefix
@@ -17,4 +17,10 @@ public interface ColumnFamilyMetrics {
   Timer measureDeleteLatency();
 
   Timer measureIterateLatency();
+
+  /** Called when a lookup was served from the transaction's cache. */
+  void onCacheHit();
+
+  /** Called when a lookup was not cached, and had to be read from the database. */
+  void onCacheMiss();
 }
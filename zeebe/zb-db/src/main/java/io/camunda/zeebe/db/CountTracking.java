@@ -0,0 +1,51 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db;
+
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+
+/**
+ * Declares which entry counts a column family maintains while its entries are inserted and
+ * deleted, see {@link ZeebeDb#createColumnFamily(Enum, TransactionContext, DbKey, DbValue,
+ * CountTracking)}. Maintained counts are updated in the same transaction as the entries, so {@link
+ * ColumnFamily#count()} and {@link ColumnFamily#countEqualPrefix(DbKey)} can return them without
+ * iterating over the column family.
+ *
+ * <p>Counts are only correct if every instance of the column family, i.e. every writer, declares
+ * the same tracking. When tracking is enabled for a column family with existing entries, the
+ * counts are initialized once by iterating over the column family, in the transaction of its first
+ * counted write; until then, counting iterates as well, such that neither creating the column
+ * family nor counting ever writes. Afterwards, inserts, updates and deletes of existing keys adjust
+ * the counts without reading the entry first; only upserts and deletes of keys which may not exist
+ * need to check whether the entry exists.
+ *
+ * <p>This means the counts rely on the contracts of {@link ColumnFamily#insert(DbKey, DbValue)}
+ * and {@link ColumnFamily#deleteExisting(DbKey)}: these are only verified when consistency checks
+ * are enabled, which they are not by default, so inserting a key which already exists or deleting
+ * one which doesn't silently corrupts the counts. Callers which can't guarantee the contract must
+ * use {@link ColumnFamily#upsert(DbKey, DbValue)} or {@link ColumnFamily#deleteIfExists(DbKey)}.
+ *
+ * <p>The engine state doesn't declare any tracking yet: during a rolling update, older brokers
+ * would keep writing (or replaying) the same column families without maintaining the counts, and
+ * the counts taken over with the next snapshot would then be initialized but wrong. Column
+ * families should only adopt tracking once every version that may write them maintains the counts.
+ */
+public enum CountTracking {
+  /** No counts are maintained; counting iterates over the entries. */
+  NONE,
+
+  /** The total number of entries is maintained, and returned by {@link ColumnFamily#count()}. */
+  TOTAL,
+
+  /**
+   * In addition to the total, the number of entries per first key component is maintained. This
+   * requires a {@link DbCompositeKey}, and is used by {@link ColumnFamily#countEqualPrefix(DbKey)}
+   * whenever the prefix is of the same type as the first component of the key.
+   */
+  PER_PREFIX
+}
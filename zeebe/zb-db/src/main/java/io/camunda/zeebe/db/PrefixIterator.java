@@ -0,0 +1,51 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db;
+
+/**
+ * Iterates over the key-value pairs of a column family which have a common prefix, in the order of
+ * their keys. In contrast to {@link ColumnFamily#whileEqualPrefix(DbKey, KeyValuePairVisitor)},
+ * the caller decides when to advance, which allows to interleave the iteration over multiple
+ * prefixes without seeking again for every pair.
+ *
+ * <p>The iterator must be used within the transaction in which it was opened, and must be closed
+ * afterwards to release the underlying resources.
+ *
+ * @param <KeyType> the type of the keys
+ * @param <ValueType> the type of the values
+ */
+public interface PrefixIterator<KeyType extends DbKey, ValueType extends DbValue>
+    extends AutoCloseable {
+
+  /**
+   * Advances to the next key-value pair with the prefix. The first call moves to the first pair.
+   *
+   * @return true if there is such a pair, false if all pairs with the prefix were visited
+   */
+  boolean next();
+
+  /**
+   * The key of the current pair. Be aware that the key instance is shared with the column family
+   * and reflects the current iteration step, so it is only valid until the next operation on the
+   * column family or one of its iterators.
+   *
+   * @return the key of the current pair
+   */
+  KeyType key();
+
+  /**
+   * The value of the current pair. Like the {@link #key()}, it is only valid until the next
+   * operation on the column family or one of its iterators.
+   *
+   * @return the value of the current pair
+   */
+  ValueType value();
+
+  @Override
+  void close();
+}
@@ -34,4 +34,14 @@ public interface TransactionContext {
    * @return the transaction object
    */
   ZeebeDbTransaction getCurrentTransaction();
+
+  /**
+   * Registers a listener which is called whenever changes made in a transaction of this context are
+   * discarded, i.e. when the transaction is rolled back, rolled back to a save point, or fails to
+   * commit. State which was derived from the transaction's changes, e.g. a cache, can be dropped
+   * there.
+   *
+   * @param listener the listener to call after changes were discarded
+   */
+  void addRollbackListener(Runnable listener);
 }
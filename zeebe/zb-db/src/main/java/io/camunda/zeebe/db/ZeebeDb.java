@@ -44,6 +44,24 @@ public interface ZeebeDb<ColumnFamilyType extends Enum<? extends EnumValue> & En
           KeyType keyInstance,
           ValueType valueInstance);
 
+  /**
+   * Same as {@link #createColumnFamily(Enum, TransactionContext, DbKey, DbValue)}, but the created
+   * column family maintains the given entry counts. Implementations which don't support maintained
+   * counts may ignore the tracking, as counts are then computed by iterating over the entries.
+   *
+   * @param countTracking which entry counts the column family maintains
+   * @return the created column family instance
+   */
+  default <KeyType extends DbKey, ValueType extends DbValue>
+      ColumnFamily<KeyType, ValueType> createColumnFamily(
+          final ColumnFamilyType columnFamily,
+          final TransactionContext context,
+          final KeyType keyInstance,
+          final ValueType valueInstance,
+          final CountTracking countTracking) {
+    return createColumnFamily(columnFamily, context, keyInstance, valueInstance);
+  }
+
   /**
    * Creates a snapshot of the current database in the given directory.
    *
@@ -38,4 +38,23 @@ public interface ZeebeDbTransaction {
    * @throws Exception if the underlying database has a non recoverable exception thrown
    */
   void rollback() throws Exception;
+
+  /**
+   * Marks the current state of the transaction, such that later changes can be discarded via
+   * {@link #rollbackToSavePoint()} without discarding the changes made before. Save points are
+   * stacked and are discarded on commit or rollback.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void setSavePoint() throws Exception;
+
+  /**
+   * Discards all changes made since the latest save point, and removes that save point.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown, e.g. if
+   *     no save point was set
+   */
+  void rollbackToSavePoint() throws Exception;
 }
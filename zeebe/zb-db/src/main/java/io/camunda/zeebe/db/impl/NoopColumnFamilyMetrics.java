@@ -31,4 +31,10 @@ public class NoopColumnFamilyMetrics implements ColumnFamilyMetrics {
   public Timer measureIterateLatency() {
     return null;
   }
+
+  @Override
+  public void onCacheHit() {}
+
+  @Override
+  public void onCacheMiss() {}
 }
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 public final class RocksDbConfiguration {
@@ -43,6 +45,23 @@ public final class RocksDbConfiguration {
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  /**
+   * When enabled, each logical column family is stored in a RocksDB column family of its own (or
+   * the one of its group, see {@link #columnFamilyGroups}), instead of sharing the default column
+   * family. This allows tuning compaction, filters, and memtables per data type, and keeps churny
+   * column families from inflating the compaction of long-lived ones. Existing state is migrated
+   * lazily on start up, and can be migrated back by disabling it again.
+   */
+  public static final boolean DEFAULT_NATIVE_COLUMN_FAMILIES_ENABLED = false;
+
+  /**
+   * The maximum number of values cached per transaction. Values which are read or written in a
+   * transaction are cached until it is committed or rolled back, so that repeated lookups of the
+   * same keys, e.g. when processing a batch of commands for the same process instance, don't have
+   * to go through RocksDB again. The cache is experimental and disabled by default (0).
+   */
+  public static final int DEFAULT_TRANSACTION_CACHE_SIZE = 0;
+
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
@@ -52,6 +71,23 @@ public final class RocksDbConfiguration {
 
   private boolean sstPartitioningEnabled = DEFAULT_SST_PARTITIONING_ENABLED;
 
+  private boolean nativeColumnFamiliesEnabled = DEFAULT_NATIVE_COLUMN_FAMILIES_ENABLED;
+  private int transactionCacheSize = DEFAULT_TRANSACTION_CACHE_SIZE;
+
+  /**
+   * Maps the name of a logical column family (e.g. {@code JOBS}) to the name of the RocksDB column
+   * family it is stored in when native column families are enabled. Logical column families which
+   * are not mapped are stored in a RocksDB column family named after themselves.
+   */
+  private Map<String, String> columnFamilyGroups = new HashMap<>();
+
+  /**
+   * The options of specific RocksDB column families when native column families are enabled, by
+   * column family name (i.e. the group name, or the logical column family name if it's not part of
+   * a group). Column families without options use the same options as the default column family.
+   */
+  private Map<String, Properties> nativeColumnFamilyOptions = new HashMap<>();
+
   /**
    * Defines how many files are kept open by RocksDB, per default it is unlimited (-1). This is done
    * for performance reasons, if we set a value higher then zero it needs to keep track of open
@@ -155,4 +191,42 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public boolean isNativeColumnFamiliesEnabled() {
+    return nativeColumnFamiliesEnabled;
+  }
+
+  public RocksDbConfiguration setNativeColumnFamiliesEnabled(
+      final boolean nativeColumnFamiliesEnabled) {
+    this.nativeColumnFamiliesEnabled = nativeColumnFamiliesEnabled;
+    return this;
+  }
+
+  public int getTransactionCacheSize() {
+    return transactionCacheSize;
+  }
+
+  public RocksDbConfiguration setTransactionCacheSize(final int transactionCacheSize) {
+    this.transactionCacheSize = transactionCacheSize;
+    return this;
+  }
+
+  public Map<String, String> getColumnFamilyGroups() {
+    return columnFamilyGroups;
+  }
+
+  public RocksDbConfiguration setColumnFamilyGroups(final Map<String, String> columnFamilyGroups) {
+    this.columnFamilyGroups = columnFamilyGroups;
+    return this;
+  }
+
+  public Map<String, Properties> getNativeColumnFamilyOptions() {
+    return nativeColumnFamilyOptions;
+  }
+
+  public RocksDbConfiguration setNativeColumnFamilyOptions(
+      final Map<String, Properties> nativeColumnFamilyOptions) {
+    this.nativeColumnFamilyOptions = nativeColumnFamilyOptions;
+    return this;
+  }
 }
@@ -18,7 +18,9 @@ import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import org.agrona.CloseHelper;
@@ -105,9 +107,27 @@ public final class ZeebeRocksDbFactory<
     // column family options have to be closed as last
     final var columnFamilyOptions = createColumnFamilyOptions(managedResources);
     managedResources.add(columnFamilyOptions);
+    final var nativeColumnFamilyOptions = createNativeColumnFamilyOptions(managedResources);
     final var dbOptions = createDefaultDbOptions(managedResources);
     managedResources.add(dbOptions);
-    return new RocksDbOptions(dbOptions, columnFamilyOptions);
+    return new RocksDbOptions(dbOptions, columnFamilyOptions, nativeColumnFamilyOptions);
+  }
+
+  /**
+   * @return options of the native column families which were configured explicitly, by name
+   */
+  private Map<String, ColumnFamilyOptions> createNativeColumnFamilyOptions(
+      final List<AutoCloseable> managedResources) {
+    final var nativeColumnFamilyOptions = new HashMap<String, ColumnFamilyOptions>();
+    rocksDbConfiguration
+        .getNativeColumnFamilyOptions()
+        .forEach(
+            (name, properties) -> {
+              final var options = createFromUserOptions(properties);
+              managedResources.add(options);
+              nativeColumnFamilyOptions.put(name, options);
+            });
+    return nativeColumnFamilyOptions;
   }
 
   private DBOptions createDefaultDbOptions(final List<AutoCloseable> closeables) {
@@ -123,7 +143,7 @@ public final class ZeebeRocksDbFactory<
             .setMaxOpenFiles(rocksDbConfiguration.getMaxOpenFiles())
             // 1 flush, 1 compaction
             .setMaxBackgroundJobs(2)
-            // we only use the default CF
+            // native column families are created explicitly when first used
             .setCreateMissingColumnFamilies(false)
             // may not be necessary when WAL is disabled, but nevertheless recommended to avoid
             // many small SST files
@@ -143,6 +163,13 @@ public final class ZeebeRocksDbFactory<
       dbOptions.setRateLimiter(rateLimiter);
     }
 
+    // with native column families, every column family has its own memtables; bound their total
+    // memory to the memtable budget of the single column family layout
+    if (rocksDbConfiguration.isNativeColumnFamiliesEnabled()) {
+      final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
+      dbOptions.setDbWriteBufferSize(totalMemoryBudget - totalMemoryBudget / 3);
+    }
+
     if (rocksDbConfiguration.isStatisticsEnabled()) {
       final var statistics = new Statistics();
       closeables.add(statistics);
@@ -0,0 +1,152 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.CountTracking;
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Reads and updates the maintained entry counts of a single column family, see {@link
+ * CountTracking}.
+ *
+ * <p>The counts are stored in the RocksDB default column family, next to but outside of the key
+ * space of the logical column families: all counter keys start with {@link #COUNTERS_PREFIX},
+ * which no column family can use as its prefix, followed by the prefix of the counted column
+ * family. The total count is stored under this key suffixed with {@link #TOTAL}, the count of a
+ * key prefix under this key suffixed with {@link #PER_PREFIX} and the prefix itself. Per prefix
+ * counts are removed when they drop to zero.
+ *
+ * <p>The total count doubles as marker that the counts were initialized, since it is written even
+ * if the column family is empty.
+ */
+final class ColumnFamilyCounters {
+
+  /** As {@link io.camunda.zeebe.protocol.EnumValue#getValue()} is an int, no prefix collides. */
+  static final long COUNTERS_PREFIX = Long.MAX_VALUE;
+
+  private static final byte TOTAL = 0;
+  private static final byte PER_PREFIX = 1;
+  private static final int HEADER_LENGTH = 2 * Long.BYTES + Byte.BYTES;
+  private static final long NOT_INITIALIZED = -1;
+
+  private final ExpandableArrayBuffer counterKey = new ExpandableArrayBuffer();
+  private final UnsafeBuffer counterValue = new UnsafeBuffer(new byte[Long.BYTES]);
+  private final UnsafeBuffer readValue = new UnsafeBuffer(0, 0);
+  private final long countersHandle;
+  private final long readOptionsHandle;
+
+  ColumnFamilyCounters(
+      final long columnFamilyPrefix, final long countersHandle, final long readOptionsHandle) {
+    this.countersHandle = countersHandle;
+    this.readOptionsHandle = readOptionsHandle;
+    counterKey.putLong(0, COUNTERS_PREFIX, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    counterKey.putLong(Long.BYTES, columnFamilyPrefix, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+  }
+
+  boolean isInitialized(final ZeebeTransaction transaction) throws Exception {
+    return getTotal(transaction) != NOT_INITIALIZED;
+  }
+
+  /**
+   * @return the total number of entries, or a negative value if the counts were not initialized
+   */
+  long getTotal(final ZeebeTransaction transaction) throws Exception {
+    return read(transaction, writeTotalKey(), NOT_INITIALIZED);
+  }
+
+  /**
+   * @return the number of entries whose key starts with the given prefix; the prefix excludes the
+   *     column family prefix
+   */
+  long getForPrefix(
+      final ZeebeTransaction transaction,
+      final DirectBuffer prefix,
+      final int offset,
+      final int length)
+      throws Exception {
+    return read(transaction, writePrefixKey(prefix, offset, length), 0);
+  }
+
+  /**
+   * Adjusts the counts for an entry which was added or removed.
+   *
+   * @param delta 1 if the entry was added, -1 if it was removed
+   * @param key the key of the entry, including the column family prefix
+   * @param prefixLength the length of the key's first component, or a negative value if no per
+   *     prefix counts are maintained
+   */
+  void adjust(
+      final ZeebeTransaction transaction,
+      final long delta,
+      final DirectBuffer key,
+      final int prefixLength)
+      throws Exception {
+    final long total = getTotal(transaction);
+    write(transaction, writeTotalKey(), total + delta);
+
+    if (prefixLength >= 0) {
+      final int keyLength = writePrefixKey(key, Long.BYTES, prefixLength);
+      final long count = read(transaction, keyLength, 0) + delta;
+      if (count > 0) {
+        write(transaction, keyLength, count);
+      } else {
+        transaction.delete(countersHandle, counterKey.byteArray(), keyLength);
+      }
+    }
+  }
+
+  /**
+   * Writes the initial counts, computed by iterating over the column family.
+   *
+   * @param total the number of entries
+   * @param perPrefix the number of entries per key prefix, excluding the column family prefix
+   */
+  void initialize(
+      final ZeebeTransaction transaction, final long total, final Map<DirectBuffer, Long> perPrefix)
+      throws Exception {
+    for (final var entry : perPrefix.entrySet()) {
+      final var prefix = entry.getKey();
+      write(transaction, writePrefixKey(prefix, 0, prefix.capacity()), entry.getValue());
+    }
+    write(transaction, writeTotalKey(), total);
+  }
+
+  private int writeTotalKey() {
+    counterKey.putByte(2 * Long.BYTES, TOTAL);
+    return HEADER_LENGTH;
+  }
+
+  private int writePrefixKey(final DirectBuffer prefix, final int offset, final int length) {
+    counterKey.putByte(2 * Long.BYTES, PER_PREFIX);
+    counterKey.putBytes(HEADER_LENGTH, prefix, offset, length);
+    return HEADER_LENGTH + length;
+  }
+
+  private long read(final ZeebeTransaction transaction, final int keyLength, final long absent)
+      throws Exception {
+    final byte[] value =
+        transaction.get(countersHandle, readOptionsHandle, counterKey.byteArray(), keyLength);
+    if (value == null) {
+      return absent;
+    }
+
+    readValue.wrap(value);
+    return readValue.getLong(0, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+  }
+
+  private void write(final ZeebeTransaction transaction, final int keyLength, final long count)
+      throws Exception {
+    counterValue.putLong(0, count, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    transaction.put(
+        countersHandle, counterKey.byteArray(), keyLength, counterValue.byteArray(), Long.BYTES);
+  }
+}
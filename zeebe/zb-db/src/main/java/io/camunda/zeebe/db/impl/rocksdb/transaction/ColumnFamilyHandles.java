@@ -0,0 +1,210 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.startsWith;
+
+import io.camunda.zeebe.db.ZeebeDbException;
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
+import io.camunda.zeebe.db.impl.rocksdb.Loggers;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.protocol.EnumValue;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.OptimisticTransactionDB;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
+import org.slf4j.Logger;
+
+/**
+ * Resolves the RocksDB column family in which the keys of a logical column family (e.g. a {@code
+ * ZbColumnFamilies} entry) are stored.
+ *
+ * <p>By default, all logical column families share the RocksDB default column family, and are only
+ * distinguished by their key prefix. If native column families are enabled (see {@link
+ * RocksDbConfiguration#isNativeColumnFamiliesEnabled()}), every logical column family is mapped to
+ * a RocksDB column family of its own, or to the one of its configured group. Keys keep their prefix
+ * in either case, so moving a logical column family between RocksDB column families does not
+ * require rewriting its keys.
+ *
+ * <p>The first time a logical column family is resolved, any of its keys found in another RocksDB
+ * column family are moved to the one it is mapped to. This migrates existing state, e.g. when
+ * recovering from a snapshot taken with the single column family layout, when native column
+ * families are disabled again, or when the groups change. As all existing RocksDB column families
+ * are opened with the database, no keys can be missed by this.
+ */
+final class ColumnFamilyHandles {
+  private static final Logger LOG = Loggers.DB_LOGGER;
+  private static final String DEFAULT_COLUMN_FAMILY_NAME =
+      new String(RocksDB.DEFAULT_COLUMN_FAMILY, StandardCharsets.UTF_8);
+  private static final int MIGRATION_BATCH_SIZE = 10_000;
+
+  private final OptimisticTransactionDB db;
+  private final RocksDbConfiguration configuration;
+  private final RocksDbOptions options;
+  private final List<AutoCloseable> closables;
+
+  // native column family name to handle, including the default column family
+  private final Map<String, ColumnFamilyHandle> handles = new HashMap<>();
+  // logical column family name to the handle of the native column family it's stored in
+  private final Map<String, ColumnFamilyHandle> resolved = new HashMap<>();
+
+  ColumnFamilyHandles(
+      final OptimisticTransactionDB db,
+      final Map<String, ColumnFamilyHandle> openHandles,
+      final RocksDbConfiguration configuration,
+      final RocksDbOptions options,
+      final List<AutoCloseable> closables) {
+    this.db = db;
+    this.configuration = configuration;
+    this.options = options;
+    this.closables = closables;
+    handles.putAll(openHandles);
+  }
+
+  static String defaultName() {
+    return DEFAULT_COLUMN_FAMILY_NAME;
+  }
+
+  ColumnFamilyHandle defaultHandle() {
+    return handles.get(DEFAULT_COLUMN_FAMILY_NAME);
+  }
+
+  Collection<ColumnFamilyHandle> all() {
+    return handles.values();
+  }
+
+  /**
+   * Returns the options a native column family with the given name is created or opened with.
+   * Column families without specific options share the options of the default column family.
+   */
+  static ColumnFamilyOptions optionsFor(final RocksDbOptions options, final String name) {
+    return options.nativeCfOptions().getOrDefault(name, options.cfOptions());
+  }
+
+  /**
+   * Returns the handle of the RocksDB column family where keys of the given logical column family
+   * are stored, creating the column family and migrating existing keys to it if necessary.
+   *
+   * @param columnFamily the logical column family
+   * @return the handle of the RocksDB column family it is stored in
+   */
+  synchronized ColumnFamilyHandle handleFor(final Enum<? extends EnumValue> columnFamily) {
+    final var logicalName = columnFamily.name();
+    final var cached = resolved.get(logicalName);
+    if (cached != null) {
+      return cached;
+    }
+
+    final var nativeName = nativeNameOf(logicalName);
+    try {
+      final var handle = getOrCreate(nativeName);
+      migrate(logicalName, ((EnumValue) columnFamily).getValue(), nativeName);
+      resolved.put(logicalName, handle);
+      return handle;
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException(
+          "Failed to resolve RocksDB column family '%s' for column family %s"
+              .formatted(nativeName, logicalName),
+          e);
+    }
+  }
+
+  private String nativeNameOf(final String logicalName) {
+    if (!configuration.isNativeColumnFamiliesEnabled()) {
+      return DEFAULT_COLUMN_FAMILY_NAME;
+    }
+
+    return configuration.getColumnFamilyGroups().getOrDefault(logicalName, logicalName);
+  }
+
+  private ColumnFamilyHandle getOrCreate(final String nativeName) throws RocksDBException {
+    final var existing = handles.get(nativeName);
+    if (existing != null) {
+      return existing;
+    }
+
+    final var handle =
+        db.createColumnFamily(
+            new ColumnFamilyDescriptor(
+                nativeName.getBytes(StandardCharsets.UTF_8), optionsFor(options, nativeName)));
+    closables.add(handle);
+    handles.put(nativeName, handle);
+    LOG.debug("Created RocksDB column family '{}'", nativeName);
+    return handle;
+  }
+
+  /** Moves all keys with the given prefix from any other column family into the target. */
+  private void migrate(final String logicalName, final long prefix, final String targetName)
+      throws RocksDBException {
+    final var prefixBytes = new byte[Long.BYTES];
+    new UnsafeBuffer(prefixBytes).putLong(0, prefix, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    final var target = handles.get(targetName);
+
+    for (final var source : handles.entrySet()) {
+      if (source.getValue() == target) {
+        continue;
+      }
+
+      final long moved = moveKeys(prefixBytes, source.getValue(), target);
+      if (moved > 0) {
+        LOG.info(
+            "Moved {} keys of column family {} from RocksDB column family '{}' to '{}'",
+            moved,
+            logicalName,
+            source.getKey(),
+            targetName);
+      }
+    }
+  }
+
+  private long moveKeys(
+      final byte[] prefix, final ColumnFamilyHandle source, final ColumnFamilyHandle target)
+      throws RocksDBException {
+    long moved = 0;
+
+    try (final var readOptions = new ReadOptions().setTotalOrderSeek(true);
+        final var writeOptions = new WriteOptions();
+        final RocksIterator iterator = db.newIterator(source, readOptions);
+        final var batch = new WriteBatch()) {
+      for (iterator.seek(prefix); iterator.isValid(); iterator.next()) {
+        final var key = iterator.key();
+        if (!startsWith(prefix, 0, prefix.length, key, 0, key.length)) {
+          break;
+        }
+
+        batch.put(target, key, iterator.value());
+        batch.delete(source, key);
+        moved++;
+
+        if (batch.count() >= MIGRATION_BATCH_SIZE) {
+          db.write(writeOptions, batch);
+          batch.clear();
+        }
+      }
+
+      iterator.status();
+      if (batch.count() > 0) {
+        db.write(writeOptions, batch);
+      }
+    }
+
+    return moved;
+  }
+}
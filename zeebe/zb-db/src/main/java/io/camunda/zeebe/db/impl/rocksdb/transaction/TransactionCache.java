@@ -0,0 +1,101 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Read-your-writes cache of the values read and written through a single {@link ZeebeTransaction}.
+ * Entries are keyed by the full key, i.e. including the column family prefix, so a single cache
+ * serves all column families of a transaction.
+ *
+ * <p>Values are written through: every put or delete in the transaction updates the cache, so it is
+ * always consistent with what the transaction would read from RocksDB. This relies on the
+ * transaction being the only writer of the database while it is open, which holds as each
+ * partition's state is only ever modified by its stream processor. The cache must be cleared
+ * whenever the transaction is committed, rolled back or renewed.
+ *
+ * <p>Cached values are shared with callers, which must not modify them.
+ */
+final class TransactionCache {
+
+  /** Marks keys which are known to not exist; compared by identity. */
+  private static final byte[] ABSENT = new byte[0];
+
+  private final Map<DirectBuffer, byte[]> entries = new HashMap<>();
+  private final UnsafeBuffer lookupKey = new UnsafeBuffer(0, 0);
+  private final int maxEntries;
+
+  TransactionCache(final int maxEntries) {
+    this.maxEntries = maxEntries;
+  }
+
+  boolean isEnabled() {
+    return maxEntries > 0;
+  }
+
+  /**
+   * @return the cached value, {@link #isAbsent(byte[]) an absent marker} if the key is known to
+   *     not exist, or null if nothing is cached for the key
+   */
+  byte[] get(final byte[] key, final int keyLength) {
+    if (!isEnabled()) {
+      return null;
+    }
+
+    lookupKey.wrap(key, 0, keyLength);
+    return entries.get(lookupKey);
+  }
+
+  boolean isAbsent(final byte[] value) {
+    return value == ABSENT;
+  }
+
+  /** Caches a value read from RocksDB, which may be null if the key does not exist. */
+  void onRead(final byte[] key, final int keyLength, final byte[] value) {
+    store(key, keyLength, value == null ? ABSENT : value);
+  }
+
+  void onPut(final byte[] key, final int keyLength, final byte[] value, final int valueLength) {
+    // the value buffer is reused by the caller, so we have to copy it
+    store(key, keyLength, Arrays.copyOf(value, valueLength));
+  }
+
+  void onDelete(final byte[] key, final int keyLength) {
+    store(key, keyLength, ABSENT);
+  }
+
+  void clear() {
+    entries.clear();
+  }
+
+  private void store(final byte[] key, final int keyLength, final byte[] value) {
+    if (!isEnabled()) {
+      return;
+    }
+
+    lookupKey.wrap(key, 0, keyLength);
+    if (entries.size() >= maxEntries) {
+      // once full, only keep existing entries up to date; keys which are not cached are always
+      // read from RocksDB, so skipping them is safe
+      entries.computeIfPresent(lookupKey, (k, v) -> value);
+      return;
+    }
+
+    if (entries.containsKey(lookupKey)) {
+      // keeps the existing key instance
+      entries.put(lookupKey, value);
+    } else {
+      entries.put(new UnsafeBuffer(Arrays.copyOf(key, keyLength)), value);
+    }
+  }
+}
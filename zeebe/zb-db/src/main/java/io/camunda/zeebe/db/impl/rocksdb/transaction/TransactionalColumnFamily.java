@@ -13,18 +13,26 @@ import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.ColumnFamilyMetrics;
 import io.camunda.zeebe.db.ConsistencyChecksSettings;
 import io.camunda.zeebe.db.ContainsForeignKeys;
+import io.camunda.zeebe.db.CountTracking;
 import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.KeyValuePairVisitor;
+import io.camunda.zeebe.db.PrefixIterator;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.protocol.EnumValue;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.agrona.LangUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
@@ -56,6 +64,12 @@ class TransactionalColumnFamily<
   private final ColumnFamilyContext columnFamilyContext;
   private final ForeignKeyChecker foreignKeyChecker;
   private final ColumnFamilyMetrics metrics;
+  private final ColumnFamilyHandle columnFamilyHandle;
+  private final long columnFamilyNativeHandle;
+  private final CountTracking countTracking;
+  private final ColumnFamilyCounters counters;
+  private final UnsafeBuffer countedKeyView = new UnsafeBuffer(0, 0);
+  private boolean countersInitialized;
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
@@ -64,7 +78,8 @@ class TransactionalColumnFamily<
       final TransactionContext context,
       final KeyType keyInstance,
       final ValueType valueInstance,
-      final ColumnFamilyMetrics metrics) {
+      final ColumnFamilyMetrics metrics,
+      final CountTracking countTracking) {
     this.transactionDb = transactionDb;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.columnFamily = columnFamily;
@@ -74,6 +89,26 @@ class TransactionalColumnFamily<
     this.metrics = metrics;
     columnFamilyContext = new ColumnFamilyContext(columnFamily.getValue());
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
+    columnFamilyHandle = transactionDb.getColumnFamilyHandle(columnFamily);
+    columnFamilyNativeHandle = ZeebeTransactionDb.getNativeHandle(columnFamilyHandle);
+    this.countTracking = countTracking;
+
+    if (countTracking == CountTracking.PER_PREFIX && !(keyInstance instanceof DbCompositeKey)) {
+      throw new IllegalArgumentException(
+          "Expected a composite key to maintain per prefix counts of column family %s, but got %s"
+              .formatted(columnFamily, keyInstance.getClass().getSimpleName()));
+    }
+    counters =
+        countTracking == CountTracking.NONE
+            ? null
+            : new ColumnFamilyCounters(
+                columnFamily.getValue(),
+                transactionDb.getDefaultNativeHandle(),
+                transactionDb.getReadOptionsNativeHandle());
+    if (counters != null) {
+      // the initialization may be rolled back with the transaction which wrote it
+      context.addRollbackListener(() -> countersInitialized = false);
+    }
   }
 
   @Override
@@ -81,17 +116,19 @@ class TransactionalColumnFamily<
     try (final var timer = metrics.measurePutLatency()) {
       ensureInOpenTransaction(
           transaction -> {
+            initializeCountersBeforeWrite(transaction);
             columnFamilyContext.writeKey(key);
             columnFamilyContext.writeValue(value);
 
             assertKeyDoesNotExist(transaction);
             assertForeignKeysExist(transaction, key, value);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                columnFamilyNativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            onPut(transaction, key, false);
           });
     }
   }
@@ -106,7 +143,7 @@ class TransactionalColumnFamily<
             assertKeyExists(transaction);
             assertForeignKeysExist(transaction, key, value);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                columnFamilyNativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
@@ -120,15 +157,18 @@ class TransactionalColumnFamily<
     try (final var timer = metrics.measurePutLatency()) {
       ensureInOpenTransaction(
           transaction -> {
+            initializeCountersBeforeWrite(transaction);
             columnFamilyContext.writeKey(key);
             columnFamilyContext.writeValue(value);
             assertForeignKeysExist(transaction, key, value);
+            final boolean existed = existsBeforeWrite(transaction);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                columnFamilyNativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            onPut(transaction, key, existed);
           });
     }
   }
@@ -141,10 +181,11 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             final byte[] value =
                 transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
+                    columnFamilyNativeHandle,
                     transactionDb.getReadOptionsNativeHandle(),
                     columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
+                    columnFamilyContext.getKeyLength(),
+                    metrics);
             columnFamilyContext.wrapValueView(value);
           });
       final var valueBuffer = columnFamilyContext.getValueView();
@@ -218,17 +259,27 @@ class TransactionalColumnFamily<
     ensureInOpenTransaction(transaction -> forEachInPrefix(startAtKey, keyPrefix, visitor));
   }
 
+  @Override
+  public PrefixIterator<KeyType, ValueType> prefixIterator(final DbKey keyPrefix) {
+    final byte[] prefixKey =
+        columnFamilyContext.keyWithColumnFamily(Objects.requireNonNull(keyPrefix)).array();
+    return new TransactionalPrefixIterator(
+        prefixKey, newIterator(context, transactionDb.getPrefixReadOptions()));
+  }
+
   @Override
   public void deleteExisting(final KeyType key) {
     try (final var timer = metrics.measureDeleteLatency()) {
       ensureInOpenTransaction(
           transaction -> {
+            initializeCountersBeforeWrite(transaction);
             columnFamilyContext.writeKey(key);
             assertKeyExists(transaction);
             transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
+                columnFamilyNativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
+            onDelete(transaction, key, true);
           });
     }
   }
@@ -238,11 +289,14 @@ class TransactionalColumnFamily<
     try (final var timer = metrics.measureDeleteLatency()) {
       ensureInOpenTransaction(
           transaction -> {
+            initializeCountersBeforeWrite(transaction);
             columnFamilyContext.writeKey(key);
+            final boolean existed = existsBeforeWrite(transaction);
             transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
+                columnFamilyNativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
+            onDelete(transaction, key, existed);
           });
     }
   }
@@ -255,10 +309,11 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             final byte[] value =
                 transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
+                    columnFamilyNativeHandle,
                     transactionDb.getReadOptionsNativeHandle(),
                     columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
+                    columnFamilyContext.getKeyLength(),
+                    metrics);
             columnFamilyContext.wrapValueView(value);
           });
       return !columnFamilyContext.isValueViewEmpty();
@@ -282,12 +337,160 @@ class TransactionalColumnFamily<
 
   @Override
   public long count() {
-    return countEachInPrefix(new DbNullKey());
+    if (countTracking == CountTracking.NONE) {
+      return countEachInPrefix(new DbNullKey());
+    }
+
+    final var count = new AtomicLong();
+    ensureInOpenTransaction(transaction -> count.set(counters.getTotal(transaction)));
+    // the counts are only initialized on the first write, and counting must not write
+    return count.get() >= 0 ? count.get() : countEachInPrefix(new DbNullKey());
   }
 
   @Override
   public long countEqualPrefix(final DbKey prefix) {
-    return countEachInPrefix(prefix);
+    if (!isCountedPrefix(prefix)) {
+      return countEachInPrefix(prefix);
+    }
+
+    final var count = new AtomicLong(-1);
+    ensureInOpenTransaction(
+        transaction -> {
+          if (!areCountersInitialized(transaction)) {
+            return;
+          }
+
+          columnFamilyContext.withPrefixKey(
+              prefix,
+              (prefixKey, prefixLength) -> {
+                countedKeyView.wrap(prefixKey, Long.BYTES, prefixLength - Long.BYTES);
+                try {
+                  count.set(
+                      counters.getForPrefix(
+                          transaction, countedKeyView, 0, countedKeyView.capacity()));
+                } catch (final Exception e) {
+                  LangUtil.rethrowUnchecked(e);
+                }
+              });
+        });
+    // the counts are only initialized on the first write, and counting must not write
+    return count.get() >= 0 ? count.get() : countEachInPrefix(prefix);
+  }
+
+  /**
+   * Per prefix counts are maintained for the first component of the composite key, so only
+   * prefixes of the same type can be served from them; any other prefix is counted by iterating.
+   */
+  private boolean isCountedPrefix(final DbKey prefix) {
+    return countTracking == CountTracking.PER_PREFIX
+        && prefix.getClass() == ((DbCompositeKey<?, ?>) keyInstance).first().getClass();
+  }
+
+  /**
+   * Returns whether the key written to the column family context exists before it is modified, so
+   * the counts can be adjusted afterwards. Only needed for writes which don't already know whether
+   * the key exists, i.e. upserts and deletes of keys which may not exist. Always false if no counts
+   * are maintained.
+   */
+  private boolean existsBeforeWrite(final ZeebeTransaction transaction) throws Exception {
+    if (countTracking == CountTracking.NONE) {
+      return false;
+    }
+
+    return transaction.get(
+            columnFamilyNativeHandle,
+            transactionDb.getReadOptionsNativeHandle(),
+            columnFamilyContext.getKeyBufferArray(),
+            columnFamilyContext.getKeyLength(),
+            metrics)
+        != null;
+  }
+
+  private void onPut(final ZeebeTransaction transaction, final KeyType key, final boolean existed)
+      throws Exception {
+    if (countTracking != CountTracking.NONE && !existed) {
+      adjustCounters(transaction, key, 1);
+    }
+  }
+
+  private void onDelete(
+      final ZeebeTransaction transaction, final KeyType key, final boolean existed)
+      throws Exception {
+    if (countTracking != CountTracking.NONE && existed) {
+      adjustCounters(transaction, key, -1);
+    }
+  }
+
+  /** Expects the key to be written to the column family context already. */
+  private void adjustCounters(
+      final ZeebeTransaction transaction, final KeyType key, final long delta) throws Exception {
+    final int prefixLength =
+        countTracking == CountTracking.PER_PREFIX
+            ? ((DbCompositeKey<?, ?>) key).first().getLength()
+            : -1;
+    countedKeyView.wrap(
+        columnFamilyContext.getKeyBufferArray(), 0, columnFamilyContext.getKeyLength());
+    counters.adjust(transaction, delta, countedKeyView, prefixLength);
+  }
+
+  private boolean areCountersInitialized(final ZeebeTransaction transaction) throws Exception {
+    if (!countersInitialized) {
+      countersInitialized = counters.isInitialized(transaction);
+    }
+    return countersInitialized;
+  }
+
+  /**
+   * Initializes the counts by iterating over the column family if they were never written, e.g.
+   * because the column family existed before it declared its count tracking. This happens in the
+   * transaction of the first write which is counted, such that neither creating the column family
+   * nor counting its entries ever writes, e.g. in read-only or migration contexts. It must be
+   * called before the key of the write is written to the column family context.
+   */
+  private void initializeCountersBeforeWrite(final ZeebeTransaction transaction) throws Exception {
+    if (countTracking == CountTracking.NONE || areCountersInitialized(transaction)) {
+      return;
+    }
+
+    long total = 0;
+    final Map<DirectBuffer, Long> perPrefix = new HashMap<>();
+    // the key instance is used to find the length of the first key component, so we have to
+    // restore it afterwards as it may be the key the caller is currently working with
+    final var perPrefixCounted = countTracking == CountTracking.PER_PREFIX;
+    final var keyBackup =
+        new UnsafeBuffer(new byte[perPrefixCounted ? keyInstance.getLength() : 0]);
+    if (perPrefixCounted) {
+      keyInstance.write(keyBackup, 0);
+    }
+
+    try (final RocksIterator iterator =
+        newIterator(context, transactionDb.getPrefixReadOptions())) {
+      final var prefixKey = columnFamilyContext.keyWithColumnFamily(new DbNullKey()).array();
+      final var keyView = new UnsafeBuffer(0, 0);
+      for (iterator.seek(prefixKey); iterator.isValid(); iterator.next()) {
+        final byte[] keyBytes = iterator.key();
+        if (!startsWith(prefixKey, 0, prefixKey.length, keyBytes, 0, keyBytes.length)) {
+          break;
+        }
+
+        total++;
+        if (perPrefixCounted) {
+          keyView.wrap(keyBytes, Long.BYTES, keyBytes.length - Long.BYTES);
+          keyInstance.wrap(keyView, 0, keyView.capacity());
+          final int prefixLength = ((DbCompositeKey<?, ?>) keyInstance).first().getLength();
+          final var prefix = new UnsafeBuffer(new byte[prefixLength]);
+          prefix.putBytes(0, keyView, 0, prefixLength);
+          perPrefix.merge(prefix, 1L, Long::sum);
+        }
+      }
+    } finally {
+      if (perPrefixCounted) {
+        keyInstance.wrap(keyBackup, 0, keyBackup.capacity());
+      }
+    }
+
+    counters.initialize(transaction, total, perPrefix);
+    countersInitialized = true;
   }
 
   private void assertForeignKeysExist(final ZeebeTransaction transaction, final Object... keys)
@@ -308,10 +511,11 @@ class TransactionalColumnFamily<
     }
     final var value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            columnFamilyNativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
+            columnFamilyContext.getKeyLength(),
+            metrics);
     if (value != null) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " already exists");
@@ -324,10 +528,11 @@ class TransactionalColumnFamily<
     }
     final var value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            columnFamilyNativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
+            columnFamilyContext.getKeyLength(),
+            metrics);
     if (value == null) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " does not exist");
@@ -346,7 +551,7 @@ class TransactionalColumnFamily<
 
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
-    return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
+    return currentTransaction.newIterator(options, columnFamilyHandle);
   }
 
   /**
@@ -457,13 +662,7 @@ class TransactionalColumnFamily<
     return count.get();
   }
 
-  private boolean visit(
-      final KeyType keyInstance,
-      final ValueType valueInstance,
-      final KeyValuePairVisitor<KeyType, ValueType> iteratorConsumer,
-      final RocksIterator iterator) {
-    final var keyBytes = iterator.key();
-
+  private void wrapKeyAndValue(final byte[] keyBytes, final RocksIterator iterator) {
     columnFamilyContext.wrapKeyView(keyBytes);
     columnFamilyContext.wrapValueView(iterator.value());
 
@@ -471,7 +670,77 @@ class TransactionalColumnFamily<
     keyInstance.wrap(keyViewBuffer, 0, keyViewBuffer.capacity());
     final DirectBuffer valueViewBuffer = columnFamilyContext.getValueView();
     valueInstance.wrap(valueViewBuffer, 0, valueViewBuffer.capacity());
+  }
 
+  private boolean visit(
+      final KeyType keyInstance,
+      final ValueType valueInstance,
+      final KeyValuePairVisitor<KeyType, ValueType> iteratorConsumer,
+      final RocksIterator iterator) {
+    wrapKeyAndValue(iterator.key(), iterator);
     return iteratorConsumer.visit(keyInstance, valueInstance);
   }
+
+  /**
+   * Iterates over a prefix with a single RocksDB iterator, which seeks the prefix on the first call
+   * to {@link #next()} and then only advances. The prefix is copied, so the column family can be
+   * used for other operations while the iterator is open.
+   */
+  private final class TransactionalPrefixIterator implements PrefixIterator<KeyType, ValueType> {
+
+    private final byte[] prefixKey;
+    private final RocksIterator iterator;
+    private boolean seeked;
+    private boolean exhausted;
+
+    private TransactionalPrefixIterator(final byte[] prefixKey, final RocksIterator iterator) {
+      this.prefixKey = prefixKey;
+      this.iterator = iterator;
+    }
+
+    @Override
+    public boolean next() {
+      if (exhausted) {
+        return false;
+      }
+
+      try (final var timer = metrics.measureIterateLatency()) {
+        if (seeked) {
+          iterator.next();
+        } else {
+          iterator.seek(prefixKey);
+          seeked = true;
+        }
+
+        if (!iterator.isValid()) {
+          exhausted = true;
+          return false;
+        }
+
+        final byte[] keyBytes = iterator.key();
+        if (!startsWith(prefixKey, 0, prefixKey.length, keyBytes, 0, keyBytes.length)) {
+          exhausted = true;
+          return false;
+        }
+
+        wrapKeyAndValue(keyBytes, iterator);
+        return true;
+      }
+    }
+
+    @Override
+    public KeyType key() {
+      return keyInstance;
+    }
+
+    @Override
+    public ValueType value() {
+      return valueInstance;
+    }
+
+    @Override
+    public void close() {
+      iterator.close();
+    }
+  }
 }
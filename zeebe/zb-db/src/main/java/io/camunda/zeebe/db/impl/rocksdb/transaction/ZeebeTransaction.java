@@ -9,9 +9,13 @@ package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
 import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRocksDbExceptionRecoverable;
 
+import io.camunda.zeebe.db.ColumnFamilyMetrics;
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import io.camunda.zeebe.db.impl.NoopColumnFamilyMetrics;
+import java.util.ArrayList;
+import java.util.List;
 import org.agrona.LangUtil;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
@@ -21,15 +25,32 @@ import org.rocksdb.Transaction;
 
 public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
+  private static final ColumnFamilyMetrics NOOP_METRICS = new NoopColumnFamilyMetrics();
+
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
+  private final TransactionCache cache;
+  private final List<Runnable> rollbackListeners = new ArrayList<>();
 
   private boolean inCurrentTransaction;
   private Transaction transaction;
 
   public ZeebeTransaction(
       final Transaction transaction, final TransactionRenovator transactionRenovator) {
+    this(transaction, transactionRenovator, 0);
+  }
+
+  /**
+   * @param transaction the RocksDB transaction to wrap
+   * @param transactionRenovator renews the RocksDB transaction when a new one is started
+   * @param cacheSize the maximum number of values cached per transaction, or 0 to disable caching
+   */
+  public ZeebeTransaction(
+      final Transaction transaction,
+      final TransactionRenovator transactionRenovator,
+      final int cacheSize) {
     this.transactionRenovator = transactionRenovator;
+    cache = new TransactionCache(cacheSize);
     this.transaction = transaction;
     try {
       nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
@@ -58,6 +79,7 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
           valueLength,
           columnFamilyHandle,
           false);
+      cache.onPut(key, keyLength, value, valueLength);
     } catch (final Throwable e) {
       LangUtil.rethrowUnchecked(e);
     }
@@ -69,11 +91,37 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
       final byte[] key,
       final int keyLength)
       throws Exception {
+    return get(columnFamilyHandle, readOptionsHandle, key, keyLength, NOOP_METRICS);
+  }
+
+  /**
+   * Same as {@link #get(long, long, byte[], int)}, but records whether the value was served from
+   * the transaction's cache in the given metrics. The returned array must not be modified.
+   */
+  public byte[] get(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final byte[] key,
+      final int keyLength,
+      final ColumnFamilyMetrics metrics)
+      throws Exception {
+    final var cached = cache.get(key, keyLength);
+    if (cached != null) {
+      metrics.onCacheHit();
+      return cache.isAbsent(cached) ? null : cached;
+    }
+
     try {
       final int keyOffset = 0;
-      return (byte[])
-          RocksDbInternal.getWithHandle.invokeExact(
-              nativeHandle, readOptionsHandle, key, keyOffset, keyLength, columnFamilyHandle);
+      final var value =
+          (byte[])
+              RocksDbInternal.getWithHandle.invokeExact(
+                  nativeHandle, readOptionsHandle, key, keyOffset, keyLength, columnFamilyHandle);
+      if (cache.isEnabled()) {
+        metrics.onCacheMiss();
+        cache.onRead(key, keyLength, value);
+      }
+      return value;
     } catch (final Throwable e) {
       LangUtil.rethrowUnchecked(e);
       return null; // unreachable
@@ -85,6 +133,7 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     try {
       RocksDbInternal.removeWithHandle.invokeExact(
           nativeHandle, key, keyLength, columnFamilyHandle, false);
+      cache.onDelete(key, keyLength);
     } catch (final Throwable e) {
       LangUtil.rethrowUnchecked(e);
     }
@@ -95,10 +144,15 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   }
 
   void resetTransaction() {
+    cache.clear();
     transaction = transactionRenovator.renewTransaction(transaction);
     inCurrentTransaction = true;
   }
 
+  void addRollbackListener(final Runnable listener) {
+    rollbackListeners.add(listener);
+  }
+
   boolean isInCurrentTransaction() {
     return inCurrentTransaction;
   }
@@ -142,14 +196,63 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  @Override
+  public void setSavePoint() throws RocksDBException {
+    try {
+      transaction.setSavePoint();
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage = "Unexpected error occurred when setting a save point.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+  }
+
+  @Override
+  public void rollbackToSavePoint() throws RocksDBException {
+    try {
+      // the cache may contain values written after the save point
+      cache.clear();
+      transaction.rollbackToSavePoint();
+      notifyRollbackListeners();
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage =
+          "Unexpected error occurred during RocksDB transaction rollback to save point.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+  }
+
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.commit();
+    cache.clear();
+    try {
+      transaction.commit();
+    } catch (final RocksDBException e) {
+      notifyRollbackListeners();
+      throw e;
+    }
   }
 
   void rollbackInternal() throws RocksDBException {
+    // a transaction is also rolled back after it was committed, which discards nothing
+    final boolean discardsChanges = inCurrentTransaction;
     inCurrentTransaction = false;
-    transaction.rollback();
+    cache.clear();
+    try {
+      transaction.rollback();
+    } finally {
+      if (discardsChanges) {
+        notifyRollbackListeners();
+      }
+    }
+  }
+
+  private void notifyRollbackListeners() {
+    rollbackListeners.forEach(Runnable::run);
   }
 
   @Override
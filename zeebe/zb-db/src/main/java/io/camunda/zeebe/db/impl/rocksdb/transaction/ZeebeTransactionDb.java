@@ -10,6 +10,7 @@ package io.camunda.zeebe.db.impl.rocksdb.transaction;
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.CountTracking;
 import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.TransactionContext;
@@ -22,15 +23,18 @@ import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.OptimisticTransactionDB;
+import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -50,24 +54,26 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   private final ReadOptions prefixReadOptions;
   private final ReadOptions defaultReadOptions;
   private final WriteOptions defaultWriteOptions;
+  private final ColumnFamilyHandles columnFamilyHandles;
   private final ColumnFamilyHandle defaultHandle;
-  private final long defaultNativeHandle;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration accessMetricsConfiguration;
+  private final int transactionCacheSize;
 
   protected ZeebeTransactionDb(
-      final ColumnFamilyHandle defaultHandle,
+      final ColumnFamilyHandles columnFamilyHandles,
       final OptimisticTransactionDB optimisticTransactionDB,
       final List<AutoCloseable> closables,
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings,
       final AccessMetricsConfiguration accessMetricsConfiguration) {
-    this.defaultHandle = defaultHandle;
-    defaultNativeHandle = getNativeHandle(defaultHandle);
+    this.columnFamilyHandles = columnFamilyHandles;
+    defaultHandle = columnFamilyHandles.defaultHandle();
     this.optimisticTransactionDB = optimisticTransactionDB;
     this.closables = closables;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.accessMetricsConfiguration = accessMetricsConfiguration;
+    transactionCacheSize = rocksDbConfiguration.getTransactionCacheSize();
 
     prefixReadOptions =
         new ReadOptions()
@@ -93,25 +99,45 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
           final ConsistencyChecksSettings consistencyChecksSettings,
           final AccessMetricsConfiguration metrics)
           throws RocksDBException {
+    // all existing column families must be opened, as they may contain keys which have to be
+    // migrated when the column family layout changed
+    final var cfNames = listColumnFamilies(options, path);
     final var cfDescriptors =
-        Arrays.asList( // todo: could consider using List.of
-            new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+        cfNames.stream()
+            .map(
+                name ->
+                    new ColumnFamilyDescriptor(
+                        name.getBytes(StandardCharsets.UTF_8),
+                        ColumnFamilyHandles.optionsFor(options, name)))
+            .toList();
+
+    // with WAL disabled, flushing all column families atomically is what keeps checkpoints, and
+    // thus snapshots, consistent across column families
+    if (rocksDbConfiguration.isNativeColumnFamiliesEnabled() || cfNames.size() > 1) {
+      options.dbOptions().setAtomicFlush(true);
+    }
+
     final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
     final OptimisticTransactionDB optimisticTransactionDB =
         OptimisticTransactionDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
     closables.add(optimisticTransactionDB);
 
-    if (cfHandles.size() != 1) {
+    if (cfHandles.size() != cfNames.size()) {
       throw new IllegalStateException(
-          "Expected a handle for the default column family but found %d handles"
-              .formatted(cfHandles.size()));
+          "Expected a handle for each of the %d column families but found %d handles"
+              .formatted(cfNames.size(), cfHandles.size()));
     }
 
-    final ColumnFamilyHandle defaultColumnFamilyHandle = cfHandles.getFirst();
-    closables.add(defaultColumnFamilyHandle);
+    final Map<String, ColumnFamilyHandle> handlesByName = new HashMap<>();
+    for (int i = 0; i < cfNames.size(); i++) {
+      final var handle = cfHandles.get(i);
+      closables.add(handle);
+      handlesByName.put(cfNames.get(i), handle);
+    }
 
     return new ZeebeTransactionDb<>(
-        defaultColumnFamilyHandle,
+        new ColumnFamilyHandles(
+            optimisticTransactionDB, handlesByName, rocksDbConfiguration, options, closables),
         optimisticTransactionDB,
         closables,
         rocksDbConfiguration,
@@ -119,6 +145,27 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
         metrics);
   }
 
+  private static List<String> listColumnFamilies(final RocksDbOptions options, final String path)
+      throws RocksDBException {
+    final var names = new ArrayList<String>();
+    names.add(ColumnFamilyHandles.defaultName());
+
+    if (!new File(path, "CURRENT").exists()) {
+      return names;
+    }
+
+    try (final var listOptions = new Options(options.dbOptions(), options.cfOptions())) {
+      for (final var name : RocksDB.listColumnFamilies(listOptions, path)) {
+        final var decoded = new String(name, StandardCharsets.UTF_8);
+        if (!names.contains(decoded)) {
+          names.add(decoded);
+        }
+      }
+    }
+
+    return names;
+  }
+
   static long getNativeHandle(final RocksObject object) {
     try {
       return RocksDbInternal.nativeHandle.getLong(object);
@@ -132,16 +179,24 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return prefixReadOptions;
   }
 
-  protected ColumnFamilyHandle getDefaultHandle() {
-    return defaultHandle;
-  }
-
   protected long getReadOptionsNativeHandle() {
     return getNativeHandle(defaultReadOptions);
   }
 
+  /**
+   * Returns the handle of the RocksDB column family in which the keys of the given logical column
+   * family are stored. This is the default handle, unless native column families are enabled.
+   */
+  protected ColumnFamilyHandle getColumnFamilyHandle(final Enum<? extends EnumValue> columnFamily) {
+    return columnFamilyHandles.handleFor(columnFamily);
+  }
+
+  protected long getColumnFamilyNativeHandle(final Enum<? extends EnumValue> columnFamily) {
+    return getNativeHandle(getColumnFamilyHandle(columnFamily));
+  }
+
   protected long getDefaultNativeHandle() {
-    return defaultNativeHandle;
+    return getNativeHandle(defaultHandle);
   }
 
   @Override
@@ -151,6 +206,18 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
           final TransactionContext context,
           final KeyType keyInstance,
           final ValueType valueInstance) {
+    return createColumnFamily(
+        columnFamily, context, keyInstance, valueInstance, CountTracking.NONE);
+  }
+
+  @Override
+  public <KeyType extends DbKey, ValueType extends DbValue>
+      ColumnFamily<KeyType, ValueType> createColumnFamily(
+          final ColumnFamilyNames columnFamily,
+          final TransactionContext context,
+          final KeyType keyInstance,
+          final ValueType valueInstance,
+          final CountTracking countTracking) {
     final var metrics =
         switch (accessMetricsConfiguration.kind()) {
           case NONE -> new NoopColumnFamilyMetrics();
@@ -165,7 +232,8 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
         context,
         keyInstance,
         valueInstance,
-        metrics);
+        metrics,
+        countTracking);
   }
 
   @Override
@@ -185,16 +253,43 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     String propertyValue = null;
     try {
       propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      if (columnFamilyHandles.all().size() > 1) {
+        propertyValue = sumPropertyOverColumnFamilies(propertyName, propertyValue);
+      }
     } catch (final RocksDBException rde) {
       LOG.debug(rde.getMessage(), rde);
     }
     return Optional.ofNullable(propertyValue);
   }
 
+  /**
+   * Numeric properties, e.g. the estimated number of keys or the size of the memtables, are
+   * reported per column family, so we sum them up to get the value of the whole database. Any other
+   * property is only reported for the default column family.
+   */
+  private String sumPropertyOverColumnFamilies(
+      final String propertyName, final String defaultValue) throws RocksDBException {
+    long sum;
+    try {
+      sum = Long.parseLong(defaultValue);
+    } catch (final NumberFormatException e) {
+      return defaultValue;
+    }
+
+    for (final var handle : columnFamilyHandles.all()) {
+      if (handle != defaultHandle) {
+        sum += Long.parseLong(optimisticTransactionDB.getProperty(handle, propertyName));
+      }
+    }
+
+    return String.valueOf(sum);
+  }
+
   @Override
   public TransactionContext createContext() {
     final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
-    final ZeebeTransaction zeebeTransaction = new ZeebeTransaction(transaction, this);
+    final ZeebeTransaction zeebeTransaction =
+        new ZeebeTransaction(transaction, this, transactionCacheSize);
     closables.add(zeebeTransaction);
     return new DefaultTransactionContext(zeebeTransaction);
   }
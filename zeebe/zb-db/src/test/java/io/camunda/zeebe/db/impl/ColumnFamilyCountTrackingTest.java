@@ -0,0 +1,279 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.CountTracking;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import java.io.File;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class ColumnFamilyCountTrackingTest {
+
+  private final DbLong firstKey = new DbLong();
+  private final DbLong secondKey = new DbLong();
+  private final DbCompositeKey<DbLong, DbLong> compositeKey =
+      new DbCompositeKey<>(firstKey, secondKey);
+  private final DbString value = new DbString();
+
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext context;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbString> columnFamily;
+
+  @BeforeEach
+  void setup(final @TempDir File path) {
+    zeebeDb = DefaultZeebeDbFactory.<DefaultColumnFamily>getDefaultFactory().createDb(path);
+    context = zeebeDb.createContext();
+    columnFamily = createColumnFamily(CountTracking.PER_PREFIX);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  void shouldCountInsertedEntries() {
+    // when
+    insert(1, 1);
+    insert(1, 2);
+    insert(2, 1);
+
+    // then
+    assertThat(columnFamily.count()).isEqualTo(3);
+    assertThat(countEqualPrefix(1)).isEqualTo(2);
+    assertThat(countEqualPrefix(2)).isEqualTo(1);
+    assertThat(countEqualPrefix(3)).isZero();
+  }
+
+  @Test
+  void shouldNotCountUpsertOfExistingEntry() {
+    // given
+    insert(1, 1);
+
+    // when
+    upsert(1, 1);
+    upsert(1, 2);
+
+    // then
+    assertThat(columnFamily.count()).isEqualTo(2);
+    assertThat(countEqualPrefix(1)).isEqualTo(2);
+  }
+
+  @Test
+  void shouldCountDeletedEntries() {
+    // given
+    insert(1, 1);
+    insert(1, 2);
+    insert(2, 1);
+
+    // when
+    firstKey.wrapLong(1);
+    secondKey.wrapLong(1);
+    columnFamily.deleteExisting(compositeKey);
+    secondKey.wrapLong(3);
+    columnFamily.deleteIfExists(compositeKey);
+    firstKey.wrapLong(2);
+    secondKey.wrapLong(1);
+    columnFamily.deleteIfExists(compositeKey);
+
+    // then
+    assertThat(columnFamily.count()).isEqualTo(1);
+    assertThat(countEqualPrefix(1)).isEqualTo(1);
+    assertThat(countEqualPrefix(2)).isZero();
+  }
+
+  @Test
+  void shouldRollbackCounts() {
+    // given
+    insert(1, 1);
+
+    // when
+    assertThatThrownBy(
+            () ->
+                context.runInTransaction(
+                    () -> {
+                      insert(1, 2);
+                      throw new IllegalStateException("expected");
+                    }))
+        .hasMessageContaining("expected");
+
+    // then
+    assertThat(columnFamily.count()).isEqualTo(1);
+    assertThat(countEqualPrefix(1)).isEqualTo(1);
+  }
+
+  @Test
+  void shouldInitializeCountsOfExistingEntriesOnFirstWrite(final @TempDir File otherPath)
+      throws Exception {
+    try (final var otherDb =
+        DefaultZeebeDbFactory.<DefaultColumnFamily>getDefaultFactory().createDb(otherPath)) {
+      // given
+      final var otherContext = otherDb.createContext();
+      final var untracked =
+          otherDb.createColumnFamily(
+              DefaultColumnFamily.DEFAULT, otherContext, compositeKey, value, CountTracking.NONE);
+      firstKey.wrapLong(1);
+      secondKey.wrapLong(1);
+      value.wrapString("foo");
+      untracked.insert(compositeKey, value);
+      secondKey.wrapLong(2);
+      untracked.insert(compositeKey, value);
+
+      // when
+      final var tracked =
+          otherDb.createColumnFamily(
+              DefaultColumnFamily.DEFAULT,
+              otherContext,
+              compositeKey,
+              value,
+              CountTracking.PER_PREFIX);
+      firstKey.wrapLong(2);
+      secondKey.wrapLong(1);
+      tracked.insert(compositeKey, value);
+
+      // then
+      assertThat(tracked.count()).isEqualTo(3);
+      firstKey.wrapLong(1);
+      assertThat(tracked.countEqualPrefix(firstKey)).isEqualTo(2);
+      firstKey.wrapLong(2);
+      assertThat(tracked.countEqualPrefix(firstKey)).isEqualTo(1);
+      assertThat(untracked.count()).isEqualTo(3);
+    }
+  }
+
+  @Test
+  void shouldCountExistingEntriesBeforeFirstWrite(final @TempDir File otherPath)
+      throws Exception {
+    try (final var otherDb =
+        DefaultZeebeDbFactory.<DefaultColumnFamily>getDefaultFactory().createDb(otherPath)) {
+      // given
+      final var otherContext = otherDb.createContext();
+      final var untracked =
+          otherDb.createColumnFamily(
+              DefaultColumnFamily.DEFAULT, otherContext, compositeKey, value, CountTracking.NONE);
+      firstKey.wrapLong(1);
+      secondKey.wrapLong(1);
+      value.wrapString("foo");
+      untracked.insert(compositeKey, value);
+
+      // when
+      final var tracked =
+          otherDb.createColumnFamily(
+              DefaultColumnFamily.DEFAULT,
+              otherContext,
+              compositeKey,
+              value,
+              CountTracking.PER_PREFIX);
+      secondKey.wrapLong(2);
+      untracked.insert(compositeKey, value);
+
+      // then - the counts were not initialized when the column family was created
+      assertThat(tracked.count()).isEqualTo(2);
+      assertThat(tracked.countEqualPrefix(firstKey)).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void shouldInitializeCountsAgainAfterRollback() {
+    // given
+    assertThatThrownBy(
+            () ->
+                context.runInTransaction(
+                    () -> {
+                      insert(1, 1);
+                      throw new IllegalStateException("expected");
+                    }))
+        .hasMessageContaining("expected");
+
+    // when
+    insert(1, 2);
+
+    // then
+    assertThat(columnFamily.count()).isOne();
+    assertThat(countEqualPrefix(1)).isOne();
+  }
+
+  @Test
+  void shouldCountOtherPrefixesByIterating() {
+    // given
+    insert(1, 1);
+    insert(1, 2);
+
+    // when
+    final long count = columnFamily.countEqualPrefix(compositeKey);
+
+    // then
+    assertThat(count).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCountTotalOnly() {
+    // given
+    final var totalOnly = createColumnFamily(CountTracking.TOTAL);
+
+    // when
+    firstKey.wrapLong(1);
+    secondKey.wrapLong(1);
+    value.wrapString("foo");
+    totalOnly.upsert(compositeKey, value);
+    secondKey.wrapLong(2);
+    totalOnly.upsert(compositeKey, value);
+
+    // then
+    assertThat(totalOnly.count()).isEqualTo(2);
+    assertThat(totalOnly.countEqualPrefix(firstKey)).isEqualTo(2);
+  }
+
+  @Test
+  void shouldRejectPerPrefixTrackingWithoutCompositeKey() {
+    // when - then
+    assertThatThrownBy(
+            () ->
+                zeebeDb.createColumnFamily(
+                    DefaultColumnFamily.DEFAULT,
+                    context,
+                    new DbLong(),
+                    value,
+                    CountTracking.PER_PREFIX))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbString> createColumnFamily(
+      final CountTracking countTracking) {
+    return zeebeDb.createColumnFamily(
+        DefaultColumnFamily.DEFAULT, context, compositeKey, value, countTracking);
+  }
+
+  private void insert(final long first, final long second) {
+    firstKey.wrapLong(first);
+    secondKey.wrapLong(second);
+    value.wrapString("value");
+    columnFamily.insert(compositeKey, value);
+  }
+
+  private void upsert(final long first, final long second) {
+    firstKey.wrapLong(first);
+    secondKey.wrapLong(second);
+    value.wrapString("value");
+    columnFamily.upsert(compositeKey, value);
+  }
+
+  private long countEqualPrefix(final long first) {
+    final var prefix = new DbLong();
+    prefix.wrapLong(first);
+    return columnFamily.countEqualPrefix(prefix);
+  }
+}
@@ -613,6 +613,63 @@ public final class DbCompositeKeyColumnFamilyTest {
     assertThat(count).describedAs("Only counts entries matching 'foo'").isEqualTo(2);
   }
 
+  @Test
+  public void shouldUsePrefixIterator() {
+    // given
+    upsertKeyValuePair("foo", 12, "baring");
+    upsertKeyValuePair("foobar", 53, "expected value");
+    upsertKeyValuePair("foo", 13, "different value");
+    upsertKeyValuePair("foo", 213, "oh wow");
+    upsertKeyValuePair("hello", 34, "world");
+
+    // when
+    firstKey.wrapString("foo");
+    final List<Long> secondKeyParts = new ArrayList<>();
+    final List<String> values = new ArrayList<>();
+    try (final var iterator = columnFamily.prefixIterator(firstKey)) {
+      while (iterator.next()) {
+        secondKeyParts.add(iterator.key().second().getValue());
+        values.add(iterator.value().toString());
+      }
+
+      // then
+      assertThat(iterator.next()).isFalse();
+    }
+
+    assertThat(secondKeyParts).containsExactly(12L, 13L, 213L);
+    assertThat(values).containsExactly("baring", "different value", "oh wow");
+  }
+
+  @Test
+  public void shouldInterleavePrefixIterators() {
+    // given
+    upsertKeyValuePair("foo", 1, "foo-1");
+    upsertKeyValuePair("foo", 4, "foo-4");
+    upsertKeyValuePair("bar", 2, "bar-2");
+    upsertKeyValuePair("bar", 3, "bar-3");
+    upsertKeyValuePair("bar", 5, "bar-5");
+
+    // when
+    final List<String> values = new ArrayList<>();
+    firstKey.wrapString("foo");
+    try (final var fooIterator = columnFamily.prefixIterator(firstKey)) {
+      firstKey.wrapString("bar");
+      try (final var barIterator = columnFamily.prefixIterator(firstKey)) {
+        for (int i = 0; i < 3; i++) {
+          if (fooIterator.next()) {
+            values.add(fooIterator.value().toString());
+          }
+          if (barIterator.next()) {
+            values.add(barIterator.value().toString());
+          }
+        }
+      }
+    }
+
+    // then
+    assertThat(values).containsExactly("foo-1", "bar-2", "foo-4", "bar-3", "bar-5");
+  }
+
   private void upsertKeyValuePair(final String firstKey, final long secondKey, final String value) {
     this.firstKey.wrapString(firstKey);
     this.secondKey.wrapLong(secondKey);
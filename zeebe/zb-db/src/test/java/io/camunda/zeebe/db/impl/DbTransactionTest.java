@@ -235,6 +235,99 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isFalse();
   }
 
+  @Test
+  public void shouldRollbackToSavePoint() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    twoKey.wrapLong(52000);
+    twoValue.wrapLong(192313);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+    transaction.setSavePoint();
+    transaction.run(
+        () -> {
+          twoColumnFamily.insert(twoKey, twoValue);
+          oneValue.wrapLong(-2);
+          oneColumnFamily.update(oneKey, oneValue);
+        });
+
+    // when
+    transaction.rollbackToSavePoint();
+    transaction.commit();
+
+    // then
+    assertThat(oneColumnFamily.get(oneKey).getValue()).isEqualTo(-1);
+    assertThat(twoColumnFamily.exists(twoKey)).isFalse();
+  }
+
+  @Test
+  public void shouldRollbackToLatestSavePoint() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    twoKey.wrapLong(52000);
+    twoValue.wrapLong(192313);
+
+    threeKey.wrapLong(Short.MAX_VALUE);
+    threeValue.wrapLong(Integer.MAX_VALUE);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.setSavePoint();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+    transaction.setSavePoint();
+    transaction.run(() -> twoColumnFamily.insert(twoKey, twoValue));
+    transaction.setSavePoint();
+    transaction.run(() -> threeColumnFamily.insert(threeKey, threeValue));
+
+    // when
+    transaction.rollbackToSavePoint();
+    transaction.rollbackToSavePoint();
+
+    // then
+    assertThat(oneColumnFamily.exists(oneKey)).isTrue();
+    assertThat(twoColumnFamily.exists(twoKey)).isFalse();
+    assertThat(threeColumnFamily.exists(threeKey)).isFalse();
+  }
+
+  @Test
+  public void shouldNotifyRollbackListenerOnRollback() throws Exception {
+    // given
+    final AtomicLong rollbacks = new AtomicLong();
+    transactionContext.addRollbackListener(rollbacks::incrementAndGet);
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.setSavePoint();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+
+    // when
+    transaction.rollbackToSavePoint();
+    transaction.rollback();
+
+    // then
+    assertThat(rollbacks).hasValue(2);
+  }
+
+  @Test
+  public void shouldNotNotifyRollbackListenerOnCommit() {
+    // given
+    final AtomicLong rollbacks = new AtomicLong();
+    transactionContext.addRollbackListener(rollbacks::incrementAndGet);
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    // when
+    transactionContext.runInTransaction(() -> oneColumnFamily.insert(oneKey, oneValue));
+
+    // then
+    assertThat(rollbacks).hasValue(0);
+  }
+
   @Test
   public void shouldGetValueInTransaction() {
     // given
@@ -0,0 +1,187 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.protocol.EnumValue;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+
+final class NativeColumnFamiliesTest {
+
+  private final DbString key = new DbString();
+  private final DbString value = new DbString();
+
+  @Test
+  void shouldStoreColumnFamiliesInNativeColumnFamilies(final @TempDir File path) throws Exception {
+    // given
+    final var factory = createNativeFactory();
+
+    // when
+    try (final var db = factory.createDb(path)) {
+      put(db, TestColumnFamilies.FIRST, "foo", "bar");
+      put(db, TestColumnFamilies.SECOND, "foo", "baz");
+
+      // then
+      assertThat(get(db, TestColumnFamilies.FIRST, "foo")).isEqualTo("bar");
+      assertThat(get(db, TestColumnFamilies.SECOND, "foo")).isEqualTo("baz");
+    }
+
+    assertThat(listColumnFamilies(path)).containsExactlyInAnyOrder("default", "FIRST", "SECOND");
+  }
+
+  @Test
+  void shouldStoreGroupedColumnFamiliesTogether(final @TempDir File path) throws Exception {
+    // given
+    final var factory =
+        createFactory(
+            new RocksDbConfiguration()
+                .setNativeColumnFamiliesEnabled(true)
+                .setColumnFamilyGroups(Map.of("FIRST", "group", "SECOND", "group")));
+
+    // when
+    try (final var db = factory.createDb(path)) {
+      put(db, TestColumnFamilies.FIRST, "foo", "bar");
+      put(db, TestColumnFamilies.SECOND, "foo", "baz");
+
+      // then
+      assertThat(get(db, TestColumnFamilies.FIRST, "foo")).isEqualTo("bar");
+      assertThat(get(db, TestColumnFamilies.SECOND, "foo")).isEqualTo("baz");
+    }
+
+    assertThat(listColumnFamilies(path)).containsExactlyInAnyOrder("default", "group");
+  }
+
+  @Test
+  void shouldMigrateFromSingleColumnFamilyLayout(final @TempDir File path) throws Exception {
+    // given
+    try (final var db = createFactory(new RocksDbConfiguration()).createDb(path)) {
+      put(db, TestColumnFamilies.FIRST, "foo", "bar");
+      put(db, TestColumnFamilies.SECOND, "foo", "baz");
+    }
+
+    // when
+    final var factory = createNativeFactory();
+    try (final var db = factory.createDb(path)) {
+      // then
+      assertThat(get(db, TestColumnFamilies.FIRST, "foo")).isEqualTo("bar");
+      assertThat(get(db, TestColumnFamilies.SECOND, "foo")).isEqualTo("baz");
+    }
+
+    try (final var db = createFactory(new RocksDbConfiguration()).createDb(path)) {
+      assertThat(get(db, TestColumnFamilies.FIRST, "foo")).isEqualTo("bar");
+    }
+  }
+
+  @Test
+  void shouldMigrateBackToSingleColumnFamilyLayout(final @TempDir File path) throws Exception {
+    // given
+    final var factory = createNativeFactory();
+    try (final var db = factory.createDb(path)) {
+      put(db, TestColumnFamilies.FIRST, "foo", "bar");
+    }
+
+    // when
+    try (final var db = createFactory(new RocksDbConfiguration()).createDb(path)) {
+      // then
+      assertThat(get(db, TestColumnFamilies.FIRST, "foo")).isEqualTo("bar");
+      assertThat(db.isEmpty(TestColumnFamilies.SECOND, db.createContext())).isTrue();
+    }
+  }
+
+  @Test
+  void shouldRecoverFromSnapshotWithNativeColumnFamilies(
+      final @TempDir File path, final @TempDir File snapshotParent) throws Exception {
+    // given
+    final var factory = createNativeFactory();
+    final var snapshotDir = new File(snapshotParent, "snapshot");
+    try (final var db = factory.createDb(path)) {
+      put(db, TestColumnFamilies.FIRST, "foo", "bar");
+      put(db, TestColumnFamilies.SECOND, "foo", "baz");
+      db.createSnapshot(snapshotDir);
+      put(db, TestColumnFamilies.FIRST, "foo", "other");
+    }
+
+    // when
+    try (final var db = factory.createDb(snapshotDir)) {
+      // then
+      assertThat(get(db, TestColumnFamilies.FIRST, "foo")).isEqualTo("bar");
+      assertThat(get(db, TestColumnFamilies.SECOND, "foo")).isEqualTo("baz");
+    }
+  }
+
+  private void put(
+      final ZeebeDb<TestColumnFamilies> db,
+      final TestColumnFamilies columnFamily,
+      final String key,
+      final String value) {
+    this.key.wrapString(key);
+    this.value.wrapString(value);
+    db.createColumnFamily(columnFamily, db.createContext(), this.key, this.value)
+        .upsert(this.key, this.value);
+  }
+
+  private String get(
+      final ZeebeDb<TestColumnFamilies> db,
+      final TestColumnFamilies columnFamily,
+      final String key) {
+    this.key.wrapString(key);
+    final var found =
+        db.createColumnFamily(columnFamily, db.createContext(), this.key, value).get(this.key);
+    return found == null ? null : found.toString();
+  }
+
+  private ZeebeRocksDbFactory<TestColumnFamilies> createNativeFactory() {
+    return createFactory(new RocksDbConfiguration().setNativeColumnFamiliesEnabled(true));
+  }
+
+  private ZeebeRocksDbFactory<TestColumnFamilies> createFactory(
+      final RocksDbConfiguration configuration) {
+    return new ZeebeRocksDbFactory<>(
+        configuration,
+        new ConsistencyChecksSettings(true, true),
+        new AccessMetricsConfiguration(Kind.NONE, 1));
+  }
+
+  private List<String> listColumnFamilies(final File path) throws RocksDBException {
+    try (final var options = new Options()) {
+      return RocksDB.listColumnFamilies(options, path.getAbsolutePath()).stream()
+          .map(name -> new String(name, StandardCharsets.UTF_8))
+          .toList();
+    }
+  }
+
+  private enum TestColumnFamilies implements EnumValue {
+    FIRST(1),
+    SECOND(2);
+
+    private final int value;
+
+    TestColumnFamilies(final int value) {
+      this.value = value;
+    }
+
+    @Override
+    public int getValue() {
+      return value;
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+final class TransactionCacheTest {
+
+  private final TransactionCache cache = new TransactionCache(2);
+
+  @Test
+  void shouldReturnNullIfNotCached() {
+    // when
+    final var value = cache.get(new byte[] {1, 2}, 2);
+
+    // then
+    assertThat(value).isNull();
+  }
+
+  @Test
+  void shouldCacheReadValue() {
+    // given
+    final var key = new byte[] {1, 2, 3};
+
+    // when
+    cache.onRead(key, 2, new byte[] {4});
+
+    // then
+    assertThat(cache.get(new byte[] {1, 2}, 2)).containsExactly(4);
+    assertThat(cache.get(key, 3)).isNull();
+  }
+
+  @Test
+  void shouldCacheAbsentKey() {
+    // given
+    final var key = new byte[] {1, 2};
+
+    // when
+    cache.onRead(key, 2, null);
+
+    // then
+    assertThat(cache.isAbsent(cache.get(key, 2))).isTrue();
+  }
+
+  @Test
+  void shouldCopyPutValue() {
+    // given
+    final var key = new byte[] {1, 2};
+    final var value = new byte[] {4, 5, 6};
+
+    // when
+    cache.onPut(key, 2, value, 2);
+    value[0] = 9;
+    key[0] = 9;
+
+    // then
+    assertThat(cache.get(new byte[] {1, 2}, 2)).containsExactly(4, 5);
+  }
+
+  @Test
+  void shouldMarkDeletedKeyAsAbsent() {
+    // given
+    final var key = new byte[] {1, 2};
+    cache.onPut(key, 2, new byte[] {4}, 1);
+
+    // when
+    cache.onDelete(key, 2);
+
+    // then
+    assertThat(cache.isAbsent(cache.get(key, 2))).isTrue();
+  }
+
+  @Test
+  void shouldUpdateExistingEntriesWhenFull() {
+    // given
+    cache.onPut(new byte[] {1}, 1, new byte[] {1}, 1);
+    cache.onPut(new byte[] {2}, 1, new byte[] {2}, 1);
+
+    // when
+    cache.onPut(new byte[] {3}, 1, new byte[] {3}, 1);
+    cache.onDelete(new byte[] {1}, 1);
+
+    // then
+    assertThat(cache.get(new byte[] {3}, 1)).isNull();
+    assertThat(cache.isAbsent(cache.get(new byte[] {1}, 1))).isTrue();
+    assertThat(cache.get(new byte[] {2}, 1)).containsExactly(2);
+  }
+
+  @Test
+  void shouldClear() {
+    // given
+    cache.onPut(new byte[] {1}, 1, new byte[] {1}, 1);
+
+    // when
+    cache.clear();
+
+    // then
+    assertThat(cache.get(new byte[] {1}, 1)).isNull();
+  }
+
+  @Test
+  void shouldNotCacheIfDisabled() {
+    // given
+    final var disabled = new TransactionCache(0);
+
+    // when
+    disabled.onPut(new byte[] {1}, 1, new byte[] {1}, 1);
+
+    // then
+    assertThat(disabled.get(new byte[] {1}, 1)).isNull();
+  }
+}